@@ -0,0 +1,550 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ObservableList;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * This binding aggregates the values of a path over all elements of an {@link ObservableList}, e.g. the sum of a nested property of each row. The aggregate is maintained
+ * incrementally by an {@link IAggregator}, which is only told about the values that have been added or removed, so a change of a single element does not rescan the list. Null values
+ * are ignored. If the aggregate has no value, e.g. the minimum of an empty list, the fallback value is used.
+ *
+ * @param <TElement> the type of the elements of the {@link ObservableList}.
+ * @param <TValue>   the type of the value of the path.
+ * @param <TResult>  the type of the aggregate.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+class AggregateBinding<TElement, TValue, TResult> extends RootBinding<TResult> implements ElementPathTracker.IHandler<TValue> {
+
+    // region Fields
+
+    /**
+     * The {@link IAggregator} which maintains the aggregate.
+     */
+    @NotNull
+    private final IAggregator<TValue, TResult> aggregator;
+
+    /**
+     * The {@link ElementPathTracker} which observes the {@link ObservableList}.
+     */
+    @NotNull
+    private final ElementPathTracker<TElement, TValue> tracker;
+
+    /**
+     * Determines if the aggregate has changed since the last time this binding was invalidated.
+     */
+    private boolean changed;
+
+    // endregion
+
+    // region Constructor
+
+    /**
+     * Creates a new binding which aggregates the value of the given path of all elements of the given {@link ObservableList}.
+     *
+     * @param source     the {@link ObservableList} whose elements are to be aggregated.
+     * @param path       the {@link Function} which resolves the {@link ObservableValue} of each element.
+     * @param aggregator the {@link IAggregator} which maintains the aggregate.
+     */
+    AggregateBinding(@NotNull final ObservableList<TElement> source,
+                     @NotNull final Function<TElement, ? extends ObservableValue<TValue>> path,
+                     @NotNull final IAggregator<TValue, TResult> aggregator) {
+        this.aggregator = aggregator;
+        this.tracker = new ElementPathTracker<>(source, path, this);
+        for (int i = 0; i < tracker.size(); ++i) {
+            add(tracker.getValue(i));
+        }
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Adds the given value to the {@link #aggregator} if it is not null.
+     *
+     * @param value the value to add.
+     */
+    private void add(@Nullable final TValue value) {
+        if (value != null) {
+            aggregator.add(value);
+            changed = true;
+        }
+    }
+
+    /**
+     * Removes the given value from the {@link #aggregator} if it is not null.
+     *
+     * @param value the value to remove.
+     */
+    private void remove(@Nullable final TValue value) {
+        if (value != null) {
+            aggregator.remove(value);
+            changed = true;
+        }
+    }
+
+    // endregion
+
+    // region Override ElementPathTracker.IHandler
+
+    @Override
+    public void beginChange() {}
+
+    @Override
+    public void endChange() {
+        if (changed) {
+            changed = false;
+            invalidate();
+        }
+    }
+
+    @Override
+    public void replaced(final int from, final int to, @NotNull final List<TValue> removed) {
+        removed.forEach(this::remove);
+        for (int i = from; i < to; ++i) {
+            add(tracker.getValue(i));
+        }
+    }
+
+    @Override
+    public void permutated(final int from, final int to, @NotNull final int[] permutation) {}
+
+    @Override
+    public void updated(final int index, @Nullable final TValue oldValue, @Nullable final TValue newValue) {
+        remove(oldValue);
+        add(newValue);
+    }
+
+    // endregion
+
+    // region Override RootBinding
+
+    /**
+     * Returns the current aggregate, or the fallback value if there is none.
+     *
+     * @return the current aggregate.
+     */
+    @Nullable
+    @Override
+    protected TResult computeValue() {
+        final TResult result = aggregator.getResult();
+        return result != null ? replaceValue(result) : super.computeValue();
+    }
+
+    /**
+     * {@inheritDoc} Also stops observing the {@link ObservableList} and its elements.
+     */
+    @Override
+    public void dispose() {
+        tracker.dispose();
+        super.dispose();
+    }
+
+    // endregion
+
+    // region Classes
+
+    /**
+     * This interface maintains an aggregate, it is told about each value that has been added or removed and never sees null values.
+     *
+     * @param <TValue>  the type of the aggregated values.
+     * @param <TResult> the type of the aggregate.
+     */
+    interface IAggregator<TValue, TResult> {
+
+        /**
+         * Adds the given value to the aggregate.
+         *
+         * @param value the value to add.
+         */
+        void add(@NotNull final TValue value);
+
+        /**
+         * Removes the given value from the aggregate, the value has been added before.
+         *
+         * @param value the value to remove.
+         */
+        void remove(@NotNull final TValue value);
+
+        /**
+         * Returns the current aggregate.
+         *
+         * @return the current aggregate or null if there is none.
+         */
+        @Nullable
+        TResult getResult();
+    }
+
+    /**
+     * Counts the values.
+     *
+     * @param <TValue> the type of the aggregated values.
+     */
+    static final class Count<TValue> implements IAggregator<TValue, Integer> {
+
+        /**
+         * The amount of values which are positive infinity, they are not added to the {@link #decimalSum}, since they could not be removed again.
+         */
+        private int positiveInfinityCount;
+
+        /**
+         * The amount of values which are negative infinity, they are not added to the {@link #decimalSum}, since they could not be removed again.
+         */
+        private int negativeInfinityCount;
+
+        /**
+         * The amount of values which are not a number, they are not added to the {@link #decimalSum}, since they could not be removed again.
+         */
+        private int nanCount;
+
+        /**
+         * The amount of values.
+         */
+        private int count;
+
+        @Override
+        public void add(@NotNull final TValue value) {
+            ++count;
+        }
+
+        @Override
+        public void remove(@NotNull final TValue value) {
+            --count;
+        }
+
+        @NotNull
+        @Override
+        public Integer getResult() {
+            return count;
+        }
+    }
+
+    /**
+     * Sums up the values. Integral values, including {@link BigInteger}s and {@link BigDecimal}s, are summed up exactly, so adding and removing them does not accumulate rounding
+     * errors over time. Integral values are summed up in a long until the sum would overflow, the exceeding part is then kept in a {@link BigDecimal}. All other values are summed up
+     * using the compensated summation of Neumaier, which keeps track of the low order bits lost by each addition, so the error does not grow with the amount of additions and removals
+     * either.
+     *
+     * @param <TValue>  the type of the aggregated values.
+     * @param <TResult> the type of the aggregate.
+     */
+    abstract static class Summation<TValue extends Number, TResult> implements IAggregator<TValue, TResult> {
+
+        /**
+         * The sum of all integral values, as long as it does not overflow.
+         */
+        private long integralSum;
+
+        /**
+         * The sum of all {@link BigInteger} and {@link BigDecimal} values and the integral values which did no longer fit into the {@link #integralSum}.
+         */
+        @NotNull
+        private BigDecimal bigSum = BigDecimal.ZERO;
+
+        /**
+         * The sum of all other finite values.
+         */
+        private double decimalSum;
+
+        /**
+         * The low order bits that have been lost while summing up the {@link #decimalSum}.
+         */
+        private double compensation;
+
+        /**
+         * The amount of values which are positive infinity, they are not added to the {@link #decimalSum}, since they could not be removed again.
+         */
+        private int positiveInfinityCount;
+
+        /**
+         * The amount of values which are negative infinity, they are not added to the {@link #decimalSum}, since they could not be removed again.
+         */
+        private int negativeInfinityCount;
+
+        /**
+         * The amount of values which are not a number, they are not added to the {@link #decimalSum}, since they could not be removed again.
+         */
+        private int nanCount;
+
+        /**
+         * The amount of values.
+         */
+        private int count;
+
+        @Override
+        public void add(@NotNull final TValue value) {
+            if (isIntegral(value)) {
+                addIntegral(value.longValue(), false);
+            } else if (value instanceof BigDecimal) {
+                bigSum = bigSum.add((BigDecimal) value);
+            } else if (value instanceof BigInteger) {
+                bigSum = bigSum.add(new BigDecimal((BigInteger) value));
+            } else if (!countNonFinite(value.doubleValue(), 1)) {
+                addDecimal(value.doubleValue());
+            }
+            ++count;
+        }
+
+        @Override
+        public void remove(@NotNull final TValue value) {
+            if (isIntegral(value)) {
+                addIntegral(value.longValue(), true);
+            } else if (value instanceof BigDecimal) {
+                bigSum = bigSum.subtract((BigDecimal) value);
+            } else if (value instanceof BigInteger) {
+                bigSum = bigSum.subtract(new BigDecimal((BigInteger) value));
+            } else if (!countNonFinite(value.doubleValue(), -1)) {
+                addDecimal(-value.doubleValue());
+            }
+            if (--count == 0) {
+                integralSum = 0;
+                bigSum = BigDecimal.ZERO;
+                decimalSum = 0;
+                compensation = 0;
+                positiveInfinityCount = 0;
+                negativeInfinityCount = 0;
+                nanCount = 0;
+            }
+        }
+
+        /**
+         * Returns the amount of values.
+         *
+         * @return the amount of values.
+         */
+        final int getCount() {
+            return count;
+        }
+
+        /**
+         * Determines if any of the values is infinite or not a number, in which case the sum is not finite either.
+         *
+         * @return true if any of the values is not finite, otherwise false.
+         */
+        final boolean hasNonFiniteValues() {
+            return positiveInfinityCount > 0 || negativeInfinityCount > 0 || nanCount > 0;
+        }
+
+        /**
+         * Returns the sum of all values without rounding the integral and the other values into a single double.
+         *
+         * @return the sum of all values.
+         *
+         * @throws ArithmeticException if any of the values is not finite, since a {@link BigDecimal} can not represent such a sum.
+         */
+        @NotNull
+        final BigDecimal getExactSum() {
+            if (hasNonFiniteValues()) {
+                throw new ArithmeticException("The sum of infinite values or values which are not a number can not be represented by a BigDecimal");
+            }
+            return BigDecimal.valueOf(integralSum).add(bigSum).add(new BigDecimal(decimalSum)).add(new BigDecimal(compensation));
+        }
+
+        /**
+         * Returns the sum of all values rounded to the nearest double. If any value is not a number or there are both positive and negative infinite values, the sum is not a
+         * number, otherwise it is infinite if there are infinite values.
+         *
+         * @return the sum of all values.
+         */
+        final double getSum() {
+            if (nanCount > 0 || positiveInfinityCount > 0 && negativeInfinityCount > 0) {
+                return Double.NaN;
+            }
+            if (positiveInfinityCount > 0) {
+                return Double.POSITIVE_INFINITY;
+            }
+            if (negativeInfinityCount > 0) {
+                return Double.NEGATIVE_INFINITY;
+            }
+            if (bigSum.signum() != 0) {
+                return getExactSum().doubleValue();
+            }
+            if (decimalSum == 0 && compensation == 0) {
+                return integralSum;
+            }
+            if (Math.abs(integralSum) <= 1L << 53) {
+                return integralSum + (decimalSum + compensation);
+            }
+            return getExactSum().doubleValue();
+        }
+
+        /**
+         * Adds the given value to or subtracts it from the {@link #integralSum}. If the {@link #integralSum} would overflow, it is moved to the {@link #bigSum} together with
+         * the given value.
+         *
+         * @param value    the value to add or subtract.
+         * @param subtract true if the value is to be subtracted, otherwise false.
+         */
+        private void addIntegral(final long value, final boolean subtract) {
+            try {
+                integralSum = subtract ? Math.subtractExact(integralSum, value) : Math.addExact(integralSum, value);
+            } catch (final ArithmeticException e) {
+                final BigDecimal sum = bigSum.add(BigDecimal.valueOf(integralSum));
+                bigSum = subtract ? sum.subtract(BigDecimal.valueOf(value)) : sum.add(BigDecimal.valueOf(value));
+                integralSum = 0;
+            }
+        }
+
+        /**
+         * Adds the given delta to the count of the given value if the value is infinite or not a number.
+         *
+         * @param value the value to count.
+         * @param delta the amount by which the count is to be changed.
+         *
+         * @return true if the value is not finite and has been counted, otherwise false.
+         */
+        private boolean countNonFinite(final double value, final int delta) {
+            if (Double.isNaN(value)) {
+                nanCount += delta;
+            } else if (value == Double.POSITIVE_INFINITY) {
+                positiveInfinityCount += delta;
+            } else if (value == Double.NEGATIVE_INFINITY) {
+                negativeInfinityCount += delta;
+            } else {
+                return false;
+            }
+            return true;
+        }
+
+        /**
+         * Adds the given value to the {@link #decimalSum}, the low order bits that are lost are added to the {@link #compensation}.
+         *
+         * @param value the value to add.
+         */
+        private void addDecimal(final double value) {
+            final double sum = decimalSum + value;
+            if (Math.abs(decimalSum) >= Math.abs(value)) {
+                compensation += (decimalSum - sum) + value;
+            } else {
+                compensation += (value - sum) + decimalSum;
+            }
+            decimalSum = sum;
+        }
+
+        /**
+         * Determines if the given value is integral.
+         *
+         * @param value the value to check.
+         *
+         * @return true if the value is integral, otherwise false.
+         */
+        private static boolean isIntegral(@NotNull final Number value) {
+            return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+        }
+    }
+
+    /**
+     * Sums up the values into a double.
+     *
+     * @param <TValue> the type of the aggregated values.
+     */
+    static final class Sum<TValue extends Number> extends Summation<TValue, Double> {
+
+        @NotNull
+        @Override
+        public Double getResult() {
+            return getSum();
+        }
+    }
+
+    /**
+     * Sums up the values into a {@link BigDecimal}, which does not lose any precision for integral values, {@link BigInteger}s and {@link BigDecimal}s, even if the sum exceeds the
+     * range of a long. Other decimal values are only as exact as their compensated summation. There is no exact sum if any value is infinite or not a number.
+     *
+     * @param <TValue> the type of the aggregated values.
+     */
+    static final class ExactSum<TValue extends Number> extends Summation<TValue, BigDecimal> {
+
+        @Nullable
+        @Override
+        public BigDecimal getResult() {
+            return hasNonFiniteValues() ? null : getExactSum();
+        }
+    }
+
+    /**
+     * Averages the values, there is no average if there are no values.
+     *
+     * @param <TValue> the type of the aggregated values.
+     */
+    static final class Average<TValue extends Number> extends Summation<TValue, Double> {
+
+        @Nullable
+        @Override
+        public Double getResult() {
+            final int count = getCount();
+            return count > 0 ? getSum() / count : null;
+        }
+    }
+
+    /**
+     * Determines the smallest or largest value. The values are kept in a sorted multiset, so a value can be removed in logarithmic time, which a heap would not allow.
+     *
+     * @param <TValue> the type of the aggregated values.
+     */
+    static final class Extreme<TValue extends Comparable<? super TValue>> implements IAggregator<TValue, TValue> {
+
+        /**
+         * The amount of occurrences of each value.
+         */
+        @NotNull
+        private final TreeMap<TValue, Integer> occurrences = new TreeMap<>();
+
+        /**
+         * Determines if the largest value is returned.
+         */
+        private final boolean maximum;
+
+        /**
+         * Creates a new aggregator.
+         *
+         * @param maximum true if the largest value is to be returned, false if the smallest value is to be returned.
+         */
+        Extreme(final boolean maximum) {
+            this.maximum = maximum;
+        }
+
+        @Override
+        public void add(@NotNull final TValue value) {
+            occurrences.merge(value, 1, Integer::sum);
+        }
+
+        @Override
+        public void remove(@NotNull final TValue value) {
+            occurrences.computeIfPresent(value, (key, count) -> count > 1 ? count - 1 : null);
+        }
+
+        @Nullable
+        @Override
+        public TValue getResult() {
+            if (occurrences.isEmpty()) {
+                return null;
+            }
+            return maximum ? occurrences.lastKey() : occurrences.firstKey();
+        }
+    }
+
+    // endregion
+}
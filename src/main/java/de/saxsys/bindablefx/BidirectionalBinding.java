@@ -17,10 +17,14 @@ import javafx.beans.WeakListener;
 import javafx.beans.property.Property;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
+import javafx.collections.ObservableList;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.ref.WeakReference;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * This class allows for bidirectional binding of two {@link Property}s of different type using a converter to convert from one type to the other and vice versa.
@@ -34,6 +38,16 @@ import java.lang.ref.WeakReference;
 //TODO change this to a single class extending from BidirectionalBinding if the accessibility ever changes... I pray to god it does otherwise having two different ways sucks hard
 public abstract class BidirectionalBinding<TValue> implements ChangeListener<TValue>, WeakListener {
 
+    // region Constants
+
+    /**
+     * Contains all live {@link BidirectionalBinding}s, keyed by both of their properties, so a binding can be found without scanning the listeners of a property. The properties are only
+     * weakly referenced and compared by identity.
+     */
+    private static final WeakIdentityMap<Object, WeakIdentityMap<Object, BidirectionalBinding<?>>> REGISTRY = new WeakIdentityMap<>();
+
+    // endregion
+
     // region Fields
 
     private final int cachedHashCode;
@@ -42,15 +56,15 @@ public abstract class BidirectionalBinding<TValue> implements ChangeListener<TVa
 
     //region Constructor
 
-    private BidirectionalBinding(@NotNull final Object property1, @NotNull final Object property2) {
-        cachedHashCode = property1.hashCode() * property2.hashCode();
+    BidirectionalBinding(@NotNull final Object property1, @NotNull final Object property2) {
+        cachedHashCode = System.identityHashCode(property1) + System.identityHashCode(property2);
     }
 
     //endregion
 
     // region Static
 
-    private static void checkParametersOrFail(Object property1, Object property2) {
+    static void checkParametersOrFail(Object property1, Object property2) {
         if ((property1 == null) || (property2 == null)) {
             throw new NullPointerException("Both properties must be specified.");
         }
@@ -59,6 +73,122 @@ public abstract class BidirectionalBinding<TValue> implements ChangeListener<TVa
         }
     }
 
+    /**
+     * Registers the given binding for the two properties and adds it as a listener to both of them. If the two properties are already bound by a {@link BidirectionalBinding}, the
+     * existing binding will be replaced.
+     *
+     * @param property1 the first {@link Property} of the binding.
+     * @param property2 the second {@link Property} of the binding.
+     * @param binding   the binding to attach.
+     */
+    static void attach(@NotNull final Property<?> property1, @NotNull final Property<?> property2, @NotNull final BidirectionalBinding<Object> binding) {
+        final BidirectionalBinding<?> previous = register(property1, property2, binding);
+        if (previous != null) {
+            removeListener(property1, property2, previous);
+        }
+        property1.addListener(binding);
+        property2.addListener(binding);
+    }
+
+    /**
+     * Registers the given binding for the two lists and adds it as a listener to both of them. If the two lists are already bound by a {@link BidirectionalBinding}, the existing
+     * binding will be replaced.
+     *
+     * @param list1   the first {@link ObservableList} of the binding.
+     * @param list2   the second {@link ObservableList} of the binding.
+     * @param binding the binding to attach.
+     */
+    static void attachContent(@NotNull final ObservableList<?> list1, @NotNull final ObservableList<?> list2, @NotNull final BidirectionalListBinding<?, ?> binding) {
+        final BidirectionalBinding<?> previous = register(list1, list2, binding);
+        if (previous != null) {
+            removeListener(list1, list2, previous);
+        }
+        list1.addListener(binding);
+        list2.addListener(binding);
+    }
+
+    /**
+     * Adds the given binding to the {@link #REGISTRY} and returns the binding that has been registered for the two properties before, if any.
+     *
+     * @param property1 the first property of the binding.
+     * @param property2 the second property of the binding.
+     * @param binding   the binding to register.
+     *
+     * @return the binding that has been registered for the two properties before or null if there was none.
+     */
+    @Nullable
+    private static BidirectionalBinding<?> register(@NotNull final Object property1, @NotNull final Object property2, @NotNull final BidirectionalBinding<?> binding) {
+        synchronized (REGISTRY) {
+            REGISTRY.computeIfAbsent(property2, property -> new WeakIdentityMap<>()).put(property1, binding);
+            return REGISTRY.computeIfAbsent(property1, property -> new WeakIdentityMap<>()).put(property2, binding);
+        }
+    }
+
+    /**
+     * Removes the binding of the two properties from the {@link #REGISTRY}.
+     *
+     * @param property1 the first property of the binding.
+     * @param property2 the second property of the binding.
+     *
+     * @return the binding that has been registered for the two properties or null if there was none.
+     */
+    @Nullable
+    private static BidirectionalBinding<?> unregister(@NotNull final Object property1, @NotNull final Object property2) {
+        synchronized (REGISTRY) {
+            final BidirectionalBinding<?> binding = removeFromRegistry(property1, property2);
+            removeFromRegistry(property2, property1);
+            return binding;
+        }
+    }
+
+    /**
+     * Removes the entry of the other property from the bindings of the given property, the caller needs to hold the lock of the {@link #REGISTRY}.
+     *
+     * @param property      the property whose bindings are to be changed.
+     * @param otherProperty the other property that is to be removed.
+     *
+     * @return the binding that has been registered for the two properties or null if there was none.
+     */
+    @Nullable
+    private static BidirectionalBinding<?> removeFromRegistry(@NotNull final Object property, @NotNull final Object otherProperty) {
+        final WeakIdentityMap<Object, BidirectionalBinding<?>> bindings = REGISTRY.get(property);
+        if (bindings == null) {
+            return null;
+        }
+        final BidirectionalBinding<?> binding = bindings.remove(otherProperty);
+        if (bindings.isEmpty()) {
+            REGISTRY.remove(property);
+        }
+        return binding;
+    }
+
+    /**
+     * Removes the given binding as a listener from the two properties, if they are {@link ObservableValue}s or, for a {@link BidirectionalListBinding}, {@link ObservableList}s.
+     *
+     * @param property1 the first property of the binding.
+     * @param property2 the second property of the binding.
+     * @param binding   the binding to remove.
+     */
+    private static void removeListener(@NotNull final Object property1, @NotNull final Object property2, @NotNull final BidirectionalBinding<?> binding) {
+        removeListener(property1, binding);
+        removeListener(property2, binding);
+    }
+
+    /**
+     * Removes the given binding as a listener from the given property, if it is an {@link ObservableValue} or, for a {@link BidirectionalListBinding}, an {@link ObservableList}.
+     *
+     * @param property the property of the binding.
+     * @param binding  the binding to remove.
+     */
+    @SuppressWarnings ("unchecked")
+    private static void removeListener(@NotNull final Object property, @NotNull final BidirectionalBinding<?> binding) {
+        if (binding instanceof BidirectionalListBinding && property instanceof ObservableList) {
+            ((ObservableList) property).removeListener((BidirectionalListBinding) binding);
+        } else if (property instanceof ObservableValue) {
+            ((ObservableValue) property).removeListener(binding);
+        }
+    }
+
     // endregion
 
     // region Abstract
@@ -114,6 +244,18 @@ public abstract class BidirectionalBinding<TValue> implements ChangeListener<TVa
 
     // region Public API
 
+    /**
+     * Binds the two properties bidirectional, the values will be converted using the given {@link IConverter}. The first property will receive the converted value of the second property.
+     * If the two properties are already bound by a {@link BidirectionalBinding}, the existing binding will be replaced.
+     *
+     * @param property1     the first {@link Property} to bind.
+     * @param property2     the second {@link Property} to bind.
+     * @param converter     the {@link IConverter} to use.
+     * @param <TValue>      the type of the first {@link Property}.
+     * @param <TOtherValue> the type of the second {@link Property}.
+     *
+     * @return the new {@link BidirectionalBinding}.
+     */
     @SuppressWarnings ({"unchecked", "ConstantConditions"})
     public static <TValue, TOtherValue> BidirectionalBinding<Object> bind(@NotNull final Property<TValue> property1,
                                                                           @NotNull final Property<TOtherValue> property2,
@@ -124,28 +266,68 @@ public abstract class BidirectionalBinding<TValue> implements ChangeListener<TVa
         }
         final BidirectionalConverterBinding binding = new BidirectionalConverterBinding<>(property1, property2, converter);
         property1.setValue(converter.convertBack(property2.getValue()));
-        property1.addListener(binding);
-        property2.addListener(binding);
+        attach(property1, property2, binding);
         return binding;
     }
 
-    @SuppressWarnings ("unchecked")
+    /**
+     * Unbinds the two properties if they are bound by a {@link BidirectionalBinding}.
+     *
+     * @param property1     the first {@link Property} to unbind.
+     * @param property2     the second {@link Property} to unbind.
+     * @param <TValue>      the type of the first {@link Property}.
+     * @param <TOtherValue> the type of the second {@link Property}.
+     */
     public static <TValue, TOtherValue> void unbind(@NotNull final Property<TValue> property1, @NotNull final Property<TOtherValue> property2) {
-        checkParametersOrFail(property1, property2);
-        final BidirectionalBinding binding = new UntypedGenericBidirectionalBinding(property1, property2);
-        property1.removeListener(binding);
-        property2.removeListener(binding);
+        unbind((Object) property1, property2);
     }
 
-    @SuppressWarnings ("unchecked")
+    /**
+     * Unbinds the two properties if they are bound by a {@link BidirectionalBinding}.
+     *
+     * @param property1 the first property to unbind.
+     * @param property2 the second property to unbind.
+     */
     public static void unbind(@NotNull final Object property1, @NotNull final Object property2) {
         checkParametersOrFail(property1, property2);
-        final BidirectionalBinding binding = new UntypedGenericBidirectionalBinding(property1, property2);
-        if (property1 instanceof ObservableValue) {
-            ((ObservableValue) property1).removeListener(binding);
+        final BidirectionalBinding<?> binding = unregister(property1, property2);
+        if (binding != null) {
+            removeListener(property1, property2, binding);
         }
-        if (property2 instanceof ObservableValue) {
-            ((ObservableValue) property2).removeListener(binding);
+    }
+
+    /**
+     * Unbinds all {@link BidirectionalBinding}s of the given property.
+     *
+     * @param property the property to unbind.
+     */
+    public static void unbindAll(@NotNull final Object property) {
+        //noinspection ConstantConditions
+        if (property == null) {
+            throw new NullPointerException("The property must be specified.");
+        }
+        final Map<Object, BidirectionalBinding<?>> bindings = new IdentityHashMap<>();
+        synchronized (REGISTRY) {
+            final WeakIdentityMap<Object, BidirectionalBinding<?>> registered = REGISTRY.remove(property);
+            if (registered != null) {
+                registered.forEach(bindings::put);
+                bindings.keySet().forEach(otherProperty -> removeFromRegistry(otherProperty, property));
+            }
+        }
+        bindings.forEach((otherProperty, binding) -> removeListener(property, otherProperty, binding));
+    }
+
+    /**
+     * Determines if the given property is bound by any {@link BidirectionalBinding}.
+     *
+     * @param property the property to check.
+     *
+     * @return true if the property is bound by any {@link BidirectionalBinding}, otherwise false.
+     */
+    public static boolean isBound(@NotNull final Object property) {
+        synchronized (REGISTRY) {
+            final WeakIdentityMap<Object, BidirectionalBinding<?>> bindings = REGISTRY.get(property);
+            return bindings != null && !bindings.isEmpty();
         }
     }
 
@@ -213,13 +395,21 @@ public abstract class BidirectionalBinding<TValue> implements ChangeListener<TVa
                     if (otherProperty != null) {
                         otherProperty.removeListener(this);
                     }
-                } else {
+                } else if (PropagationGuard.enter(this)) {
                     try {
                         updating = true;
                         if (property == observable) {
-                            otherProperty.setValue(converter.convertTo(property.getValue()));
+                            final TOtherValue value = converter.convertTo(property.getValue());
+                            if (!PropagationGuard.isRoundTripCheck() ||
+                                !(Objects.equals(value, otherProperty.getValue()) || Objects.equals(property.getValue(), converter.convertBack(otherProperty.getValue())))) {
+                                otherProperty.setValue(value);
+                            }
                         } else {
-                            property.setValue(converter.convertBack(otherProperty.getValue()));
+                            final TValue value = converter.convertBack(otherProperty.getValue());
+                            if (!PropagationGuard.isRoundTripCheck() ||
+                                !(Objects.equals(value, property.getValue()) || Objects.equals(otherProperty.getValue(), converter.convertTo(property.getValue())))) {
+                                property.setValue(value);
+                            }
                         }
                     } catch (RuntimeException e) {
                         try {
@@ -230,7 +420,7 @@ public abstract class BidirectionalBinding<TValue> implements ChangeListener<TVa
                             }
                         } catch (Exception e2) {
                             e2.addSuppressed(e);
-                            com.sun.javafx.binding.BidirectionalBinding.unbind(property, otherProperty);
+                            unbind(property, otherProperty);
                             throw new RuntimeException("Bidirectional binding failed together with an attempt" +
                                                        " to restore the source property1 to the previous value." +
                                                        " Removing the bidirectional binding from properties " +
@@ -241,6 +431,7 @@ public abstract class BidirectionalBinding<TValue> implements ChangeListener<TVa
                         throw new RuntimeException("Bidirectional binding failed, setting to the previous value", e);
                     } finally {
                         updating = false;
+                        PropagationGuard.exit();
                     }
                 }
             }
@@ -249,54 +440,5 @@ public abstract class BidirectionalBinding<TValue> implements ChangeListener<TVa
         //endregion
     }
 
-    @SuppressWarnings ("NullableProblems")
-    private static class UntypedGenericBidirectionalBinding extends BidirectionalBinding<Object> {
-
-        //region Fields
-
-        @NotNull
-        private final Object property1;
-
-        @NotNull
-        private final Object property2;
-
-        //endregion
-
-        //region Constructor
-
-        public UntypedGenericBidirectionalBinding(@NotNull final Object property1, @NotNull final Object property2) {
-            super(property1, property2);
-            this.property1 = property1;
-            this.property2 = property2;
-        }
-
-        //endregion
-
-        //region Getter
-
-        @Nullable
-        @Override
-        protected Object getProperty1() {
-            return property1;
-        }
-
-        @Nullable
-        @Override
-        protected Object getProperty2() {
-            return property2;
-        }
-
-        //endregion
-
-        //region ChangeListener
-
-        @Override
-        public void changed(ObservableValue<? extends Object> sourceProperty, Object oldValue, Object newValue) {
-            throw new RuntimeException("Should not reach here");
-        }
-
-        //endregion
-    }
-
     // endregion
 }
\ No newline at end of file
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * This class binds the content of two {@link ObservableList}s bidirectional, each element is converted using an {@link IConverter}. Each {@link ListChangeListener.Change} of one
+ * list is translated into the minimal operations on the other list: replaced elements are set, added elements are converted and inserted, removed elements are removed and reordered
+ * elements are moved, so the other list is never reset as a whole.
+ * <p>
+ * The added elements of all sub-changes of a change are converted before the other list is modified, so if the {@link IConverter} fails, the other list is not changed at all.
+ * <p>
+ * Since an {@link ObservableList} can not be changed in a batch from the outside, reordered and replaced elements are set one after another, so the listeners of the other list are
+ * notified once for each element that has been moved or replaced.
+ * <p>
+ * The binding is registered like any other {@link BidirectionalBinding}, so it can be removed using {@link BidirectionalBinding#unbind(Object, Object)}.
+ *
+ * @param <TValue>      the type of the elements of the first {@link ObservableList}.
+ * @param <TOtherValue> the type of the elements of the second {@link ObservableList}.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+final class BidirectionalListBinding<TValue, TOtherValue> extends BidirectionalBinding<Object> implements ListChangeListener<Object> {
+
+    // region Fields
+
+    /**
+     * The first {@link ObservableList}.
+     */
+    @NotNull
+    private final WeakReference<ObservableList<TValue>> list1;
+
+    /**
+     * The second {@link ObservableList}.
+     */
+    @NotNull
+    private final WeakReference<ObservableList<TOtherValue>> list2;
+
+    /**
+     * The {@link IConverter} which converts the elements of the first {@link ObservableList} into the elements of the second {@link ObservableList} and vice versa.
+     */
+    @NotNull
+    private final IConverter<TValue, TOtherValue> converter;
+
+    /**
+     * Determines if this binding is currently changing one of the lists.
+     */
+    private boolean updating;
+
+    // endregion
+
+    // region Constructor
+
+    private BidirectionalListBinding(@NotNull final ObservableList<TValue> list1,
+                                     @NotNull final ObservableList<TOtherValue> list2,
+                                     @NotNull final IConverter<TValue, TOtherValue> converter) {
+        super(list1, list2);
+
+        this.list1 = new WeakReference<>(list1);
+        this.list2 = new WeakReference<>(list2);
+        this.converter = converter;
+    }
+
+    // endregion
+
+    // region Package
+
+    /**
+     * Binds the content of the two lists bidirectional, the elements will be converted using the given {@link IConverter}. The first list will receive the converted elements of the
+     * second list. If the two lists are already bound by a {@link BidirectionalBinding}, the existing binding will be replaced.
+     *
+     * @param list1         the first {@link ObservableList} to bind.
+     * @param list2         the second {@link ObservableList} to bind.
+     * @param converter     the {@link IConverter} to use.
+     * @param <TValue>      the type of the elements of the first {@link ObservableList}.
+     * @param <TOtherValue> the type of the elements of the second {@link ObservableList}.
+     *
+     * @return the new {@link BidirectionalListBinding}.
+     */
+    @SuppressWarnings ("ConstantConditions")
+    static <TValue, TOtherValue> BidirectionalListBinding<TValue, TOtherValue> bindContent(@NotNull final ObservableList<TValue> list1,
+                                                                                         @NotNull final ObservableList<TOtherValue> list2,
+                                                                                         @NotNull final IConverter<TValue, TOtherValue> converter) {
+        checkParametersOrFail(list1, list2);
+        if (converter == null) {
+            throw new NullPointerException("IConverter cannot be null");
+        }
+        final BidirectionalListBinding<TValue, TOtherValue> binding = new BidirectionalListBinding<>(list1, list2, converter);
+        list1.setAll(convert(list2, converter::convertBack));
+        attachContent(list1, list2, binding);
+        return binding;
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Converts the given elements.
+     *
+     * @param elements           the elements to convert.
+     * @param conversion         the {@link Function} that converts each element.
+     * @param <TSource>          the type of the elements.
+     * @param <TConvertedSource> the type of the converted elements.
+     *
+     * @return a new {@link List} containing the converted elements.
+     */
+    @NotNull
+    private static <TSource, TConvertedSource> List<TConvertedSource> convert(@NotNull final List<? extends TSource> elements,
+                                                                             @NotNull final Function<TSource, TConvertedSource> conversion) {
+        final List<TConvertedSource> result = new ArrayList<>(elements.size());
+        for (final TSource element : elements) {
+            result.add(conversion.apply(element));
+        }
+        return result;
+    }
+
+    /**
+     * Applies the given {@link ListChangeListener.Change} of the source list to the target list. The elements of all sub-changes are converted before the target list is modified.
+     *
+     * @param change             the {@link ListChangeListener.Change} of the source list.
+     * @param source             the list that has been changed.
+     * @param target             the list that is to be changed.
+     * @param conversion         the {@link Function} that converts an element of the source list into an element of the target list.
+     * @param <TSource>          the type of the elements of the source list.
+     * @param <TConvertedSource> the type of the elements of the target list.
+     */
+    private static <TSource, TConvertedSource> void apply(@NotNull final Change<?> change,
+                                                          @NotNull final ObservableList<TSource> source,
+                                                          @NotNull final ObservableList<TConvertedSource> target,
+                                                          @NotNull final Function<TSource, TConvertedSource> conversion) {
+        final List<Runnable> operations = new ArrayList<>();
+        while (change.next()) {
+            final int from = change.getFrom();
+            final int to = change.getTo();
+            if (change.wasPermutated()) {
+                final int[] permutation = new int[to - from];
+                for (int i = from; i < to; ++i) {
+                    permutation[i - from] = change.getPermutation(i);
+                }
+                operations.add(() -> {
+                    final List<TConvertedSource> moved = new ArrayList<>(target.subList(from, to));
+                    for (int i = from; i < to; ++i) {
+                        final int newIndex = permutation[i - from];
+                        if (newIndex != i) {
+                            target.set(newIndex, moved.get(i - from));
+                        }
+                    }
+                });
+            } else if (change.wasUpdated()) {
+                final List<TConvertedSource> updated = convert(source.subList(from, to), conversion);
+                operations.add(() -> {
+                    for (int i = from; i < to; ++i) {
+                        target.set(i, updated.get(i - from));
+                    }
+                });
+            } else {
+                final List<TConvertedSource> added = convert(source.subList(from, to), conversion);
+                final int removedSize = change.getRemovedSize();
+                operations.add(() -> {
+                    final int replacedSize = Math.min(removedSize, added.size());
+                    for (int i = 0; i < replacedSize; ++i) {
+                        target.set(from + i, added.get(i));
+                    }
+                    if (removedSize > replacedSize) {
+                        target.remove(from + replacedSize, from + removedSize);
+                    } else if (added.size() > replacedSize) {
+                        target.addAll(from + replacedSize, added.subList(replacedSize, added.size()));
+                    }
+                });
+            }
+        }
+        operations.forEach(Runnable::run);
+    }
+
+    // endregion
+
+    // region Override BidirectionalBinding
+
+    @Nullable
+    @Override
+    protected ObservableList<TValue> getProperty1() {
+        return list1.get();
+    }
+
+    @Nullable
+    @Override
+    protected ObservableList<TOtherValue> getProperty2() {
+        return list2.get();
+    }
+
+    // endregion
+
+    // region Override ChangeListener
+
+    /**
+     * Does nothing, since this binding only listens to the changes of the content of the lists.
+     */
+    @Override
+    public void changed(@NotNull final ObservableValue<?> observable, @Nullable final Object oldValue, @Nullable final Object newValue) {}
+
+    // endregion
+
+    // region Override ListChangeListener
+
+    @Override
+    public void onChanged(@NotNull final Change<?> change) {
+        if (updating) {
+            return;
+        }
+        final ObservableList<TValue> currentList1 = list1.get();
+        final ObservableList<TOtherValue> currentList2 = list2.get();
+        if (currentList1 == null || currentList2 == null) {
+            if (currentList1 != null) {
+                currentList1.removeListener(this);
+            }
+            if (currentList2 != null) {
+                currentList2.removeListener(this);
+            }
+        } else if (PropagationGuard.enter(this)) {
+            updating = true;
+            try {
+                if (change.getList() == currentList1) {
+                    apply(change, currentList1, currentList2, converter::convertTo);
+                } else {
+                    apply(change, currentList2, currentList1, converter::convertBack);
+                }
+            } finally {
+                updating = false;
+                PropagationGuard.exit();
+            }
+        }
+    }
+
+    // endregion
+}
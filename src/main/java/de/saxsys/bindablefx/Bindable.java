@@ -0,0 +1,38 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a model class for which the {@link de.saxsys.bindablefx.processor.BindableProcessor} generates a class containing typed {@link BindablePath}s. For a class A the class
+ * APaths is generated in the same package, which contains a method for each public method of A whose name ends with "Property" and which returns an
+ * {@link javafx.beans.value.ObservableValue}. If the value of such a method is again of a class marked with this annotation, the path can be continued, e.g.
+ * {@code APaths.b().c().x()}.
+ * <p>
+ * The paths are checked by the compiler and only use method references, so creating the bindings of a path neither needs reflection nor any lookup at runtime.
+ * <p>
+ * The processor is not registered as a service, it needs to be named explicitly, e.g. using {@code -processor de.saxsys.bindablefx.processor.BindableProcessor} or the
+ * {@code annotationProcessors} of the maven compiler plugin.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+@Documented
+@Retention (RetentionPolicy.CLASS)
+@Target (ElementType.TYPE)
+public @interface Bindable {}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import javafx.beans.property.Property;
+import javafx.beans.value.ObservableValue;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Function;
+
+/**
+ * This class describes a path from a root value to an {@link ObservableValue}, such as A.b.c.x, without being bound to any instance. Calling {@link #observe(ObservableValue)}
+ * creates the same chain of {@link IFluentBinding}s as {@code Bindings.observe(root).thenObserve(A::bProperty).thenObserve(B::cProperty).thenObserve(C::xProperty)}, so a path can
+ * be created once, e.g. as a constant, and then be used for any amount of roots.
+ * <p>
+ * Paths are usually generated for classes marked with {@link Bindable}, but can also be created by hand using {@link #root()} and {@link #then(Function)}.
+ *
+ * @param <TRoot>  the type of the value of the root.
+ * @param <TValue> the type of the value at the end of the path.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public class BindablePath<TRoot, TValue> {
+
+    // region Fields
+
+    /**
+     * The path that leads to the value which contains the last segment, null if this path is the root.
+     */
+    @Nullable
+    private final BindablePath<TRoot, ?> parent;
+
+    /**
+     * The {@link Function} that returns the {@link ObservableValue} of the last segment, null if this path is the root.
+     */
+    @Nullable
+    private final Function<Object, ? extends ObservableValue<TValue>> resolver;
+
+    // endregion
+
+    // region Constructor
+
+    /**
+     * Creates a new path that continues the given path.
+     *
+     * @param parent   the path that leads to the value which contains the last segment.
+     * @param resolver the {@link Function} that returns the {@link ObservableValue} of the last segment.
+     */
+    @SuppressWarnings ("unchecked")
+    BindablePath(@Nullable final BindablePath<TRoot, ?> parent, @Nullable final Function<?, ? extends ObservableValue<TValue>> resolver) {
+        this.parent = parent;
+        this.resolver = (Function<Object, ? extends ObservableValue<TValue>>) resolver;
+    }
+
+    /**
+     * Creates a new path that is the same as the given path, which allows generated classes to offer the segments of the value of the path.
+     *
+     * @param path the path to copy.
+     */
+    protected BindablePath(@NotNull final BindablePath<TRoot, TValue> path) {
+        this(path.parent, path.resolver);
+    }
+
+    // endregion
+
+    // region Static
+
+    /**
+     * Returns the path that only consists of the root.
+     *
+     * @param <TRoot> the type of the value of the root.
+     *
+     * @return a new {@link BindablePath}.
+     */
+    @NotNull
+    public static <TRoot> BindablePath<TRoot, TRoot> root() {
+        return new BindablePath<>(null, null);
+    }
+
+    // endregion
+
+    // region Package
+
+    /**
+     * Returns the {@link Function} that returns the {@link ObservableValue} of the last segment.
+     *
+     * @return the {@link Function} that returns the {@link ObservableValue} of the last segment, null if this path is the root.
+     */
+    @Nullable
+    final Function<Object, ? extends ObservableValue<TValue>> getResolver() {
+        return resolver;
+    }
+
+    /**
+     * Creates the chain of {@link IFluentBinding}s which observes the value that contains the last segment.
+     *
+     * @param root the {@link ObservableValue} whose value is the start of the path.
+     *
+     * @return a new {@link IFluentBinding}.
+     */
+    @SuppressWarnings ("unchecked")
+    @NotNull
+    final IFluentBinding<Object> observeParent(@NotNull final ObservableValue<TRoot> root) {
+        if (parent == null) {
+            throw new IllegalStateException("The root of a path has no parent");
+        }
+        return (IFluentBinding<Object>) parent.observe(root);
+    }
+
+    // endregion
+
+    // region Public
+
+    /**
+     * Creates a new path that continues this path with the {@link ObservableValue} returned by the given {@link Function}.
+     *
+     * @param resolver the {@link Function} that returns the {@link ObservableValue} of the next segment.
+     * @param <TNext>  the type of the value of the next segment.
+     *
+     * @return a new {@link BindablePath}.
+     */
+    @SuppressWarnings ("ConstantConditions")
+    @NotNull
+    public <TNext> BindablePath<TRoot, TNext> then(@NotNull final Function<TValue, ? extends ObservableValue<TNext>> resolver) {
+        if (resolver == null) {
+            throw new NullPointerException("Resolver cannot be null");
+        }
+        return new BindablePath<>(this, resolver);
+    }
+
+    /**
+     * Creates a new path that continues this path with the {@link Property} returned by the given {@link Function}, the path can then be observed as an {@link IPropertyBinding}.
+     *
+     * @param resolver the {@link Function} that returns the {@link Property} of the next segment.
+     * @param <TNext>  the type of the value of the next segment.
+     *
+     * @return a new {@link BindablePropertyPath}.
+     */
+    @SuppressWarnings ("ConstantConditions")
+    @NotNull
+    public <TNext> BindablePropertyPath<TRoot, TNext> thenProperty(@NotNull final Function<TValue, ? extends Property<TNext>> resolver) {
+        if (resolver == null) {
+            throw new NullPointerException("Resolver cannot be null");
+        }
+        return new BindablePropertyPath<>(this, resolver);
+    }
+
+    /**
+     * Creates the chain of {@link IFluentBinding}s which observes the value at the end of this path, starting at the value of the given {@link ObservableValue}.
+     *
+     * @param root the {@link ObservableValue} whose value is the start of the path.
+     *
+     * @return a new {@link IFluentBinding}.
+     */
+    @SuppressWarnings ("unchecked")
+    @NotNull
+    public IFluentBinding<TValue> observe(@NotNull final ObservableValue<TRoot> root) {
+        if (resolver == null) {
+            return (IFluentBinding<TValue>) Bindings.observe(root);
+        }
+        return observeParent(root).thenObserve(resolver);
+    }
+
+    // endregion
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import javafx.beans.property.Property;
+import javafx.beans.value.ObservableValue;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Function;
+
+/**
+ * This class is a {@link BindablePath} whose last segment is a {@link Property}, so the value at the end of the path can also be written, e.g. by binding it bidirectional.
+ *
+ * @param <TRoot>  the type of the value of the root.
+ * @param <TValue> the type of the value at the end of the path.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public final class BindablePropertyPath<TRoot, TValue> extends BindablePath<TRoot, TValue> {
+
+    // region Constructor
+
+    /**
+     * Creates a new path that continues the given path.
+     *
+     * @param parent   the path that leads to the value which contains the last segment.
+     * @param resolver the {@link Function} that returns the {@link Property} of the last segment.
+     */
+    BindablePropertyPath(@NotNull final BindablePath<TRoot, ?> parent, @NotNull final Function<?, ? extends Property<TValue>> resolver) {
+        super(parent, resolver);
+    }
+
+    // endregion
+
+    // region Override BindablePath
+
+    /**
+     * Creates the chain of {@link IFluentBinding}s which observes the {@link Property} at the end of this path, starting at the value of the given {@link ObservableValue}.
+     *
+     * @param root the {@link ObservableValue} whose value is the start of the path.
+     *
+     * @return a new {@link IPropertyBinding}.
+     */
+    @SuppressWarnings ({"unchecked", "ConstantConditions"})
+    @NotNull
+    @Override
+    public IPropertyBinding<TValue> observe(@NotNull final ObservableValue<TRoot> root) {
+        final Function<Object, Property<TValue>> resolver = (Function<Object, Property<TValue>>) getResolver();
+        return observeParent(root).thenObserveProperty(resolver);
+    }
+
+    // endregion
+}
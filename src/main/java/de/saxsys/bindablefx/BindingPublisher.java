@@ -0,0 +1,290 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * This class exposes an {@link ObservableValue}, usually an {@link IFluentBinding}, as a {@link Publisher}. Each {@link Subscriber} will receive the current value once it requests
+ * elements and afterwards every change, but only as fast as it requests them. If a {@link Subscriber} is slower than the {@link ObservableValue} changes, only the latest value will be
+ * kept and delivered once the {@link Subscriber} requests the next element, so nothing is buffered unboundedly.
+ * <p>
+ * Since a {@link Publisher} must not emit null, null values will not be delivered and a {@link Subscriber} will not be notified that the value became null, it only receives the
+ * next value which is not null. If null values are of interest, use {@link Bindings#toOptionalPublisher(ObservableValue)}, which publishes each value as an {@link java.util.Optional},
+ * or replace them using {@link IFluentBinding#fallbackOn(Object)}. {@link #subscribe(Subscriber)} must be called on the thread owning the
+ * {@link ObservableValue}, whereas the {@link Subscription} can be used from any thread.
+ *
+ * @param <TValue> the type of the value of the {@link ObservableValue}.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public final class BindingPublisher<TValue> implements Publisher<TValue> {
+
+    // region Fields
+
+    /**
+     * The {@link ObservableValue} whose values are published.
+     */
+    @NotNull
+    private final ObservableValue<TValue> observableValue;
+
+    // endregion
+
+    // region Constructor
+
+    BindingPublisher(@NotNull final ObservableValue<TValue> observableValue) {
+        this.observableValue = observableValue;
+    }
+
+    // endregion
+
+    // region Override Publisher
+
+    /**
+     * {@inheritDoc} Must be called on the thread owning the {@link ObservableValue}.
+     */
+    @Override
+    public void subscribe(@NotNull final Subscriber<? super TValue> subscriber) {
+        //noinspection ConstantConditions
+        if (subscriber == null) {
+            throw new NullPointerException("Subscriber cannot be null");
+        }
+        final ConflatingSubscription<TValue> subscription = new ConflatingSubscription<>(observableValue, subscriber);
+        subscriber.onSubscribe(subscription);
+        subscription.start();
+    }
+
+    // endregion
+
+    // region Classes
+
+    /**
+     * The {@link Subscription} of a single {@link Subscriber}, which keeps only the latest value that has not yet been delivered.
+     *
+     * @param <TValue> the type of the value of the {@link ObservableValue}.
+     */
+    private static final class ConflatingSubscription<TValue> implements Subscription, ChangeListener<TValue> {
+
+        //region Constants
+
+        /**
+         * Marks that there is no value to be delivered, needed since the value to be delivered is kept in an {@link AtomicReference}.
+         */
+        private static final Object NO_VALUE = new Object();
+
+        //endregion
+
+        //region Fields
+
+        /**
+         * The {@link ObservableValue} whose values are published.
+         */
+        @NotNull
+        private final ObservableValue<TValue> observableValue;
+
+        /**
+         * The {@link Subscriber} the values are delivered to, null once the subscription has been cancelled, so a cancelled {@link Subscriber} is not kept alive.
+         */
+        @Nullable
+        private volatile Subscriber<? super TValue> subscriber;
+
+        /**
+         * The thread owning the {@link #observableValue}, which is the thread that subscribed.
+         */
+        @Nullable
+        private Thread owner;
+
+        /**
+         * The latest value that has not yet been delivered.
+         */
+        @NotNull
+        private final AtomicReference<Object> latestValue = new AtomicReference<>(NO_VALUE);
+
+        /**
+         * The amount of elements that have been requested but not yet delivered.
+         */
+        @NotNull
+        private final AtomicLong requested = new AtomicLong();
+
+        /**
+         * Ensures that only one thread delivers values at a time, while other threads only mark that there is more work to do.
+         */
+        @NotNull
+        private final AtomicInteger workInProgress = new AtomicInteger();
+
+        /**
+         * The error of an invalid request, which has not yet been signalled to the {@link #subscriber}.
+         */
+        @Nullable
+        private volatile Throwable error;
+
+        /**
+         * Determines if the subscription has been cancelled.
+         */
+        private volatile boolean cancelled;
+
+        /**
+         * Determines if this {@link ConflatingSubscription} is still added as a listener to the {@link #observableValue}.
+         */
+        private boolean listening;
+
+        //endregion
+
+        // region Constructor
+
+        ConflatingSubscription(@NotNull final ObservableValue<TValue> observableValue, @NotNull final Subscriber<? super TValue> subscriber) {
+            this.observableValue = observableValue;
+            this.subscriber = subscriber;
+        }
+
+        // endregion
+
+        // region Package
+
+        /**
+         * Starts listening to the {@link #observableValue} and offers its current value.
+         */
+        void start() {
+            owner = Thread.currentThread();
+            if (!cancelled) {
+                observableValue.addListener(this);
+                listening = true;
+                latestValue.set(observableValue.getValue());
+                deliver();
+            }
+        }
+
+        // endregion
+
+        // region Override ChangeListener
+
+        /**
+         * Keeps the new value and delivers it if it has been requested. If the subscription has been cancelled, this {@link ChangeListener} removes itself from the
+         * {@link #observableValue}, since a {@link Subscription} may be cancelled from any thread.
+         */
+        @Override
+        public void changed(@Nullable final ObservableValue<? extends TValue> observable, @Nullable final TValue oldValue, @Nullable final TValue newValue) {
+            if (cancelled) {
+                stopListening();
+            } else {
+                latestValue.set(newValue);
+                deliver();
+            }
+        }
+
+        // endregion
+
+        // region Override Subscription
+
+        /**
+         * {@inheritDoc} If the amount is not positive, the error is signalled by {@link #deliver()}, so it is not signalled concurrently with a value delivered by another thread.
+         */
+        @Override
+        public void request(final long amount) {
+            if (amount <= 0) {
+                error = new IllegalArgumentException("The amount of requested elements must be positive but was " + amount);
+                deliver();
+                return;
+            }
+
+            long current;
+            long next;
+            do {
+                current = requested.get();
+                next = current + amount < 0 ? Long.MAX_VALUE : current + amount;
+            } while (!requested.compareAndSet(current, next));
+
+            deliver();
+        }
+
+        /**
+         * {@inheritDoc} The {@link Subscriber} is released immediately. If called on the thread owning the {@link #observableValue}, this {@link ChangeListener} is removed immediately as
+         * well, otherwise it removes itself once the {@link #observableValue} changes the next time.
+         */
+        @Override
+        public void cancel() {
+            cancelled = true;
+            subscriber = null;
+            latestValue.set(NO_VALUE);
+            if (Thread.currentThread() == owner) {
+                stopListening();
+            }
+        }
+
+        // endregion
+
+        // region Private
+
+        /**
+         * Delivers the latest value if it has been requested or signals the {@link #error} of an invalid request, which cancels the subscription. Only one thread delivers at a
+         * time, if another thread is currently delivering it will pick up the work of this call.
+         */
+        @SuppressWarnings ("unchecked")
+        private void deliver() {
+            if (workInProgress.getAndIncrement() != 0) {
+                return;
+            }
+
+            int missed = 1;
+            do {
+                if (cancelled) {
+                    return;
+                }
+                final Subscriber<? super TValue> currentSubscriber = subscriber;
+                final Throwable currentError = error;
+                if (currentError != null) {
+                    cancel();
+                    if (currentSubscriber != null) {
+                        currentSubscriber.onError(currentError);
+                    }
+                    return;
+                }
+                if (currentSubscriber != null && requested.get() > 0) {
+                    final Object value = latestValue.getAndSet(NO_VALUE);
+                    if (value != NO_VALUE && value != null) {
+                        if (requested.get() != Long.MAX_VALUE) {
+                            requested.decrementAndGet();
+                        }
+                        currentSubscriber.onNext((TValue) value);
+                    }
+                }
+                missed = workInProgress.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        /**
+         * Removes this {@link ConflatingSubscription} as a listener from the {@link #observableValue}.
+         */
+        private void stopListening() {
+            if (listening) {
+                observableValue.removeListener(this);
+                listening = false;
+            }
+        }
+
+        // endregion
+    }
+
+    // endregion
+}
@@ -15,9 +15,22 @@ package de.saxsys.bindablefx;
 
 import javafx.beans.property.Property;
 import javafx.beans.value.ObservableValue;
+import javafx.collections.ObservableList;
 import org.jetbrains.annotations.NotNull;
+import org.reactivestreams.Publisher;
 
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * Utility class to allow for the binding mechanisms in the lib to be used and is also the only point of entrance.
@@ -52,6 +65,84 @@ public final class Bindings {
         return result;
     }
 
+    /**
+     * Creates a new {@link IFluentBinding} that listens to changes made to the given {@link ObservableValue} from any thread. The latest value is published without locking and the
+     * binding is invalidated on the JavaFX application thread, with at most one pending {@link javafx.application.Platform#runLater(Runnable)} no matter how often the
+     * {@link ObservableValue} changes.
+     *
+     * @param observedValue the {@link ObservableValue} to listen to.
+     * @param <TValue>      the type of the value of the {@link ObservableValue}
+     *
+     * @return a new {@link IFluentBinding}.
+     *
+     * @see ConcurrentBinding
+     */
+    public static <TValue> IFluentBinding<TValue> observeConcurrently(@NotNull final ObservableValue<TValue> observedValue) {
+        final ConcurrentBinding<TValue> result = new ConcurrentBinding<>();
+        result.setObservedValue(observedValue);
+        result.invalidate();
+        return result;
+    }
+
+    /**
+     * Creates a new {@link IFluentBinding} that listens to changes made to the given {@link ObservableValue} from any thread. The latest value is published without locking and the
+     * binding is invalidated on the thread the given {@link Executor} runs on, with at most one pending hand-off no matter how often the {@link ObservableValue} changes.
+     *
+     * @param observedValue the {@link ObservableValue} to listen to.
+     * @param handOff       the {@link Executor} that runs the hand-off on the thread owning the binding.
+     * @param <TValue>      the type of the value of the {@link ObservableValue}
+     *
+     * @return a new {@link IFluentBinding}.
+     *
+     * @see ConcurrentBinding
+     */
+    public static <TValue> IFluentBinding<TValue> observeConcurrently(@NotNull final ObservableValue<TValue> observedValue, @NotNull final Executor handOff) {
+        final ConcurrentBinding<TValue> result = new ConcurrentBinding<>(handOff);
+        result.setObservedValue(observedValue);
+        result.invalidate();
+        return result;
+    }
+
+    /**
+     * Creates a new {@link IFluentBinding} that observes the {@link ObservableValue} at the end of the given path, starting at the value of the given {@link ObservableValue}. Each
+     * segment of the path is resolved to the method named after the segment with the suffix "Property", so select(a, "b.c.d") creates the same chain as
+     * {@code observe(a).thenObserve(A::bProperty).thenObserve(B::cProperty).thenObserve(C::dProperty)}. The methods are only looked up once per class and segment.
+     * <p>
+     * A segment is resolved against the actual class of its value whenever that value changes. If a segment can not be resolved for the values present when this method is called,
+     * it throws. If it can only be resolved later on, e.g. because the root had no value yet, the {@link IllegalArgumentException} is thrown while the listeners are notified, so
+     * JavaFX hands it to the uncaught exception handler of the thread that changed the value and the binding contains null.
+     *
+     * @param root     the {@link ObservableValue} whose value is the start of the path.
+     * @param path     the segments separated by dots.
+     * @param <TValue> the type of the value at the end of the path.
+     *
+     * @return a new {@link IFluentBinding}.
+     *
+     * @throws IllegalArgumentException if the path contains an empty segment or a segment of the current values can not be resolved.
+     * @see PropertyPath
+     */
+    public static <TValue> IFluentBinding<TValue> select(@NotNull final ObservableValue<?> root, @NotNull final String path) {
+        return PropertyPath.select(observe(root), path);
+    }
+
+    /**
+     * Creates a new {@link IPropertyBinding} that observes the {@link Property} at the end of the given path, starting at the value of the given {@link ObservableValue}. Each
+     * segment of the path is resolved to the method named after the segment with the suffix "Property", the method of the last segment must return a {@link Property}. Segments are
+     * resolved just like by {@link #select(ObservableValue, String)}.
+     *
+     * @param root     the {@link ObservableValue} whose value is the start of the path.
+     * @param path     the segments separated by dots.
+     * @param <TValue> the type of the value at the end of the path.
+     *
+     * @return a new {@link IPropertyBinding}.
+     *
+     * @throws IllegalArgumentException if the path contains an empty segment or a segment of the current values can not be resolved.
+     * @see PropertyPath
+     */
+    public static <TValue> IPropertyBinding<TValue> selectProperty(@NotNull final ObservableValue<?> root, @NotNull final String path) {
+        return PropertyPath.selectProperty(observe(root), path);
+    }
+
     /**
      * Creates
      *
@@ -67,6 +158,259 @@ public final class Bindings {
         return new ConverterBinding<>(observableValue, converter);
     }
 
+    /**
+     * Creates a new {@link IFluentBinding} that combines the values of the given {@link ObservableValue}s using the given {@link BiFunction}. The binding depends on both
+     * {@link ObservableValue}s directly, so no nested converters are needed and the {@link BiFunction} is invoked at most once per change wave.
+     *
+     * @param first     the first {@link ObservableValue}.
+     * @param second    the second {@link ObservableValue}.
+     * @param combiner  the {@link BiFunction} that combines the values.
+     * @param <TFirst>  the type of the value of the first {@link ObservableValue}.
+     * @param <TSecond> the type of the value of the second {@link ObservableValue}.
+     * @param <TResult> the type of the combined value.
+     *
+     * @return a new {@link IFluentBinding}.
+     *
+     * @see CombinedBinding
+     */
+    @SuppressWarnings ({"unchecked", "ConstantConditions"})
+    public static <TFirst, TSecond, TResult> IFluentBinding<TResult> combine(@NotNull final ObservableValue<TFirst> first,
+                                                                             @NotNull final ObservableValue<TSecond> second,
+                                                                             @NotNull final BiFunction<TFirst, TSecond, TResult> combiner) {
+        if (combiner == null) {
+            throw new NullPointerException("Combiner cannot be null");
+        }
+        return new CombinedBinding<>(Arrays.asList(first, second), values -> combiner.apply((TFirst) values.get(0), (TSecond) values.get(1)));
+    }
+
+    /**
+     * Creates a new {@link IFluentBinding} that combines the values of the given {@link ObservableValue}s using the given {@link ITriFunction}. The binding depends on all
+     * {@link ObservableValue}s directly, so no nested converters are needed and the {@link ITriFunction} is invoked at most once per change wave.
+     *
+     * @param first     the first {@link ObservableValue}.
+     * @param second    the second {@link ObservableValue}.
+     * @param third     the third {@link ObservableValue}.
+     * @param combiner  the {@link ITriFunction} that combines the values.
+     * @param <TFirst>  the type of the value of the first {@link ObservableValue}.
+     * @param <TSecond> the type of the value of the second {@link ObservableValue}.
+     * @param <TThird>  the type of the value of the third {@link ObservableValue}.
+     * @param <TResult> the type of the combined value.
+     *
+     * @return a new {@link IFluentBinding}.
+     *
+     * @see CombinedBinding
+     */
+    @SuppressWarnings ({"unchecked", "ConstantConditions"})
+    public static <TFirst, TSecond, TThird, TResult> IFluentBinding<TResult> combine(@NotNull final ObservableValue<TFirst> first,
+                                                                                     @NotNull final ObservableValue<TSecond> second,
+                                                                                     @NotNull final ObservableValue<TThird> third,
+                                                                                     @NotNull final ITriFunction<TFirst, TSecond, TThird, TResult> combiner) {
+        if (combiner == null) {
+            throw new NullPointerException("Combiner cannot be null");
+        }
+        return new CombinedBinding<>(Arrays.asList(first, second, third),
+                                     values -> combiner.apply((TFirst) values.get(0), (TSecond) values.get(1), (TThird) values.get(2)));
+    }
+
+    /**
+     * Creates a new {@link IFluentBinding} that combines the values of all given {@link ObservableValue}s using the given {@link Function}, which receives the values in the order
+     * of the {@link ObservableValue}s. The binding depends on all {@link ObservableValue}s directly, so the {@link Function} is invoked at most once per change wave.
+     *
+     * @param inputs    the {@link ObservableValue}s whose values are combined.
+     * @param combiner  the {@link Function} that combines the values.
+     * @param <TValue>  the type of the values of the {@link ObservableValue}s.
+     * @param <TResult> the type of the combined value.
+     *
+     * @return a new {@link IFluentBinding}.
+     *
+     * @see CombinedBinding
+     */
+    @SuppressWarnings ({"unchecked", "ConstantConditions"})
+    public static <TValue, TResult> IFluentBinding<TResult> combine(@NotNull final List<? extends ObservableValue<? extends TValue>> inputs,
+                                                                    @NotNull final Function<List<TValue>, TResult> combiner) {
+        if (inputs == null) {
+            throw new NullPointerException("Inputs cannot be null");
+        }
+        if (combiner == null) {
+            throw new NullPointerException("Combiner cannot be null");
+        }
+        return new CombinedBinding<>(inputs, values -> combiner.apply((List<TValue>) Collections.unmodifiableList(values)));
+    }
+
+    /**
+     * Creates a new {@link IFluentBinding} whose value is computed by the given {@link Supplier}. The binding depends on exactly the {@link ObservableValue}s the {@link Supplier} has
+     * read using {@link #read(ObservableValue)} during its last evaluation, e.g. {@code compute(() -> read(a) + read(b))}. Bindings created by this class are also tracked if they
+     * are read using {@link ObservableValue#getValue()}, so {@code compute(() -> a.getValue() + b.getValue())} works as well if {@code a} and {@code b} are {@link IFluentBinding}s.
+     * The dependencies are tracked again on each evaluation, so {@link ObservableValue}s which are only read under a certain condition are no longer observed once the condition no
+     * longer applies.
+     *
+     * @param computation the {@link Supplier} which computes the value.
+     * @param <TValue>    the type of the computed value.
+     *
+     * @return a new {@link IFluentBinding}, which uses its fallback value if the {@link Supplier} returns null.
+     *
+     * @see ComputedBinding
+     */
+    @SuppressWarnings ("ConstantConditions")
+    public static <TValue> IFluentBinding<TValue> compute(@NotNull final Supplier<TValue> computation) {
+        if (computation == null) {
+            throw new NullPointerException("Computation cannot be null");
+        }
+        return new ComputedBinding<>(computation);
+    }
+
+    /**
+     * Returns the value of the given {@link ObservableValue}. If this method is called while a binding created by {@link #compute(Supplier)} is being computed on the same thread,
+     * the {@link ObservableValue} becomes a dependency of this binding.
+     *
+     * @param observable the {@link ObservableValue} to read.
+     * @param <TValue>   the type of the value of the {@link ObservableValue}.
+     *
+     * @return the value of the {@link ObservableValue}.
+     */
+    @SuppressWarnings ("ConstantConditions")
+    public static <TValue> TValue read(@NotNull final ObservableValue<TValue> observable) {
+        if (observable == null) {
+            throw new NullPointerException("ObservableValue cannot be null");
+        }
+        return ComputedBinding.read(observable);
+    }
+
+    /**
+     * Runs the given changes as a single change wave. Bindings that combine several values, such as the bindings created by
+     * {@link #combine(ObservableValue, ObservableValue, BiFunction)}, are only invalidated once after all changes have been made, no matter how many of their values have changed.
+     *
+     * @param changes the {@link Runnable} which makes the changes.
+     *
+     * @see PropagationGuard
+     */
+    @SuppressWarnings ("ConstantConditions")
+    public static void batch(@NotNull final Runnable changes) {
+        if (changes == null) {
+            throw new NullPointerException("Changes cannot be null");
+        }
+        PropagationGuard.batch(changes);
+    }
+
+    /**
+     * Creates a new {@link ConverterFanOut} which allows for many converters to be based on the given {@link ObservableValue}. When the {@link ObservableValue} changes, the converters
+     * of all bindings created by the {@link ConverterFanOut} will be evaluated in parallel.
+     *
+     * @param observableValue the {@link ObservableValue} the converters are based on.
+     * @param <TValue>        the type of the value of the {@link ObservableValue}.
+     *
+     * @return a new {@link ConverterFanOut}.
+     */
+    public static <TValue> ConverterFanOut<TValue> fanOut(@NotNull final ObservableValue<TValue> observableValue) {
+        return new ConverterFanOut<>(observableValue);
+    }
+
+    /**
+     * Creates a new {@link BindingPublisher} which exposes the given {@link ObservableValue} as a {@link org.reactivestreams.Publisher}. Each subscriber receives values only as fast as
+     * it requests them and only the latest value is kept if it is slower than the {@link ObservableValue} changes.
+     *
+     * @param observableValue the {@link ObservableValue} whose values are to be published, usually an {@link IFluentBinding}.
+     * @param <TValue>        the type of the value of the {@link ObservableValue}.
+     *
+     * @return a new {@link BindingPublisher}.
+     */
+    public static <TValue> BindingPublisher<TValue> toPublisher(@NotNull final ObservableValue<TValue> observableValue) {
+        return new BindingPublisher<>(observableValue);
+    }
+
+    /**
+     * Creates a new {@link BindingPublisher} which exposes the given {@link ObservableValue} as a {@link org.reactivestreams.Publisher} of {@link Optional}s. Unlike
+     * {@link #toPublisher(ObservableValue)}, subscribers are also notified if the value becomes null, by receiving an empty {@link Optional}.
+     *
+     * @param observableValue the {@link ObservableValue} whose values are to be published, usually an {@link IFluentBinding}.
+     * @param <TValue>        the type of the value of the {@link ObservableValue}.
+     *
+     * @return a new {@link BindingPublisher}.
+     */
+    public static <TValue> BindingPublisher<Optional<TValue>> toOptionalPublisher(@NotNull final ObservableValue<TValue> observableValue) {
+        return new BindingPublisher<>(convert(observableValue, Optional::ofNullable));
+    }
+
+    /**
+     * Creates a new {@link IFluentBinding} which subscribes to the given {@link Publisher} and provides the latest element it has received. The elements are handed off to the JavaFX
+     * application thread and the next element is only requested once the previous one has been handed off. Disposing the binding cancels the subscription.
+     *
+     * @param publisher the {@link Publisher} to subscribe to.
+     * @param <TValue>  the type of the elements of the {@link Publisher}.
+     *
+     * @return a new {@link IFluentBinding}.
+     *
+     * @see PublisherBinding
+     */
+    public static <TValue> IFluentBinding<TValue> fromPublisher(@NotNull final Publisher<TValue> publisher) {
+        final PublisherBinding<TValue> result = new PublisherBinding<>();
+        publisher.subscribe(result);
+        return result;
+    }
+
+    /**
+     * Creates a new {@link IFluentBinding} which subscribes to the given {@link Publisher} and provides the latest element it has received. The elements are handed off to the thread
+     * the given {@link Executor} runs on and the next element is only requested once the previous one has been handed off. Disposing the binding cancels the subscription.
+     *
+     * @param publisher the {@link Publisher} to subscribe to.
+     * @param handOff   the {@link Executor} that runs the hand-off on the thread owning the binding.
+     * @param <TValue>  the type of the elements of the {@link Publisher}.
+     *
+     * @return a new {@link IFluentBinding}.
+     *
+     * @see PublisherBinding
+     */
+    public static <TValue> IFluentBinding<TValue> fromPublisher(@NotNull final Publisher<TValue> publisher, @NotNull final Executor handOff) {
+        return fromPublisher(publisher, handOff, PublisherBinding.REPORT_UNCAUGHT);
+    }
+
+    /**
+     * Creates a new {@link IFluentBinding} which subscribes to the given {@link Publisher} and provides the latest element it has received. The elements are handed off to the thread
+     * the given {@link Executor} runs on and the next element is only requested once the previous one has been handed off. If the {@link Publisher} fails, the error is handed off as
+     * well and passed to the given error handler. Disposing the binding cancels the subscription.
+     *
+     * @param publisher    the {@link Publisher} to subscribe to.
+     * @param handOff      the {@link Executor} that runs the hand-off on the thread owning the binding.
+     * @param errorHandler the {@link Consumer} the error of the {@link Publisher} is passed to on the thread owning the binding.
+     * @param <TValue>     the type of the elements of the {@link Publisher}.
+     *
+     * @return a new {@link IFluentBinding}.
+     *
+     * @see PublisherBinding
+     */
+    public static <TValue> IFluentBinding<TValue> fromPublisher(@NotNull final Publisher<TValue> publisher,
+                                                                @NotNull final Executor handOff,
+                                                                @NotNull final Consumer<? super Throwable> errorHandler) {
+        final PublisherBinding<TValue> result = new PublisherBinding<>(handOff, errorHandler);
+        publisher.subscribe(result);
+        return result;
+    }
+
+    /**
+     * Creates a new {@link UpdateRingBuffer} into which updates of {@link Property}s can be offered by any thread. The updates have to be applied by calling
+     * {@link UpdateRingBuffer#drain()} on the consumer thread.
+     *
+     * @param capacity the minimum amount of updates that can be pending, will be rounded up to the next power of two.
+     *
+     * @return a new {@link UpdateRingBuffer}.
+     */
+    public static UpdateRingBuffer updateBuffer(final int capacity) {
+        return new UpdateRingBuffer(capacity);
+    }
+
+    /**
+     * Creates a new {@link UpdateRingBuffer} into which updates of {@link Property}s can be offered by any thread. The updates will be applied in batches by the given {@link Executor},
+     * which will have at most one pending drain at a time.
+     *
+     * @param capacity the minimum amount of updates that can be pending, will be rounded up to the next power of two.
+     * @param consumer the {@link Executor} that applies the updates on the consumer thread, e.g. {@link javafx.application.Platform#runLater(Runnable)}.
+     *
+     * @return a new {@link UpdateRingBuffer}.
+     */
+    public static UpdateRingBuffer updateBuffer(final int capacity, @NotNull final Executor consumer) {
+        return new UpdateRingBuffer(capacity, consumer);
+    }
+
     /**
      * Binds the given property1 bidirectional against the property2, the values will be converted using the given {@link IConverter}.
      *
@@ -82,6 +426,72 @@ public final class Bindings {
         return BidirectionalBinding.bind(property1, property2, converter);
     }
 
+    /**
+     * Binds the given model buffered bidirectional against the given editor, the values will be converted using the given {@link IConverter}. Changes of the editor are only written to
+     * the model when {@link BufferedBidirectionalBinding#commit()} is called.
+     *
+     * @param model             the model {@link Property} to bind, its value will be set on the editor.
+     * @param editor            the editor {@link Property} to bind.
+     * @param converter         the {@link IConverter} to use.
+     * @param <TValue>          the type of the model {@link Property}.
+     * @param <TConvertedValue> the type of the editor {@link Property}.
+     *
+     * @return the new {@link BufferedBidirectionalBinding}.
+     */
+    public static <TValue, TConvertedValue> BufferedBidirectionalBinding<TValue, TConvertedValue> bindBidirectionalBuffered(@NotNull final Property<TValue> model,
+                                                                                                                           @NotNull final Property<TConvertedValue> editor,
+                                                                                                                           @NotNull final IConverter<TValue, TConvertedValue> converter) {
+        return BufferedBidirectionalBinding.bindBuffered(model, editor, converter);
+    }
+
+    /**
+     * Binds the given property1 bidirectional against the property2, the values will be converted using the given {@link IResultConverter}. Values which can not be converted are
+     * not transferred and make the returned binding invalid instead of throwing an exception.
+     *
+     * @param property1         the first {@link Property} to be bind.
+     * @param property2         the second {@link Property} to be bind.
+     * @param converter         the {@link IResultConverter} to use.
+     * @param <TValue>          the type of the first {@link Property}.
+     * @param <TConvertedValue> the type of the second {@link Property}.
+     *
+     * @return the new {@link ValidatingBidirectionalBinding}, which provides the validation state.
+     */
+    public static <TValue, TConvertedValue> ValidatingBidirectionalBinding<TValue, TConvertedValue> bindBidirectionalValidating(@NotNull final Property<TValue> property1,
+                                                                                                                               @NotNull final Property<TConvertedValue> property2,
+                                                                                                                               @NotNull final IResultConverter<TValue, TConvertedValue> converter) {
+        return ValidatingBidirectionalBinding.bindValidating(property1, property2, converter);
+    }
+
+    /**
+     * Binds the content of the given list1 bidirectional against the content of the list2, each element will be converted using the given {@link IConverter}. The list1 receives the
+     * converted elements of the list2, afterwards each change of one list is applied to the other list with the minimal amount of operations.
+     *
+     * @param list1             the first {@link ObservableList} to be bind.
+     * @param list2             the second {@link ObservableList} to be bind.
+     * @param converter         the {@link IConverter} to use for each element.
+     * @param <TValue>          the type of the elements of the first {@link ObservableList}.
+     * @param <TConvertedValue> the type of the elements of the second {@link ObservableList}.
+     *
+     * @return the new {@link BidirectionalBinding}.
+     */
+    public static <TValue, TConvertedValue> BidirectionalBinding<Object> bindContentBidirectional(@NotNull final ObservableList<TValue> list1,
+                                                                                                  @NotNull final ObservableList<TConvertedValue> list2,
+                                                                                                  @NotNull final IConverter<TValue, TConvertedValue> converter) {
+        return BidirectionalListBinding.bindContent(list1, list2, converter);
+    }
+
+    /**
+     * Unbinds the content of the given list1 bidirectional from the content of the list2.
+     *
+     * @param list1             the first {@link ObservableList} to be unbound.
+     * @param list2             the second {@link ObservableList} to be unbound.
+     * @param <TValue>          the type of the elements of the first {@link ObservableList}.
+     * @param <TConvertedValue> the type of the elements of the second {@link ObservableList}.
+     */
+    public static <TValue, TConvertedValue> void unbindContentBidirectional(@NotNull final ObservableList<TValue> list1, @NotNull final ObservableList<TConvertedValue> list2) {
+        BidirectionalBinding.unbind(list1, list2);
+    }
+
     /**
      * Unbinds the given property1 bidirectional from property2.
      * <p>
@@ -97,5 +507,219 @@ public final class Bindings {
         BidirectionalBinding.unbind(property1, property2);
     }
 
+    /**
+     * Unbinds all {@link BidirectionalBinding}s of the given property in one pass.
+     * <p>
+     * NOTE: this method is incompatible with the {@link com.sun.javafx.binding.BidirectionalBinding}, so calling this unbind will not destroy any
+     * {@link com.sun.javafx.binding.BidirectionalBinding} but only the {@link BidirectionalBinding}s.
+     *
+     * @param property the {@link Property} to be unbound.
+     * @param <TValue> the type of the {@link Property}.
+     */
+    public static <TValue> void unbindAllBidirectional(@NotNull final Property<TValue> property) {
+        BidirectionalBinding.unbindAll(property);
+    }
+
+    /**
+     * Creates a new {@link SyncGroup} which keeps the values of the given {@link Property}s in sync. The value of the first {@link Property} becomes the value of the group and is set on
+     * all other {@link Property}s. Further members, also of a different type, can be added using {@link SyncGroup#add(Property, IConverter)}.
+     *
+     * @param members  the {@link Property}s to keep in sync.
+     * @param <TValue> the type of the {@link Property}s.
+     *
+     * @return a new {@link SyncGroup}.
+     */
+    @SafeVarargs
+    public static <TValue> SyncGroup<TValue> syncGroup(@NotNull final Property<TValue>... members) {
+        final SyncGroup<TValue> result = new SyncGroup<>();
+        for (final Property<TValue> member : members) {
+            result.add(member);
+        }
+        return result;
+    }
+
+    /**
+     * Creates a new {@link MappedList} which contains the value of the given path for each element of the given {@link ObservableList}. Changes of the {@link ObservableList} and of
+     * the value of the path of each element are applied incrementally, e.g. {@code Bindings.mapList(rows, row -> Bindings.observe(row.addressProperty()).thenObserve(Address::cityProperty))}.
+     *
+     * @param source     the {@link ObservableList} whose elements are to be mapped.
+     * @param path       the {@link Function} which resolves the {@link ObservableValue} of each element, it is not called for null elements.
+     * @param <TElement> the type of the elements of the {@link ObservableList}.
+     * @param <TValue>   the type of the value of the path.
+     *
+     * @return a new {@link MappedList}.
+     */
+    public static <TElement, TValue> MappedList<TElement, TValue> mapList(@NotNull final ObservableList<TElement> source,
+                                                                        @NotNull final Function<TElement, ? extends ObservableValue<TValue>> path) {
+        return new MappedList<>(source, path);
+    }
+
+    /**
+     * Creates a new {@link FilteredPathList} which contains the elements of the given {@link ObservableList} whose value of the given path matches the given {@link Predicate}. Only
+     * the elements whose value of the path has changed are tested again.
+     *
+     * @param source     the {@link ObservableList} whose elements are to be filtered.
+     * @param path       the {@link Function} which resolves the {@link ObservableValue} of each element, it is not called for null elements.
+     * @param predicate  the {@link Predicate} which determines if an element is contained, it also receives null values.
+     * @param <TElement> the type of the elements of the {@link ObservableList}.
+     * @param <TValue>   the type of the value of the path.
+     *
+     * @return a new {@link FilteredPathList}.
+     */
+    public static <TElement, TValue> FilteredPathList<TElement, TValue> filterList(@NotNull final ObservableList<TElement> source,
+                                                                                 @NotNull final Function<TElement, ? extends ObservableValue<TValue>> path,
+                                                                                 @NotNull final Predicate<? super TValue> predicate) {
+        return new FilteredPathList<>(source, path, predicate);
+    }
+
+    /**
+     * Creates a new {@link SortedPathList} which contains the elements of the given {@link ObservableList} sorted by the value of the given path using the given {@link Comparator}.
+     * Only the elements whose value of the path has changed are repositioned.
+     *
+     * @param source     the {@link ObservableList} whose elements are to be sorted.
+     * @param path       the {@link Function} which resolves the {@link ObservableValue} of each element, it is not called for null elements.
+     * @param comparator the {@link Comparator} which orders the values of the paths, it also receives null values.
+     * @param <TElement> the type of the elements of the {@link ObservableList}.
+     * @param <TValue>   the type of the value of the path.
+     *
+     * @return a new {@link SortedPathList}.
+     */
+    public static <TElement, TValue> SortedPathList<TElement, TValue> sortList(@NotNull final ObservableList<TElement> source,
+                                                                             @NotNull final Function<TElement, ? extends ObservableValue<TValue>> path,
+                                                                             @NotNull final Comparator<? super TValue> comparator) {
+        return new SortedPathList<>(source, path, comparator);
+    }
+
+    /**
+     * Creates a new {@link SortedPathList} which contains the elements of the given {@link ObservableList} sorted by the natural order of the value of the given path, null values
+     * come first. Only the elements whose value of the path has changed are repositioned.
+     *
+     * @param source     the {@link ObservableList} whose elements are to be sorted.
+     * @param path       the {@link Function} which resolves the {@link ObservableValue} of each element, it is not called for null elements.
+     * @param <TElement> the type of the elements of the {@link ObservableList}.
+     * @param <TValue>   the type of the value of the path.
+     *
+     * @return a new {@link SortedPathList}.
+     */
+    public static <TElement, TValue extends Comparable<? super TValue>> SortedPathList<TElement, TValue> sortList(@NotNull final ObservableList<TElement> source,
+                                                                                                                @NotNull final Function<TElement, ? extends ObservableValue<TValue>> path) {
+        return new SortedPathList<>(source, path, Comparator.nullsFirst(Comparator.<TValue>naturalOrder()));
+    }
+
+    /**
+     * Creates a new {@link GroupedMap} which groups the elements of the given {@link ObservableList} by the value of the given path, e.g.
+     * {@code Bindings.groupBy(rows, row -> Bindings.observe(row.bProperty()).thenObserve(B::xProperty))}. The groups are maintained incrementally when elements are added or removed
+     * or when the key of an element changes.
+     *
+     * @param source     the {@link ObservableList} whose elements are to be grouped.
+     * @param path       the {@link Function} which resolves the {@link ObservableValue} of the key of each element, it is not called for null elements.
+     * @param <TElement> the type of the elements of the {@link ObservableList}.
+     * @param <TKey>     the type of the keys.
+     *
+     * @return a new {@link GroupedMap}.
+     */
+    public static <TElement, TKey> GroupedMap<TKey, TElement> groupBy(@NotNull final ObservableList<TElement> source,
+                                                                    @NotNull final Function<TElement, ? extends ObservableValue<TKey>> path) {
+        return new GroupedMap<>(source, path);
+    }
+
+    /**
+     * Creates a new {@link IFluentBinding} which contains the sum of the values of the given path of all elements of the given {@link ObservableList}. The sum is maintained
+     * incrementally, so a change of a single element does not rescan the {@link ObservableList}. Null values are ignored.
+     *
+     * @param source     the {@link ObservableList} whose elements are to be aggregated.
+     * @param path       the {@link Function} which resolves the {@link ObservableValue} of each element, it is not called for null elements.
+     * @param <TElement> the type of the elements of the {@link ObservableList}.
+     * @param <TValue>   the type of the value of the path.
+     *
+     * @return a new {@link IFluentBinding} containing the sum, which is 0 if there are no values.
+     */
+    public static <TElement, TValue extends Number> IFluentBinding<Double> sum(@NotNull final ObservableList<TElement> source,
+                                                                               @NotNull final Function<TElement, ? extends ObservableValue<TValue>> path) {
+        return new AggregateBinding<>(source, path, new AggregateBinding.Sum<>());
+    }
+
+    /**
+     * Creates a new {@link IFluentBinding} which contains the exact sum of the values of the given path of all elements of the given {@link ObservableList}. Unlike
+     * {@link #sum(ObservableList, Function)}, the sum is not rounded to a double, so it stays exact even if the sum of integral values exceeds 2^53 or the range of a long.
+     * {@link java.math.BigInteger} and {@link BigDecimal} values are summed up exactly as well, only float and double values are limited to the precision of their compensated
+     * summation. The sum is maintained incrementally, so a change of a single element does not rescan the {@link ObservableList}. Null values are ignored.
+     *
+     * @param source     the {@link ObservableList} whose elements are to be aggregated.
+     * @param path       the {@link Function} which resolves the {@link ObservableValue} of each element, it is not called for null elements.
+     * @param <TElement> the type of the elements of the {@link ObservableList}.
+     * @param <TValue>   the type of the value of the path.
+     *
+     * @return a new {@link IFluentBinding} containing the sum, which is 0 if there are no values and the fallback value if any value is infinite or not a number.
+     */
+    public static <TElement, TValue extends Number> IFluentBinding<BigDecimal> exactSum(@NotNull final ObservableList<TElement> source,
+                                                                                        @NotNull final Function<TElement, ? extends ObservableValue<TValue>> path) {
+        return new AggregateBinding<>(source, path, new AggregateBinding.ExactSum<>());
+    }
+
+    /**
+     * Creates a new {@link IFluentBinding} which contains the average of the values of the given path of all elements of the given {@link ObservableList}. The average is
+     * maintained incrementally, so a change of a single element does not rescan the {@link ObservableList}. Null values are ignored.
+     *
+     * @param source     the {@link ObservableList} whose elements are to be aggregated.
+     * @param path       the {@link Function} which resolves the {@link ObservableValue} of each element, it is not called for null elements.
+     * @param <TElement> the type of the elements of the {@link ObservableList}.
+     * @param <TValue>   the type of the value of the path.
+     *
+     * @return a new {@link IFluentBinding} containing the average, which is the fallback value if there are no values.
+     */
+    public static <TElement, TValue extends Number> IFluentBinding<Double> average(@NotNull final ObservableList<TElement> source,
+                                                                                   @NotNull final Function<TElement, ? extends ObservableValue<TValue>> path) {
+        return new AggregateBinding<>(source, path, new AggregateBinding.Average<>());
+    }
+
+    /**
+     * Creates a new {@link IFluentBinding} which contains the amount of non null values of the given path of all elements of the given {@link ObservableList}. The amount is
+     * maintained incrementally, so a change of a single element does not rescan the {@link ObservableList}.
+     *
+     * @param source     the {@link ObservableList} whose elements are to be aggregated.
+     * @param path       the {@link Function} which resolves the {@link ObservableValue} of each element, it is not called for null elements.
+     * @param <TElement> the type of the elements of the {@link ObservableList}.
+     * @param <TValue>   the type of the value of the path.
+     *
+     * @return a new {@link IFluentBinding} containing the amount of non null values.
+     */
+    public static <TElement, TValue> IFluentBinding<Integer> count(@NotNull final ObservableList<TElement> source,
+                                                                   @NotNull final Function<TElement, ? extends ObservableValue<TValue>> path) {
+        return new AggregateBinding<>(source, path, new AggregateBinding.Count<>());
+    }
+
+    /**
+     * Creates a new {@link IFluentBinding} which contains the smallest value of the given path of all elements of the given {@link ObservableList}. The values are kept sorted,
+     * so a change of a single element takes logarithmic time instead of rescanning the {@link ObservableList}. Null values are ignored.
+     *
+     * @param source     the {@link ObservableList} whose elements are to be aggregated.
+     * @param path       the {@link Function} which resolves the {@link ObservableValue} of each element, it is not called for null elements.
+     * @param <TElement> the type of the elements of the {@link ObservableList}.
+     * @param <TValue>   the type of the value of the path.
+     *
+     * @return a new {@link IFluentBinding} containing the smallest value, which is the fallback value if there are no values.
+     */
+    public static <TElement, TValue extends Comparable<? super TValue>> IFluentBinding<TValue> min(@NotNull final ObservableList<TElement> source,
+                                                                                                   @NotNull final Function<TElement, ? extends ObservableValue<TValue>> path) {
+        return new AggregateBinding<>(source, path, new AggregateBinding.Extreme<>(false));
+    }
+
+    /**
+     * Creates a new {@link IFluentBinding} which contains the largest value of the given path of all elements of the given {@link ObservableList}. The values are kept sorted,
+     * so a change of a single element takes logarithmic time instead of rescanning the {@link ObservableList}. Null values are ignored.
+     *
+     * @param source     the {@link ObservableList} whose elements are to be aggregated.
+     * @param path       the {@link Function} which resolves the {@link ObservableValue} of each element, it is not called for null elements.
+     * @param <TElement> the type of the elements of the {@link ObservableList}.
+     * @param <TValue>   the type of the value of the path.
+     *
+     * @return a new {@link IFluentBinding} containing the largest value, which is the fallback value if there are no values.
+     */
+    public static <TElement, TValue extends Comparable<? super TValue>> IFluentBinding<TValue> max(@NotNull final ObservableList<TElement> source,
+                                                                                                   @NotNull final Function<TElement, ? extends ObservableValue<TValue>> path) {
+        return new AggregateBinding<>(source, path, new AggregateBinding.Extreme<>(true));
+    }
+
     // endregion
 }
\ No newline at end of file
@@ -0,0 +1,252 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.WeakInvalidationListener;
+import javafx.beans.property.Property;
+import javafx.beans.value.ObservableValue;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * This class binds a model {@link Property} bidirectional against an editor {@link Property}, but buffers the changes made to the editor. Changes of the model are transferred to the
+ * editor right away, as long as the editor has no pending changes. Changes of the editor are only kept in a buffer and neither converted nor written to the model until
+ * {@link #commit()} is called, so everything depending on the model is only recomputed once per edit session instead of once per change of the editor. Pending changes can be
+ * discarded using {@link #rollback()}.
+ * <p>
+ * The binding is registered like any other {@link BidirectionalBinding}, so it can be removed using {@link BidirectionalBinding#unbind(Object, Object)}.
+ *
+ * @param <TValue>      the type of the model {@link Property}.
+ * @param <TOtherValue> the type of the editor {@link Property}.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public final class BufferedBidirectionalBinding<TValue, TOtherValue> extends BidirectionalBinding<Object> {
+
+    // region Fields
+
+    /**
+     * The model {@link Property}.
+     */
+    @NotNull
+    private final WeakReference<Property<TValue>> model;
+
+    /**
+     * The editor {@link Property}.
+     */
+    @NotNull
+    private final WeakReference<Property<TOtherValue>> editor;
+
+    /**
+     * The {@link IConverter} which converts the value of the model into the value of the editor and vice versa.
+     */
+    @NotNull
+    private final IConverter<TValue, TOtherValue> converter;
+
+    /**
+     * Contains the pending value of the editor, if there is any.
+     */
+    @NotNull
+    private final ValueContainer<TOtherValue> buffer = new ValueContainer<>();
+
+    /**
+     * The {@link InvalidationListener} which commits the pending value when a trigger is invalidated, it is only weakly referenced by the triggers. The value of a trigger is read,
+     * so a lazy trigger which nobody else reads is validated again and invalidates on its next change as well.
+     *
+     * @see #commitOn(Observable)
+     */
+    @NotNull
+    private final InvalidationListener commitListener = observable -> {
+        if (observable instanceof ObservableValue) {
+            ((ObservableValue<?>) observable).getValue();
+        }
+        commit();
+    };
+
+    /**
+     * Determines if this binding is currently transferring a value.
+     */
+    private boolean updating;
+
+    // endregion
+
+    // region Constructor
+
+    private BufferedBidirectionalBinding(@NotNull final Property<TValue> model, @NotNull final Property<TOtherValue> editor, @NotNull final IConverter<TValue, TOtherValue> converter) {
+        super(model, editor);
+
+        this.model = new WeakReference<>(model);
+        this.editor = new WeakReference<>(editor);
+        this.converter = converter;
+    }
+
+    // endregion
+
+    // region Package
+
+    /**
+     * Binds the model {@link Property} buffered bidirectional against the editor {@link Property}. The editor will receive the converted value of the model. If the two properties are
+     * already bound by a {@link BidirectionalBinding}, the existing binding will be replaced.
+     *
+     * @param model         the model {@link Property} to bind.
+     * @param editor        the editor {@link Property} to bind.
+     * @param converter     the {@link IConverter} to use.
+     * @param <TValue>      the type of the model {@link Property}.
+     * @param <TOtherValue> the type of the editor {@link Property}.
+     *
+     * @return the new {@link BufferedBidirectionalBinding}.
+     */
+    @SuppressWarnings ("ConstantConditions")
+    static <TValue, TOtherValue> BufferedBidirectionalBinding<TValue, TOtherValue> bindBuffered(@NotNull final Property<TValue> model,
+                                                                                              @NotNull final Property<TOtherValue> editor,
+                                                                                              @NotNull final IConverter<TValue, TOtherValue> converter) {
+        checkParametersOrFail(model, editor);
+        if (converter == null) {
+            throw new NullPointerException("IConverter cannot be null");
+        }
+        final BufferedBidirectionalBinding<TValue, TOtherValue> binding = new BufferedBidirectionalBinding<>(model, editor, converter);
+        editor.setValue(converter.convertTo(model.getValue()));
+        attach(model, editor, binding);
+        return binding;
+    }
+
+    // endregion
+
+    // region Public
+
+    /**
+     * Determines if the editor has changes which have not yet been committed.
+     *
+     * @return true if the editor has pending changes, otherwise false.
+     */
+    public boolean isDirty() {
+        return buffer.hasValue();
+    }
+
+    /**
+     * Converts the pending value of the editor and writes it to the model. Nothing happens if there are no pending changes. If the conversion fails, the model can not be written or
+     * the current wave has been aborted by the {@link PropagationGuard}, the pending value is kept.
+     */
+    public void commit() {
+        final Property<TValue> currentModel = model.get();
+        if (currentModel == null || !buffer.hasValue()) {
+            return;
+        }
+        final TValue value = converter.convertBack(buffer.getValue());
+        if (PropagationGuard.enter(this)) {
+            updating = true;
+            try {
+                currentModel.setValue(value);
+                buffer.clearValue();
+            } finally {
+                updating = false;
+                PropagationGuard.exit();
+            }
+        }
+    }
+
+    /**
+     * Discards the pending value of the editor, the editor will receive the converted value of the model again.
+     */
+    public void rollback() {
+        buffer.clearValue();
+        final Property<TValue> currentModel = model.get();
+        if (currentModel != null) {
+            transferToEditor(currentModel);
+        }
+    }
+
+    /**
+     * Commits the pending value each time the given {@link Observable} is invalidated, e.g. when the focus of a control changes. The {@link Observable} will only weakly reference this
+     * binding.
+     *
+     * @param trigger the {@link Observable} that triggers a commit.
+     *
+     * @return this binding.
+     */
+    @NotNull
+    public BufferedBidirectionalBinding<TValue, TOtherValue> commitOn(@NotNull final Observable trigger) {
+        trigger.addListener(new WeakInvalidationListener(commitListener));
+        return this;
+    }
+
+    // endregion
+
+    // region Override BidirectionalBinding
+
+    @Nullable
+    @Override
+    protected Property<TValue> getProperty1() {
+        return model.get();
+    }
+
+    @Nullable
+    @Override
+    protected Property<TOtherValue> getProperty2() {
+        return editor.get();
+    }
+
+    // endregion
+
+    // region Override ChangeListener
+
+    @Override
+    public void changed(@NotNull final ObservableValue<?> observable, @Nullable final Object oldValue, @Nullable final Object newValue) {
+        if (updating) {
+            return;
+        }
+        final Property<TValue> currentModel = model.get();
+        final Property<TOtherValue> currentEditor = editor.get();
+        if (currentModel == null || currentEditor == null) {
+            if (currentModel != null) {
+                currentModel.removeListener(this);
+            }
+            if (currentEditor != null) {
+                currentEditor.removeListener(this);
+            }
+        } else if (currentEditor == observable) {
+            buffer.setValue(currentEditor.getValue());
+        } else if (!buffer.hasValue()) {
+            transferToEditor(currentModel);
+        }
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Sets the converted value of the given model on the editor.
+     *
+     * @param currentModel the model whose value is to be transferred.
+     */
+    private void transferToEditor(@NotNull final Property<TValue> currentModel) {
+        final Property<TOtherValue> currentEditor = editor.get();
+        if (currentEditor != null && PropagationGuard.enter(this)) {
+            updating = true;
+            try {
+                currentEditor.setValue(converter.convertTo(currentModel.getValue()));
+            } finally {
+                updating = false;
+                PropagationGuard.exit();
+            }
+        }
+    }
+
+    // endregion
+}
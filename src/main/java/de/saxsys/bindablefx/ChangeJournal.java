@@ -0,0 +1,572 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class records the events of all bindings while it is started, so a session can be analyzed or replayed offline using a {@link JournalReplayer}. Each {@link JournalRecord}
+ * contains the {@link JournalEvent}, a timestamp in nanoseconds and the id of the object that caused the event. Relays being switched, values being recomputed, values being set
+ * on property bindings and values being transferred by bidirectional bindings are recorded automatically. The values of the sources that drive a
+ * session are only recorded for {@link ObservableValue}s that are registered using {@link #track(String, ObservableValue, ISerializer)}, since they have to be serialized.
+ * <p>
+ * A journal either keeps the latest records in memory, see {@link #inMemory(int)}, or appends all records to a compact binary file, see {@link #open(Path)}, which can be read
+ * using {@link #read(Path)}. At most one journal is started at a time, if no journal is started, recording an event only costs a single volatile read.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public abstract class ChangeJournal implements Closeable {
+
+    // region Constants
+
+    /**
+     * Identifies the file of a {@link ChangeJournal}.
+     */
+    private static final int MAGIC = 0x4246434A;
+
+    /**
+     * The version of the format of the file.
+     */
+    private static final int FORMAT_VERSION = 1;
+
+    /**
+     * The length of the payload of a record whose payload is null.
+     */
+    private static final int NO_PAYLOAD = -1;
+
+    // endregion
+
+    // region Fields
+
+    /**
+     * The journal that is currently started, if any.
+     */
+    @Nullable
+    private static volatile ChangeJournal active;
+
+    /**
+     * The ids that have been assigned to the sources of the events.
+     */
+    @NotNull
+    private final WeakIdentityMap<Object, Integer> ids = new WeakIdentityMap<>();
+
+    /**
+     * The {@link ObservableValue}s whose values are recorded.
+     */
+    @NotNull
+    private final List<TrackedValue<?>> trackedValues = new ArrayList<>();
+
+    /**
+     * The id that will be assigned to the next source.
+     */
+    private int nextId = 1;
+
+    /**
+     * Determines if this journal has been closed.
+     */
+    private boolean closed;
+
+    // endregion
+
+    // region Constructor
+
+    /**
+     * Prevents others from extending this class.
+     */
+    private ChangeJournal() {}
+
+    // endregion
+
+    // region Static
+
+    /**
+     * Creates a new journal which keeps the given amount of latest records in memory. The records of {@link JournalEvent#TRACK} events are always kept.
+     *
+     * @param capacity the amount of records to keep.
+     *
+     * @return the new {@link ChangeJournal}.
+     *
+     * @throws IllegalArgumentException if the capacity is less than 1.
+     */
+    @NotNull
+    public static ChangeJournal inMemory(final int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity must be at least 1 but was " + capacity);
+        }
+        return new MemoryJournal(capacity);
+    }
+
+    /**
+     * Creates a new journal which appends all records to the given file, an existing file is replaced.
+     *
+     * @param file the file to append the records to.
+     *
+     * @return the new {@link ChangeJournal}, which needs to be closed.
+     *
+     * @throws IOException if the file can not be created.
+     */
+    @SuppressWarnings ("ConstantConditions")
+    @NotNull
+    public static ChangeJournal open(@NotNull final Path file) throws IOException {
+        if (file == null) {
+            throw new NullPointerException("File cannot be null");
+        }
+        return new FileJournal(file);
+    }
+
+    /**
+     * Reads all records of the given file. Records at the end of the file that have only been written partially, e.g. because the application crashed, are ignored.
+     *
+     * @param file the file written by a {@link ChangeJournal}.
+     *
+     * @return the records in the order they have been recorded.
+     *
+     * @throws IOException if the file can not be read or has not been written by a {@link ChangeJournal}.
+     */
+    @SuppressWarnings ("ConstantConditions")
+    @NotNull
+    public static List<JournalRecord> read(@NotNull final Path file) throws IOException {
+        if (file == null) {
+            throw new NullPointerException("File cannot be null");
+        }
+        final JournalEvent[] events = JournalEvent.values();
+        final List<JournalRecord> result = new ArrayList<>();
+        try (final DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (input.readInt() != MAGIC || input.readInt() != FORMAT_VERSION) {
+                throw new IOException(file + " has not been written by a change journal");
+            }
+            while (true) {
+                final long timestamp;
+                final int code;
+                final int sourceId;
+                byte[] payload = null;
+                try {
+                    timestamp = input.readLong();
+                    code = input.readUnsignedByte();
+                    sourceId = input.readInt();
+                    if (code >= events.length) {
+                        throw new IOException("The event must be between 0 and " + (events.length - 1) + " but was " + code);
+                    }
+                    if (events[code].hasPayload()) {
+                        final int length = input.readInt();
+                        if (length < NO_PAYLOAD) {
+                            throw new IOException("The length of a payload must be at least " + NO_PAYLOAD + " but was " + length);
+                        } else if (length != NO_PAYLOAD) {
+                            payload = new byte[length];
+                            input.readFully(payload);
+                        }
+                    }
+                } catch (final EOFException e) {
+                    break;
+                }
+                result.add(new JournalRecord(timestamp, events[code], sourceId, payload));
+            }
+        } catch (final EOFException e) {
+            throw new IOException(file + " has not been written by a change journal", e);
+        }
+        return result;
+    }
+
+    /**
+     * Starts recording the events into the given journal, a journal that has been started before is stopped.
+     *
+     * @param journal the {@link ChangeJournal} to record into.
+     *
+     * @throws IllegalStateException if the journal has been closed.
+     */
+    @SuppressWarnings ("ConstantConditions")
+    public static void start(@NotNull final ChangeJournal journal) {
+        if (journal == null) {
+            throw new NullPointerException("ChangeJournal cannot be null");
+        }
+        synchronized (journal) {
+            journal.checkOpen();
+            active = journal;
+        }
+    }
+
+    /**
+     * Stops recording the events.
+     */
+    public static void stop() {
+        active = null;
+    }
+
+    /**
+     * Returns the journal that is currently started.
+     *
+     * @return the started {@link ChangeJournal} or null if there is none.
+     */
+    @Nullable
+    public static ChangeJournal getActive() {
+        return active;
+    }
+
+    /**
+     * Records the given event into the started journal, if there is one.
+     *
+     * @param event  the {@link JournalEvent}.
+     * @param source the object that caused the event.
+     */
+    static void record(@NotNull final JournalEvent event, @NotNull final Object source) {
+        final ChangeJournal journal = active;
+        if (journal != null) {
+            journal.append(event, source, null);
+        }
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Appends a record of the given event, unless this journal has been closed.
+     *
+     * @param event   the {@link JournalEvent}.
+     * @param source  the object that caused the event.
+     * @param payload the payload of the event, if any.
+     */
+    private synchronized void append(@NotNull final JournalEvent event, @NotNull final Object source, @Nullable final byte[] payload) {
+        if (!closed) {
+            final Integer id = ids.computeIfAbsent(source, key -> nextId++);
+            write(new JournalRecord(System.nanoTime(), event, id, payload));
+        }
+    }
+
+    /**
+     * Determines if this journal has been closed.
+     *
+     * @return true if this journal has been closed, otherwise false.
+     */
+    final synchronized boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Throws an {@link IllegalStateException} if this journal has been closed.
+     */
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("The journal has been closed");
+        }
+    }
+
+    // endregion
+
+    // region Abstract
+
+    /**
+     * Writes the given record.
+     *
+     * @param record the {@link JournalRecord} to write.
+     */
+    abstract void write(@NotNull final JournalRecord record);
+
+    /**
+     * Releases the resources of this journal.
+     *
+     * @throws IOException if the resources can not be released.
+     */
+    abstract void release() throws IOException;
+
+    /**
+     * Returns the records of this journal in the order they have been recorded.
+     *
+     * @return the records.
+     *
+     * @throws IOException if the records can not be read.
+     */
+    @NotNull
+    public abstract List<JournalRecord> getRecords() throws IOException;
+
+    // endregion
+
+    // region Public
+
+    /**
+     * Records the value of the given {@link ObservableValue} and each change of it, so the changes can be replayed by a {@link JournalReplayer} which tracks the same name. The
+     * values are recorded even if this journal is not started. The journal does not prevent the {@link ObservableValue} from being garbage collected.
+     *
+     * @param name       the name under which the {@link ObservableValue} is tracked.
+     * @param observable the {@link ObservableValue} to track.
+     * @param serializer the {@link ISerializer} of the value.
+     * @param <TValue>   the type of the value.
+     *
+     * @throws IllegalStateException if the journal has been closed.
+     */
+    @SuppressWarnings ("ConstantConditions")
+    public <TValue> void track(@NotNull final String name, @NotNull final ObservableValue<TValue> observable, @NotNull final ISerializer<TValue> serializer) {
+        if (name == null) {
+            throw new NullPointerException("Name cannot be null");
+        }
+        if (observable == null) {
+            throw new NullPointerException("Observable cannot be null");
+        }
+        if (serializer == null) {
+            throw new NullPointerException("ISerializer cannot be null");
+        }
+
+        final ChangeListener<TValue> listener = (changedObservable, oldValue, newValue) -> append(JournalEvent.SOURCE_CHANGE,
+                                                                                                 changedObservable,
+                                                                                                 newValue != null ? serializer.serialize(newValue) : null);
+        synchronized (this) {
+            checkOpen();
+            final TValue value = observable.getValue();
+            append(JournalEvent.TRACK, observable, name.getBytes(StandardCharsets.UTF_8));
+            append(JournalEvent.SOURCE_CHANGE, observable, value != null ? serializer.serialize(value) : null);
+            trackedValues.add(new TrackedValue<>(observable, listener));
+        }
+        observable.addListener(listener);
+    }
+
+    /**
+     * Writes all buffered records.
+     *
+     * @throws IOException if the records can not be written.
+     */
+    public void flush() throws IOException {}
+
+    /**
+     * Stops this journal if it is started, stops tracking all {@link ObservableValue}s and writes all buffered records. The journal can no longer be used afterwards, but its records
+     * can still be read.
+     *
+     * @throws IOException if the records can not be written.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (active == this) {
+            active = null;
+        }
+        trackedValues.forEach(TrackedValue::dispose);
+        trackedValues.clear();
+        release();
+    }
+
+    // endregion
+
+    // region Classes
+
+    /**
+     * An {@link ObservableValue} whose values are recorded.
+     *
+     * @param <TValue> the type of the value.
+     */
+    private static final class TrackedValue<TValue> {
+
+        /**
+         * The {@link ObservableValue}, which is only weakly referenced.
+         */
+        @NotNull
+        private final WeakReference<ObservableValue<TValue>> observable;
+
+        /**
+         * The {@link ChangeListener} which records the changes.
+         */
+        @NotNull
+        private final ChangeListener<TValue> listener;
+
+        private TrackedValue(@NotNull final ObservableValue<TValue> observable, @NotNull final ChangeListener<TValue> listener) {
+            this.observable = new WeakReference<>(observable);
+            this.listener = listener;
+        }
+
+        /**
+         * Removes the {@link ChangeListener} from the {@link ObservableValue}, if it still exists.
+         */
+        private void dispose() {
+            final ObservableValue<TValue> currentObservable = observable.get();
+            if (currentObservable != null) {
+                currentObservable.removeListener(listener);
+            }
+        }
+    }
+
+    /**
+     * A journal which keeps the latest records in a ring buffer.
+     */
+    private static final class MemoryJournal extends ChangeJournal {
+
+        /**
+         * The records of {@link JournalEvent#TRACK} events, which are never overwritten.
+         */
+        @NotNull
+        private final List<JournalRecord> definitions = new ArrayList<>();
+
+        /**
+         * The ring buffer containing the latest records.
+         */
+        @NotNull
+        private final JournalRecord[] records;
+
+        /**
+         * The index at which the next record will be written.
+         */
+        private int next;
+
+        /**
+         * The amount of records in the ring buffer.
+         */
+        private int size;
+
+        private MemoryJournal(final int capacity) {
+            records = new JournalRecord[capacity];
+        }
+
+        @Override
+        void write(@NotNull final JournalRecord record) {
+            if (record.getEvent() == JournalEvent.TRACK) {
+                definitions.add(record);
+                return;
+            }
+            records[next] = record;
+            next = (next + 1) % records.length;
+            size = Math.min(size + 1, records.length);
+        }
+
+        @Override
+        void release() {}
+
+        @NotNull
+        @Override
+        public synchronized List<JournalRecord> getRecords() {
+            final List<JournalRecord> result = new ArrayList<>(definitions.size() + size);
+            result.addAll(definitions);
+            for (int i = 0; i < size; i++) {
+                result.add(records[(next - size + i + records.length) % records.length]);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * A journal which appends all records to a file.
+     */
+    private static final class FileJournal extends ChangeJournal {
+
+        /**
+         * The file containing the records.
+         */
+        @NotNull
+        private final Path file;
+
+        /**
+         * The {@link DataOutputStream} writing to the file.
+         */
+        @NotNull
+        private final DataOutputStream output;
+
+        /**
+         * The first failure that occurred while writing, after which no more records are written.
+         */
+        @Nullable
+        private IOException failure;
+
+        private FileJournal(@NotNull final Path file) throws IOException {
+            this.file = file;
+            output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file,
+                                                                                         StandardOpenOption.CREATE,
+                                                                                         StandardOpenOption.TRUNCATE_EXISTING,
+                                                                                         StandardOpenOption.WRITE)));
+            try {
+                output.writeInt(MAGIC);
+                output.writeInt(FORMAT_VERSION);
+            } catch (final IOException e) {
+                output.close();
+                throw e;
+            }
+        }
+
+        @Override
+        void write(@NotNull final JournalRecord record) {
+            if (failure != null) {
+                return;
+            }
+            try {
+                output.writeLong(record.getTimestamp());
+                output.writeByte(record.getEvent().ordinal());
+                output.writeInt(record.getSourceId());
+                if (record.getEvent().hasPayload()) {
+                    final byte[] payload = record.getPayload();
+                    output.writeInt(payload != null ? payload.length : NO_PAYLOAD);
+                    if (payload != null) {
+                        output.write(payload);
+                    }
+                }
+            } catch (final IOException e) {
+                // the recorded code must not fail because of the journal, so the failure is reported by flush and close instead
+                failure = e;
+            }
+        }
+
+        @Override
+        void release() throws IOException {
+            try {
+                output.close();
+            } finally {
+                if (failure != null) {
+                    throw failure;
+                }
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @throws IOException if writing a record failed since the journal has been created.
+         */
+        @Override
+        public synchronized void flush() throws IOException {
+            if (failure != null) {
+                throw failure;
+            }
+            output.flush();
+        }
+
+        /**
+         * {@inheritDoc} The records are read from the file after all buffered records have been written, unless the journal has been closed.
+         */
+        @NotNull
+        @Override
+        public synchronized List<JournalRecord> getRecords() throws IOException {
+            if (!isClosed()) {
+                flush();
+            }
+            return read(file);
+        }
+    }
+
+    // endregion
+}
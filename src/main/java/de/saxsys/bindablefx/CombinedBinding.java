@@ -0,0 +1,161 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.value.ObservableValue;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * This binding combines the values of several {@link ObservableValue}s into a single value, without the need to nest converters. The binding is a single node that depends on all
+ * {@link ObservableValue}s, so the combiner is only invoked when the value is requested after at least one of them has changed.
+ * <p>
+ * If the {@link ObservableValue}s are changed during a wave of the {@link PropagationGuard}, e.g. within {@link Bindings#batch(Runnable)}, the binding is only invalidated once the wave
+ * has ended, so it is invalidated and recomputed once no matter how many of its {@link ObservableValue}s have been changed and never computes a value from a mix of old and new values.
+ * <p>
+ * The {@link ObservableValue}s are only weakly referenced, but they reference the binding by their listener, so the binding lives as long as its {@link ObservableValue}s and keeps
+ * nested bindings, e.g. created by {@link Bindings#combine(ObservableValue, ObservableValue, java.util.function.BiFunction)}, alive. If one of them has been garbage collected the
+ * fallback value is used.
+ *
+ * @param <TResult> the type of the combined value.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+class CombinedBinding<TResult> extends RootBinding<TResult> {
+
+    // region Fields
+
+    /**
+     * The {@link ObservableValue}s whose values are combined.
+     */
+    @NotNull
+    private final List<WeakReference<ObservableValue<?>>> inputs;
+
+    /**
+     * The {@link Function} which combines the values of the {@link #inputs}.
+     */
+    @NotNull
+    private final Function<List<Object>, TResult> combiner;
+
+    /**
+     * Remembers the last values the {@link #combiner} has been applied to, so it is not applied again if the values of the {@link #inputs} did not change and this binding is
+     * memoizing.
+     */
+    @NotNull
+    private final Memoization.Memo<TResult> combinerMemo = new Memoization.Memo<>();
+
+    /**
+     * The {@link InvalidationListener} which is added to each of the {@link #inputs} and notified if one of them is invalidated.
+     */
+    @NotNull
+    private final InvalidationListener inputListener = observable -> onInputInvalidated();
+
+    /**
+     * Determines if the invalidation of this binding has been deferred until the current wave has ended.
+     */
+    private boolean invalidationPending;
+
+    // endregion
+
+    // region Constructor
+
+    /**
+     * Creates a new binding which combines the values of the given {@link ObservableValue}s.
+     *
+     * @param inputs   the {@link ObservableValue}s whose values are combined.
+     * @param combiner the {@link Function} which combines the values, in the order of the given {@link ObservableValue}s.
+     */
+    CombinedBinding(@NotNull final List<? extends ObservableValue<?>> inputs, @NotNull final Function<List<Object>, TResult> combiner) {
+        this.inputs = new ArrayList<>(inputs.size());
+        this.combiner = combiner;
+        for (final ObservableValue<?> input : inputs) {
+            if (input == null) {
+                throw new NullPointerException("ObservableValue cannot be null");
+            }
+            this.inputs.add(new WeakReference<>(input));
+            input.addListener(inputListener);
+        }
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Invalidates this binding once the current wave has ended.
+     */
+    private void onInputInvalidated() {
+        if (!invalidationPending) {
+            invalidationPending = true;
+            PropagationGuard.runAfterWave(() -> {
+                invalidationPending = false;
+                invalidate();
+            });
+        }
+    }
+
+    // endregion
+
+    // region Override RootBinding
+
+    /**
+     * Returns the combined values of the {@link #inputs} or the fallback value if one of them is no longer available.
+     *
+     * @return the combined value.
+     */
+    @Override
+    protected TResult computeValue() {
+        final List<Object> values = new ArrayList<>(inputs.size());
+        for (final WeakReference<ObservableValue<?>> reference : inputs) {
+            final ObservableValue<?> input = reference.get();
+            if (input == null) {
+                return super.computeValue();
+            }
+            values.add(input.getValue());
+        }
+        return replaceValue(combinerMemo.applyToAll(isMemoizing(), combiner, values));
+    }
+
+    @Override
+    public boolean wasGarbageCollected() {
+        for (final WeakReference<ObservableValue<?>> reference : inputs) {
+            if (reference.get() == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Stops listening to the {@link #inputs}.
+     */
+    @Override
+    public void dispose() {
+        for (final WeakReference<ObservableValue<?>> reference : inputs) {
+            final ObservableValue<?> input = reference.get();
+            if (input != null) {
+                input.removeListener(inputListener);
+            }
+            reference.clear();
+        }
+        super.dispose();
+    }
+
+    // endregion
+}
@@ -0,0 +1,309 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.value.ObservableValue;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * This binding computes its value using a {@link Supplier} and depends on exactly the {@link ObservableValue}s that have been read by the {@link Supplier} during its last evaluation.
+ * The {@link ObservableValue}s need to be read using {@link #read(ObservableValue)}, which records them as a dependency of the binding that is currently being computed on this
+ * thread. The bindings of this library record themselves when their value is read, so they can also be read using {@link ObservableValue#getValue()}. The dependencies are
+ * tracked again on each computation, so an {@link ObservableValue} which is only read under a certain condition is no longer observed once the condition no longer applies.
+ * <p>
+ * Just like the bindings created by {@link Bindings#combine(ObservableValue, ObservableValue, java.util.function.BiFunction)}, the binding is only invalidated once the current wave
+ * of the {@link PropagationGuard} has ended. If the {@link Supplier} returns null, the fallback value is used.
+ *
+ * @param <TValue> the type of the computed value.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+class ComputedBinding<TValue> extends RootBinding<TValue> {
+
+    // region Constants
+
+    /**
+     * Contains the binding that is currently being computed on each thread.
+     */
+    private static final ThreadLocal<ComputedBinding<?>> CURRENT = new ThreadLocal<>();
+
+    /**
+     * The amount of bindings that are currently being computed on all threads, so the {@link #CURRENT} binding only needs to be looked up while there is at least one.
+     */
+    private static final AtomicInteger COMPUTATIONS = new AtomicInteger();
+
+    // endregion
+
+    // region Fields
+
+    /**
+     * The {@link Supplier} which computes the value.
+     */
+    @NotNull
+    private final Supplier<TValue> computation;
+
+    /**
+     * The {@link ObservableValue}s that have been read during the last computation.
+     */
+    @NotNull
+    private Set<ObservableValue<?>> dependencies = newIdentitySet();
+
+    /**
+     * The {@link ObservableValue}s that have been read so far during the current computation, null if the binding is not being computed.
+     */
+    @Nullable
+    private Set<ObservableValue<?>> trackedDependencies;
+
+    /**
+     * The {@link #dependencies} that have been invalidated since the last computation.
+     */
+    @NotNull
+    private final Set<Observable> invalidatedDependencies = newIdentitySet();
+
+    /**
+     * The value returned by the {@link #computation} during the last computation.
+     */
+    @Nullable
+    private TValue computedValue;
+
+    /**
+     * Determines if the {@link #computedValue} has been computed from the current {@link #dependencies}.
+     */
+    private boolean computed;
+
+    /**
+     * The {@link InvalidationListener} which is added to each of the {@link #dependencies} and notified if one of them is invalidated. The {@link #dependencies} keep this binding
+     * alive by this listener, just like the {@link ObservableValue} of any other binding.
+     */
+    @NotNull
+    private final InvalidationListener dependencyListener = this::onDependencyInvalidated;
+
+    /**
+     * Determines if the invalidation of this binding has been deferred until the current wave has ended.
+     */
+    private boolean invalidationPending;
+
+    /**
+     * Determines if this binding has been disposed, in which case it no longer computes its value.
+     */
+    private boolean disposed;
+
+    // endregion
+
+    // region Constructor
+
+    /**
+     * Creates a new binding which computes its value using the given {@link Supplier}.
+     *
+     * @param computation the {@link Supplier} which computes the value.
+     */
+    ComputedBinding(@NotNull final Supplier<TValue> computation) {
+        this.computation = computation;
+    }
+
+    // endregion
+
+    // region Package
+
+    /**
+     * Returns the value of the given {@link ObservableValue} and records it as a dependency of the binding that is currently being computed on this thread, if any.
+     *
+     * @param observable the {@link ObservableValue} to read.
+     * @param <TValue>   the type of the value of the {@link ObservableValue}.
+     *
+     * @return the value of the {@link ObservableValue}.
+     */
+    @Nullable
+    static <TValue> TValue read(@NotNull final ObservableValue<TValue> observable) {
+        final TValue value = observable.getValue();
+        track(observable);
+        return value;
+    }
+
+    /**
+     * Records the given {@link ObservableValue} as a dependency of the binding that is currently being computed on this thread, if any.
+     *
+     * @param observable the {@link ObservableValue} that has been read.
+     */
+    static void track(@NotNull final ObservableValue<?> observable) {
+        if (COMPUTATIONS.get() == 0) {
+            return;
+        }
+        final ComputedBinding<?> current = CURRENT.get();
+        if (current != null && current != observable && current.trackedDependencies != null) {
+            current.trackedDependencies.add(observable);
+        }
+    }
+
+    /**
+     * Invokes the given {@link Supplier} without recording the {@link ObservableValue}s it reads as dependencies of the binding that is currently being computed on this thread, so a
+     * binding which reads another binding does not also depend on everything that binding reads.
+     *
+     * @param supplier the {@link Supplier} to invoke.
+     * @param <TValue> the type of the value returned by the {@link Supplier}.
+     *
+     * @return the value returned by the {@link Supplier}.
+     */
+    static <TValue> TValue untracked(@NotNull final Supplier<TValue> supplier) {
+        if (COMPUTATIONS.get() == 0) {
+            return supplier.get();
+        }
+        final ComputedBinding<?> current = CURRENT.get();
+        if (current == null) {
+            return supplier.get();
+        }
+        CURRENT.remove();
+        try {
+            return supplier.get();
+        } finally {
+            CURRENT.set(current);
+        }
+    }
+
+    /**
+     * Returns the {@link ObservableValue}s this binding currently depends on.
+     *
+     * @return an unmodifiable {@link Set} of the {@link ObservableValue}s.
+     */
+    @NotNull
+    final Set<ObservableValue<?>> getCurrentDependencies() {
+        return Collections.unmodifiableSet(dependencies);
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Creates a new {@link Set} which compares its elements by identity.
+     *
+     * @param <TElement> the type of the elements.
+     *
+     * @return a new empty {@link Set}.
+     */
+    @NotNull
+    private static <TElement> Set<TElement> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Remembers that the given dependency has been invalidated and invalidates this binding once the current wave has ended.
+     *
+     * @param observable the dependency that has been invalidated.
+     */
+    private void onDependencyInvalidated(@NotNull final Observable observable) {
+        invalidatedDependencies.add(observable);
+        if (!invalidationPending) {
+            invalidationPending = true;
+            PropagationGuard.runAfterWave(() -> {
+                invalidationPending = false;
+                invalidate();
+            });
+        }
+    }
+
+    /**
+     * Observes the {@link ObservableValue}s that have been read during the current computation and stops observing all others. If the computation failed, the previous
+     * dependencies are kept as well, since it is unknown which {@link ObservableValue}s the computation would have read.
+     *
+     * @param tracked   the {@link ObservableValue}s that have been read.
+     * @param completed true if the computation completed, false if it failed.
+     */
+    private void updateDependencies(@NotNull final Set<ObservableValue<?>> tracked, final boolean completed) {
+        for (final ObservableValue<?> dependency : tracked) {
+            if (!dependencies.contains(dependency)) {
+                dependency.addListener(dependencyListener);
+            }
+        }
+        if (completed) {
+            for (final ObservableValue<?> dependency : dependencies) {
+                if (!tracked.contains(dependency)) {
+                    dependency.removeListener(dependencyListener);
+                    invalidatedDependencies.remove(dependency);
+                }
+            }
+            dependencies = tracked;
+        } else {
+            dependencies.addAll(tracked);
+        }
+    }
+
+    // endregion
+
+    // region Override RootBinding
+
+    /**
+     * Computes the value using the {@link #computation} and tracks the {@link ObservableValue}s it reads. If this binding is memoizing and none of the {@link ObservableValue}s
+     * read during the last computation has been invalidated since, e.g. if only the replacement changed, the {@link #computation} is not invoked again and its previous value is
+     * used. The values of the {@link ObservableValue}s are not compared, since a value which has been mutated in place is still the same instance.
+     *
+     * @return the computed value or the fallback value if the computed value is null or this binding has been disposed.
+     */
+    @Override
+    protected TValue computeValue() {
+        if (disposed) {
+            return super.computeValue();
+        }
+        if (computed && isMemoizing() && invalidatedDependencies.isEmpty()) {
+            Memoization.avoided();
+        } else {
+            computed = false;
+            invalidatedDependencies.clear();
+            final ComputedBinding<?> previous = CURRENT.get();
+            final Set<ObservableValue<?>> tracked = newIdentitySet();
+            trackedDependencies = tracked;
+            CURRENT.set(this);
+            COMPUTATIONS.incrementAndGet();
+            boolean completed = false;
+            try {
+                computedValue = computation.get();
+                completed = true;
+            } finally {
+                COMPUTATIONS.decrementAndGet();
+                trackedDependencies = null;
+                CURRENT.set(previous);
+                updateDependencies(tracked, completed);
+            }
+            computed = true;
+        }
+        return computedValue != null ? replaceValue(computedValue) : super.computeValue();
+    }
+
+    /**
+     * {@inheritDoc} Also stops observing all dependencies.
+     */
+    @Override
+    public void dispose() {
+        disposed = true;
+        for (final ObservableValue<?> dependency : dependencies) {
+            dependency.removeListener(dependencyListener);
+        }
+        dependencies = newIdentitySet();
+        invalidatedDependencies.clear();
+        computedValue = null;
+        computed = false;
+        super.dispose();
+    }
+
+    // endregion
+}
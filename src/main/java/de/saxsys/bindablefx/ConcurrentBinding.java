@@ -0,0 +1,181 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import javafx.application.Platform;
+import javafx.beans.value.ObservableValue;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * This binding can be used if the {@link ObservableValue} it observes is changed by other threads than the one that owns the binding, e.g. a model that is updated by network threads.
+ * The latest value of the {@link ObservableValue} is published without locking and the binding is only invalidated on the owning thread, which by default is the JavaFX application
+ * thread. No matter how often the {@link ObservableValue} changes, there is at most one pending hand-off to the owning thread, so an update storm will not flood its event queue.
+ * <p>
+ * The binding must be created before other threads start changing the {@link ObservableValue}, since adding a listener to an {@link ObservableValue} is not thread safe.
+ *
+ * @param <TValue> the type of the {@link ObservableValue} that is being watched.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+class ConcurrentBinding<TValue> extends RootBinding<TValue> {
+
+    // region Constants
+
+    /**
+     * Marks that no value has been published yet, needed since null is a valid value.
+     */
+    private static final Object NO_VALUE = new Object();
+
+    // endregion
+
+    // region Fields
+
+    /**
+     * The {@link Executor} that runs the hand-off on the owning thread.
+     */
+    @NotNull
+    private final Executor handOff;
+
+    /**
+     * The latest value that has been published.
+     */
+    @NotNull
+    private final AtomicReference<Object> latestValue = new AtomicReference<>(NO_VALUE);
+
+    /**
+     * Determines if a hand-off to the owning thread is already pending.
+     */
+    @NotNull
+    private final AtomicBoolean handOffPending = new AtomicBoolean();
+
+    // endregion
+
+    // region Constructor
+
+    /**
+     * Creates a new binding that hands off to the JavaFX application thread.
+     */
+    ConcurrentBinding() {
+        this(Platform::runLater);
+    }
+
+    /**
+     * Creates a new binding that hands off using the given {@link Executor}.
+     *
+     * @param handOff the {@link Executor} that runs the hand-off on the owning thread.
+     */
+    ConcurrentBinding(@NotNull final Executor handOff) {
+        this.handOff = handOff;
+    }
+
+    // endregion
+
+    // region Package
+
+    /**
+     * Publishes the given value and schedules a hand-off to the owning thread if none is pending yet. This method can be called from any thread.
+     *
+     * @param value the value to publish.
+     */
+    void publish(@Nullable final TValue value) {
+        latestValue.set(value);
+        if (handOffPending.compareAndSet(false, true)) {
+            handOff.execute(this::flush);
+        }
+    }
+
+    /**
+     * Invalidates this binding, so the latest published value will be used. Called on the owning thread.
+     */
+    void flush() {
+        handOffPending.set(false);
+        invalidate();
+    }
+
+    /**
+     * Returns the {@link Executor} that runs the hand-off on the owning thread.
+     *
+     * @return the {@link #handOff}.
+     */
+    @NotNull
+    Executor getHandOff() {
+        return handOff;
+    }
+
+    /**
+     * Determines if a hand-off to the owning thread is currently pending.
+     *
+     * @return true if a hand-off is pending, otherwise false.
+     */
+    boolean isHandOffPending() {
+        return handOffPending.get();
+    }
+
+    // endregion
+
+    // region Override RootBinding
+
+    /**
+     * {@inheritDoc} Also publishes the current value of the {@link ObservableValue} without a hand-off, since this happens on the owning thread.
+     */
+    @Override
+    protected void afterSetObservedValue(@NotNull final ObservableValue<TValue> observableValue) {
+        latestValue.set(observableValue.getValue());
+    }
+
+    /**
+     * Returns the latest published value, or the fallback value if no value has been published yet or the {@link ObservableValue} has been garbage collected. A binding which
+     * never had an {@link ObservableValue}, such as a {@link PublisherBinding}, uses the latest published value.
+     *
+     * @return the latest published value.
+     */
+    @SuppressWarnings ("unchecked")
+    @Nullable
+    @Override
+    protected TValue computeValue() {
+        if (wasGarbageCollected()) {
+            return super.computeValue();
+        }
+        final Object value = latestValue.get();
+        if (value != NO_VALUE) {
+            return replaceValue((TValue) value);
+        } else {
+            return super.computeValue();
+        }
+    }
+
+    /**
+     * When the observed value is changed, which can happen on any thread, the new value will be published.
+     */
+    @Override
+    public void changed(@Nullable final ObservableValue<? extends TValue> observable, @Nullable final TValue oldValue, @Nullable final TValue newValue) {
+        publish(newValue);
+    }
+
+    /**
+     * {@inheritDoc} Also forgets the latest published value.
+     */
+    @Override
+    public void dispose() {
+        latestValue.set(NO_VALUE);
+        super.dispose();
+    }
+
+    // endregion
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * This class represents the result of a conversion done by an {@link IResultConverter}, which is either a successfully converted value or a failure with a message describing why
+ * the value could not be converted. Unlike an exception, creating a failure does not capture a stack trace.
+ *
+ * @param <TValue> the type of the converted value.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public final class ConversionResult<TValue> {
+
+    // region Fields
+
+    /**
+     * Determines if the conversion was successful.
+     */
+    private final boolean success;
+
+    /**
+     * The converted value, only available if the conversion was successful.
+     */
+    @Nullable
+    private final TValue value;
+
+    /**
+     * The message describing why the conversion failed, only available if the conversion was not successful.
+     */
+    @Nullable
+    private final String message;
+
+    // endregion
+
+    // region Constructor
+
+    private ConversionResult(final boolean success, @Nullable final TValue value, @Nullable final String message) {
+        this.success = success;
+        this.value = value;
+        this.message = message;
+    }
+
+    // endregion
+
+    // region Static
+
+    /**
+     * Creates a new successful {@link ConversionResult}.
+     *
+     * @param value    the converted value.
+     * @param <TValue> the type of the converted value.
+     *
+     * @return a new successful {@link ConversionResult}.
+     */
+    @NotNull
+    public static <TValue> ConversionResult<TValue> success(@Nullable final TValue value) {
+        return new ConversionResult<>(true, value, null);
+    }
+
+    /**
+     * Creates a new failed {@link ConversionResult}.
+     *
+     * @param message  the message describing why the conversion failed.
+     * @param <TValue> the type of the converted value.
+     *
+     * @return a new failed {@link ConversionResult}.
+     */
+    @NotNull
+    public static <TValue> ConversionResult<TValue> failure(@NotNull final String message) {
+        return new ConversionResult<>(false, null, message);
+    }
+
+    // endregion
+
+    // region Public
+
+    /**
+     * Determines if the conversion was successful.
+     *
+     * @return true if the conversion was successful, otherwise false.
+     */
+    public boolean isSuccess() {
+        return success;
+    }
+
+    /**
+     * Returns the converted value.
+     *
+     * @return the converted value or null if the conversion was not successful.
+     */
+    @Nullable
+    public TValue getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the message describing why the conversion failed.
+     *
+     * @return the message describing why the conversion failed or null if the conversion was successful.
+     */
+    @Nullable
+    public String getMessage() {
+        return message;
+    }
+
+    // endregion
+
+    // region Override Object
+
+    @Override
+    public String toString() {
+        return success ? "ConversionResult{success, value=" + value + '}' : "ConversionResult{failure, message=" + message + '}';
+    }
+
+    // endregion
+}
@@ -43,6 +43,13 @@ class ConverterBinding<TValue, TConvertedValue> extends RootBinding<TConvertedVa
     @NotNull
     private final WeakReference<ObservableValue<TValue>> parent;
 
+    /**
+     * Remembers the last value the {@link #converter} has been applied to, so it is not applied again if the value of the {@link #parent} did not change and this binding is
+     * memoizing.
+     */
+    @NotNull
+    private final Memoization.Memo<TConvertedValue> converterMemo = new Memoization.Memo<>();
+
     // endregion
 
     // region Constructor
@@ -67,7 +74,7 @@ class ConverterBinding<TValue, TConvertedValue> extends RootBinding<TConvertedVa
         final ObservableValue<TValue> observedValue = parent.get();
 
         if (observedValue != null) {
-            return converter.apply(observedValue.getValue());
+            return converterMemo.apply(isMemoizing(), converter, observedValue.getValue());
         } else {
             return super.computeValue();
         }
@@ -0,0 +1,628 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * This class caches the results of an expensive converter on disk, so they survive restarts of the application and a cold start can read them instead of converting the values
+ * again. Keys and values are converted into bytes using an {@link ISerializer}, equal keys must result in equal bytes.
+ * <p>
+ * The cache consists of two files in a directory: an append-only data file containing the serialized keys and values and an index file, which is memory-mapped and contains an open
+ * addressing hash table pointing into the data file. A lookup therefore only reads the records whose hash matches the key. The cache is bounded by the amount of entries and the size of
+ * the data file, once one of the bounds would be exceeded, the cache is cleared and starts over. If the files do not match the expected format, e.g. because the application
+ * crashed while writing, the cache is cleared as well.
+ * <p>
+ * A converter is wrapped using {@link #cached(Function)}, e.g. {@code Bindings.convert(path, cache.cached(this::createThumbnail))}. All methods are thread safe.
+ *
+ * @param <TKey>   the type of the values that are converted.
+ * @param <TValue> the type of the converted values.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public final class ConverterCache<TKey, TValue> implements Closeable {
+
+    // region Constants
+
+    /**
+     * Identifies the index file of a {@link ConverterCache}.
+     */
+    private static final int MAGIC = 0x42464343;
+
+    /**
+     * The version of the format of the files.
+     */
+    private static final int FORMAT_VERSION = 1;
+
+    /**
+     * The size of the header of the index file: magic, version, capacity, amount of entries and length of the data file.
+     */
+    private static final int HEADER_SIZE = 24;
+
+    /**
+     * The position of the amount of entries in the header.
+     */
+    private static final int COUNT_POSITION = 12;
+
+    /**
+     * The position of the length of the data file in the header.
+     */
+    private static final int DATA_LENGTH_POSITION = 16;
+
+    /**
+     * The size of each slot of the hash table: the position of the record in the data file plus one, so that 0 marks an empty slot, and the hash of the key.
+     */
+    private static final int SLOT_SIZE = 12;
+
+    /**
+     * The size of the header of each record in the data file: the length of the key and the length of the value.
+     */
+    private static final int RECORD_HEADER_SIZE = 8;
+
+    // endregion
+
+    // region Fields
+
+    /**
+     * The {@link ISerializer} of the keys.
+     */
+    @NotNull
+    private final ISerializer<TKey> keySerializer;
+
+    /**
+     * The {@link ISerializer} of the values.
+     */
+    @NotNull
+    private final ISerializer<TValue> valueSerializer;
+
+    /**
+     * The maximum amount of entries.
+     */
+    private final int maxEntries;
+
+    /**
+     * The maximum size of the data file in bytes.
+     */
+    private final long maxDataSize;
+
+    /**
+     * The amount of slots of the hash table, which is always a power of two.
+     */
+    private final int capacity;
+
+    /**
+     * The {@link FileChannel} of the data file.
+     */
+    @NotNull
+    private final FileChannel data;
+
+    /**
+     * The {@link FileChannel} of the index file.
+     */
+    @NotNull
+    private final FileChannel indexChannel;
+
+    /**
+     * The memory-mapped index file.
+     */
+    @NotNull
+    private final MappedByteBuffer index;
+
+    /**
+     * The amount of lookups that found a cached value.
+     */
+    @NotNull
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * The amount of lookups that did not find a cached value.
+     */
+    @NotNull
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Determines if this cache has been closed.
+     */
+    private boolean closed;
+
+    // endregion
+
+    // region Constructor
+
+    private ConverterCache(@NotNull final Path directory,
+                           @NotNull final String name,
+                           @NotNull final ISerializer<TKey> keySerializer,
+                           @NotNull final ISerializer<TValue> valueSerializer,
+                           final int maxEntries,
+                           final long maxDataSize) throws IOException {
+        this.keySerializer = keySerializer;
+        this.valueSerializer = valueSerializer;
+        this.maxEntries = maxEntries;
+        this.maxDataSize = maxDataSize;
+        this.capacity = Integer.highestOneBit(maxEntries * 2 - 1) << 1;
+
+        Files.createDirectories(directory);
+        data = FileChannel.open(directory.resolve(name + ".data"), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            indexChannel = FileChannel.open(directory.resolve(name + ".index"), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        } catch (final IOException e) {
+            data.close();
+            throw e;
+        }
+        try {
+            index = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) capacity * SLOT_SIZE);
+            if (!isValid()) {
+                reset();
+            }
+        } catch (final IOException e) {
+            indexChannel.close();
+            data.close();
+            throw e;
+        }
+    }
+
+    // endregion
+
+    // region Static
+
+    /**
+     * Opens the cache with the given name in the given directory, the files are created if they do not exist yet.
+     *
+     * @param directory       the directory containing the files of the cache.
+     * @param name            the name of the cache, which is used as the name of its files.
+     * @param keySerializer   the {@link ISerializer} of the keys.
+     * @param valueSerializer the {@link ISerializer} of the values.
+     * @param maxEntries      the maximum amount of entries.
+     * @param maxDataSize     the maximum size of the data file in bytes.
+     * @param <TKey>          the type of the values that are converted.
+     * @param <TValue>        the type of the converted values.
+     *
+     * @return the opened {@link ConverterCache}, which needs to be closed.
+     *
+     * @throws IOException              if the files can not be opened.
+     * @throws IllegalArgumentException if one of the bounds is less than 1 or the amount of entries is larger than 2^26, which keeps the index file below 2GB.
+     */
+    @SuppressWarnings ("ConstantConditions")
+    @NotNull
+    public static <TKey, TValue> ConverterCache<TKey, TValue> open(@NotNull final Path directory,
+                                                                   @NotNull final String name,
+                                                                   @NotNull final ISerializer<TKey> keySerializer,
+                                                                   @NotNull final ISerializer<TValue> valueSerializer,
+                                                                   final int maxEntries,
+                                                                   final long maxDataSize) throws IOException {
+        if (directory == null) {
+            throw new NullPointerException("Directory cannot be null");
+        }
+        if (name == null) {
+            throw new NullPointerException("Name cannot be null");
+        }
+        if (keySerializer == null || valueSerializer == null) {
+            throw new NullPointerException("ISerializer cannot be null");
+        }
+        if (maxEntries < 1 || maxEntries > 1 << 26) {
+            throw new IllegalArgumentException("The maximum amount of entries must be between 1 and 2^26 but was " + maxEntries);
+        }
+        if (maxDataSize < 1) {
+            throw new IllegalArgumentException("The maximum data size must be at least 1 but was " + maxDataSize);
+        }
+        return new ConverterCache<>(directory, name, keySerializer, valueSerializer, maxEntries, maxDataSize);
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Determines if the index file has been written with the same format and capacity and matches the data file.
+     *
+     * @return true if the index file can be used, otherwise false.
+     *
+     * @throws IOException if the size of the data file can not be determined.
+     */
+    private boolean isValid() throws IOException {
+        return index.getInt(0) == MAGIC
+               && index.getInt(4) == FORMAT_VERSION
+               && index.getInt(8) == capacity
+               && index.getInt(COUNT_POSITION) >= 0
+               && index.getInt(COUNT_POSITION) <= maxEntries
+               && index.getLong(DATA_LENGTH_POSITION) >= 0
+               && index.getLong(DATA_LENGTH_POSITION) <= data.size();
+    }
+
+    /**
+     * Removes all entries by truncating the data file and clearing the index file.
+     *
+     * @throws IOException if the data file can not be truncated.
+     */
+    private void reset() throws IOException {
+        data.truncate(0);
+        for (int position = HEADER_SIZE; position < index.capacity(); position += 4) {
+            index.putInt(position, 0);
+        }
+        index.putInt(0, MAGIC);
+        index.putInt(4, FORMAT_VERSION);
+        index.putInt(8, capacity);
+        index.putInt(COUNT_POSITION, 0);
+        index.putLong(DATA_LENGTH_POSITION, 0L);
+    }
+
+    /**
+     * Returns the hash of the given serialized key.
+     *
+     * @param key the serialized key.
+     *
+     * @return the hash of the key.
+     */
+    private static int hash(@NotNull final byte[] key) {
+        final int hash = Arrays.hashCode(key);
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Returns the position of the given slot in the index file.
+     *
+     * @param slot the slot.
+     *
+     * @return the position of the slot.
+     */
+    private static int slotPosition(final int slot) {
+        return HEADER_SIZE + slot * SLOT_SIZE;
+    }
+
+    /**
+     * Returns the slot which contains the given serialized key or the empty slot where it would be inserted.
+     *
+     * @param key  the serialized key.
+     * @param hash the hash of the key.
+     *
+     * @return the slot.
+     *
+     * @throws IOException if a record can not be read.
+     */
+    private int findSlot(@NotNull final byte[] key, final int hash) throws IOException {
+        int slot = hash & (capacity - 1);
+        for (int probes = 0; probes < capacity; ++probes) {
+            final int position = slotPosition(slot);
+            final long recordPosition = index.getLong(position) - 1;
+            if (recordPosition < 0 || index.getInt(position + 8) == hash && Arrays.equals(key, readKey(recordPosition))) {
+                return slot;
+            }
+            slot = (slot + 1) & (capacity - 1);
+        }
+        throw new CorruptedCacheException("The index does not contain an empty slot");
+    }
+
+    /**
+     * Reads the given amount of bytes of the data file.
+     *
+     * @param position the position to start reading at.
+     * @param length   the amount of bytes to read.
+     *
+     * @return a {@link ByteBuffer} containing the bytes.
+     *
+     * @throws IOException if the bytes can not be read.
+     */
+    @NotNull
+    private ByteBuffer read(final long position, final int length) throws IOException {
+        final ByteBuffer result = ByteBuffer.allocate(length);
+        while (result.hasRemaining()) {
+            if (data.read(result, position + result.position()) < 0) {
+                throw new IOException("Unexpected end of the data file");
+            }
+        }
+        result.flip();
+        return result;
+    }
+
+    /**
+     * Reads the serialized key of the record at the given position.
+     *
+     * @param recordPosition the position of the record.
+     *
+     * @return the serialized key.
+     *
+     * @throws IOException if the record can not be read.
+     */
+    @NotNull
+    private byte[] readKey(final long recordPosition) throws IOException {
+        final int keyLength = readRecordHeader(recordPosition).getInt(0);
+        return read(recordPosition + RECORD_HEADER_SIZE, keyLength).array();
+    }
+
+    /**
+     * Reads the serialized value of the record at the given position.
+     *
+     * @param recordPosition the position of the record.
+     *
+     * @return the serialized value.
+     *
+     * @throws IOException if the record can not be read.
+     */
+    @NotNull
+    private byte[] readValue(final long recordPosition) throws IOException {
+        final ByteBuffer header = readRecordHeader(recordPosition);
+        return read(recordPosition + RECORD_HEADER_SIZE + header.getInt(0), header.getInt(4)).array();
+    }
+
+    /**
+     * Reads the header of the record at the given position and checks that the record lies within the data that has been written.
+     *
+     * @param recordPosition the position of the record.
+     *
+     * @return a {@link ByteBuffer} containing the length of the key followed by the length of the value.
+     *
+     * @throws CorruptedCacheException if the record does not lie within the data that has been written.
+     * @throws IOException             if the header can not be read.
+     */
+    @NotNull
+    private ByteBuffer readRecordHeader(final long recordPosition) throws IOException {
+        final long dataLength = index.getLong(DATA_LENGTH_POSITION);
+        if (recordPosition + RECORD_HEADER_SIZE > dataLength) {
+            throw new CorruptedCacheException("The record at " + recordPosition + " exceeds the data length " + dataLength);
+        }
+        final ByteBuffer header = read(recordPosition, RECORD_HEADER_SIZE);
+        final int keyLength = header.getInt(0);
+        final int valueLength = header.getInt(4);
+        if (keyLength < 0 || valueLength < 0 || recordPosition + RECORD_HEADER_SIZE + keyLength + valueLength > dataLength) {
+            throw new CorruptedCacheException("The record at " + recordPosition + " has an invalid key length " + keyLength + " or value length " + valueLength);
+        }
+        return header;
+    }
+
+    /**
+     * Writes a record containing the given serialized key and value and lets the index refer to it.
+     *
+     * @param serializedKey   the serialized key.
+     * @param serializedValue the serialized value.
+     * @param recordSize      the size of the record.
+     *
+     * @throws IOException if the files can not be read or written.
+     */
+    private void write(@NotNull final byte[] serializedKey, @NotNull final byte[] serializedValue, final long recordSize) throws IOException {
+        final int hash = hash(serializedKey);
+        int slot = findSlot(serializedKey, hash);
+        boolean added = index.getLong(slotPosition(slot)) == 0L;
+        long dataLength = index.getLong(DATA_LENGTH_POSITION);
+        if (added && index.getInt(COUNT_POSITION) >= maxEntries || dataLength + recordSize > maxDataSize) {
+            reset();
+            slot = findSlot(serializedKey, hash);
+            added = true;
+            dataLength = 0L;
+        }
+
+        final ByteBuffer record = ByteBuffer.allocate((int) recordSize);
+        record.putInt(serializedKey.length).putInt(serializedValue.length).put(serializedKey).put(serializedValue).flip();
+        while (record.hasRemaining()) {
+            data.write(record, dataLength + record.position());
+        }
+
+        // the data is written before the index refers to it, so a crash can only lose the new entry
+        index.putLong(DATA_LENGTH_POSITION, dataLength + recordSize);
+        index.putInt(slotPosition(slot) + 8, hash);
+        index.putLong(slotPosition(slot), dataLength + 1);
+        if (added) {
+            index.putInt(COUNT_POSITION, index.getInt(COUNT_POSITION) + 1);
+        }
+    }
+
+    /**
+     * Throws an {@link IllegalStateException} if this cache has been closed.
+     */
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("The cache has been closed");
+        }
+    }
+
+    // endregion
+
+    // region Public
+
+    /**
+     * Returns the cached value of the given key. If the files turn out to be corrupted, the cache is cleared and null is returned.
+     *
+     * @param key the key.
+     *
+     * @return the cached value or null if there is none.
+     *
+     * @throws UncheckedIOException if the files can not be read.
+     */
+    @Nullable
+    public synchronized TValue get(@NotNull final TKey key) {
+        checkOpen();
+        final byte[] serializedKey = keySerializer.serialize(key);
+        try {
+            final long recordPosition = index.getLong(slotPosition(findSlot(serializedKey, hash(serializedKey)))) - 1;
+            if (recordPosition < 0) {
+                misses.increment();
+                return null;
+            }
+            final byte[] serializedValue = readValue(recordPosition);
+            hits.increment();
+            return valueSerializer.deserialize(serializedValue);
+        } catch (final CorruptedCacheException e) {
+            misses.increment();
+            try {
+                reset();
+            } catch (final IOException resetFailure) {
+                throw new UncheckedIOException(resetFailure);
+            }
+            return null;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Stores the given value for the given key, replacing a previously stored value. If storing the value would exceed one of the bounds or the files turn out to be corrupted, the
+     * cache is cleared first. A value which alone exceeds the maximum data size is not stored.
+     *
+     * @param key   the key.
+     * @param value the value.
+     *
+     * @throws UncheckedIOException if the files can not be written.
+     */
+    public synchronized void put(@NotNull final TKey key, @NotNull final TValue value) {
+        checkOpen();
+        final byte[] serializedKey = keySerializer.serialize(key);
+        final byte[] serializedValue = valueSerializer.serialize(value);
+        final long recordSize = (long) RECORD_HEADER_SIZE + serializedKey.length + serializedValue.length;
+        if (recordSize > maxDataSize) {
+            return;
+        }
+        try {
+            try {
+                write(serializedKey, serializedValue, recordSize);
+            } catch (final CorruptedCacheException e) {
+                reset();
+                write(serializedKey, serializedValue, recordSize);
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns a {@link Function} which returns the cached value of a key if there is one and otherwise invokes the given converter and stores its result. Null keys and null
+     * results are not cached. If the files can not be accessed or this cache has been closed, the converter is invoked without using the cache.
+     *
+     * @param converter the converter whose results are to be cached.
+     *
+     * @return a new {@link Function}.
+     */
+    @SuppressWarnings ("ConstantConditions")
+    @NotNull
+    public Function<TKey, TValue> cached(@NotNull final Function<TKey, TValue> converter) {
+        if (converter == null) {
+            throw new NullPointerException("Converter cannot be null");
+        }
+        return key -> {
+            if (key == null) {
+                return converter.apply(null);
+            }
+            TValue result = null;
+            try {
+                result = get(key);
+            } catch (final UncheckedIOException | IllegalArgumentException | IllegalStateException ignored) {
+                // the cache is only an optimization, so the value is simply converted
+            }
+            if (result == null) {
+                result = converter.apply(key);
+                if (result != null) {
+                    try {
+                        put(key, result);
+                    } catch (final UncheckedIOException | IllegalArgumentException | IllegalStateException ignored) {
+                        // the cache is only an optimization, the value simply is not cached
+                    }
+                }
+            }
+            return result;
+        };
+    }
+
+    /**
+     * Returns the amount of cached entries.
+     *
+     * @return the amount of cached entries.
+     */
+    public synchronized int size() {
+        checkOpen();
+        return index.getInt(COUNT_POSITION);
+    }
+
+    /**
+     * Removes all cached entries.
+     *
+     * @throws UncheckedIOException if the data file can not be truncated.
+     */
+    public synchronized void clear() {
+        checkOpen();
+        try {
+            reset();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the amount of lookups that found a cached value.
+     *
+     * @return the amount of hits.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the amount of lookups that did not find a cached value.
+     *
+     * @return the amount of misses.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Writes all changes to the disk and closes the files, the cache can no longer be used afterwards.
+     *
+     * @throws IOException if the files can not be closed.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            index.force();
+            data.force(false);
+        } finally {
+            try {
+                indexChannel.close();
+            } finally {
+                data.close();
+            }
+        }
+    }
+
+    // endregion
+
+    // region Classes
+
+    /**
+     * Thrown if the index or a record refers to data which has not been written, in which case the cache is cleared.
+     */
+    private static final class CorruptedCacheException extends IOException {
+
+        private CorruptedCacheException(@NotNull final String message) {
+            super(message);
+        }
+    }
+
+    // endregion
+}
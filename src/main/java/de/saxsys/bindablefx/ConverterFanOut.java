@@ -0,0 +1,343 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import javafx.beans.WeakListener;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+/**
+ * This class allows for many converters to be based on the same {@link ObservableValue}, e.g. one timestamp driving the "age" column of every row in a table. Instead of each converter
+ * being evaluated one after another on the thread that changed the {@link ObservableValue}, a change will evaluate the converters of all bindings that are currently being listened to in
+ * parallel on a {@link ForkJoinPool}. Once all converters are done, the results will be committed and the bindings will be invalidated in one batch on the thread that changed the
+ * {@link ObservableValue}, so listeners are still notified on the owning thread.
+ * <p>
+ * Bindings that do not have any listeners are only invalidated and will convert the value lazily once they are asked for it. Since converters can be evaluated on any thread of the
+ * {@link ForkJoinPool}, they must not have any side effects and must not access the JavaFX scene graph.
+ *
+ * @param <TValue> the type of the {@link ObservableValue} the converters are based on.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public final class ConverterFanOut<TValue> implements ChangeListener<TValue>, WeakListener {
+
+    // region Constants
+
+    /**
+     * The default amount of bindings that need to be evaluated before the evaluation will be done in parallel.
+     */
+    static final int DEFAULT_PARALLEL_THRESHOLD = 64;
+
+    // endregion
+
+    // region Fields
+
+    /**
+     * The {@link ObservableValue} that provides the base value for all the converters.
+     */
+    @NotNull
+    private final WeakReference<ObservableValue<TValue>> parent;
+
+    /**
+     * The {@link ForkJoinPool} on which the converters will be evaluated.
+     */
+    @NotNull
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+
+    /**
+     * The amount of bindings that need to be evaluated in a single change before the evaluation will be done in parallel.
+     */
+    private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+
+    /**
+     * The bindings that have been created by this {@link ConverterFanOut}, they are only weakly referenced so they can be garbage collected.
+     */
+    @NotNull
+    private final List<WeakReference<FanOutConverterBinding<TValue, ?>>> bindings = new ArrayList<>();
+
+    // endregion
+
+    // region Constructor
+
+    ConverterFanOut(@NotNull final ObservableValue<TValue> parent) {
+        this.parent = new WeakReference<>(parent);
+        parent.addListener(this);
+    }
+
+    // endregion
+
+    // region Public
+
+    /**
+     * Creates a new {@link IFluentBinding} that converts the value of the underlying {@link ObservableValue} into another type. The converter will be evaluated in parallel together with
+     * the converters of all other bindings created by this {@link ConverterFanOut}.
+     *
+     * @param converter         the {@link Function} to use when converting, it must not have any side effects.
+     * @param <TConvertedValue> the desired type to convert into.
+     *
+     * @return a new {@link IFluentBinding} which is updated by this {@link ConverterFanOut}.
+     */
+    @NotNull
+    public <TConvertedValue> IFluentBinding<TConvertedValue> convertTo(@NotNull final Function<TValue, TConvertedValue> converter) {
+        final FanOutConverterBinding<TValue, TConvertedValue> binding = new FanOutConverterBinding<>(this, converter);
+        bindings.add(new WeakReference<>(binding));
+        return binding;
+    }
+
+    /**
+     * Sets the {@link ForkJoinPool} on which the converters will be evaluated, by default {@link ForkJoinPool#commonPool()} is used.
+     *
+     * @param pool the {@link ForkJoinPool} to use.
+     *
+     * @return this {@link ConverterFanOut}.
+     */
+    @NotNull
+    public ConverterFanOut<TValue> evaluateOn(@NotNull final ForkJoinPool pool) {
+        this.pool = pool;
+        return this;
+    }
+
+    /**
+     * Sets the amount of bindings that need to be evaluated in a single change before the evaluation will be done in parallel. If less bindings need to be evaluated, the converters will
+     * be evaluated on the current thread since the overhead of the {@link ForkJoinPool} would outweigh the gain.
+     *
+     * @param parallelThreshold the amount of bindings, needs to be at least 1.
+     *
+     * @return this {@link ConverterFanOut}.
+     *
+     * @throws IllegalArgumentException if the parallelThreshold is less than 1.
+     */
+    @NotNull
+    public ConverterFanOut<TValue> parallelFrom(final int parallelThreshold) {
+        if (parallelThreshold < 1) {
+            throw new IllegalArgumentException("The parallel threshold must be at least 1 but was " + parallelThreshold);
+        }
+        this.parallelThreshold = parallelThreshold;
+        return this;
+    }
+
+    /**
+     * Returns the amount of bindings that are currently alive.
+     *
+     * @return the amount of bindings that are currently alive.
+     */
+    public int getBindingCount() {
+        purge();
+        return bindings.size();
+    }
+
+    /**
+     * Stops listening to the underlying {@link ObservableValue} and disposes all bindings that have been created by this {@link ConverterFanOut}.
+     */
+    public void dispose() {
+        final ObservableValue<TValue> observableValue = parent.get();
+        if (observableValue != null) {
+            observableValue.removeListener(this);
+            parent.clear();
+        }
+        final List<WeakReference<FanOutConverterBinding<TValue, ?>>> disposed = new ArrayList<>(bindings);
+        bindings.clear();
+        disposed.forEach(reference -> {
+            final FanOutConverterBinding<TValue, ?> binding = reference.get();
+            if (binding != null) {
+                binding.dispose();
+            }
+        });
+    }
+
+    // endregion
+
+    // region Override ChangeListener
+
+    /**
+     * Evaluates the converters of all bindings that have listeners, either in parallel or on the current thread depending on the {@link #parallelThreshold}, and then commits the
+     * results and invalidates all bindings on the current thread.
+     */
+    @Override
+    public void changed(@Nullable final ObservableValue<? extends TValue> observable, @Nullable final TValue oldValue, @Nullable final TValue newValue) {
+        final List<FanOutConverterBinding<TValue, ?>> observed = new ArrayList<>();
+        final List<FanOutConverterBinding<TValue, ?>> unobserved = new ArrayList<>();
+        for (final Iterator<WeakReference<FanOutConverterBinding<TValue, ?>>> iterator = bindings.iterator(); iterator.hasNext(); ) {
+            final FanOutConverterBinding<TValue, ?> binding = iterator.next().get();
+            if (binding == null) {
+                iterator.remove();
+            } else if (binding.hasListeners()) {
+                observed.add(binding);
+            } else {
+                unobserved.add(binding);
+            }
+        }
+
+        if (observed.size() >= parallelThreshold) {
+            pool.submit(() -> observed.parallelStream().forEach(binding -> binding.precompute(newValue))).join();
+        } else {
+            observed.forEach(binding -> binding.precompute(newValue));
+        }
+
+        unobserved.forEach(FanOutConverterBinding::discard);
+        observed.forEach(FanOutConverterBinding::invalidate);
+        unobserved.forEach(FanOutConverterBinding::invalidate);
+    }
+
+    /**
+     * Returns true if the underlying {@link ObservableValue} is no longer available.
+     *
+     * @return true if the underlying {@link ObservableValue} is no longer available, otherwise false.
+     */
+    @Override
+    public boolean wasGarbageCollected() {
+        return parent.get() == null;
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Removes all bindings that have been garbage collected.
+     */
+    private void purge() {
+        bindings.removeIf(reference -> reference.get() == null);
+    }
+
+    /**
+     * Returns the current value of the underlying {@link ObservableValue}.
+     *
+     * @return a {@link ValueContainer} which has no value if the underlying {@link ObservableValue} is no longer available.
+     */
+    @NotNull
+    private ValueContainer<TValue> getParentValue() {
+        final ValueContainer<TValue> result = new ValueContainer<>();
+        final ObservableValue<TValue> observableValue = parent.get();
+        if (observableValue != null) {
+            result.setValue(observableValue.getValue());
+        }
+        return result;
+    }
+
+    // endregion
+
+    // region Classes
+
+    /**
+     * The binding created by a {@link ConverterFanOut}. Its value is either precomputed by the {@link ConverterFanOut} or converted lazily when it is asked for.
+     *
+     * @param <TValue>          the type of the {@link ObservableValue} the converter is based on.
+     * @param <TConvertedValue> the desired type to convert to.
+     */
+    private static final class FanOutConverterBinding<TValue, TConvertedValue> extends RootBinding<TConvertedValue> {
+
+        //region Fields
+
+        /**
+         * The {@link ConverterFanOut} that created this binding.
+         */
+        @NotNull
+        private final ConverterFanOut<TValue> fanOut;
+
+        /**
+         * The converter to be used to convert the value of the underlying {@link ObservableValue}.
+         */
+        @NotNull
+        private final Function<TValue, TConvertedValue> converter;
+
+        /**
+         * The value that has been precomputed by the {@link ConverterFanOut}. It is written by the threads of the {@link ForkJoinPool} and only read after the {@link ForkJoinPool} has
+         * finished, so no further synchronization is needed.
+         */
+        @NotNull
+        private final ValueContainer<TConvertedValue> precomputed = new ValueContainer<>();
+
+        //endregion
+
+        // region Constructor
+
+        FanOutConverterBinding(@NotNull final ConverterFanOut<TValue> fanOut, @NotNull final Function<TValue, TConvertedValue> converter) {
+            this.fanOut = fanOut;
+            this.converter = converter;
+        }
+
+        // endregion
+
+        // region Package
+
+        /**
+         * Converts the given value and remembers the result until this binding is asked for its value. If the converter fails, the value will be converted again once this binding is
+         * asked for its value, so the failure surfaces on the owning thread.
+         *
+         * @param value the value to convert.
+         */
+        void precompute(@Nullable final TValue value) {
+            try {
+                precomputed.setValue(converter.apply(value));
+            } catch (RuntimeException e) {
+                precomputed.clearValue();
+            }
+        }
+
+        /**
+         * Discards the precomputed value, so the value is converted lazily.
+         */
+        void discard() {
+            precomputed.clearValue();
+        }
+
+        // endregion
+
+        // region Override RootBinding
+
+        /**
+         * Returns the precomputed value if there is one, otherwise the value of the underlying {@link ObservableValue} will be converted.
+         *
+         * @return the converted value or the fallback value if the underlying {@link ObservableValue} is no longer available.
+         */
+        @Override
+        protected TConvertedValue computeValue() {
+            if (precomputed.hasValue()) {
+                final TConvertedValue result = precomputed.getValue();
+                precomputed.clearValue();
+                return result;
+            }
+
+            final ValueContainer<TValue> value = fanOut.getParentValue();
+            if (value.hasValue()) {
+                return converter.apply(value.getValue());
+            } else {
+                return super.computeValue();
+            }
+        }
+
+        /**
+         * {@inheritDoc} Also discards the precomputed value.
+         */
+        @Override
+        public void dispose() {
+            super.dispose();
+            precomputed.clearValue();
+        }
+
+        // endregion
+    }
+
+    // endregion
+}
@@ -0,0 +1,383 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.beans.value.WeakChangeListener;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.WeakListChangeListener;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * This class observes the elements of an {@link ObservableList} through a path, which resolves an {@link ObservableValue} for each element, usually an {@link IFluentBinding}. It keeps a
+ * list of entries parallel to the {@link ObservableList} which caches the current value of the path of each element. Changes of the {@link ObservableList} are applied incrementally, so
+ * only the paths of added elements are resolved and only the paths of removed elements are released. A change of the value of a path is reported with the index of its element without
+ * touching any other element.
+ * <p>
+ * The {@link ObservableList} and the resolved {@link ObservableValue}s only weakly reference this tracker. If a path resolves an {@link IFluentBinding}, the binding will be disposed once its
+ * element is removed, so the path should create a new binding for each element instead of returning a shared one.
+ *
+ * @param <TElement> the type of the elements of the {@link ObservableList}.
+ * @param <TValue>   the type of the value of the path.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+final class ElementPathTracker<TElement, TValue> implements ListChangeListener<TElement> {
+
+    // region Fields
+
+    /**
+     * The {@link ObservableList} whose elements are observed.
+     */
+    @NotNull
+    private final ObservableList<TElement> source;
+
+    /**
+     * The {@link Function} which resolves the {@link ObservableValue} of each element.
+     */
+    @NotNull
+    private final Function<TElement, ? extends ObservableValue<TValue>> path;
+
+    /**
+     * The {@link IHandler} which is notified about all changes.
+     */
+    @NotNull
+    private final IHandler<TValue> handler;
+
+    /**
+     * The {@link Entry}s of the elements, in the same order as the elements in the {@link #source}.
+     */
+    @NotNull
+    private final ArrayList<Entry> entries;
+
+    /**
+     * The {@link WeakListChangeListener} that is added to the {@link #source}.
+     */
+    @NotNull
+    private final WeakListChangeListener<TElement> sourceListener = new WeakListChangeListener<>(this);
+
+    // endregion
+
+    // region Constructor
+
+    /**
+     * Creates a new tracker which resolves the path of all elements currently contained in the given {@link ObservableList}. The {@link IHandler} will not be notified about the
+     * initial elements.
+     *
+     * @param source  the {@link ObservableList} whose elements are to be observed.
+     * @param path    the {@link Function} which resolves the {@link ObservableValue} of each element.
+     * @param handler the {@link IHandler} which is to be notified about all changes.
+     */
+    ElementPathTracker(@NotNull final ObservableList<TElement> source, @NotNull final Function<TElement, ? extends ObservableValue<TValue>> path, @NotNull final IHandler<TValue> handler) {
+        this.source = source;
+        this.path = path;
+        this.handler = handler;
+        this.entries = new ArrayList<>(source.size());
+        for (int i = 0; i < source.size(); ++i) {
+            entries.add(new Entry(source.get(i), i));
+        }
+        source.addListener(sourceListener);
+    }
+
+    // endregion
+
+    // region Package
+
+    /**
+     * Returns the amount of elements.
+     *
+     * @return the amount of elements.
+     */
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the current value of the path of the element at the given index.
+     *
+     * @param index the index of the element.
+     *
+     * @return the current value of the path of the element.
+     */
+    @Nullable
+    TValue getValue(final int index) {
+        return entries.get(index).value;
+    }
+
+    /**
+     * Returns the element at the given index.
+     *
+     * @param index the index of the element.
+     *
+     * @return the element at the given index.
+     */
+    @Nullable
+    TElement getElement(final int index) {
+        return entries.get(index).element;
+    }
+
+    /**
+     * Stops observing the {@link ObservableList} and releases the paths of all elements.
+     */
+    void dispose() {
+        source.removeListener(sourceListener);
+        entries.forEach(Entry::release);
+        entries.clear();
+    }
+
+    // endregion
+
+    // region Override ListChangeListener
+
+    @Override
+    public void onChanged(@NotNull final Change<? extends TElement> change) {
+        handler.beginChange();
+        try {
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    permutate(change);
+                } else if (change.wasUpdated()) {
+                    for (int i = change.getFrom(); i < change.getTo(); ++i) {
+                        refresh(i);
+                    }
+                } else {
+                    replace(change.getFrom(), change.getRemovedSize(), change.getTo());
+                }
+            }
+        } finally {
+            handler.endChange();
+        }
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Reorders the {@link Entry}s as described by the given permutation {@link Change}.
+     *
+     * @param change the permutation {@link Change}.
+     */
+    private void permutate(@NotNull final Change<? extends TElement> change) {
+        final int from = change.getFrom();
+        final int to = change.getTo();
+        final List<Entry> moved = new ArrayList<>(entries.subList(from, to));
+        final int[] permutation = new int[to - from];
+        for (int i = from; i < to; ++i) {
+            final int newIndex = change.getPermutation(i);
+            permutation[i - from] = newIndex;
+            final Entry entry = moved.get(i - from);
+            entry.index = newIndex;
+            entries.set(newIndex, entry);
+        }
+        handler.permutated(from, to, permutation);
+    }
+
+    /**
+     * Releases the {@link Entry}s of the removed elements and creates the {@link Entry}s of the added elements.
+     *
+     * @param from         the index of the first removed or added element.
+     * @param removedCount the amount of removed elements.
+     * @param to           the index after the last added element.
+     */
+    private void replace(final int from, final int removedCount, final int to) {
+        final List<Entry> removed = entries.subList(from, from + removedCount);
+        final List<TValue> removedValues = new ArrayList<>(removedCount);
+        for (final Entry entry : removed) {
+            removedValues.add(entry.value);
+            entry.release();
+        }
+        removed.clear();
+        final List<Entry> added = new ArrayList<>(to - from);
+        for (int i = from; i < to; ++i) {
+            added.add(new Entry(source.get(i), i));
+        }
+        entries.addAll(from, added);
+        if (removedCount != to - from) {
+            renumber(to);
+        }
+        handler.replaced(from, to, removedValues);
+    }
+
+    /**
+     * Resolves the path of the element at the given index again, since the element has been updated.
+     *
+     * @param index the index of the updated element.
+     */
+    private void refresh(final int index) {
+        final Entry previous = entries.get(index);
+        previous.release();
+        final Entry entry = new Entry(source.get(index), index);
+        entries.set(index, entry);
+        handler.updated(index, previous.value, entry.value);
+    }
+
+    /**
+     * Updates the index of all {@link Entry}s starting at the given index.
+     *
+     * @param from the index of the first {@link Entry} to update.
+     */
+    private void renumber(final int from) {
+        for (int i = from; i < entries.size(); ++i) {
+            entries.get(i).index = i;
+        }
+    }
+
+    // endregion
+
+    // region Classes
+
+    /**
+     * This interface is notified about the changes of the {@link ElementPathTracker}. All changes are reported between a call to {@link #beginChange()} and {@link #endChange()},
+     * the indices of consecutive changes are based on the state after the previous change, just like the sub changes of a {@link Change}.
+     *
+     * @param <TValue> the type of the value of the path.
+     */
+    interface IHandler<TValue> {
+
+        /**
+         * Called before any change is reported.
+         */
+        void beginChange();
+
+        /**
+         * Called after all changes have been reported.
+         */
+        void endChange();
+
+        /**
+         * Called when elements have been removed, added or replaced.
+         *
+         * @param from    the index of the first removed or added element.
+         * @param to      the index after the last added element, equal to from if no element has been added.
+         * @param removed the values of the paths of the removed elements, empty if no element has been removed.
+         */
+        void replaced(final int from, final int to, @NotNull final List<TValue> removed);
+
+        /**
+         * Called when elements have been reordered.
+         *
+         * @param from        the index of the first reordered element.
+         * @param to          the index after the last reordered element.
+         * @param permutation the new index of each reordered element, the element previously at index from + i is now at index permutation[i].
+         */
+        void permutated(final int from, final int to, @NotNull final int[] permutation);
+
+        /**
+         * Called when the value of the path of an element has changed or the element itself has been updated.
+         *
+         * @param index    the index of the element.
+         * @param oldValue the previous value of the path.
+         * @param newValue the current value of the path.
+         */
+        void updated(final int index, @Nullable final TValue oldValue, @Nullable final TValue newValue);
+    }
+
+    /**
+     * The entry of a single element, which caches the value of its path and listens to its changes.
+     */
+    private final class Entry implements ChangeListener<TValue> {
+
+        // region Fields
+
+        /**
+         * The element of this entry.
+         */
+        @Nullable
+        private final TElement element;
+
+        /**
+         * The {@link ObservableValue} resolved by the path, null if the element is null or the path did not resolve anything.
+         */
+        @Nullable
+        private final ObservableValue<TValue> observable;
+
+        /**
+         * The {@link WeakChangeListener} that is added to the {@link #observable}.
+         */
+        @Nullable
+        private final WeakChangeListener<TValue> listener;
+
+        /**
+         * The current value of the path.
+         */
+        @Nullable
+        private TValue value;
+
+        /**
+         * The current index of the element.
+         */
+        private int index;
+
+        // endregion
+
+        // region Constructor
+
+        private Entry(@Nullable final TElement element, final int index) {
+            this.element = element;
+            this.index = index;
+            this.observable = element != null ? path.apply(element) : null;
+            if (observable != null) {
+                listener = new WeakChangeListener<>(this);
+                observable.addListener(listener);
+                value = observable.getValue();
+            } else {
+                listener = null;
+            }
+        }
+
+        // endregion
+
+        // region Private
+
+        /**
+         * Stops listening to the {@link #observable} and disposes it if it is an {@link IFluentBinding}.
+         */
+        private void release() {
+            if (observable != null) {
+                observable.removeListener(listener);
+                if (observable instanceof IFluentBinding) {
+                    ((IFluentBinding) observable).dispose();
+                }
+            }
+        }
+
+        // endregion
+
+        // region Override ChangeListener
+
+        @Override
+        public void changed(@NotNull final ObservableValue<? extends TValue> observable, @Nullable final TValue oldValue, @Nullable final TValue newValue) {
+            final TValue previous = value;
+            value = newValue;
+            handler.beginChange();
+            try {
+                handler.updated(index, previous, newValue);
+            } finally {
+                handler.endChange();
+            }
+        }
+
+        // endregion
+    }
+
+    // endregion
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * This class is a read only {@link ObservableList} which contains the elements of another {@link ObservableList} whose value of a path matches a {@link Predicate}, in the order of
+ * the source list. Only the {@link Predicate} of elements that have been added or whose value of the path has changed is evaluated again, so the path can be nested without
+ * extractors on each intermediate property and a change of a single element does not re-evaluate the whole list.
+ * <p>
+ * The source list only weakly references this list, so it can be garbage collected once it is no longer used. Call {@link #dispose()} to stop observing the source list and release
+ * the paths of all elements immediately.
+ *
+ * @param <TElement> the type of the elements of the source list.
+ * @param <TValue>   the type of the value of the path.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public final class FilteredPathList<TElement, TValue> extends ObservableListBase<TElement> {
+
+    // region Fields
+
+    /**
+     * The {@link Predicate} which determines if an element is contained, based on the value of its path.
+     */
+    @NotNull
+    private final Predicate<? super TValue> predicate;
+
+    /**
+     * The {@link Node}s of the contained elements, ordered by their index in the source list.
+     */
+    @NotNull
+    private final ArrayList<Node<TElement>> nodes = new ArrayList<>();
+
+    /**
+     * The {@link ElementPathTracker} which observes the source list.
+     */
+    @NotNull
+    private final ElementPathTracker<TElement, TValue> tracker;
+
+    // endregion
+
+    // region Constructor
+
+    /**
+     * Creates a new list which contains the elements of the given {@link ObservableList} whose value of the given path matches the given {@link Predicate}.
+     *
+     * @param source    the {@link ObservableList} whose elements are to be filtered.
+     * @param path      the {@link Function} which resolves the {@link ObservableValue} of each element.
+     * @param predicate the {@link Predicate} which determines if an element is contained, it also receives null values.
+     */
+    FilteredPathList(@NotNull final ObservableList<TElement> source,
+                     @NotNull final Function<TElement, ? extends ObservableValue<TValue>> path,
+                     @NotNull final Predicate<? super TValue> predicate) {
+        this.predicate = predicate;
+        this.tracker = new ElementPathTracker<>(source, path, new Handler());
+        for (int i = 0; i < tracker.size(); ++i) {
+            if (predicate.test(tracker.getValue(i))) {
+                nodes.add(new Node<>(i, tracker.getElement(i)));
+            }
+        }
+    }
+
+    // endregion
+
+    // region Public
+
+    /**
+     * Stops observing the source list and releases the paths of all elements, this list will be empty afterwards and its listeners are notified about the removal.
+     */
+    public void dispose() {
+        final List<TElement> removed = new ArrayList<>(this);
+        tracker.dispose();
+        nodes.clear();
+        if (!removed.isEmpty()) {
+            beginChange();
+            nextRemove(0, removed);
+            endChange();
+        }
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Returns the position of the {@link Node} with the given index in the source list.
+     *
+     * @param sourceIndex the index in the source list.
+     *
+     * @return the position of the {@link Node} if it is contained, otherwise (-(insertion point) - 1).
+     */
+    private int find(final int sourceIndex) {
+        int low = 0;
+        int high = nodes.size() - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final int current = nodes.get(middle).sourceIndex;
+            if (current < sourceIndex) {
+                low = middle + 1;
+            } else if (current > sourceIndex) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Returns the position of the first {@link Node} whose index in the source list is equal to or larger than the given index.
+     *
+     * @param sourceIndex the index in the source list.
+     *
+     * @return the position of the first {@link Node} whose index is equal to or larger than the given index.
+     */
+    private int lowerBound(final int sourceIndex) {
+        final int position = find(sourceIndex);
+        return position >= 0 ? position : -position - 1;
+    }
+
+    // endregion
+
+    // region Override ObservableListBase
+
+    @Override
+    public TElement get(final int index) {
+        return nodes.get(index).element;
+    }
+
+    @Override
+    public int size() {
+        return nodes.size();
+    }
+
+    // endregion
+
+    // region Classes
+
+    /**
+     * A contained element and its index in the source list.
+     *
+     * @param <TElement> the type of the element.
+     */
+    private static final class Node<TElement> {
+
+        /**
+         * The index of the element in the source list.
+         */
+        private int sourceIndex;
+
+        /**
+         * The element.
+         */
+        @Nullable
+        private TElement element;
+
+        private Node(final int sourceIndex, @Nullable final TElement element) {
+            this.sourceIndex = sourceIndex;
+            this.element = element;
+        }
+    }
+
+    /**
+     * Translates the changes of the {@link ElementPathTracker} into changes of this list.
+     */
+    private final class Handler implements ElementPathTracker.IHandler<TValue> {
+
+        @Override
+        public void beginChange() {
+            FilteredPathList.this.beginChange();
+        }
+
+        @Override
+        public void endChange() {
+            FilteredPathList.this.endChange();
+        }
+
+        @Override
+        public void replaced(final int from, final int to, @NotNull final List<TValue> removed) {
+            final int position = lowerBound(from);
+            final List<Node<TElement>> removedNodes = nodes.subList(position, lowerBound(from + removed.size()));
+            if (!removedNodes.isEmpty()) {
+                final List<TElement> removedElements = new ArrayList<>(removedNodes.size());
+                removedNodes.forEach(node -> removedElements.add(node.element));
+                removedNodes.clear();
+                nextRemove(position, removedElements);
+            }
+
+            final int shift = to - from - removed.size();
+            if (shift != 0) {
+                for (int i = position; i < nodes.size(); ++i) {
+                    nodes.get(i).sourceIndex += shift;
+                }
+            }
+
+            final List<Node<TElement>> addedNodes = new ArrayList<>();
+            for (int i = from; i < to; ++i) {
+                if (predicate.test(tracker.getValue(i))) {
+                    addedNodes.add(new Node<>(i, tracker.getElement(i)));
+                }
+            }
+            if (!addedNodes.isEmpty()) {
+                nodes.addAll(position, addedNodes);
+                nextAdd(position, position + addedNodes.size());
+            }
+        }
+
+        @Override
+        public void permutated(final int from, final int to, @NotNull final int[] permutation) {
+            final int position = lowerBound(from);
+            final List<Node<TElement>> moved = nodes.subList(position, lowerBound(to));
+            if (moved.isEmpty()) {
+                return;
+            }
+            final int[] newSourceIndices = new int[moved.size()];
+            for (int i = 0; i < moved.size(); ++i) {
+                final Node<TElement> node = moved.get(i);
+                node.sourceIndex = permutation[node.sourceIndex - from];
+                newSourceIndices[i] = node.sourceIndex;
+            }
+            final int[] sorted = newSourceIndices.clone();
+            Arrays.sort(sorted);
+            final int[] positions = new int[moved.size()];
+            final List<Node<TElement>> reordered = new ArrayList<>(moved);
+            for (int i = 0; i < moved.size(); ++i) {
+                final int newPosition = Arrays.binarySearch(sorted, newSourceIndices[i]);
+                positions[i] = position + newPosition;
+                reordered.set(newPosition, moved.get(i));
+            }
+            for (int i = 0; i < reordered.size(); ++i) {
+                moved.set(i, reordered.get(i));
+            }
+            nextPermutation(position, position + moved.size(), positions);
+        }
+
+        @Override
+        public void updated(final int index, @Nullable final TValue oldValue, @Nullable final TValue newValue) {
+            final int position = find(index);
+            final boolean contained = predicate.test(newValue);
+            if (position >= 0) {
+                final Node<TElement> node = nodes.get(position);
+                if (!contained) {
+                    nodes.remove(position);
+                    nextRemove(position, node.element);
+                } else if (node.element != tracker.getElement(index)) {
+                    final TElement previous = node.element;
+                    node.element = tracker.getElement(index);
+                    nextSet(position, previous);
+                } else {
+                    nextUpdate(position);
+                }
+            } else if (contained) {
+                final int insertion = -position - 1;
+                nodes.add(insertion, new Node<>(index, tracker.getElement(index)));
+                nextAdd(insertion, insertion + 1);
+            }
+        }
+    }
+
+    // endregion
+}
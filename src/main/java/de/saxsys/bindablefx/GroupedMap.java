@@ -0,0 +1,566 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.MapChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import javafx.collections.ObservableMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * This class is a read only {@link ObservableMap} which groups the elements of an {@link ObservableList} by the value of a path, each key is mapped to a read only
+ * {@link ObservableList} containing the elements with this key in the order of the source list. The groups are maintained incrementally, if the key of an element changes, it is only
+ * moved from its previous group into its new group, found by a binary search on its index in the source list. A key is added once the first element has it and removed once the last
+ * element no longer has it. Elements whose path does not resolve a value are grouped under the null key.
+ * <p>
+ * All changes caused by a single change of the source list or of a key are collected, so each affected group fires a single change and the map is notified about added and removed
+ * keys afterwards, when all groups are up to date.
+ * <p>
+ * The source list only weakly references this map, so it can be garbage collected once it is no longer used. Call {@link #dispose()} to stop observing the source list and release
+ * the paths of all elements immediately.
+ *
+ * @param <TKey>     the type of the keys, which is the type of the value of the path.
+ * @param <TElement> the type of the elements of the source list.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public final class GroupedMap<TKey, TElement> extends AbstractMap<TKey, ObservableList<TElement>> implements ObservableMap<TKey, ObservableList<TElement>> {
+
+    // region Fields
+
+    /**
+     * The {@link Group}s by their key.
+     */
+    @NotNull
+    private final Map<TKey, Group> groups = new HashMap<>();
+
+    /**
+     * A read only view of the {@link #groups}.
+     */
+    @NotNull
+    private final Map<TKey, ObservableList<TElement>> view = Collections.unmodifiableMap(groups);
+
+    /**
+     * The {@link Node}s in the order of the source list.
+     */
+    @NotNull
+    private final ArrayList<Node<TKey, TElement>> nodes;
+
+    /**
+     * The {@link Group}s that have been changed by the current change.
+     */
+    @NotNull
+    private final List<Group> changedGroups = new ArrayList<>();
+
+    /**
+     * The list of {@link MapChangeListener}s added to this map.
+     */
+    @NotNull
+    private final List<MapChangeListener<? super TKey, ? super ObservableList<TElement>>> changeListeners = new ArrayList<>();
+
+    /**
+     * The list of {@link InvalidationListener}s added to this map.
+     */
+    @NotNull
+    private final List<InvalidationListener> invalidationListeners = new ArrayList<>();
+
+    /**
+     * The {@link ElementPathTracker} which observes the source list.
+     */
+    @NotNull
+    private final ElementPathTracker<TElement, TKey> tracker;
+
+    // endregion
+
+    // region Constructor
+
+    /**
+     * Creates a new map which groups the elements of the given {@link ObservableList} by the value of the given path.
+     *
+     * @param source the {@link ObservableList} whose elements are to be grouped.
+     * @param path   the {@link Function} which resolves the {@link ObservableValue} of the key of each element.
+     */
+    GroupedMap(@NotNull final ObservableList<TElement> source, @NotNull final Function<TElement, ? extends ObservableValue<TKey>> path) {
+        this.tracker = new ElementPathTracker<>(source, path, new Handler());
+        this.nodes = new ArrayList<>(tracker.size());
+        for (int i = 0; i < tracker.size(); ++i) {
+            final Node<TKey, TElement> node = new Node<>(i, tracker.getElement(i), tracker.getValue(i));
+            nodes.add(node);
+            groups.computeIfAbsent(node.key, Group::new).nodes.add(node);
+        }
+    }
+
+    // endregion
+
+    // region Public
+
+    /**
+     * Stops observing the source list and releases the paths of all elements, this map will be empty afterwards and its listeners are notified about the removed keys. The
+     * {@link ObservableList}s of the groups keep their current elements.
+     */
+    public void dispose() {
+        tracker.dispose();
+        nodes.clear();
+        final List<Group> removed = new ArrayList<>(groups.values());
+        groups.clear();
+        removed.forEach(group -> fireChange(new Change(group.key, group, null)));
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Adds the given {@link Node} to the {@link Group} of its key, the {@link Group} is created if needed.
+     *
+     * @param node the {@link Node} to add.
+     */
+    private void addToGroup(@NotNull final Node<TKey, TElement> node) {
+        Group group = groups.get(node.key);
+        if (group == null) {
+            group = new Group(node.key);
+            groups.put(node.key, group);
+            startChange(group, false);
+        } else {
+            startChange(group, true);
+        }
+        group.add(node);
+    }
+
+    /**
+     * Removes the given {@link Node} from the {@link Group} of its key.
+     *
+     * @param node the {@link Node} to remove.
+     */
+    private void removeFromGroup(@NotNull final Node<TKey, TElement> node) {
+        final Group group = groups.get(node.key);
+        startChange(group, true);
+        group.remove(node);
+    }
+
+    /**
+     * Starts a change of the given {@link Group} if it has not been changed by the current change yet.
+     *
+     * @param group     the {@link Group} which is changed.
+     * @param contained true if the key of the {@link Group} was already contained in this map, false if the {@link Group} has just been created.
+     */
+    private void startChange(@NotNull final Group group, final boolean contained) {
+        if (!group.changing) {
+            group.changing = true;
+            group.contained = contained;
+            changedGroups.add(group);
+            group.startChange();
+        }
+    }
+
+    /**
+     * Finishes the changes of all changed {@link Group}s, removes the empty {@link Group}s and notifies the listeners about the added and removed keys.
+     */
+    private void finishChanges() {
+        if (changedGroups.isEmpty()) {
+            return;
+        }
+        final List<Change> changes = new ArrayList<>();
+        final List<Group> changed = new ArrayList<>(changedGroups);
+        for (final Group group : changed) {
+            if (group.isEmpty()) {
+                groups.remove(group.key);
+                if (group.contained) {
+                    changes.add(new Change(group.key, group, null));
+                }
+            } else if (!group.contained) {
+                changes.add(new Change(group.key, null, group));
+            }
+        }
+        changedGroups.clear();
+        changed.forEach(Group::finishChange);
+        changes.forEach(this::fireChange);
+    }
+
+    /**
+     * Notifies all listeners about the given {@link Change}.
+     *
+     * @param change the {@link Change} to fire.
+     */
+    private void fireChange(@NotNull final Change change) {
+        new ArrayList<>(invalidationListeners).forEach(listener -> listener.invalidated(this));
+        new ArrayList<>(changeListeners).forEach(listener -> listener.onChanged(change));
+    }
+
+    // endregion
+
+    // region Override AbstractMap
+
+    @Override
+    @NotNull
+    public Set<Entry<TKey, ObservableList<TElement>>> entrySet() {
+        return view.entrySet();
+    }
+
+    @Override
+    public ObservableList<TElement> get(@Nullable final Object key) {
+        return groups.get(key);
+    }
+
+    @Override
+    public boolean containsKey(@Nullable final Object key) {
+        return groups.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return groups.size();
+    }
+
+    // endregion
+
+    // region Override ObservableMap
+
+    @Override
+    public void addListener(@NotNull final MapChangeListener<? super TKey, ? super ObservableList<TElement>> listener) {
+        changeListeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(@NotNull final MapChangeListener<? super TKey, ? super ObservableList<TElement>> listener) {
+        changeListeners.remove(listener);
+    }
+
+    @Override
+    public void addListener(@NotNull final InvalidationListener listener) {
+        invalidationListeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(@NotNull final InvalidationListener listener) {
+        invalidationListeners.remove(listener);
+    }
+
+    // endregion
+
+    // region Classes
+
+    /**
+     * An element, its key and its index in the source list.
+     *
+     * @param <TKey>     the type of the key.
+     * @param <TElement> the type of the element.
+     */
+    private static final class Node<TKey, TElement> {
+
+        /**
+         * The index of the element in the source list.
+         */
+        private int sourceIndex;
+
+        /**
+         * The element.
+         */
+        @Nullable
+        private TElement element;
+
+        /**
+         * The key of the element.
+         */
+        @Nullable
+        private TKey key;
+
+        private Node(final int sourceIndex, @Nullable final TElement element, @Nullable final TKey key) {
+            this.sourceIndex = sourceIndex;
+            this.element = element;
+            this.key = key;
+        }
+    }
+
+    /**
+     * The read only {@link ObservableList} of the elements with the same key, ordered by their index in the source list.
+     */
+    private final class Group extends ObservableListBase<TElement> {
+
+        /**
+         * The key of this group.
+         */
+        @Nullable
+        private final TKey key;
+
+        /**
+         * The {@link Node}s of this group.
+         */
+        @NotNull
+        private final ArrayList<Node<TKey, TElement>> nodes = new ArrayList<>();
+
+        /**
+         * Determines if a change of this group has been started.
+         */
+        private boolean changing;
+
+        /**
+         * Determines if the key of this group was contained in the map when the current change was started.
+         */
+        private boolean contained;
+
+        private Group(@Nullable final TKey key) {
+            this.key = key;
+        }
+
+        /**
+         * Starts a change of this group.
+         */
+        private void startChange() {
+            beginChange();
+        }
+
+        /**
+         * Finishes the started change of this group, which notifies its listeners.
+         */
+        private void finishChange() {
+            changing = false;
+            endChange();
+        }
+
+        /**
+         * Inserts the given {@link Node} at the position of its index in the source list.
+         *
+         * @param node the {@link Node} to insert.
+         */
+        private void add(@NotNull final Node<TKey, TElement> node) {
+            final int position = -find(node.sourceIndex) - 1;
+            nodes.add(position, node);
+            nextAdd(position, position + 1);
+        }
+
+        /**
+         * Removes the given {@link Node}.
+         *
+         * @param node the {@link Node} to remove.
+         */
+        private void remove(@NotNull final Node<TKey, TElement> node) {
+            final int position = find(node.sourceIndex);
+            nodes.remove(position);
+            nextRemove(position, node.element);
+        }
+
+        /**
+         * Notifies the listeners that the element of the given {@link Node} has been replaced or updated.
+         *
+         * @param node            the {@link Node} whose element has changed.
+         * @param previousElement the previous element of the {@link Node}.
+         */
+        private void update(@NotNull final Node<TKey, TElement> node, @Nullable final TElement previousElement) {
+            final int position = find(node.sourceIndex);
+            if (previousElement != node.element) {
+                nextSet(position, previousElement);
+            } else {
+                nextUpdate(position);
+            }
+        }
+
+        /**
+         * Orders the {@link Node}s by their index in the source list again, after the source list has been reordered.
+         */
+        private void sort() {
+            final Map<Node<TKey, TElement>, Integer> previousPositions = new IdentityHashMap<>(nodes.size());
+            for (int i = 0; i < nodes.size(); ++i) {
+                previousPositions.put(nodes.get(i), i);
+            }
+            nodes.sort(Comparator.comparingInt(node -> node.sourceIndex));
+            final int[] positions = new int[nodes.size()];
+            boolean changed = false;
+            for (int i = 0; i < nodes.size(); ++i) {
+                final int previous = previousPositions.get(nodes.get(i));
+                positions[previous] = i;
+                changed |= previous != i;
+            }
+            if (changed) {
+                nextPermutation(0, nodes.size(), positions);
+            }
+        }
+
+        /**
+         * Returns the position of the {@link Node} with the given index in the source list.
+         *
+         * @param sourceIndex the index in the source list.
+         *
+         * @return the position of the {@link Node} if it is contained, otherwise (-(insertion point) - 1).
+         */
+        private int find(final int sourceIndex) {
+            int low = 0;
+            int high = nodes.size() - 1;
+            while (low <= high) {
+                final int middle = (low + high) >>> 1;
+                final int current = nodes.get(middle).sourceIndex;
+                if (current < sourceIndex) {
+                    low = middle + 1;
+                } else if (current > sourceIndex) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+            return -(low + 1);
+        }
+
+        @Override
+        public TElement get(final int index) {
+            return nodes.get(index).element;
+        }
+
+        @Override
+        public int size() {
+            return nodes.size();
+        }
+    }
+
+    /**
+     * The {@link MapChangeListener.Change} of a single key.
+     */
+    private final class Change extends MapChangeListener.Change<TKey, ObservableList<TElement>> {
+
+        /**
+         * The key that has been changed.
+         */
+        @Nullable
+        private final TKey key;
+
+        /**
+         * The {@link Group} that has been removed, if any.
+         */
+        @Nullable
+        private final Group removed;
+
+        /**
+         * The {@link Group} that has been added, if any.
+         */
+        @Nullable
+        private final Group added;
+
+        private Change(@Nullable final TKey key, @Nullable final Group removed, @Nullable final Group added) {
+            super(GroupedMap.this);
+            this.key = key;
+            this.removed = removed;
+            this.added = added;
+        }
+
+        @Override
+        public boolean wasAdded() {
+            return added != null;
+        }
+
+        @Override
+        public boolean wasRemoved() {
+            return removed != null;
+        }
+
+        @Override
+        public TKey getKey() {
+            return key;
+        }
+
+        @Override
+        public ObservableList<TElement> getValueAdded() {
+            return added;
+        }
+
+        @Override
+        public ObservableList<TElement> getValueRemoved() {
+            return removed;
+        }
+    }
+
+    /**
+     * Translates the changes of the {@link ElementPathTracker} into changes of the {@link Group}s.
+     */
+    private final class Handler implements ElementPathTracker.IHandler<TKey> {
+
+        @Override
+        public void beginChange() {}
+
+        @Override
+        public void endChange() {
+            finishChanges();
+        }
+
+        @Override
+        public void replaced(final int from, final int to, @NotNull final List<TKey> removed) {
+            final List<Node<TKey, TElement>> removedNodes = nodes.subList(from, from + removed.size());
+            removedNodes.forEach(GroupedMap.this::removeFromGroup);
+            removedNodes.clear();
+
+            // shifting the following indices keeps their relative order, so each group stays ordered
+            final int shift = to - from - removed.size();
+            if (shift != 0) {
+                for (int i = from; i < nodes.size(); ++i) {
+                    nodes.get(i).sourceIndex += shift;
+                }
+            }
+
+            for (int i = from; i < to; ++i) {
+                final Node<TKey, TElement> node = new Node<>(i, tracker.getElement(i), tracker.getValue(i));
+                nodes.add(i, node);
+                addToGroup(node);
+            }
+        }
+
+        @Override
+        public void permutated(final int from, final int to, @NotNull final int[] permutation) {
+            final List<Node<TKey, TElement>> moved = new ArrayList<>(nodes.subList(from, to));
+            final Set<Group> reordered = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (int i = 0; i < moved.size(); ++i) {
+                final Node<TKey, TElement> node = moved.get(i);
+                node.sourceIndex = permutation[i];
+                nodes.set(node.sourceIndex, node);
+                reordered.add(groups.get(node.key));
+            }
+            for (final Group group : reordered) {
+                startChange(group, true);
+                group.sort();
+            }
+        }
+
+        @Override
+        public void updated(final int index, @Nullable final TKey oldValue, @Nullable final TKey newValue) {
+            final Node<TKey, TElement> node = nodes.get(index);
+            if (Objects.equals(node.key, newValue)) {
+                final TElement previousElement = node.element;
+                node.element = tracker.getElement(index);
+                final Group group = groups.get(node.key);
+                startChange(group, true);
+                group.update(node, previousElement);
+            } else {
+                removeFromGroup(node);
+                node.key = newValue;
+                node.element = tracker.getElement(index);
+                addToGroup(node);
+            }
+        }
+    }
+
+    // endregion
+}
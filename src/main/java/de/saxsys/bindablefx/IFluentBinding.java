@@ -19,6 +19,7 @@ import javafx.beans.binding.Binding;
 import javafx.beans.property.Property;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
+import javafx.collections.ObservableMap;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -118,6 +119,39 @@ public interface IFluentBinding<TValue> extends Binding<TValue>, WeakListener {
      */
     boolean hasReplacement();
 
+    /**
+     * Lets this binding return its previous value without invoking its converter, combiner, computation or replacement again, if the values it is computed from are the same
+     * instances as during its last computation, e.g. if a value has been changed and changed back within {@link Bindings#batch(Runnable)}. Values are compared by identity, so
+     * memoization must not be used if a value can be mutated in place, e.g. an {@link javafx.collections.ObservableList} whose content changes. Memoization is disabled by default.
+     *
+     * @return this {@link IFluentBinding}.
+     *
+     * @see #stopMemoization()
+     * @see #isMemoizing()
+     * @see Memoization
+     */
+    @NotNull IFluentBinding<TValue> memoize();
+
+    /**
+     * Stops the memoization, so this binding is computed again whenever it has been invalidated.
+     *
+     * @return this {@link IFluentBinding}.
+     *
+     * @see #memoize()
+     * @see #isMemoizing()
+     */
+    @NotNull IFluentBinding<TValue> stopMemoization();
+
+    /**
+     * Determines if this binding is memoizing.
+     *
+     * @return true if the binding is memoizing, otherwise false.
+     *
+     * @see #memoize()
+     * @see #stopMemoization()
+     */
+    boolean isMemoizing();
+
     /**
      * Removes all the {@link ChangeListener} and {@link InvalidationListener} that have been attached to this binding.
      *
@@ -187,4 +221,51 @@ public interface IFluentBinding<TValue> extends Binding<TValue>, WeakListener {
     default <TRelayedValue, TRelayedProperty extends Property<TRelayedValue>> IPropertyBinding<TRelayedValue> thenObserveProperty(@NotNull final Function<TValue, TRelayedProperty> relayResolver) {
         return new PropertyBinding<>(this, relayResolver);
     }
+
+    /**
+     * Creates a new {@link IFluentBinding} that listens to changes of this {@link IFluentBinding} and then relays to the value of the given key of an {@link ObservableMap}. The
+     * binding is only invalidated if the entry of the given key changes, changes of other keys of the {@link ObservableMap} are not delivered to it. If the {@link ObservableMap}
+     * is null, the value is null as well.
+     *
+     * @param mapResolver     the {@link Function} that is used to determine the {@link ObservableMap} that contains the value.
+     * @param key             the key of the value that is to be watched.
+     * @param <TKey>          the type of the keys of the {@link ObservableMap}.
+     * @param <TRelayedValue> the type of the values of the {@link ObservableMap}.
+     *
+     * @return a new {@link IFluentBinding}.
+     *
+     * @see MapEntryProperty
+     */
+    @NotNull
+    default <TKey, TRelayedValue> IFluentBinding<TRelayedValue> thenObserveKey(@NotNull final Function<TValue, ObservableMap<TKey, TRelayedValue>> mapResolver,
+                                                                              @Nullable final TKey key) {
+        return thenObserve(value -> {
+            final ObservableMap<TKey, TRelayedValue> map = mapResolver.apply(value);
+            return map != null ? MapEntryProperty.of(map, key) : null;
+        });
+    }
+
+    /**
+     * Creates a new {@link IPropertyBinding} that listens to changes of this {@link IFluentBinding} and then relays to the value of the given key of an {@link ObservableMap}, which
+     * can also be written, e.g. by binding it bidirectional. Setting a value puts it into the {@link ObservableMap}, setting null removes the key. The binding is only invalidated if
+     * the entry of the given key changes, changes of other keys of the {@link ObservableMap} are not delivered to it. If the {@link ObservableMap} is null, it is handled like a
+     * null value of this {@link IFluentBinding}.
+     *
+     * @param mapResolver     the {@link Function} that is used to determine the {@link ObservableMap} that contains the value.
+     * @param key             the key of the value that is to be watched.
+     * @param <TKey>          the type of the keys of the {@link ObservableMap}.
+     * @param <TRelayedValue> the type of the values of the {@link ObservableMap}.
+     *
+     * @return a new {@link IPropertyBinding}.
+     *
+     * @see MapEntryProperty
+     */
+    @NotNull
+    default <TKey, TRelayedValue> IPropertyBinding<TRelayedValue> thenObserveKeyProperty(@NotNull final Function<TValue, ObservableMap<TKey, TRelayedValue>> mapResolver,
+                                                                                        @Nullable final TKey key) {
+        return thenObserveProperty(value -> {
+            final ObservableMap<TKey, TRelayedValue> map = mapResolver.apply(value);
+            return map != null ? MapEntryProperty.of(map, key) : null;
+        });
+    }
 }
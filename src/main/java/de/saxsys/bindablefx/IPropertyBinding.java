@@ -53,6 +53,19 @@ public interface IPropertyBinding<TValue> extends Property<TValue>, IFluentBindi
      */
     <TOtherValue> void bindBidirectional(@NotNull final Property<TOtherValue> other, final @NotNull IConverter<TValue, TOtherValue> converter);
 
+    /**
+     * Binds the given {@link Property} buffered bidirectional against this {@link IPropertyBinding} using the given {@link IConverter} to convert back and forth. The other
+     * {@link Property} receives the converted value of this {@link IPropertyBinding}, but its changes are only written back when the returned binding is committed.
+     *
+     * @param other         the other {@link Property} to bind to.
+     * @param converter     the {@link IConverter} to use when converting back and forth.
+     * @param <TOtherValue> the type of the value of the other {@link Property}.
+     *
+     * @return the {@link BufferedBidirectionalBinding} which allows to commit or rollback the changes of the other {@link Property}.
+     */
+    <TOtherValue> BufferedBidirectionalBinding<TValue, TOtherValue> bindBidirectionalBuffered(@NotNull final Property<TOtherValue> other,
+                                                                                          final @NotNull IConverter<TValue, TOtherValue> converter);
+
     /**
      * Unbinds the given {@link Property} bidirectional from this {@link IPropertyBinding}.
      *
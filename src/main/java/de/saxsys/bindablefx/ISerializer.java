@@ -0,0 +1,68 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * This interface is used to convert a value into bytes and back, e.g. to store it in a {@link ConverterCache}. Serializing equal values must result in equal bytes.
+ *
+ * @param <TValue> the type of the value.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public interface ISerializer<TValue> {
+
+    /**
+     * Returns a serializer which stores {@link String}s as UTF-8.
+     *
+     * @return a new {@link ISerializer}.
+     */
+    @NotNull
+    static ISerializer<String> utf8() {
+        return new ISerializer<String>() {
+            @NotNull
+            @Override
+            public byte[] serialize(@NotNull final String value) {
+                return value.getBytes(StandardCharsets.UTF_8);
+            }
+
+            @NotNull
+            @Override
+            public String deserialize(@NotNull final byte[] data) {
+                return new String(data, StandardCharsets.UTF_8);
+            }
+        };
+    }
+
+    /**
+     * Converts the given value into bytes.
+     *
+     * @param value the value to convert.
+     *
+     * @return the bytes representing the value.
+     */
+    @NotNull byte[] serialize(@NotNull final TValue value);
+
+    /**
+     * Converts the given bytes back into a value.
+     *
+     * @param data the bytes representing the value.
+     *
+     * @return the value.
+     */
+    @NotNull TValue deserialize(@NotNull final byte[] data);
+}
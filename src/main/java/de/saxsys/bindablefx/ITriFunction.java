@@ -0,0 +1,41 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * This interface is used to combine three values into a single value, just like {@link java.util.function.BiFunction} combines two values.
+ *
+ * @param <TFirst>  the type of the first value.
+ * @param <TSecond> the type of the second value.
+ * @param <TThird>  the type of the third value.
+ * @param <TResult> the type of the combined value.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+@FunctionalInterface
+public interface ITriFunction<TFirst, TSecond, TThird, TResult> {
+
+    /**
+     * Combines the given values.
+     *
+     * @param first  the first value.
+     * @param second the second value.
+     * @param third  the third value.
+     *
+     * @return the combined value.
+     */
+    @Nullable TResult apply(@Nullable final TFirst first, @Nullable final TSecond second, @Nullable final TThird third);
+}
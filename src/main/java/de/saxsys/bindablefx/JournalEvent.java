@@ -0,0 +1,82 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+/**
+ * The events that are recorded by a {@link ChangeJournal}.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public enum JournalEvent {
+
+    /**
+     * An {@link javafx.beans.value.ObservableValue} is tracked under a name, the payload contains the name encoded as UTF-8.
+     */
+    TRACK(true),
+
+    /**
+     * The value of a tracked {@link javafx.beans.value.ObservableValue} has changed, the payload contains the serialized value or is null if the value is null.
+     */
+    SOURCE_CHANGE(true),
+
+    /**
+     * A {@link RelayBinding} has switched to the {@link javafx.beans.value.ObservableValue} of a new parent value.
+     */
+    RELAY_SWITCH(false),
+
+    /**
+     * A binding has computed its value because it was invalid when it was read.
+     */
+    RECOMPUTE(false),
+
+    /**
+     * The value of a {@link PropertyBinding} has been set.
+     */
+    SET_VALUE(false),
+
+    /**
+     * A bidirectional binding or {@link SyncGroup} has transferred a value.
+     */
+    TRANSFER(false);
+
+    // region Fields
+
+    /**
+     * Determines if records of this event have a payload.
+     */
+    private final boolean payload;
+
+    // endregion
+
+    // region Constructor
+
+    JournalEvent(final boolean payload) {
+        this.payload = payload;
+    }
+
+    // endregion
+
+    // region Public
+
+    /**
+     * Determines if records of this event have a payload.
+     *
+     * @return true if records of this event have a payload, otherwise false.
+     */
+    public boolean hasPayload() {
+        return payload;
+    }
+
+    // endregion
+}
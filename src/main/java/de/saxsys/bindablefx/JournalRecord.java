@@ -0,0 +1,112 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A single event recorded by a {@link ChangeJournal}.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public final class JournalRecord {
+
+    // region Fields
+
+    /**
+     * The time of the event in nanoseconds, as returned by {@link System#nanoTime()}.
+     */
+    private final long timestamp;
+
+    /**
+     * The {@link JournalEvent}.
+     */
+    @NotNull
+    private final JournalEvent event;
+
+    /**
+     * The id the {@link ChangeJournal} assigned to the object that caused the event.
+     */
+    private final int sourceId;
+
+    /**
+     * The payload of the event, if any.
+     */
+    @Nullable
+    private final byte[] payload;
+
+    // endregion
+
+    // region Constructor
+
+    /**
+     * Creates a new record.
+     *
+     * @param timestamp the time of the event in nanoseconds.
+     * @param event     the {@link JournalEvent}.
+     * @param sourceId  the id of the object that caused the event.
+     * @param payload   the payload of the event, if any.
+     */
+    JournalRecord(final long timestamp, @NotNull final JournalEvent event, final int sourceId, @Nullable final byte[] payload) {
+        this.timestamp = timestamp;
+        this.event = event;
+        this.sourceId = sourceId;
+        this.payload = payload;
+    }
+
+    // endregion
+
+    // region Getter
+
+    /**
+     * Returns the time of the event in nanoseconds, as returned by {@link System#nanoTime()}.
+     *
+     * @return the time of the event.
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Returns the {@link JournalEvent}.
+     *
+     * @return the {@link JournalEvent}.
+     */
+    @NotNull
+    public JournalEvent getEvent() {
+        return event;
+    }
+
+    /**
+     * Returns the id the {@link ChangeJournal} assigned to the object that caused the event. The same object always has the same id within a single journal.
+     *
+     * @return the id of the source.
+     */
+    public int getSourceId() {
+        return sourceId;
+    }
+
+    /**
+     * Returns the payload of the event, which must not be modified.
+     *
+     * @return the payload or null if there is none.
+     */
+    @Nullable
+    public byte[] getPayload() {
+        return payload;
+    }
+
+    // endregion
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import javafx.beans.property.Property;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class re-drives a session recorded by a {@link ChangeJournal} against a fresh binding graph. Each {@link Property} of the graph is registered under the name its counterpart
+ * has been tracked with, see {@link ChangeJournal#track(String, javafx.beans.value.ObservableValue, ISerializer)}, and the recorded values are set on it in the order they have been
+ * recorded. Values of names that are not registered are skipped, all other events are only informational and are skipped as well.
+ * <p>
+ * By default, the values are set as fast as possible, so the duration returned by {@link #replay(List)} can be used to compare the performance of binding graphs under real traffic.
+ * If {@link #setPreserveTiming(boolean)} is enabled, the replay waits between the values as long as the recorded session did. The replay needs to run on the thread that owns the
+ * binding graph.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public final class JournalReplayer {
+
+    // region Fields
+
+    /**
+     * The {@link Property}s that receive the recorded values, by name.
+     */
+    @NotNull
+    private final Map<String, Target<?>> targets = new HashMap<>();
+
+    /**
+     * Determines if the replay waits between the values as long as the recorded session did.
+     */
+    private boolean preserveTiming;
+
+    /**
+     * The amount of values that have been set by the last replay.
+     */
+    private long appliedChangeCount;
+
+    // endregion
+
+    // region Getter/Setter
+
+    /**
+     * Determines if the replay waits between the values as long as the recorded session did.
+     *
+     * @return true if the timing is preserved, otherwise false.
+     */
+    public boolean isPreserveTiming() {
+        return preserveTiming;
+    }
+
+    /**
+     * Sets if the replay waits between the values as long as the recorded session did.
+     *
+     * @param preserveTiming true if the timing is to be preserved, otherwise false.
+     */
+    public void setPreserveTiming(final boolean preserveTiming) {
+        this.preserveTiming = preserveTiming;
+    }
+
+    /**
+     * Returns the amount of values that have been set by the last replay.
+     *
+     * @return the amount of set values.
+     */
+    public long getAppliedChangeCount() {
+        return appliedChangeCount;
+    }
+
+    // endregion
+
+    // region Public
+
+    /**
+     * Registers the given {@link Property} under the given name, a {@link Property} previously registered under the name is replaced.
+     *
+     * @param name       the name under which the recorded values have been tracked.
+     * @param property   the {@link Property} that receives the recorded values.
+     * @param serializer the {@link ISerializer} of the value.
+     * @param <TValue>   the type of the value.
+     */
+    @SuppressWarnings ("ConstantConditions")
+    public <TValue> void track(@NotNull final String name, @NotNull final Property<TValue> property, @NotNull final ISerializer<TValue> serializer) {
+        if (name == null) {
+            throw new NullPointerException("Name cannot be null");
+        }
+        if (property == null) {
+            throw new NullPointerException("Property cannot be null");
+        }
+        if (serializer == null) {
+            throw new NullPointerException("ISerializer cannot be null");
+        }
+        targets.put(name, new Target<>(property, serializer));
+    }
+
+    /**
+     * Sets the recorded values on the registered {@link Property}s in the order they have been recorded.
+     *
+     * @param records the records of a {@link ChangeJournal}.
+     *
+     * @return the duration of the replay in nanoseconds.
+     *
+     * @throws InterruptedException if the thread is interrupted while waiting between the values.
+     */
+    @SuppressWarnings ("ConstantConditions")
+    public long replay(@NotNull final List<JournalRecord> records) throws InterruptedException {
+        if (records == null) {
+            throw new NullPointerException("Records cannot be null");
+        }
+
+        final Map<Integer, Target<?>> targetsById = new HashMap<>();
+        for (final JournalRecord record : records) {
+            if (record.getEvent() == JournalEvent.TRACK && record.getPayload() != null) {
+                final Target<?> target = targets.get(new String(record.getPayload(), StandardCharsets.UTF_8));
+                if (target != null) {
+                    targetsById.put(record.getSourceId(), target);
+                }
+            }
+        }
+
+        appliedChangeCount = 0;
+        long firstTimestamp = 0L;
+        final long start = System.nanoTime();
+        for (final JournalRecord record : records) {
+            if (record.getEvent() != JournalEvent.SOURCE_CHANGE) {
+                continue;
+            }
+            final Target<?> target = targetsById.get(record.getSourceId());
+            if (target == null) {
+                continue;
+            }
+            if (appliedChangeCount == 0) {
+                firstTimestamp = record.getTimestamp();
+            } else if (preserveTiming) {
+                // sleeping may end slightly early, so wait until the recorded time has actually passed
+                long remaining;
+                while ((remaining = record.getTimestamp() - firstTimestamp - (System.nanoTime() - start)) > 0) {
+                    TimeUnit.NANOSECONDS.sleep(remaining);
+                }
+            }
+            target.apply(record.getPayload());
+            appliedChangeCount++;
+        }
+        return System.nanoTime() - start;
+    }
+
+    // endregion
+
+    // region Classes
+
+    /**
+     * A {@link Property} that receives recorded values.
+     *
+     * @param <TValue> the type of the value.
+     */
+    private static final class Target<TValue> {
+
+        /**
+         * The {@link Property}.
+         */
+        @NotNull
+        private final Property<TValue> property;
+
+        /**
+         * The {@link ISerializer} of the value.
+         */
+        @NotNull
+        private final ISerializer<TValue> serializer;
+
+        private Target(@NotNull final Property<TValue> property, @NotNull final ISerializer<TValue> serializer) {
+            this.property = property;
+            this.serializer = serializer;
+        }
+
+        /**
+         * Sets the given recorded value on the {@link Property}.
+         *
+         * @param payload the serialized value or null if the value is null.
+         */
+        private void apply(@Nullable final byte[] payload) {
+            property.setValue(payload != null ? serializer.deserialize(payload) : null);
+        }
+    }
+
+    // endregion
+}
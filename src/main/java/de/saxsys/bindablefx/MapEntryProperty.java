@@ -0,0 +1,312 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.WeakListener;
+import javafx.beans.property.ObjectPropertyBase;
+import javafx.beans.value.ChangeListener;
+import javafx.collections.MapChangeListener;
+import javafx.collections.ObservableMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * This class is a {@link javafx.beans.property.Property} which contains the value of a single key of an {@link ObservableMap}. Setting the value puts it into the {@link ObservableMap},
+ * setting null removes the key.
+ * <p>
+ * Each {@link ObservableMap} only gets a single {@link MapChangeListener}, which looks up the property of the changed key in a {@link HashMap}, so a change of a key is only
+ * delivered to the property of this key and changes of other keys do not wake up any binding. There is only one property per key of an {@link ObservableMap}, which is shared by all
+ * bindings of this key. Since the bindings only weakly reference the values they observe, the property is strongly referenced as long as it has listeners. Without listeners it is only
+ * weakly referenced, so the properties of keys that are no longer observed can be garbage collected while the {@link ObservableMap} is alive. {@link WeakListener}s whose target has
+ * been garbage collected do not count as listeners.
+ *
+ * @param <TKey>   the type of the keys of the {@link ObservableMap}.
+ * @param <TValue> the type of the values of the {@link ObservableMap}.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+final class MapEntryProperty<TKey, TValue> extends ObjectPropertyBase<TValue> {
+
+    // region Constants
+
+    /**
+     * Contains the {@link Dispatcher} of each {@link ObservableMap}, the maps are only weakly referenced and compared by identity.
+     */
+    private static final WeakIdentityMap<ObservableMap<?, ?>, Dispatcher> DISPATCHERS = new WeakIdentityMap<>();
+
+    // endregion
+
+    // region Fields
+
+    /**
+     * The {@link ObservableMap} which contains the value, only weakly referenced, since the property is kept by the {@link Dispatcher} as long as the {@link ObservableMap} is alive.
+     */
+    @NotNull
+    private final WeakReference<ObservableMap<TKey, TValue>> map;
+
+    /**
+     * The key of the value.
+     */
+    @Nullable
+    private final TKey key;
+
+    /**
+     * The reference the {@link Dispatcher} keeps of this property.
+     */
+    @Nullable
+    private EntryReference reference;
+
+    /**
+     * The listeners that have been added to this property, a listener that has been added several times is contained several times.
+     */
+    @NotNull
+    private final List<Object> listeners = new ArrayList<>();
+
+    /**
+     * Determines if the value is currently being updated from the {@link #map}.
+     */
+    private boolean updating;
+
+    // endregion
+
+    // region Constructor
+
+    private MapEntryProperty(@NotNull final ObservableMap<TKey, TValue> map, @Nullable final TKey key) {
+        super(map.get(key));
+
+        this.map = new WeakReference<>(map);
+        this.key = key;
+    }
+
+    // endregion
+
+    // region Static
+
+    /**
+     * Returns the property containing the value of the given key of the given {@link ObservableMap}, the property is created if needed.
+     *
+     * @param map      the {@link ObservableMap} which contains the value.
+     * @param key      the key of the value.
+     * @param <TKey>   the type of the keys of the {@link ObservableMap}.
+     * @param <TValue> the type of the values of the {@link ObservableMap}.
+     *
+     * @return the property containing the value of the key.
+     */
+    @SuppressWarnings ("unchecked")
+    @NotNull
+    static <TKey, TValue> MapEntryProperty<TKey, TValue> of(@NotNull final ObservableMap<TKey, TValue> map, @Nullable final TKey key) {
+        final Dispatcher dispatcher;
+        synchronized (DISPATCHERS) {
+            dispatcher = DISPATCHERS.computeIfAbsent(map, observableMap -> {
+                final Dispatcher result = new Dispatcher();
+                map.addListener(result);
+                return result;
+            });
+        }
+        return (MapEntryProperty<TKey, TValue>) dispatcher.getOrCreate(key, () -> new MapEntryProperty<>(map, key));
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Sets the given value from the {@link #map} without writing it back.
+     *
+     * @param value the current value of the key.
+     */
+    private void update(@Nullable final TValue value) {
+        updating = true;
+        try {
+            super.set(value);
+        } finally {
+            updating = false;
+        }
+        updateReference();
+    }
+
+    /**
+     * Strongly references this property from the {@link #reference} as long as it has any {@link #listeners}. {@link WeakListener}s whose target has been garbage collected are
+     * removed from the {@link #listeners} first, since the {@link javafx.beans.value.ObservableValue} only drops them on its own.
+     */
+    private void updateReference() {
+        listeners.removeIf(listener -> listener instanceof WeakListener && ((WeakListener) listener).wasGarbageCollected());
+        if (reference != null) {
+            reference.property = !listeners.isEmpty() ? this : null;
+        }
+    }
+
+    // endregion
+
+    // region Override ObjectPropertyBase
+
+    @Override
+    public void addListener(@NotNull final InvalidationListener listener) {
+        super.addListener(listener);
+        listeners.add(listener);
+        updateReference();
+    }
+
+    @Override
+    public void removeListener(@NotNull final InvalidationListener listener) {
+        super.removeListener(listener);
+        if (listeners.remove(listener)) {
+            updateReference();
+        }
+    }
+
+    @Override
+    public void addListener(@NotNull final ChangeListener<? super TValue> listener) {
+        super.addListener(listener);
+        listeners.add(listener);
+        updateReference();
+    }
+
+    @Override
+    public void removeListener(@NotNull final ChangeListener<? super TValue> listener) {
+        super.removeListener(listener);
+        if (listeners.remove(listener)) {
+            updateReference();
+        }
+    }
+
+    /**
+     * Puts the given value into the {@link #map} or removes the key if the value is null, this property is updated once the {@link #map} reports the change.
+     *
+     * @param value the new value.
+     */
+    @Override
+    public void set(@Nullable final TValue value) {
+        final ObservableMap<TKey, TValue> currentMap = map.get();
+        if (updating || currentMap == null) {
+            super.set(value);
+        } else if (value == null) {
+            currentMap.remove(key);
+        } else {
+            currentMap.put(key, value);
+        }
+    }
+
+    @Nullable
+    @Override
+    public Object getBean() {
+        return map.get();
+    }
+
+    @NotNull
+    @Override
+    public String getName() {
+        return String.valueOf(key);
+    }
+
+    // endregion
+
+    // region Classes
+
+    /**
+     * The only {@link MapChangeListener} of an {@link ObservableMap}, which delivers each change to the property of the changed key.
+     */
+    private static final class Dispatcher implements MapChangeListener<Object, Object> {
+
+        /**
+         * The references of the properties by their key.
+         */
+        @NotNull
+        private final Map<Object, EntryReference> entries = new HashMap<>();
+
+        /**
+         * The {@link ReferenceQueue} which contains the references of the properties that have been garbage collected.
+         */
+        @NotNull
+        private final ReferenceQueue<MapEntryProperty<?, ?>> collected = new ReferenceQueue<>();
+
+        /**
+         * Returns the property of the given key, the property is created using the given {@link Supplier} if there is none.
+         *
+         * @param key     the key.
+         * @param factory the {@link Supplier} which creates the property.
+         *
+         * @return the property of the key.
+         */
+        @NotNull
+        private MapEntryProperty<?, ?> getOrCreate(@Nullable final Object key, @NotNull final Supplier<MapEntryProperty<?, ?>> factory) {
+            purge();
+            final EntryReference existing = entries.get(key);
+            final MapEntryProperty<?, ?> existingProperty = existing != null ? existing.get() : null;
+            if (existingProperty != null) {
+                existingProperty.updateReference();
+                return existingProperty;
+            }
+            final MapEntryProperty<?, ?> property = factory.get();
+            property.reference = new EntryReference(key, property, collected);
+            entries.put(key, property.reference);
+            return property;
+        }
+
+        /**
+         * Removes the references of the properties that have been garbage collected.
+         */
+        private void purge() {
+            EntryReference reference;
+            while ((reference = (EntryReference) collected.poll()) != null) {
+                entries.remove(reference.key, reference);
+            }
+        }
+
+        @SuppressWarnings ("unchecked")
+        @Override
+        public void onChanged(@NotNull final Change<?, ?> change) {
+            purge();
+            final EntryReference reference = entries.get(change.getKey());
+            final MapEntryProperty<?, Object> entry = reference != null ? (MapEntryProperty<?, Object>) reference.get() : null;
+            if (entry != null) {
+                entry.update(change.wasAdded() ? change.getValueAdded() : null);
+            }
+        }
+    }
+
+    /**
+     * The reference of the {@link Dispatcher} to a property, which is weak unless the property has listeners.
+     */
+    private static final class EntryReference extends WeakReference<MapEntryProperty<?, ?>> {
+
+        /**
+         * The key of the property.
+         */
+        @Nullable
+        private final Object key;
+
+        /**
+         * The property while it has listeners, otherwise null.
+         */
+        @Nullable
+        private MapEntryProperty<?, ?> property;
+
+        private EntryReference(@Nullable final Object key, @NotNull final MapEntryProperty<?, ?> property, @NotNull final ReferenceQueue<MapEntryProperty<?, ?>> queue) {
+            super(property, queue);
+            this.key = key;
+        }
+    }
+
+    // endregion
+}
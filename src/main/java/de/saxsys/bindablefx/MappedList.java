@@ -0,0 +1,136 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * This class is a read only {@link ObservableList} which contains the value of a path for each element of another {@link ObservableList}. Changes of the source list are applied
+ * incrementally, added, removed and reordered elements result in the same change of this list. If the value of the path of a single element changes, only this value is replaced,
+ * so listeners receive a single change at the index of the element instead of a change of the whole list.
+ * <p>
+ * The source list only weakly references this list, so it can be garbage collected once it is no longer used. Call {@link #dispose()} to stop observing the source list and release
+ * the paths of all elements immediately.
+ *
+ * @param <TElement> the type of the elements of the source list.
+ * @param <TValue>   the type of the value of the path.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public final class MappedList<TElement, TValue> extends ObservableListBase<TValue> {
+
+    // region Fields
+
+    /**
+     * The {@link ElementPathTracker} which observes the source list.
+     */
+    @NotNull
+    private final ElementPathTracker<TElement, TValue> tracker;
+
+    // endregion
+
+    // region Constructor
+
+    /**
+     * Creates a new list which contains the value of the given path for each element of the given {@link ObservableList}.
+     *
+     * @param source the {@link ObservableList} whose elements are to be mapped.
+     * @param path   the {@link Function} which resolves the {@link ObservableValue} of each element.
+     */
+    MappedList(@NotNull final ObservableList<TElement> source, @NotNull final Function<TElement, ? extends ObservableValue<TValue>> path) {
+        tracker = new ElementPathTracker<>(source, path, new Handler());
+    }
+
+    // endregion
+
+    // region Public
+
+    /**
+     * Stops observing the source list and releases the paths of all elements, this list will be empty afterwards and its listeners are notified about the removal.
+     */
+    public void dispose() {
+        final List<TValue> removed = new ArrayList<>(this);
+        tracker.dispose();
+        if (!removed.isEmpty()) {
+            beginChange();
+            nextRemove(0, removed);
+            endChange();
+        }
+    }
+
+    // endregion
+
+    // region Override ObservableListBase
+
+    @Override
+    public TValue get(final int index) {
+        return tracker.getValue(index);
+    }
+
+    @Override
+    public int size() {
+        return tracker.size();
+    }
+
+    // endregion
+
+    // region Classes
+
+    /**
+     * Translates the changes of the {@link ElementPathTracker} into changes of this list.
+     */
+    private final class Handler implements ElementPathTracker.IHandler<TValue> {
+
+        @Override
+        public void beginChange() {
+            MappedList.this.beginChange();
+        }
+
+        @Override
+        public void endChange() {
+            MappedList.this.endChange();
+        }
+
+        @Override
+        public void replaced(final int from, final int to, @NotNull final List<TValue> removed) {
+            if (removed.isEmpty()) {
+                nextAdd(from, to);
+            } else if (from == to) {
+                nextRemove(from, removed);
+            } else {
+                nextReplace(from, to, removed);
+            }
+        }
+
+        @Override
+        public void permutated(final int from, final int to, @NotNull final int[] permutation) {
+            nextPermutation(from, to, permutation);
+        }
+
+        @Override
+        public void updated(final int index, @Nullable final TValue oldValue, @Nullable final TValue newValue) {
+            nextSet(index, oldValue);
+        }
+    }
+
+    // endregion
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * This class allows bindings to skip invoking converters, combiners and replacements again if their inputs did not effectively change. A binding is invalidated as soon as one of its
+ * inputs is invalidated, even if the input returns to its previous value before the binding is read, e.g. if a value is changed from A to B and back to A within a
+ * {@link Bindings#batch(Runnable)}. When a memoizing binding is read, it compares the current values of its inputs with the values of its last computation and returns its previous
+ * result if they are all the same, so the user code is not invoked at all. Immutable values, i.e. boxed primitives, {@link String}s and enums, are compared using
+ * {@link Object#equals(Object)}, since e.g. a {@link javafx.beans.property.DoubleProperty} returns a new instance on each read. All other inputs are compared by identity, so a new
+ * instance which is merely equal to the previous one, e.g. a reloaded entity, is always converted again. These inputs of the last computation are only weakly referenced.
+ * <p>
+ * Memoization is disabled by default and needs to be enabled for each binding using {@link IFluentBinding#memoize()}, since a value which is mutated in place, e.g. an
+ * {@link javafx.collections.ObservableList} whose content changed, is still the same instance and would not be converted again. The amount of avoided computations is counted by
+ * {@link #getAvoidedComputationCount()}.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public final class Memoization {
+
+    // region Constants
+
+    /**
+     * The amount of computations that have been avoided.
+     */
+    private static final LongAdder AVOIDED_COMPUTATIONS = new LongAdder();
+
+    // endregion
+
+    // region Constructor
+
+    /**
+     * Prevents others from creating an instance of this class.
+     */
+    private Memoization() {}
+
+    // endregion
+
+    // region Public
+
+    /**
+     * Returns the amount of computations that have been avoided, because the inputs of a binding did not change.
+     *
+     * @return the amount of avoided computations.
+     */
+    public static long getAvoidedComputationCount() {
+        return AVOIDED_COMPUTATIONS.sum();
+    }
+
+    /**
+     * Resets the amount of computations that have been avoided.
+     */
+    public static void resetAvoidedComputationCount() {
+        AVOIDED_COMPUTATIONS.reset();
+    }
+
+    // endregion
+
+    // region Package
+
+    /**
+     * Counts a computation that has been avoided.
+     */
+    static void avoided() {
+        AVOIDED_COMPUTATIONS.increment();
+    }
+
+    // endregion
+
+    // region Classes
+
+    /**
+     * Remembers the result of a single computation of a binding together with the function and the inputs it has been computed from.
+     *
+     * @param <TResult> the type of the result.
+     */
+    static final class Memo<TResult> {
+
+        /**
+         * The function of the last computation, or null if there has not been a computation yet.
+         */
+        @Nullable
+        private Object function;
+
+        /**
+         * The inputs of the last computation. Immutable values are referenced directly, all other inputs are only weakly referenced by an {@link IdentityInput} and null inputs
+         * are null.
+         */
+        @NotNull
+        private Object[] inputs = new Object[0];
+
+        /**
+         * The result of the last computation.
+         */
+        @Nullable
+        private TResult result;
+
+        /**
+         * Applies the given {@link Function} to the given input. If memoization is enabled and the {@link Function} has already been applied to the same input, its previous result
+         * is returned instead.
+         *
+         * @param enabled  true if memoization is enabled for the binding, otherwise false.
+         * @param function the {@link Function} to apply.
+         * @param input    the current input of the computation.
+         * @param <TInput> the type of the input.
+         *
+         * @return the result.
+         */
+        @Nullable
+        <TInput> TResult apply(final boolean enabled, @NotNull final Function<? super TInput, ? extends TResult> function, @Nullable final TInput input) {
+            if (!enabled) {
+                clear();
+                return function.apply(input);
+            }
+            final List<Object> inputs = Collections.singletonList(input);
+            if (isSame(function, inputs)) {
+                avoided();
+                return result;
+            }
+            return remember(function, inputs, function.apply(input));
+        }
+
+        /**
+         * Applies the given {@link Function} to the given inputs. If memoization is enabled and the {@link Function} has already been applied to the same inputs, its previous result
+         * is returned instead.
+         *
+         * @param enabled  true if memoization is enabled for the binding, otherwise false.
+         * @param function the {@link Function} to apply.
+         * @param inputs   the current inputs of the computation.
+         *
+         * @return the result.
+         */
+        @Nullable
+        TResult applyToAll(final boolean enabled, @NotNull final Function<List<Object>, ? extends TResult> function, @NotNull final List<Object> inputs) {
+            if (!enabled) {
+                clear();
+                return function.apply(inputs);
+            }
+            if (isSame(function, inputs)) {
+                avoided();
+                return result;
+            }
+            return remember(function, inputs, function.apply(inputs));
+        }
+
+        /**
+         * Determines if the given function is the same instance as the function of the last computation and the given inputs are the same as its inputs.
+         *
+         * @param function the function of the current computation.
+         * @param inputs   the current inputs of the computation.
+         *
+         * @return true if the function and all inputs are the same, otherwise false.
+         */
+        private boolean isSame(@NotNull final Object function, @NotNull final List<?> inputs) {
+            if (this.function != function || this.inputs.length != inputs.size()) {
+                return false;
+            }
+            for (int i = 0; i < this.inputs.length; i++) {
+                if (!isSameInput(this.inputs[i], inputs.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Determines if the given remembered input is the same as the given current input.
+         *
+         * @param previous the remembered input.
+         * @param input    the current input.
+         *
+         * @return true if both are null, equal immutable values or the same instance, otherwise false.
+         */
+        private static boolean isSameInput(@Nullable final Object previous, @Nullable final Object input) {
+            if (previous instanceof IdentityInput) {
+                return input != null && ((IdentityInput) previous).get() == input;
+            }
+            return previous == null ? input == null : previous.equals(input);
+        }
+
+        /**
+         * Determines if the given input is an immutable value, which can be compared using {@link Object#equals(Object)} and be referenced strongly.
+         *
+         * @param input the input.
+         *
+         * @return true if the input is an immutable value, otherwise false.
+         */
+        private static boolean isValue(@NotNull final Object input) {
+            return input instanceof Integer || input instanceof Long || input instanceof Double || input instanceof Float || input instanceof Short || input instanceof Byte ||
+                   input instanceof Boolean || input instanceof Character || input instanceof String || input instanceof Enum;
+        }
+
+        /**
+         * Remembers the given result together with the function and inputs it has been computed from. References of inputs that did not change are kept.
+         *
+         * @param function the function of the computation.
+         * @param inputs   the inputs of the computation.
+         * @param result   the result of the computation.
+         *
+         * @return the given result.
+         */
+        @Nullable
+        private TResult remember(@NotNull final Object function, @NotNull final List<?> inputs, @Nullable final TResult result) {
+            if (this.inputs.length != inputs.size()) {
+                this.inputs = new Object[inputs.size()];
+            }
+            for (int i = 0; i < this.inputs.length; i++) {
+                final Object input = inputs.get(i);
+                if (input == null || isValue(input)) {
+                    this.inputs[i] = input;
+                } else if (!isSameInput(this.inputs[i], input)) {
+                    this.inputs[i] = new IdentityInput(input);
+                }
+            }
+            this.function = function;
+            this.result = result;
+            return result;
+        }
+
+        /**
+         * Forgets the last computation, so the next one will invoke its function.
+         */
+        void clear() {
+            function = null;
+            result = null;
+        }
+    }
+
+    /**
+     * The weak reference of a {@link Memo} to an input that is compared by identity.
+     */
+    private static final class IdentityInput extends WeakReference<Object> {
+
+        private IdentityInput(@NotNull final Object input) {
+            super(input);
+        }
+    }
+
+    // endregion
+}
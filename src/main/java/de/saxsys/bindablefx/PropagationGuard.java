@@ -0,0 +1,279 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class prevents bidirectional bindings from endlessly passing values back and forth. A bidirectional binding only ignores changes while it is transferring a value itself, so if
+ * several bindings form a cycle and use an {@link IConverter} which is not an exact inverse, a single change can cause the values to be transferred over and over again until they
+ * happen to stabilize.
+ * <p>
+ * A transfer which is started on a thread while no other transfer is in progress starts a wave and all transfers it causes on the same thread belong to this wave, so a single change
+ * causes at most one wave per listener of the changed property. Each transfer of a {@link BidirectionalBinding}, {@link BufferedBidirectionalBinding} and {@link SyncGroup} is
+ * counted and once a wave exceeds {@link #getMaxTransfersPerWave()}, all remaining transfers of this wave are skipped, so the properties keep the values they have at that point,
+ * and {@link #getAbortedWaveCount()} is increased.
+ * <p>
+ * Optionally, a {@link BidirectionalBinding} can also skip transfers if the target property already represents the value of the source property, meaning it either equals the
+ * converted value of the source property or converting it back yields the value of the source property.
+ * <p>
+ * Bindings that depend on several values, such as the bindings created by {@link Bindings#combine(javafx.beans.value.ObservableValue, javafx.beans.value.ObservableValue,
+ * java.util.function.BiFunction)}, defer their invalidation until the current wave has ended, so they are only invalidated once no matter how many of their values have been changed
+ * by the wave. Several changes can be made as a single wave using {@link Bindings#batch(Runnable)}.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public final class PropagationGuard {
+
+    // region Constants
+
+    /**
+     * The default amount of transfers that are allowed in a single wave.
+     */
+    public static final int DEFAULT_MAX_TRANSFERS_PER_WAVE = 10_000;
+
+    /**
+     * Contains the current {@link Wave} of each thread.
+     */
+    private static final ThreadLocal<Wave> WAVE = ThreadLocal.withInitial(Wave::new);
+
+    /**
+     * The amount of waves that have been aborted.
+     */
+    private static final AtomicLong ABORTED_WAVES = new AtomicLong();
+
+    // endregion
+
+    // region Fields
+
+    /**
+     * The amount of transfers that are allowed in a single wave.
+     */
+    private static volatile int maxTransfersPerWave = DEFAULT_MAX_TRANSFERS_PER_WAVE;
+
+    /**
+     * Determines if transfers will be skipped if the target already represents the value of the source.
+     */
+    private static volatile boolean roundTripCheck;
+
+    // endregion
+
+    // region Constructor
+
+    /**
+     * Prevents others from creating an instance of this class.
+     */
+    private PropagationGuard() {}
+
+    // endregion
+
+    // region Public
+
+    /**
+     * Returns the amount of transfers that are allowed in a single wave.
+     *
+     * @return the amount of transfers that are allowed in a single wave.
+     */
+    public static int getMaxTransfersPerWave() {
+        return maxTransfersPerWave;
+    }
+
+    /**
+     * Sets the amount of transfers that are allowed in a single wave.
+     *
+     * @param maxTransfersPerWave the amount of transfers that are allowed in a single wave.
+     *
+     * @throws IllegalArgumentException if the amount is less than 1.
+     */
+    public static void setMaxTransfersPerWave(final int maxTransfersPerWave) {
+        if (maxTransfersPerWave < 1) {
+            throw new IllegalArgumentException("The amount of transfers per wave must be at least 1");
+        }
+        PropagationGuard.maxTransfersPerWave = maxTransfersPerWave;
+    }
+
+    /**
+     * Determines if transfers will be skipped if the target already represents the value of the source.
+     *
+     * @return true if the round trip check is enabled, otherwise false.
+     */
+    public static boolean isRoundTripCheck() {
+        return roundTripCheck;
+    }
+
+    /**
+     * Sets if transfers will be skipped if the target already represents the value of the source. This requires an additional conversion per transfer.
+     *
+     * @param roundTripCheck true if the round trip check is to be enabled, otherwise false.
+     */
+    public static void setRoundTripCheck(final boolean roundTripCheck) {
+        PropagationGuard.roundTripCheck = roundTripCheck;
+    }
+
+    /**
+     * Returns the amount of waves that have been aborted because they exceeded {@link #getMaxTransfersPerWave()}.
+     *
+     * @return the amount of waves that have been aborted.
+     */
+    public static long getAbortedWaveCount() {
+        return ABORTED_WAVES.get();
+    }
+
+    /**
+     * Resets the amount of waves that have been aborted.
+     */
+    public static void resetAbortedWaveCount() {
+        ABORTED_WAVES.set(0);
+    }
+
+    // endregion
+
+    // region Package
+
+    /**
+     * Starts a transfer of the current wave, each successful call needs to be followed by a call to {@link #exit()}. If no other transfer is in progress, a new wave is started.
+     *
+     * @param source the binding which transfers a value, which is recorded by the started {@link ChangeJournal} if the transfer is allowed.
+     *
+     * @return true if the transfer is allowed, false if the current wave has been aborted, in which case {@link #exit()} must not be called.
+     */
+    static boolean enter(@NotNull final Object source) {
+        final Wave wave = WAVE.get();
+        if (wave.depth == 0) {
+            wave.transfers = 0;
+            wave.aborted = false;
+        }
+        if (wave.aborted) {
+            return false;
+        }
+        if (++wave.transfers > maxTransfersPerWave) {
+            wave.aborted = true;
+            ABORTED_WAVES.incrementAndGet();
+            return false;
+        }
+        ++wave.depth;
+        ChangeJournal.record(JournalEvent.TRANSFER, source);
+        return true;
+    }
+
+    /**
+     * Ends a transfer of the current wave. If this was the last transfer in progress, the wave has ended and all actions deferred by {@link #runAfterWave(Runnable)} are run.
+     */
+    static void exit() {
+        final Wave wave = WAVE.get();
+        if (--wave.depth == 0 && !wave.deferredActions.isEmpty()) {
+            runDeferredActions(wave);
+        }
+    }
+
+    /**
+     * Runs the given changes as a single wave, all transfers they cause belong to this wave and all actions deferred by {@link #runAfterWave(Runnable)} are run once the changes have
+     * been made. If a wave is already in progress, the changes become part of it.
+     *
+     * @param changes the {@link Runnable} which makes the changes.
+     */
+    static void batch(@NotNull final Runnable changes) {
+        final Wave wave = WAVE.get();
+        if (wave.depth == 0) {
+            wave.transfers = 0;
+            wave.aborted = false;
+        }
+        ++wave.depth;
+        try {
+            changes.run();
+        } finally {
+            exit();
+        }
+    }
+
+    /**
+     * Runs the given action once the current wave has ended or immediately if no wave is in progress.
+     *
+     * @param action the action to run.
+     */
+    static void runAfterWave(@NotNull final Runnable action) {
+        final Wave wave = WAVE.get();
+        if (wave.depth == 0) {
+            action.run();
+        } else {
+            wave.deferredActions.add(action);
+        }
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Runs all actions that have been deferred until the end of the given wave. Each action is run even if a previous one fails, the first failure is thrown afterwards.
+     *
+     * @param wave the wave that has ended.
+     */
+    private static void runDeferredActions(@NotNull final Wave wave) {
+        final List<Runnable> actions = new ArrayList<>(wave.deferredActions);
+        wave.deferredActions.clear();
+        RuntimeException failure = null;
+        for (final Runnable action : actions) {
+            try {
+                action.run();
+            } catch (final RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    // endregion
+
+    // region Classes
+
+    /**
+     * The state of the wave of a single thread.
+     */
+    private static final class Wave {
+
+        /**
+         * The amount of transfers that are currently in progress.
+         */
+        private int depth;
+
+        /**
+         * The amount of transfers that have been started in this wave.
+         */
+        private int transfers;
+
+        /**
+         * Determines if this wave has been aborted.
+         */
+        private boolean aborted;
+
+        /**
+         * The actions that are run once this wave has ended.
+         */
+        @NotNull
+        private final List<Runnable> deferredActions = new ArrayList<>();
+    }
+
+    // endregion
+}
@@ -64,10 +64,18 @@ class PropertyBinding<TParentValue, TValue, TProperty extends Property<TValue>>
     private WeakReference<ObservableValue<? extends TValue>> boundValue;
 
     /**
-     * The currently bound value of this binding.
+     * The {@link Property}s this binding is bound bidirectional against using {@link javafx.beans.binding.Bindings#bindBidirectional(Property, Property)}, only the keys are used. The
+     * {@link Property}s are only weakly referenced and will be removed once they are garbage collected.
+     */
+    @NotNull
+    private final WeakIdentityMap<Property<?>, Boolean> bidirectionalBoundProperties = new WeakIdentityMap<>();
+
+    /**
+     * The {@link Property}s this binding is bound bidirectional against using a {@link BidirectionalBinding}, only the keys are used. The {@link Property}s are only weakly referenced and
+     * will be removed once they are garbage collected.
      */
     @NotNull
-    private final List<WeakReference<Property>> bidirectionalBoundProperties = new ArrayList<>();
+    private final WeakIdentityMap<Property<?>, Boolean> bidirectionalConvertedProperties = new WeakIdentityMap<>();
 
     /**
      * Determines if the binding will remember the value that has been provided via the {@link #setValue(Object)} if the current {@link #observedValue} is still null.
@@ -141,7 +149,7 @@ class PropertyBinding<TParentValue, TValue, TProperty extends Property<TValue>>
     }
 
     /**
-     * {@inheritDoc} Also bidirectionally unbinds all bound properties available in {@link #bidirectionalBoundProperties}.
+     * {@inheritDoc} Also bidirectionally unbinds all bound properties available in {@link #bidirectionalBoundProperties} and {@link #bidirectionalConvertedProperties}.
      */
     @Override
     public void dispose() {
@@ -165,6 +173,7 @@ class PropertyBinding<TParentValue, TValue, TProperty extends Property<TValue>>
     @SuppressWarnings ("unchecked")
     @Override
     public void setValue(final TValue value) {
+        ChangeJournal.record(JournalEvent.SET_VALUE, this);
         if (isBound()) {
             throw new IllegalStateException((getBean() != null && getName() != null ? getBean().getClass().getSimpleName() + "." + getName() + " : " : "") + "A bound value cannot be set.");
         }
@@ -221,12 +230,14 @@ class PropertyBinding<TParentValue, TValue, TProperty extends Property<TValue>>
     public void bindBidirectional(@NotNull final Property<TValue> other) {
         setValue.clearValue();
         javafx.beans.binding.Bindings.bindBidirectional(this, other);
-        bidirectionalBoundProperties.add(new WeakReference<>(other));
+        bidirectionalBoundProperties.put(other, Boolean.TRUE);
     }
 
     @Override
     public void unbindBidirectional(@NotNull final Property<TValue> other) {
-        unbindProperty(other);
+        if (bidirectionalBoundProperties.remove(other) != null) {
+            javafx.beans.binding.Bindings.unbindBidirectional(this, other);
+        }
     }
 
     @Override
@@ -244,46 +255,53 @@ class PropertyBinding<TParentValue, TValue, TProperty extends Property<TValue>>
     public <TOtherValue> void bindBidirectional(@NotNull final Property<TOtherValue> other, @NotNull final IConverter<TValue, TOtherValue> converter) {
         setValue.clearValue();
         Bindings.bindBidirectional(this, other, converter);
-        bidirectionalBoundProperties.add(new WeakReference<>(other));
+        bidirectionalConvertedProperties.put(other, Boolean.TRUE);
+    }
+
+    @Override
+    public <TOtherValue> BufferedBidirectionalBinding<TValue, TOtherValue> bindBidirectionalBuffered(@NotNull final Property<TOtherValue> other,
+                                                                                                 @NotNull final IConverter<TValue, TOtherValue> converter) {
+        setValue.clearValue();
+        final BufferedBidirectionalBinding<TValue, TOtherValue> result = Bindings.bindBidirectionalBuffered(this, other, converter);
+        bidirectionalConvertedProperties.put(other, Boolean.TRUE);
+        return result;
     }
 
     @Override
     public <IOtherValue> void unbindBidirectionalConverted(@NotNull final Property<IOtherValue> other) {
-        unbindProperty(other);
+        if (bidirectionalConvertedProperties.remove(other) != null) {
+            Bindings.unbindBidirectional(this, other);
+        }
     }
 
-    @SuppressWarnings ("unchecked")
     @Override
     public void unbindBidirectional() {
-        while (!bidirectionalBoundProperties.isEmpty()) {
-            final Property prop = bidirectionalBoundProperties.get(0).get();
-            if (prop != null) {
-                javafx.beans.binding.Bindings.unbindBidirectional(this, prop);
-                Bindings.unbindBidirectional(this, prop);
-            }
-            bidirectionalBoundProperties.remove(0);
-        }
+        removeAll(bidirectionalBoundProperties).forEach(property -> javafx.beans.binding.Bindings.unbindBidirectional(this, property));
+        removeAll(bidirectionalConvertedProperties).forEach(property -> BidirectionalBinding.unbind(this, property));
     }
 
     @Override
     public boolean isBidirectionalBound() {
-        return !bidirectionalBoundProperties.isEmpty();
+        return !bidirectionalBoundProperties.isEmpty() || !bidirectionalConvertedProperties.isEmpty();
     }
 
     // endregion
 
     // region Private
 
-    @SuppressWarnings ("unchecked")
-    private void unbindProperty(@NotNull final Property other) {
-        for (int i = 0; i < bidirectionalBoundProperties.size(); ++i) {
-            final Property prop = bidirectionalBoundProperties.get(i).get();
-            if (prop == null || prop == other) {
-                javafx.beans.binding.Bindings.unbindBidirectional(this, other);
-                Bindings.unbindBidirectional(this, other);
-                bidirectionalBoundProperties.remove(i--);
-            }
-        }
+    /**
+     * Removes all {@link Property}s from the given map.
+     *
+     * @param properties the map containing the {@link Property}s.
+     *
+     * @return a {@link List} containing the removed {@link Property}s which have not yet been garbage collected.
+     */
+    @NotNull
+    private static List<Property<?>> removeAll(@NotNull final WeakIdentityMap<Property<?>, Boolean> properties) {
+        final List<Property<?>> result = new ArrayList<>(properties.size());
+        properties.forEach((property, ignored) -> result.add(property));
+        properties.clear();
+        return result;
     }
 
     // endregion
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import javafx.beans.property.Property;
+import javafx.beans.value.ObservableValue;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * This class builds the chain of {@link IFluentBinding}s for a path given as a string, such as "b.c.d", which is the same chain as
+ * {@code thenObserve(A::bProperty).thenObserve(B::cProperty).thenObserve(C::dProperty)}. Each segment of the path is resolved to the public method named after the segment with the
+ * suffix "Property", e.g. "b" is resolved to bProperty().
+ * <p>
+ * The methods are only looked up once per class and segment and are then cached as {@link MethodHandle}s in a {@link ClassValue}, so bindings created from configuration or
+ * FXML-like descriptions do not pay for reflection per instance. Since the value of each segment might be a subclass of the declared type, the accessor is resolved for the actual
+ * class of the value.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+final class PropertyPath {
+
+    // region Constants
+
+    /**
+     * The suffix of the methods that return the {@link ObservableValue} of a segment.
+     */
+    private static final String PROPERTY_SUFFIX = "Property";
+
+    /**
+     * The type of the cached accessors, which get the value of a segment and return its {@link ObservableValue}.
+     */
+    private static final MethodType ACCESSOR_TYPE = MethodType.methodType(ObservableValue.class, Object.class);
+
+    /**
+     * Contains the accessors of each class by the segment they have been resolved for.
+     */
+    private static final ClassValue<ConcurrentMap<String, MethodHandle>> ACCESSORS = new ClassValue<ConcurrentMap<String, MethodHandle>>() {
+        @Override
+        protected ConcurrentMap<String, MethodHandle> computeValue(@NotNull final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    // endregion
+
+    // region Constructor
+
+    /**
+     * Prevents others from creating an instance of this class.
+     */
+    private PropertyPath() {}
+
+    // endregion
+
+    // region Package
+
+    /**
+     * Creates the chain of {@link IFluentBinding}s which observes the {@link ObservableValue} at the end of the given path, starting at the value of the given
+     * {@link IFluentBinding}.
+     *
+     * @param parent   the {@link IFluentBinding} whose value is the start of the path.
+     * @param path     the segments separated by dots.
+     * @param <TValue> the type of the value at the end of the path.
+     *
+     * @return a new {@link IFluentBinding}.
+     *
+     * @throws IllegalArgumentException if the path is empty, contains an empty segment or a segment of the current values can not be resolved.
+     */
+    @SuppressWarnings ("unchecked")
+    @NotNull
+    static <TValue> IFluentBinding<TValue> select(@NotNull final IFluentBinding<?> parent, @NotNull final String path) {
+        final String[] segments = split(path);
+        IFluentBinding<Object> result = (IFluentBinding<Object>) parent;
+        for (final String segment : segments) {
+            result = result.thenObserve(value -> observableOf(value, segment));
+        }
+        return (IFluentBinding<TValue>) result;
+    }
+
+    /**
+     * Creates the chain of {@link IFluentBinding}s which observes the {@link Property} at the end of the given path, starting at the value of the given {@link IFluentBinding}.
+     *
+     * @param parent   the {@link IFluentBinding} whose value is the start of the path.
+     * @param path     the segments separated by dots.
+     * @param <TValue> the type of the value at the end of the path.
+     *
+     * @return a new {@link IPropertyBinding}.
+     *
+     * @throws IllegalArgumentException if the path is empty, contains an empty segment or a segment of the current values can not be resolved.
+     */
+    @SuppressWarnings ("unchecked")
+    @NotNull
+    static <TValue> IPropertyBinding<TValue> selectProperty(@NotNull final IFluentBinding<?> parent, @NotNull final String path) {
+        final String[] segments = split(path);
+        IFluentBinding<Object> result = (IFluentBinding<Object>) parent;
+        for (int i = 0; i < segments.length - 1; ++i) {
+            final String segment = segments[i];
+            result = result.thenObserve(value -> observableOf(value, segment));
+        }
+        final String leaf = segments[segments.length - 1];
+        return (IPropertyBinding<TValue>) result.thenObserveProperty(value -> propertyOf(value, leaf));
+    }
+
+    /**
+     * Returns the cached accessor of the given segment for the given class, the accessor is resolved if needed.
+     *
+     * @param type    the class that contains the method of the segment.
+     * @param segment the segment to resolve.
+     *
+     * @return the {@link MethodHandle} that returns the {@link ObservableValue} of the segment.
+     *
+     * @throws IllegalArgumentException if the class has no public method for the segment or the method does not return an {@link ObservableValue}.
+     */
+    @NotNull
+    static MethodHandle accessorOf(@NotNull final Class<?> type, @NotNull final String segment) {
+        final ConcurrentMap<String, MethodHandle> accessors = ACCESSORS.get(type);
+        final MethodHandle accessor = accessors.get(segment);
+        if (accessor != null) {
+            return accessor;
+        }
+        final MethodHandle result = resolve(type, segment);
+        final MethodHandle existing = accessors.putIfAbsent(segment, result);
+        return existing != null ? existing : result;
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Splits the given path into its segments.
+     *
+     * @param path the segments separated by dots.
+     *
+     * @return the segments.
+     *
+     * @throws IllegalArgumentException if the path is empty or contains an empty segment.
+     */
+    @SuppressWarnings ("ConstantConditions")
+    @NotNull
+    private static String[] split(@NotNull final String path) {
+        if (path == null) {
+            throw new NullPointerException("Path cannot be null");
+        }
+        final String[] result = path.split("\\.", -1);
+        for (final String segment : result) {
+            if (segment.isEmpty()) {
+                throw new IllegalArgumentException("The path " + path + " contains an empty segment");
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Looks up the public method of the given segment and converts it into an accessor.
+     *
+     * @param type    the class that contains the method of the segment.
+     * @param segment the segment to resolve.
+     *
+     * @return the {@link MethodHandle} that returns the {@link ObservableValue} of the segment.
+     *
+     * @throws IllegalArgumentException if the class has no public method for the segment or the method does not return an {@link ObservableValue}.
+     */
+    @NotNull
+    private static MethodHandle resolve(@NotNull final Class<?> type, @NotNull final String segment) {
+        final String name = segment + PROPERTY_SUFFIX;
+        try {
+            final Method method = type.getMethod(name);
+            if (!ObservableValue.class.isAssignableFrom(method.getReturnType())) {
+                throw new IllegalArgumentException(type.getName() + "." + name + "() does not return an ObservableValue");
+            }
+            if (!Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+                method.setAccessible(true);
+            }
+            return MethodHandles.lookup().unreflect(method).asType(ACCESSOR_TYPE);
+        } catch (final NoSuchMethodException e) {
+            throw new IllegalArgumentException(type.getName() + " has no public method " + name + "()", e);
+        } catch (final IllegalAccessException e) {
+            throw new IllegalArgumentException(type.getName() + "." + name + "() cannot be accessed", e);
+        }
+    }
+
+    /**
+     * Returns the {@link ObservableValue} of the given segment of the given value.
+     *
+     * @param value   the value that contains the {@link ObservableValue}.
+     * @param segment the segment to get.
+     *
+     * @return the {@link ObservableValue} of the segment.
+     */
+    @NotNull
+    private static ObservableValue<Object> observableOf(@NotNull final Object value, @NotNull final String segment) {
+        final MethodHandle accessor = accessorOf(value.getClass(), segment);
+        final ObservableValue<?> result;
+        try {
+            result = (ObservableValue<?>) accessor.invokeExact(value);
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new IllegalStateException("Could not get the ObservableValue of " + segment, e);
+        }
+        if (result == null) {
+            throw new NullPointerException(value.getClass().getName() + "." + segment + PROPERTY_SUFFIX + "() returned null");
+        }
+        @SuppressWarnings ("unchecked")
+        final ObservableValue<Object> observable = (ObservableValue<Object>) result;
+        return observable;
+    }
+
+    /**
+     * Returns the {@link Property} of the given segment of the given value.
+     *
+     * @param value   the value that contains the {@link Property}.
+     * @param segment the segment to get.
+     *
+     * @return the {@link Property} of the segment.
+     *
+     * @throws IllegalArgumentException if the {@link ObservableValue} of the segment is not a {@link Property}.
+     */
+    @SuppressWarnings ("unchecked")
+    @NotNull
+    private static Property<Object> propertyOf(@NotNull final Object value, @NotNull final String segment) {
+        final ObservableValue<Object> result = observableOf(value, segment);
+        if (!(result instanceof Property)) {
+            throw new IllegalArgumentException(value.getClass().getName() + "." + segment + PROPERTY_SUFFIX + "() does not return a Property");
+        }
+        return (Property<Object>) result;
+    }
+
+    // endregion
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * This binding subscribes to a {@link Publisher} and provides the latest element it has received. Elements are requested one at a time and the next element is only requested once the
+ * previous one has been handed off to the owning thread, so a fast {@link Publisher} can not overrun the owning thread. Once the {@link Publisher} completes or fails, the binding keeps
+ * providing the last element it has received. If the {@link Publisher} fails, the error is handed off to the owning thread and passed to the {@link #errorHandler}, which by default
+ * reports it to the {@link Thread.UncaughtExceptionHandler} of the owning thread.
+ * <p>
+ * The hand-off may also run synchronously, e.g. if the {@link Publisher} emits on the owning thread. Elements the {@link Publisher} emits while the next element is being requested are
+ * then handled after the request returned, so the stack does not grow with each element.
+ *
+ * @param <TValue> the type of the elements of the {@link Publisher}.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+class PublisherBinding<TValue> extends ConcurrentBinding<TValue> implements Subscriber<TValue> {
+
+    // region Constants
+
+    /**
+     * Reports errors to the {@link Thread.UncaughtExceptionHandler} of the current thread.
+     */
+    @NotNull
+    static final Consumer<Throwable> REPORT_UNCAUGHT = throwable -> {
+        final Thread thread = Thread.currentThread();
+        thread.getUncaughtExceptionHandler().uncaughtException(thread, throwable);
+    };
+
+    // endregion
+
+    // region Fields
+
+    /**
+     * The {@link Subscription} to the {@link Publisher}.
+     */
+    @NotNull
+    private final AtomicReference<Subscription> subscription = new AtomicReference<>();
+
+    /**
+     * Determines if this binding has been disposed, in which case elements will be ignored.
+     */
+    private volatile boolean disposed;
+
+    /**
+     * The {@link Consumer} the error of the {@link Publisher} is passed to on the owning thread.
+     */
+    @NotNull
+    private final Consumer<? super Throwable> errorHandler;
+
+    /**
+     * Determines if the next element is currently being requested, only used on the owning thread.
+     */
+    private boolean requesting;
+
+    /**
+     * Determines if an element has been handed off while the next element was being requested, only used on the owning thread.
+     */
+    private boolean requestPending;
+
+    // endregion
+
+    // region Constructor
+
+    /**
+     * Creates a new binding that hands off to the JavaFX application thread.
+     */
+    PublisherBinding() {
+        this.errorHandler = REPORT_UNCAUGHT;
+    }
+
+    /**
+     * Creates a new binding that hands off using the given {@link Executor}.
+     *
+     * @param handOff      the {@link Executor} that runs the hand-off on the owning thread.
+     * @param errorHandler the {@link Consumer} the error of the {@link Publisher} is passed to on the owning thread.
+     */
+    PublisherBinding(@NotNull final Executor handOff, @NotNull final Consumer<? super Throwable> errorHandler) {
+        super(handOff);
+        this.errorHandler = errorHandler;
+    }
+
+    // endregion
+
+    // region Override ConcurrentBinding
+
+    /**
+     * {@inheritDoc} Also requests the next element from the {@link Publisher}, unless this happens while the next element is already being requested, in which case the element is
+     * requested once that request returned.
+     */
+    @Override
+    void flush() {
+        super.flush();
+        if (requesting) {
+            requestPending = true;
+            return;
+        }
+        requesting = true;
+        try {
+            do {
+                requestPending = false;
+                final Subscription current = subscription.get();
+                if (current != null && !disposed) {
+                    current.request(1);
+                }
+            } while (requestPending);
+        } finally {
+            requesting = false;
+        }
+    }
+
+    /**
+     * {@inheritDoc} Also cancels the {@link Subscription} to the {@link Publisher}.
+     */
+    @Override
+    public void dispose() {
+        disposed = true;
+        final Subscription current = subscription.getAndSet(null);
+        if (current != null) {
+            current.cancel();
+        }
+        super.dispose();
+    }
+
+    // endregion
+
+    // region Override Subscriber
+
+    @Override
+    public void onSubscribe(@NotNull final Subscription subscription) {
+        if (disposed || !this.subscription.compareAndSet(null, subscription)) {
+            subscription.cancel();
+        } else {
+            subscription.request(1);
+        }
+    }
+
+    @Override
+    public void onNext(@Nullable final TValue value) {
+        if (!disposed) {
+            publish(value);
+        }
+    }
+
+    @Override
+    public void onError(@Nullable final Throwable throwable) {
+        subscription.set(null);
+        if (!disposed && throwable != null) {
+            getHandOff().execute(() -> errorHandler.accept(throwable));
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        subscription.set(null);
+    }
+
+    // endregion
+}
@@ -71,15 +71,27 @@ public class RelayBinding<TParentValue, TValue, TObservedValue extends Observabl
 
     RelayBinding(@NotNull final ObservableValue<TParentValue> parent, @NotNull final Function<TParentValue, TObservedValue> relayResolver) {
         this.onParentChanged = (observable, oldValue, newValue) -> {
+            ChangeJournal.record(JournalEvent.RELAY_SWITCH, this);
             destroyObservedValue();
-            if (newValue != null) {
-                setObservedValue(relayResolver.apply(newValue));
+            try {
+                final TObservedValue relayed = newValue != null ? relayResolver.apply(newValue) : null;
+                if (relayed != null) {
+                    setObservedValue(relayed);
+                }
+            } finally {
+                // also invalidate if the resolver failed, so the value of the previous observed value is not kept
+                invalidate();
             }
-            invalidate();
         };
         this.parent = new WeakReference<>(parent);
         parent.addListener(this.onParentChanged);
-        onParentChanged.changed(parent, null, parent.getValue());
+        try {
+            onParentChanged.changed(parent, null, parent.getValue());
+        } catch (final RuntimeException e) {
+            // the binding is never returned, so it would otherwise be resolved again on each change of the parent
+            parent.removeListener(this.onParentChanged);
+            throw e;
+        }
     }
 
     // endregion
@@ -65,6 +65,20 @@ class RootBinding<TValue> extends ObjectBinding<TValue> implements IFluentBindin
     @Nullable
     private Supplier<TValue> fallbackSupplier;
 
+    /**
+     * Determines if converters, combiners and the {@link #valueReplacer} are not applied again to the same values.
+     *
+     * @see #memoize()
+     * @see #stopMemoization()
+     */
+    private boolean memoizing;
+
+    /**
+     * Remembers the last value the {@link #valueReplacer} has been applied to, if {@link #memoizing} is enabled.
+     */
+    @NotNull
+    private final Memoization.Memo<TValue> replacementMemo = new Memoization.Memo<>();
+
     /**
      * The list of {@link ChangeListener}s added to this binding.
      */
@@ -160,7 +174,7 @@ class RootBinding<TValue> extends ObjectBinding<TValue> implements IFluentBindin
     protected TValue computeValue() {
         final Optional<ObservableValue<TValue>> observedValue = getObservedValue();
         if (observedValue.isPresent()) {
-            return valueReplacer != null ? valueReplacer.apply(observedValue.get().getValue()) : observedValue.get().getValue();
+            return replaceValue(observedValue.get().getValue());
         } else if (fallbackSupplier != null) {
             return fallbackSupplier.get();
         } else {
@@ -168,6 +182,40 @@ class RootBinding<TValue> extends ObjectBinding<TValue> implements IFluentBindin
         }
     }
 
+    /**
+     * Applies the {@link #valueReplacer} to the given value if there is one. If this binding is {@link #memoizing}, the {@link #valueReplacer} is not applied again if neither the
+     * value nor the {@link #valueReplacer} have changed since the last time.
+     *
+     * @param value the value to replace.
+     *
+     * @return the replaced value or the given value if there is no {@link #valueReplacer}.
+     */
+    @Nullable
+    protected final TValue replaceValue(@Nullable final TValue value) {
+        final Function<TValue, TValue> replacer = valueReplacer;
+        if (replacer == null) {
+            return value;
+        }
+        return replacementMemo.apply(memoizing, replacer, value);
+    }
+
+    /**
+     * {@inheritDoc} If this binding is invalid, the recomputation is recorded by the started {@link ChangeJournal}. If a binding created by {@link Bindings#compute(Supplier)} is being
+     * computed on this thread, this binding becomes one of its dependencies.
+     */
+    @Override
+    public TValue getValue() {
+        final TValue value;
+        if (!isValid()) {
+            ChangeJournal.record(JournalEvent.RECOMPUTE, this);
+            value = ComputedBinding.untracked(super::getValue);
+        } else {
+            value = super.getValue();
+        }
+        ComputedBinding.track(this);
+        return value;
+    }
+
     /**
      * When the observed value is propertyChanged, this binding is invalidated.
      */
@@ -252,6 +300,36 @@ class RootBinding<TValue> extends ObjectBinding<TValue> implements IFluentBindin
         return valueReplacer != null;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NotNull
+    public IFluentBinding<TValue> memoize() {
+        memoizing = true;
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NotNull
+    public IFluentBinding<TValue> stopMemoization() {
+        memoizing = false;
+        replacementMemo.clear();
+        invalidate();
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isMemoizing() {
+        return memoizing;
+    }
+
     @Override
     public void addListener(@NotNull final InvalidationListener listener) {
         super.addListener(listener);
@@ -297,9 +375,10 @@ class RootBinding<TValue> extends ObjectBinding<TValue> implements IFluentBindin
     }
 
     /**
-     * Stops listening to the {@link #observedValue} and also stops the replacement, fallback value and all attached listeners.
+     * Stops listening to the {@link #observedValue} and also stops the replacement, fallback value, memoization and all attached listeners.
      *
      * @see #stopReplacement()
+     * @see #stopMemoization()
      * @see #stopFallbackOn()
      * @see #stopListeners()
      */
@@ -308,6 +387,7 @@ class RootBinding<TValue> extends ObjectBinding<TValue> implements IFluentBindin
         destroyObservedValue();
         stopReplacement();
         stopFallbackOn();
+        stopMemoization();
         stopListeners();
         invalidate();
     }
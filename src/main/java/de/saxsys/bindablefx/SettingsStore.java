@@ -0,0 +1,865 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import javafx.beans.property.Property;
+import javafx.beans.value.ChangeListener;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32;
+
+/**
+ * This class persists the values of {@link Property}s, including {@link IPropertyBinding}s, in a key-value file. When the store is opened, the file is memory-mapped and indexed
+ * without copying the stored values, a value is only read and converted by its {@link ISerializer} once a {@link Property} is bound to its key.
+ * <p>
+ * Changes of bound {@link Property}s are not written immediately. Only the latest value of each changed key is remembered and all of them are appended to the file as a single batch,
+ * either once no change has happened for the idle delay, when {@link #flush()} is called or when the store is closed. Persisting therefore only costs as much as has changed since the
+ * last batch, no matter how many {@link Property}s are bound or how often they changed. The values are serialized when the batch is written, so they should be immutable.
+ * <p>
+ * The file only grows while the store is open. Once the outdated records take up more space than the current ones, the file is compacted the next time it is opened. Records
+ * that have only been written partially, e.g. because the application crashed, are detected by their checksum and discarded.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public final class SettingsStore implements Closeable {
+
+    // region Constants
+
+    /**
+     * Identifies the file of a {@link SettingsStore}.
+     */
+    private static final int MAGIC = 0x42465353;
+
+    /**
+     * The version of the format of the file.
+     */
+    private static final int FORMAT_VERSION = 1;
+
+    /**
+     * The size of the header of the file: magic and version.
+     */
+    private static final int HEADER_SIZE = 8;
+
+    /**
+     * The size of the header of each record: the length of the key, the length of the value and the checksum of both.
+     */
+    private static final int RECORD_HEADER_SIZE = 12;
+
+    /**
+     * The length of the value of a record which removes its key.
+     */
+    private static final int REMOVED = -1;
+
+    /**
+     * The minimum amount of nanoseconds after which a batch that failed to be written in the background is written again.
+     */
+    private static final long RETRY_DELAY = TimeUnit.SECONDS.toNanos(1);
+
+    // endregion
+
+    // region Fields
+
+    /**
+     * The file containing the values.
+     */
+    @NotNull
+    private final Path file;
+
+    /**
+     * The {@link ScheduledExecutorService} which writes the changes once no change happened for the idle delay, if null changes are only written by {@link #flush()} and
+     * {@link #close()}.
+     */
+    @Nullable
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * The amount of nanoseconds without a change after which the changes are written.
+     */
+    private final long idleDelay;
+
+    /**
+     * The stored values, which are views of the memory-mapped file until they are changed.
+     */
+    @NotNull
+    private final Map<String, ByteBuffer> values = new HashMap<>();
+
+    /**
+     * The latest values of all keys which have changed since the last batch has been written.
+     */
+    @NotNull
+    private final Map<String, PendingValue<?>> pendingValues = new LinkedHashMap<>();
+
+    /**
+     * The values of the batch that is currently being written, which are still returned by {@link #get(String, ISerializer)} until the batch has been written.
+     */
+    @NotNull
+    private Map<String, PendingValue<?>> writingValues = Collections.emptyMap();
+
+    /**
+     * The lock which is held while a batch is written. It is always acquired before the monitor of this store, which is only held briefly, so changing bound {@link Property}s is
+     * never blocked by writing to the disk.
+     */
+    @NotNull
+    private final Object writeLock = new Object();
+
+    /**
+     * The {@link Property}s bound to the keys.
+     */
+    @NotNull
+    private final Map<String, BoundProperty<?>> boundProperties = new HashMap<>();
+
+    /**
+     * The amount of records that have been written.
+     */
+    @NotNull
+    private final LongAdder writtenRecords = new LongAdder();
+
+    /**
+     * The {@link FileChannel} of the file.
+     */
+    @NotNull
+    private FileChannel channel;
+
+    /**
+     * The length of the valid part of the file, which is where the next batch will be written, it is only accessed while holding the {@link #writeLock}.
+     */
+    private long dataLength;
+
+    /**
+     * The time in nanoseconds of the last change.
+     */
+    private long lastChange;
+
+    /**
+     * Determines if a batch has been scheduled to be written.
+     */
+    private boolean flushScheduled;
+
+    /**
+     * The failure of the last batch, null if it has been written successfully.
+     */
+    @Nullable
+    private volatile Exception lastFailure;
+
+    /**
+     * Determines if this store has been closed.
+     */
+    private boolean closed;
+
+    // endregion
+
+    // region Constructor
+
+    private SettingsStore(@NotNull final Path file, @Nullable final ScheduledExecutorService scheduler, final long idleDelay) throws IOException {
+        this.file = file;
+        this.scheduler = scheduler;
+        this.idleDelay = idleDelay;
+
+        final Path directory = file.toAbsolutePath().getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (load() > 2 * liveLength()) {
+                compact();
+            }
+        } catch (final IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    // endregion
+
+    // region Static
+
+    /**
+     * Opens the given file, which is created if it does not exist yet. Changes are only written by {@link #flush()} and {@link #close()}.
+     *
+     * @param file the file containing the values.
+     *
+     * @return the opened {@link SettingsStore}, which needs to be closed.
+     *
+     * @throws IOException if the file can not be opened.
+     */
+    @SuppressWarnings ("ConstantConditions")
+    @NotNull
+    public static SettingsStore open(@NotNull final Path file) throws IOException {
+        if (file == null) {
+            throw new NullPointerException("File cannot be null");
+        }
+        return new SettingsStore(file, null, 0L);
+    }
+
+    /**
+     * Opens the given file, which is created if it does not exist yet. Changes are written by the given {@link ScheduledExecutorService} once no change happened for the given delay,
+     * as well as by {@link #flush()} and {@link #close()}. If the changes can not be written by the {@link ScheduledExecutorService}, the failure is reported by
+     * {@link #getLastFailure()} and writing them is retried. The {@link ScheduledExecutorService} is not shut down when the store is closed.
+     *
+     * @param file      the file containing the values.
+     * @param scheduler the {@link ScheduledExecutorService} which writes the changes.
+     * @param idleDelay the time without a change after which the changes are written.
+     * @param unit      the {@link TimeUnit} of the idle delay.
+     *
+     * @return the opened {@link SettingsStore}, which needs to be closed.
+     *
+     * @throws IOException              if the file can not be opened.
+     * @throws IllegalArgumentException if the idle delay is less than 0.
+     */
+    @SuppressWarnings ("ConstantConditions")
+    @NotNull
+    public static SettingsStore open(@NotNull final Path file,
+                                     @NotNull final ScheduledExecutorService scheduler,
+                                     final long idleDelay,
+                                     @NotNull final TimeUnit unit) throws IOException {
+        if (file == null) {
+            throw new NullPointerException("File cannot be null");
+        }
+        if (scheduler == null) {
+            throw new NullPointerException("Scheduler cannot be null");
+        }
+        if (unit == null) {
+            throw new NullPointerException("Unit cannot be null");
+        }
+        if (idleDelay < 0) {
+            throw new IllegalArgumentException("The idle delay must be at least 0 but was " + idleDelay);
+        }
+        return new SettingsStore(file, scheduler, unit.toNanos(idleDelay));
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Indexes the records of the file without copying their values. Records following an invalid record are discarded.
+     *
+     * @return the length of the records in the file.
+     *
+     * @throws IOException if the file can not be read or is larger than 2GB.
+     */
+    private long load() throws IOException {
+        final long size = channel.size();
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("The settings file must be smaller than 2GB but was " + size + " bytes");
+        }
+        if (size < HEADER_SIZE) {
+            reset();
+            return 0L;
+        }
+
+        final MappedByteBuffer mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        if (mapping.getInt(0) != MAGIC || mapping.getInt(4) != FORMAT_VERSION) {
+            reset();
+            return 0L;
+        }
+
+        int position = HEADER_SIZE;
+        while (position + RECORD_HEADER_SIZE <= size) {
+            final int keyLength = mapping.getInt(position);
+            final int valueLength = mapping.getInt(position + 4);
+            final int contentLength = keyLength + Math.max(valueLength, 0);
+            if (keyLength < 0 || valueLength < REMOVED || contentLength < 0 || contentLength > size - position - RECORD_HEADER_SIZE) {
+                break;
+            }
+            final ByteBuffer content = slice(mapping, position + RECORD_HEADER_SIZE, contentLength);
+            if (checksum(content) != mapping.getInt(position + 8)) {
+                break;
+            }
+
+            final byte[] key = new byte[keyLength];
+            content.get(key);
+            if (valueLength == REMOVED) {
+                values.remove(new String(key, StandardCharsets.UTF_8));
+            } else {
+                values.put(new String(key, StandardCharsets.UTF_8), content.slice());
+            }
+            position += RECORD_HEADER_SIZE + contentLength;
+        }
+
+        dataLength = position;
+        if (position < size) {
+            channel.truncate(position);
+        }
+        return position - HEADER_SIZE;
+    }
+
+    /**
+     * Removes all records by truncating the file to its header.
+     *
+     * @throws IOException if the file can not be written.
+     */
+    private void reset() throws IOException {
+        channel.truncate(0);
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putInt(FORMAT_VERSION).flip();
+        write(channel, header, 0L);
+        dataLength = HEADER_SIZE;
+    }
+
+    /**
+     * Rewrites the file so it only contains the current values. The file is replaced atomically, if it can not be replaced, it is kept as it is.
+     *
+     * @throws IOException if the file can not be reopened.
+     */
+    private void compact() throws IOException {
+        // the values are copied first, since they are views of the file that is about to be replaced
+        values.replaceAll((key, value) -> ByteBuffer.wrap(toArray(value)));
+
+        final Path compacted = file.resolveSibling(file.getFileName() + ".tmp");
+        try (final FileChannel target = FileChannel.open(compacted, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(MAGIC).putInt(FORMAT_VERSION).flip();
+            write(target, header, 0L);
+            final List<byte[]> records = new ArrayList<>(values.size());
+            for (final Map.Entry<String, ByteBuffer> entry : values.entrySet()) {
+                records.add(record(entry.getKey(), toArray(entry.getValue())));
+            }
+            write(target, batch(records), HEADER_SIZE);
+            target.force(false);
+        } catch (final IOException e) {
+            Files.deleteIfExists(compacted);
+            return;
+        }
+
+        channel.close();
+        try {
+            Files.move(compacted, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException e) {
+            Files.deleteIfExists(compacted);
+        } finally {
+            channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        }
+        dataLength = channel.size();
+    }
+
+    /**
+     * Returns the length of the records which contain the current values.
+     *
+     * @return the length of the current records.
+     */
+    private long liveLength() {
+        long result = 0L;
+        for (final Map.Entry<String, ByteBuffer> entry : values.entrySet()) {
+            result += RECORD_HEADER_SIZE + entry.getKey().getBytes(StandardCharsets.UTF_8).length + entry.getValue().remaining();
+        }
+        return result;
+    }
+
+    /**
+     * Remembers the given value as the latest value of the given key and schedules the changes to be written if needed.
+     *
+     * @param key          the key.
+     * @param pendingValue the latest value.
+     */
+    private synchronized void change(@NotNull final String key, @NotNull final PendingValue<?> pendingValue) {
+        if (closed) {
+            return;
+        }
+        pendingValues.put(key, pendingValue);
+        lastChange = System.nanoTime();
+        if (scheduler != null && !flushScheduled) {
+            flushScheduled = true;
+            scheduler.schedule(this::flushWhenIdle, idleDelay, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Writes the changes if no change happened for the idle delay, otherwise schedules itself again for the remaining time. If writing fails, the failure is available via
+     * {@link #getLastFailure()}, the changes are kept and writing them is retried.
+     */
+    private void flushWhenIdle() {
+        synchronized (this) {
+            if (closed || scheduler == null) {
+                return;
+            }
+            final long idleTime = System.nanoTime() - lastChange;
+            if (idleTime < idleDelay) {
+                scheduler.schedule(this::flushWhenIdle, idleDelay - idleTime, TimeUnit.NANOSECONDS);
+                return;
+            }
+            flushScheduled = false;
+        }
+        try {
+            flush();
+        } catch (final IOException | RuntimeException e) {
+            lastFailure = e;
+            synchronized (this) {
+                if (!closed && !flushScheduled) {
+                    flushScheduled = true;
+                    scheduler.schedule(this::flushWhenIdle, Math.max(idleDelay, RETRY_DELAY), TimeUnit.NANOSECONDS);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the latest value of the given key that has not been written yet.
+     *
+     * @param key the key.
+     *
+     * @return the latest value or null if all changes of the key have been written.
+     */
+    @Nullable
+    private PendingValue<?> getUnwrittenValue(@NotNull final String key) {
+        final PendingValue<?> pendingValue = pendingValues.get(key);
+        return pendingValue != null ? pendingValue : writingValues.get(key);
+    }
+
+    /**
+     * Throws an {@link IllegalStateException} if this store has been closed.
+     */
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("The store has been closed");
+        }
+    }
+
+    /**
+     * Returns a view of the given part of the given {@link ByteBuffer}.
+     *
+     * @param buffer   the {@link ByteBuffer}.
+     * @param position the position of the part.
+     * @param length   the length of the part.
+     *
+     * @return the view of the part.
+     */
+    @NotNull
+    private static ByteBuffer slice(@NotNull final ByteBuffer buffer, final int position, final int length) {
+        final ByteBuffer result = buffer.duplicate();
+        result.position(position).limit(position + length);
+        return result.slice();
+    }
+
+    /**
+     * Copies the remaining bytes of the given {@link ByteBuffer} without changing its position.
+     *
+     * @param buffer the {@link ByteBuffer}.
+     *
+     * @return the remaining bytes.
+     */
+    @NotNull
+    private static byte[] toArray(@NotNull final ByteBuffer buffer) {
+        final byte[] result = new byte[buffer.remaining()];
+        buffer.duplicate().get(result);
+        return result;
+    }
+
+    /**
+     * Returns the checksum of the remaining bytes of the given {@link ByteBuffer} without changing its position.
+     *
+     * @param buffer the {@link ByteBuffer}.
+     *
+     * @return the checksum.
+     */
+    private static int checksum(@NotNull final ByteBuffer buffer) {
+        final CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate());
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Creates the record of the given key and value.
+     *
+     * @param key   the key.
+     * @param value the serialized value or null if the key is removed.
+     *
+     * @return the bytes of the record.
+     */
+    @NotNull
+    private static byte[] record(@NotNull final String key, @Nullable final byte[] value) {
+        final byte[] serializedKey = key.getBytes(StandardCharsets.UTF_8);
+        final int valueLength = value != null ? value.length : 0;
+        final ByteBuffer content = ByteBuffer.allocate(serializedKey.length + valueLength);
+        content.put(serializedKey);
+        if (value != null) {
+            content.put(value);
+        }
+        content.flip();
+
+        final ByteBuffer result = ByteBuffer.allocate(RECORD_HEADER_SIZE + content.remaining());
+        result.putInt(serializedKey.length).putInt(value != null ? value.length : REMOVED).putInt(checksum(content)).put(content);
+        return result.array();
+    }
+
+    /**
+     * Joins the given records into a single {@link ByteBuffer}.
+     *
+     * @param records the records.
+     *
+     * @return the {@link ByteBuffer} containing all records.
+     */
+    @NotNull
+    private static ByteBuffer batch(@NotNull final List<byte[]> records) {
+        int length = 0;
+        for (final byte[] record : records) {
+            length += record.length;
+        }
+        final ByteBuffer result = ByteBuffer.allocate(length);
+        records.forEach(result::put);
+        result.flip();
+        return result;
+    }
+
+    /**
+     * Writes the remaining bytes of the given {@link ByteBuffer} at the given position.
+     *
+     * @param target   the {@link FileChannel} to write to.
+     * @param buffer   the {@link ByteBuffer} to write.
+     * @param position the position in the file.
+     *
+     * @throws IOException if the bytes can not be written.
+     */
+    private static void write(@NotNull final FileChannel target, @NotNull final ByteBuffer buffer, final long position) throws IOException {
+        final int start = buffer.position();
+        while (buffer.hasRemaining()) {
+            target.write(buffer, position + buffer.position() - start);
+        }
+    }
+
+    // endregion
+
+    // region Public
+
+    /**
+     * Binds the given {@link Property} to the given key. If a value is stored for the key, it is set on the {@link Property}, afterwards each change of the {@link Property} is stored.
+     * A {@link Property} that was previously bound to the key is unbound. The store does not prevent the {@link Property} from being garbage collected.
+     *
+     * @param key        the key.
+     * @param property   the {@link Property} to bind.
+     * @param serializer the {@link ISerializer} of the value.
+     * @param <TValue>   the type of the value.
+     */
+    @SuppressWarnings ("ConstantConditions")
+    public <TValue> void bind(@NotNull final String key, @NotNull final Property<TValue> property, @NotNull final ISerializer<TValue> serializer) {
+        if (key == null) {
+            throw new NullPointerException("Key cannot be null");
+        }
+        if (property == null) {
+            throw new NullPointerException("Property cannot be null");
+        }
+        if (serializer == null) {
+            throw new NullPointerException("ISerializer cannot be null");
+        }
+
+        final boolean stored;
+        final TValue value;
+        synchronized (this) {
+            checkOpen();
+            unbind(key);
+            stored = contains(key);
+            value = stored ? get(key, serializer) : null;
+        }
+        if (stored) {
+            property.setValue(value);
+        }
+
+        final ChangeListener<TValue> listener = (observable, oldValue, newValue) -> change(key, new PendingValue<>(newValue, serializer));
+        property.addListener(listener);
+        synchronized (this) {
+            boundProperties.put(key, new BoundProperty<>(property, listener));
+        }
+    }
+
+    /**
+     * Unbinds the {@link Property} bound to the given key, if there is one. Changes that already happened are still written.
+     *
+     * @param key the key.
+     */
+    public synchronized void unbind(@NotNull final String key) {
+        final BoundProperty<?> boundProperty = boundProperties.remove(key);
+        if (boundProperty != null) {
+            boundProperty.dispose();
+        }
+    }
+
+    /**
+     * Determines if a value is stored for the given key, including changes that have not been written yet.
+     *
+     * @param key the key.
+     *
+     * @return true if a value is stored for the key, otherwise false.
+     */
+    public synchronized boolean contains(@NotNull final String key) {
+        checkOpen();
+        final PendingValue<?> pendingValue = getUnwrittenValue(key);
+        return pendingValue != null ? pendingValue.value != null : values.containsKey(key);
+    }
+
+    /**
+     * Returns the value stored for the given key, including changes that have not been written yet.
+     *
+     * @param key        the key.
+     * @param serializer the {@link ISerializer} of the value.
+     * @param <TValue>   the type of the value.
+     *
+     * @return the value or null if none is stored.
+     */
+    @SuppressWarnings ("unchecked")
+    @Nullable
+    public synchronized <TValue> TValue get(@NotNull final String key, @NotNull final ISerializer<TValue> serializer) {
+        checkOpen();
+        final PendingValue<?> pendingValue = getUnwrittenValue(key);
+        if (pendingValue != null) {
+            return (TValue) pendingValue.value;
+        }
+        final ByteBuffer value = values.get(key);
+        return value != null ? serializer.deserialize(toArray(value)) : null;
+    }
+
+    /**
+     * Stores the given value for the given key, it will be written with the next batch. A {@link Property} bound to the key is not changed.
+     *
+     * @param key        the key.
+     * @param value      the value or null to remove the key.
+     * @param serializer the {@link ISerializer} of the value.
+     * @param <TValue>   the type of the value.
+     */
+    @SuppressWarnings ("ConstantConditions")
+    public <TValue> void put(@NotNull final String key, @Nullable final TValue value, @NotNull final ISerializer<TValue> serializer) {
+        if (key == null) {
+            throw new NullPointerException("Key cannot be null");
+        }
+        if (serializer == null) {
+            throw new NullPointerException("ISerializer cannot be null");
+        }
+        synchronized (this) {
+            checkOpen();
+            change(key, new PendingValue<>(value, serializer));
+        }
+    }
+
+    /**
+     * Writes all changes that happened since the last batch as a single batch, only the latest value of each key is written. The values are serialized and written without holding
+     * the monitor of this store, so bound {@link Property}s can be changed meanwhile. A value which can not be serialized is dropped, so it does not keep the other keys from being
+     * written, the failure is available via {@link #getLastFailure()}.
+     *
+     * @throws IOException if the file can not be written, in which case the changes are kept and written by the next batch.
+     */
+    public void flush() throws IOException {
+        synchronized (writeLock) {
+            final Map<String, PendingValue<?>> batchValues;
+            synchronized (this) {
+                if (closed || pendingValues.isEmpty()) {
+                    return;
+                }
+                batchValues = new LinkedHashMap<>(pendingValues);
+                pendingValues.clear();
+                writingValues = batchValues;
+            }
+
+            final List<byte[]> records = new ArrayList<>(batchValues.size());
+            final Map<String, byte[]> serializedValues = new HashMap<>();
+            final Set<String> droppedKeys = new HashSet<>();
+            RuntimeException serializationFailure = null;
+            boolean written = false;
+            try {
+                for (final Map.Entry<String, PendingValue<?>> entry : batchValues.entrySet()) {
+                    final byte[] value;
+                    try {
+                        value = entry.getValue().serialize();
+                    } catch (final RuntimeException e) {
+                        droppedKeys.add(entry.getKey());
+                        final RuntimeException failure = new IllegalArgumentException("The value of " + entry.getKey() + " can not be serialized and has been dropped", e);
+                        if (serializationFailure == null) {
+                            serializationFailure = failure;
+                        } else {
+                            serializationFailure.addSuppressed(failure);
+                        }
+                        continue;
+                    }
+                    serializedValues.put(entry.getKey(), value);
+                    records.add(record(entry.getKey(), value));
+                }
+
+                if (!records.isEmpty()) {
+                    final ByteBuffer batch = batch(records);
+                    final int length = batch.remaining();
+                    write(channel, batch, dataLength);
+                    channel.force(false);
+                    dataLength += length;
+                }
+                written = true;
+            } finally {
+                synchronized (this) {
+                    if (written) {
+                        serializedValues.forEach((key, value) -> {
+                            if (value != null) {
+                                values.put(key, ByteBuffer.wrap(value));
+                            } else {
+                                values.remove(key);
+                            }
+                        });
+                    } else {
+                        // changes that happened while writing are newer than the values of the failed batch
+                        batchValues.forEach((key, value) -> {
+                            if (!droppedKeys.contains(key)) {
+                                pendingValues.putIfAbsent(key, value);
+                            }
+                        });
+                    }
+                    writingValues = Collections.emptyMap();
+                }
+            }
+            writtenRecords.add(records.size());
+            lastFailure = serializationFailure;
+        }
+    }
+
+    /**
+     * Returns the failure of the last batch. If the batch could not be written in the background, its changes are kept and writing them is retried. If values could not be
+     * serialized, they have been dropped and all other values of the batch have been written.
+     *
+     * @return the failure or null if the last batch has been written successfully.
+     */
+    @Nullable
+    public Exception getLastFailure() {
+        return lastFailure;
+    }
+
+    /**
+     * Returns the amount of records that have been written, which is the amount of changed keys per batch, not the amount of changes.
+     *
+     * @return the amount of written records.
+     */
+    public long getWrittenRecordCount() {
+        return writtenRecords.sum();
+    }
+
+    /**
+     * Writes all changes, unbinds all {@link Property}s and closes the file, the store can no longer be used afterwards.
+     *
+     * @throws IOException if the changes can not be written or the file can not be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (writeLock) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+            }
+            try {
+                flush();
+            } finally {
+                synchronized (this) {
+                    closed = true;
+                    boundProperties.values().forEach(BoundProperty::dispose);
+                    boundProperties.clear();
+                    channel.close();
+                }
+            }
+        }
+    }
+
+    // endregion
+
+    // region Classes
+
+    /**
+     * The latest value of a key that has not been written yet.
+     *
+     * @param <TValue> the type of the value.
+     */
+    private static final class PendingValue<TValue> {
+
+        /**
+         * The value or null if the key is removed.
+         */
+        @Nullable
+        private final TValue value;
+
+        /**
+         * The {@link ISerializer} of the value.
+         */
+        @NotNull
+        private final ISerializer<TValue> serializer;
+
+        private PendingValue(@Nullable final TValue value, @NotNull final ISerializer<TValue> serializer) {
+            this.value = value;
+            this.serializer = serializer;
+        }
+
+        /**
+         * Serializes the value.
+         *
+         * @return the serialized value or null if the key is removed.
+         */
+        @Nullable
+        private byte[] serialize() {
+            return value != null ? serializer.serialize(value) : null;
+        }
+    }
+
+    /**
+     * A {@link Property} bound to a key.
+     *
+     * @param <TValue> the type of the value.
+     */
+    private static final class BoundProperty<TValue> {
+
+        /**
+         * The {@link Property}, which is only weakly referenced.
+         */
+        @NotNull
+        private final WeakReference<Property<TValue>> property;
+
+        /**
+         * The {@link ChangeListener} which remembers the changes of the {@link Property}.
+         */
+        @NotNull
+        private final ChangeListener<TValue> listener;
+
+        private BoundProperty(@NotNull final Property<TValue> property, @NotNull final ChangeListener<TValue> listener) {
+            this.property = new WeakReference<>(property);
+            this.listener = listener;
+        }
+
+        /**
+         * Removes the {@link ChangeListener} from the {@link Property}, if it still exists.
+         */
+        private void dispose() {
+            final Property<TValue> currentProperty = property.get();
+            if (currentProperty != null) {
+                currentProperty.removeListener(listener);
+            }
+        }
+    }
+
+    // endregion
+}
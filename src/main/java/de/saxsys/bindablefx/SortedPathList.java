@@ -0,0 +1,312 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * This class is a read only {@link ObservableList} which contains the elements of another {@link ObservableList} sorted by the value of a path. Elements with equal values keep the
+ * order of the source list. If the value of the path of an element changes, only this element is removed and inserted again at the position found by a binary search, so the path
+ * can be nested without extractors on each intermediate property and a change of a single element does not sort the whole list again.
+ * <p>
+ * The source list only weakly references this list, so it can be garbage collected once it is no longer used. Call {@link #dispose()} to stop observing the source list and release
+ * the paths of all elements immediately.
+ *
+ * @param <TElement> the type of the elements of the source list.
+ * @param <TValue>   the type of the value of the path.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public final class SortedPathList<TElement, TValue> extends ObservableListBase<TElement> {
+
+    // region Fields
+
+    /**
+     * The {@link Comparator} which orders the values of the paths.
+     */
+    @NotNull
+    private final Comparator<? super TValue> comparator;
+
+    /**
+     * The {@link Node}s in sorted order.
+     */
+    @NotNull
+    private final ArrayList<Node<TElement, TValue>> sorted;
+
+    /**
+     * The {@link Node}s in the order of the source list.
+     */
+    @NotNull
+    private final ArrayList<Node<TElement, TValue>> unsorted;
+
+    /**
+     * The {@link ElementPathTracker} which observes the source list.
+     */
+    @NotNull
+    private final ElementPathTracker<TElement, TValue> tracker;
+
+    // endregion
+
+    // region Constructor
+
+    /**
+     * Creates a new list which contains the elements of the given {@link ObservableList} sorted by the value of the given path.
+     *
+     * @param source     the {@link ObservableList} whose elements are to be sorted.
+     * @param path       the {@link Function} which resolves the {@link ObservableValue} of each element.
+     * @param comparator the {@link Comparator} which orders the values of the paths, it also receives null values.
+     */
+    SortedPathList(@NotNull final ObservableList<TElement> source,
+                   @NotNull final Function<TElement, ? extends ObservableValue<TValue>> path,
+                   @NotNull final Comparator<? super TValue> comparator) {
+        this.comparator = comparator;
+        this.tracker = new ElementPathTracker<>(source, path, new Handler());
+        this.unsorted = new ArrayList<>(tracker.size());
+        for (int i = 0; i < tracker.size(); ++i) {
+            unsorted.add(new Node<>(i, tracker.getElement(i), tracker.getValue(i)));
+        }
+        this.sorted = new ArrayList<>(unsorted);
+        sorted.sort(this::compare);
+    }
+
+    // endregion
+
+    // region Public
+
+    /**
+     * Stops observing the source list and releases the paths of all elements, this list will be empty afterwards and its listeners are notified about the removal.
+     */
+    public void dispose() {
+        final List<TElement> removed = new ArrayList<>(this);
+        tracker.dispose();
+        sorted.clear();
+        unsorted.clear();
+        if (!removed.isEmpty()) {
+            beginChange();
+            nextRemove(0, removed);
+            endChange();
+        }
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Compares the given {@link Node}s by their value and then by their index in the source list.
+     *
+     * @param first  the first {@link Node}.
+     * @param second the second {@link Node}.
+     *
+     * @return a negative number, zero or a positive number if the first {@link Node} is less than, equal to or greater than the second {@link Node}.
+     */
+    private int compare(@NotNull final Node<TElement, TValue> first, @NotNull final Node<TElement, TValue> second) {
+        final int result = comparator.compare(first.value, second.value);
+        return result != 0 ? result : Integer.compare(first.sourceIndex, second.sourceIndex);
+    }
+
+    /**
+     * Returns the position of the given {@link Node} in the {@link #sorted} list.
+     *
+     * @param node the {@link Node} to find.
+     *
+     * @return the position of the {@link Node} if it is contained, otherwise (-(insertion point) - 1).
+     */
+    private int find(@NotNull final Node<TElement, TValue> node) {
+        int low = 0;
+        int high = sorted.size() - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final int result = compare(sorted.get(middle), node);
+            if (result < 0) {
+                low = middle + 1;
+            } else if (result > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Inserts the given {@link Node} into the {@link #sorted} list.
+     *
+     * @param node the {@link Node} to insert.
+     *
+     * @return the position of the inserted {@link Node}.
+     */
+    private int insert(@NotNull final Node<TElement, TValue> node) {
+        final int position = -find(node) - 1;
+        sorted.add(position, node);
+        return position;
+    }
+
+    // endregion
+
+    // region Override ObservableListBase
+
+    @Override
+    public TElement get(final int index) {
+        return sorted.get(index).element;
+    }
+
+    @Override
+    public int size() {
+        return sorted.size();
+    }
+
+    // endregion
+
+    // region Classes
+
+    /**
+     * An element, the value of its path and its index in the source list.
+     *
+     * @param <TElement> the type of the element.
+     * @param <TValue>   the type of the value of the path.
+     */
+    private static final class Node<TElement, TValue> {
+
+        /**
+         * The index of the element in the source list.
+         */
+        private int sourceIndex;
+
+        /**
+         * The element.
+         */
+        @Nullable
+        private TElement element;
+
+        /**
+         * The value of the path of the element.
+         */
+        @Nullable
+        private TValue value;
+
+        private Node(final int sourceIndex, @Nullable final TElement element, @Nullable final TValue value) {
+            this.sourceIndex = sourceIndex;
+            this.element = element;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Translates the changes of the {@link ElementPathTracker} into changes of this list.
+     */
+    private final class Handler implements ElementPathTracker.IHandler<TValue> {
+
+        @Override
+        public void beginChange() {
+            SortedPathList.this.beginChange();
+        }
+
+        @Override
+        public void endChange() {
+            SortedPathList.this.endChange();
+        }
+
+        @Override
+        public void replaced(final int from, final int to, @NotNull final List<TValue> removed) {
+            final List<Node<TElement, TValue>> removedNodes = unsorted.subList(from, from + removed.size());
+            for (final Node<TElement, TValue> node : removedNodes) {
+                final int position = find(node);
+                sorted.remove(position);
+                nextRemove(position, node.element);
+            }
+            removedNodes.clear();
+
+            // shifting the following indices keeps their relative order, so the sorted list stays sorted
+            final int shift = to - from - removed.size();
+            if (shift != 0) {
+                for (int i = from; i < unsorted.size(); ++i) {
+                    unsorted.get(i).sourceIndex += shift;
+                }
+            }
+
+            for (int i = from; i < to; ++i) {
+                final Node<TElement, TValue> node = new Node<>(i, tracker.getElement(i), tracker.getValue(i));
+                unsorted.add(i, node);
+                final int position = insert(node);
+                nextAdd(position, position + 1);
+            }
+        }
+
+        @Override
+        public void permutated(final int from, final int to, @NotNull final int[] permutation) {
+            final List<Node<TElement, TValue>> moved = new ArrayList<>(unsorted.subList(from, to));
+            for (int i = 0; i < moved.size(); ++i) {
+                final Node<TElement, TValue> node = moved.get(i);
+                node.sourceIndex = permutation[i];
+                unsorted.set(node.sourceIndex, node);
+            }
+
+            // only elements with equal values can change their order, since they are ordered by their index in the source list
+            final Map<Node<TElement, TValue>, Integer> previousPositions = new IdentityHashMap<>(sorted.size());
+            for (int i = 0; i < sorted.size(); ++i) {
+                previousPositions.put(sorted.get(i), i);
+            }
+            sorted.sort(SortedPathList.this::compare);
+            int first = -1;
+            int last = -1;
+            final int[] positions = new int[sorted.size()];
+            for (int i = 0; i < sorted.size(); ++i) {
+                final int previous = previousPositions.get(sorted.get(i));
+                positions[previous] = i;
+                if (previous != i) {
+                    first = first < 0 ? i : first;
+                    last = i;
+                }
+            }
+            if (first >= 0) {
+                final int[] permutationRange = new int[last - first + 1];
+                System.arraycopy(positions, first, permutationRange, 0, permutationRange.length);
+                nextPermutation(first, last + 1, permutationRange);
+            }
+        }
+
+        @Override
+        public void updated(final int index, @Nullable final TValue oldValue, @Nullable final TValue newValue) {
+            final Node<TElement, TValue> node = unsorted.get(index);
+            final TElement previousElement = node.element;
+            final int previousPosition = find(node);
+            sorted.remove(previousPosition);
+            node.element = tracker.getElement(index);
+            node.value = newValue;
+            final int position = insert(node);
+            if (position != previousPosition) {
+                nextRemove(previousPosition, previousElement);
+                nextAdd(position, position + 1);
+            } else if (previousElement != node.element) {
+                nextSet(position, previousElement);
+            } else {
+                nextUpdate(position);
+            }
+        }
+    }
+
+    // endregion
+}
@@ -0,0 +1,395 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import javafx.beans.WeakListener;
+import javafx.beans.property.Property;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class keeps the values of any amount of {@link Property}s in sync. Instead of binding each pair of {@link Property}s bidirectional, each member of the group only has a single
+ * listener which reports changes to the group. The group then converts the new value into its own value and sets it on all other members exactly once, so a change never bounces between
+ * the members.
+ * <p>
+ * Each member can have its own {@link IConverter}, which converts the value of the group into the value of the member and vice versa. The members are only weakly referenced, so they
+ * can be garbage collected while they are part of the group.
+ * <p>
+ * A change is either set on all members or on none of them. If an {@link IConverter} fails or a {@link Property} can not be set, all members that have already been set and the
+ * {@link Property} that has changed are reset to their previous values and the exception is thrown afterwards. The same happens if the wave of the {@link PropagationGuard} is
+ * aborted before all members have been set, so the members never stay out of sync.
+ * <p>
+ * This class is not thread safe and needs to be used on the thread owning the {@link Property}s.
+ *
+ * @param <TValue> the type of the value of the group.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public final class SyncGroup<TValue> {
+
+    // region Fields
+
+    /**
+     * Contains the {@link Member} of each {@link Property} in this group.
+     */
+    @NotNull
+    private final WeakIdentityMap<Property<?>, Member<?>> members = new WeakIdentityMap<>();
+
+    /**
+     * The current value of the group.
+     */
+    @Nullable
+    private TValue value;
+
+    /**
+     * Determines if this group is currently setting the values of its members.
+     */
+    private boolean updating;
+
+    // endregion
+
+    // region Constructor
+
+    /**
+     * Creates a new empty group.
+     */
+    SyncGroup() {}
+
+    // endregion
+
+    // region Public
+
+    /**
+     * Returns the current value of this group.
+     *
+     * @return the current value of this group.
+     */
+    @Nullable
+    public TValue getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the amount of members in this group.
+     *
+     * @return the amount of members in this group.
+     */
+    public int getMemberCount() {
+        return members.size();
+    }
+
+    /**
+     * Determines if the given {@link Property} is a member of this group.
+     *
+     * @param property the {@link Property} to check.
+     *
+     * @return true if the {@link Property} is a member of this group, otherwise false.
+     */
+    public boolean contains(@NotNull final Property<?> property) {
+        return members.containsKey(property);
+    }
+
+    /**
+     * Adds the given {@link Property} to this group. If the group has no members yet, the value of the {@link Property} becomes the value of the group, otherwise the {@link Property}
+     * will receive the value of the group.
+     *
+     * @param property the {@link Property} to add.
+     *
+     * @return this group.
+     */
+    @NotNull
+    public SyncGroup<TValue> add(@NotNull final Property<TValue> property) {
+        return add(property, new IdentityConverter<>());
+    }
+
+    /**
+     * Adds the given {@link Property} to this group, its value will be converted using the given {@link IConverter}. If the group has no members yet, the converted value of the
+     * {@link Property} becomes the value of the group, otherwise the {@link Property} will receive the converted value of the group. If the {@link Property} is already a member of
+     * this group, it will be replaced.
+     *
+     * @param property      the {@link Property} to add.
+     * @param converter     the {@link IConverter} which converts the value of the group into the value of the {@link Property} and vice versa.
+     * @param <TOtherValue> the type of the value of the {@link Property}.
+     *
+     * @return this group.
+     */
+    @NotNull
+    @SuppressWarnings ("ConstantConditions")
+    public <TOtherValue> SyncGroup<TValue> add(@NotNull final Property<TOtherValue> property, @NotNull final IConverter<TValue, TOtherValue> converter) {
+        if (property == null) {
+            throw new NullPointerException("The property must be specified.");
+        }
+        if (converter == null) {
+            throw new NullPointerException("IConverter cannot be null");
+        }
+        remove(property);
+        final Member<TOtherValue> member = new Member<>(this, property, converter);
+        if (members.isEmpty()) {
+            value = converter.convertBack(property.getValue());
+        } else {
+            member.update();
+        }
+        members.put(property, member);
+        property.addListener(member);
+        return this;
+    }
+
+    /**
+     * Removes the given {@link Property} from this group.
+     *
+     * @param property the {@link Property} to remove.
+     *
+     * @return true if the {@link Property} was a member of this group, otherwise false.
+     */
+    public boolean remove(@NotNull final Property<?> property) {
+        final Member<?> member = members.remove(property);
+        if (member != null) {
+            member.detach();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Removes all members from this group, their values will no longer be synchronized.
+     */
+    public void dispose() {
+        members.forEach((property, member) -> member.detach());
+        members.clear();
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Converts the new value of the given source into the value of the group and sets it on all other members. All values are converted before the first member is set and each member
+     * counts as a transfer of the {@link PropagationGuard}. If anything fails or the wave is aborted, the previous values are restored.
+     *
+     * @param source        the {@link Member} whose {@link Property} has changed.
+     * @param oldValue      the previous value of the {@link Property} of the source.
+     * @param newValue      the new value of the {@link Property} of the source.
+     * @param <TOtherValue> the type of the value of the {@link Property} of the source.
+     */
+    @SuppressWarnings ("unchecked")
+    private <TOtherValue> void propagate(@NotNull final Member<TOtherValue> source, @Nullable final TOtherValue oldValue, @Nullable final TOtherValue newValue) {
+        if (updating) {
+            return;
+        }
+        final TValue previousValue = value;
+        final List<Runnable> rollbacks = new ArrayList<>();
+        rollbacks.add(() -> source.set(oldValue));
+        boolean rolledBack = false;
+        updating = true;
+        try {
+            final TValue groupValue = (TValue) source.converter.convertBack(newValue);
+            final List<Member<Object>> targets = new ArrayList<>();
+            final List<Object> targetValues = new ArrayList<>();
+            members.forEach((property, member) -> {
+                if (member != source) {
+                    targets.add((Member<Object>) member);
+                    targetValues.add(member.converter.convertTo(groupValue));
+                }
+            });
+
+            value = groupValue;
+            for (int i = 0; i < targets.size(); ++i) {
+                if (!PropagationGuard.enter(this)) {
+                    // the failure of the rollback must not cause another rollback below
+                    rolledBack = true;
+                    rollback(previousValue, rollbacks, null);
+                    return;
+                }
+                try {
+                    final Member<Object> target = targets.get(i);
+                    final Object targetValue = target.get();
+                    rollbacks.add(() -> target.set(targetValue));
+                    target.set(targetValues.get(i));
+                } finally {
+                    PropagationGuard.exit();
+                }
+            }
+        } catch (final RuntimeException e) {
+            if (!rolledBack) {
+                rollback(previousValue, rollbacks, e);
+            }
+            throw e;
+        } finally {
+            updating = false;
+        }
+    }
+
+    /**
+     * Restores the given previous value of the group and runs the given rollbacks in reverse order, each of them is run even if a previous one fails.
+     *
+     * @param previousValue the previous value of the group.
+     * @param rollbacks     the {@link Runnable}s which reset the {@link Property}s of the members to their previous values.
+     * @param failure       the exception that caused the rollback, which failures of the rollbacks are added to, or null if the wave has been aborted.
+     */
+    private void rollback(@Nullable final TValue previousValue, @NotNull final List<Runnable> rollbacks, @Nullable final RuntimeException failure) {
+        value = previousValue;
+        RuntimeException rollbackFailure = null;
+        for (int i = rollbacks.size() - 1; i >= 0; --i) {
+            try {
+                rollbacks.get(i).run();
+            } catch (final RuntimeException e) {
+                if (failure != null) {
+                    failure.addSuppressed(e);
+                } else if (rollbackFailure == null) {
+                    rollbackFailure = e;
+                } else {
+                    rollbackFailure.addSuppressed(e);
+                }
+            }
+        }
+        if (rollbackFailure != null) {
+            throw rollbackFailure;
+        }
+    }
+
+    // endregion
+
+    // region Classes
+
+    /**
+     * A member of the {@link SyncGroup}, which is the only listener the group adds to the {@link Property} of the member.
+     *
+     * @param <TOtherValue> the type of the value of the {@link Property}.
+     */
+    private static final class Member<TOtherValue> implements ChangeListener<TOtherValue>, WeakListener {
+
+        // region Fields
+
+        /**
+         * The group this member belongs to.
+         */
+        @NotNull
+        private final SyncGroup<Object> group;
+
+        /**
+         * The {@link Property} of this member.
+         */
+        @NotNull
+        private final WeakReference<Property<TOtherValue>> property;
+
+        /**
+         * The {@link IConverter} which converts the value of the group into the value of the {@link Property} and vice versa.
+         */
+        @NotNull
+        private final IConverter<Object, TOtherValue> converter;
+
+        // endregion
+
+        // region Constructor
+
+        @SuppressWarnings ("unchecked")
+        private <TValue> Member(@NotNull final SyncGroup<TValue> group, @NotNull final Property<TOtherValue> property, @NotNull final IConverter<TValue, TOtherValue> converter) {
+            this.group = (SyncGroup<Object>) group;
+            this.property = new WeakReference<>(property);
+            this.converter = (IConverter<Object, TOtherValue>) converter;
+        }
+
+        // endregion
+
+        // region Private
+
+        /**
+         * Sets the converted value of the group on the {@link Property}.
+         */
+        private void update() {
+            set(converter.convertTo(group.value));
+        }
+
+        /**
+         * Returns the value of the {@link Property}.
+         *
+         * @return the value of the {@link Property} or null if it has been garbage collected.
+         */
+        @Nullable
+        private TOtherValue get() {
+            final Property<TOtherValue> current = property.get();
+            return current != null ? current.getValue() : null;
+        }
+
+        /**
+         * Sets the given value on the {@link Property}.
+         *
+         * @param value the value to set.
+         */
+        private void set(@Nullable final TOtherValue value) {
+            final Property<TOtherValue> current = property.get();
+            if (current != null) {
+                current.setValue(value);
+            }
+        }
+
+        /**
+         * Removes this member as a listener from its {@link Property}.
+         */
+        private void detach() {
+            final Property<TOtherValue> current = property.get();
+            if (current != null) {
+                current.removeListener(this);
+            }
+        }
+
+        // endregion
+
+        // region Override ChangeListener
+
+        @Override
+        public void changed(@NotNull final ObservableValue<? extends TOtherValue> observable, @Nullable final TOtherValue oldValue, @Nullable final TOtherValue newValue) {
+            group.propagate(this, oldValue, newValue);
+        }
+
+        // endregion
+
+        // region Override WeakListener
+
+        @Override
+        public boolean wasGarbageCollected() {
+            return property.get() == null;
+        }
+
+        // endregion
+    }
+
+    /**
+     * An {@link IConverter} which does not change the value.
+     *
+     * @param <TValue> the type of the value.
+     */
+    private static final class IdentityConverter<TValue> implements IConverter<TValue, TValue> {
+
+        @Nullable
+        @Override
+        public TValue convertTo(@Nullable final TValue value) {
+            return value;
+        }
+
+        @Nullable
+        @Override
+        public TValue convertBack(@Nullable final TValue value) {
+            return value;
+        }
+    }
+
+    // endregion
+}
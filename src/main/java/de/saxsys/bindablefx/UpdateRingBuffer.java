@@ -0,0 +1,318 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import javafx.beans.property.Property;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class allows for updates of {@link Property}s, which includes {@link IPropertyBinding}s, to be offered by any amount of producer threads and to be applied in batches by a single
+ * consumer thread, which usually is the JavaFX application thread. The updates are stored in a pre-allocated ring buffer, so offering an update does neither lock nor allocate. If the
+ * same {@link Property} is updated several times within a batch, only the last value will be applied.
+ * <p>
+ * If the ring buffer is full, the offered update will be dropped. The amount of offered, dropped, conflated, applied and failed updates can be retrieved at any time, so the throughput and
+ * drop behaviour can be measured.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public final class UpdateRingBuffer {
+
+    // region Fields
+
+    /**
+     * The mask used to compute the index of a slot from a sequence, the capacity is always a power of two.
+     */
+    private final int mask;
+
+    /**
+     * The {@link Property}s that are to be updated.
+     */
+    @NotNull
+    private final AtomicReferenceArray<Property<?>> targets;
+
+    /**
+     * The values that are to be set.
+     */
+    @NotNull
+    private final AtomicReferenceArray<Object> values;
+
+    /**
+     * The sequence that has been published for each slot, a slot may only be consumed once its published sequence matches the sequence that is to be consumed.
+     */
+    @NotNull
+    private final AtomicLongArray published;
+
+    /**
+     * The next sequence that will be claimed by a producer.
+     */
+    @NotNull
+    private final AtomicLong claimed = new AtomicLong();
+
+    /**
+     * The next sequence that will be consumed by the consumer.
+     */
+    private volatile long consumed;
+
+    /**
+     * The {@link Executor} that runs {@link #drain()} on the consumer thread, if null {@link #drain()} has to be called manually.
+     */
+    @Nullable
+    private final Executor consumer;
+
+    /**
+     * Determines if a call to {@link #drain()} is already pending on the {@link #consumer}.
+     */
+    @NotNull
+    private final AtomicBoolean drainPending = new AtomicBoolean();
+
+    /**
+     * The amount of updates that have been offered.
+     */
+    @NotNull
+    private final LongAdder offeredCount = new LongAdder();
+
+    /**
+     * The amount of updates that have been dropped since the ring buffer was full.
+     */
+    @NotNull
+    private final LongAdder droppedCount = new LongAdder();
+
+    /**
+     * The amount of updates that have been replaced by a later update of the same {@link Property} within the same batch.
+     */
+    @NotNull
+    private final LongAdder conflatedCount = new LongAdder();
+
+    /**
+     * The amount of updates that have been applied.
+     */
+    @NotNull
+    private final LongAdder appliedCount = new LongAdder();
+
+    /**
+     * The amount of updates that could not be applied since setting the value failed.
+     */
+    @NotNull
+    private final LongAdder failedCount = new LongAdder();
+
+    // endregion
+
+    // region Constructor
+
+    /**
+     * Creates a new {@link UpdateRingBuffer}, {@link #drain()} has to be called manually on the consumer thread.
+     *
+     * @param capacity the minimum amount of updates that can be pending, will be rounded up to the next power of two.
+     */
+    UpdateRingBuffer(final int capacity) {
+        this(capacity, null);
+    }
+
+    /**
+     * Creates a new {@link UpdateRingBuffer} which will schedule {@link #drain()} on the given {@link Executor} whenever updates are offered and no drain is pending yet.
+     *
+     * @param capacity the minimum amount of updates that can be pending, will be rounded up to the next power of two.
+     * @param consumer the {@link Executor} that runs {@link #drain()} on the consumer thread.
+     *
+     * @throws IllegalArgumentException if the capacity is less than 1 or greater than 2^30.
+     */
+    UpdateRingBuffer(final int capacity, @Nullable final Executor consumer) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("The capacity must be between 1 and 2^30 but was " + capacity);
+        }
+        final int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = size - 1;
+        this.targets = new AtomicReferenceArray<>(size);
+        this.values = new AtomicReferenceArray<>(size);
+        this.published = new AtomicLongArray(size);
+        for (int i = 0; i < size; ++i) {
+            published.set(i, -1L);
+        }
+        this.consumer = consumer;
+    }
+
+    // endregion
+
+    // region Public
+
+    /**
+     * Offers the update of the given {@link Property} with the given value. This method can be called from any thread.
+     *
+     * @param target   the {@link Property} to update.
+     * @param value    the value to set.
+     * @param <TValue> the type of the value of the {@link Property}.
+     *
+     * @return true if the update has been accepted, false if it was dropped since the ring buffer is full.
+     */
+    public <TValue> boolean offer(@NotNull final Property<TValue> target, @Nullable final TValue value) {
+        offeredCount.increment();
+
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - consumed > mask) {
+                droppedCount.increment();
+                return false;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+
+        final int index = (int) sequence & mask;
+        targets.lazySet(index, target);
+        values.lazySet(index, value);
+        published.set(index, sequence);
+
+        if (consumer != null && drainPending.compareAndSet(false, true)) {
+            consumer.execute(this::drain);
+        }
+        return true;
+    }
+
+    /**
+     * Applies all updates that have been published so far in one batch. If the same {@link Property} has been updated more than once, only the last value will be set. This method must
+     * only be called by the consumer thread. If setting the value of a {@link Property} fails, the remaining updates of the batch are still applied and the first failure is thrown
+     * afterwards, with the following ones added as suppressed exceptions.
+     *
+     * @return the amount of {@link Property}s that have been updated.
+     *
+     * @throws RuntimeException the first exception thrown while setting the value of a {@link Property}, after all other updates of the batch have been applied.
+     */
+    @SuppressWarnings ("unchecked")
+    public int drain() {
+        drainPending.set(false);
+
+        final List<Property<Object>> batch = new ArrayList<>();
+        final Map<Property<Object>, Object> batchValues = new IdentityHashMap<>();
+
+        long sequence = consumed;
+        final long end = claimed.get();
+        while (sequence < end) {
+            final int index = (int) sequence & mask;
+            if (published.get(index) != sequence) {
+                break;
+            }
+            final Property<Object> target = (Property<Object>) targets.get(index);
+            final Object value = values.get(index);
+            targets.lazySet(index, null);
+            values.lazySet(index, null);
+
+            if (batchValues.containsKey(target)) {
+                conflatedCount.increment();
+            } else {
+                batch.add(target);
+            }
+            batchValues.put(target, value);
+            ++sequence;
+        }
+        consumed = sequence;
+
+        int applied = 0;
+        RuntimeException failure = null;
+        for (final Property<Object> target : batch) {
+            try {
+                target.setValue(batchValues.get(target));
+                ++applied;
+            } catch (final RuntimeException e) {
+                failedCount.increment();
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        appliedCount.add(applied);
+
+        if (failure != null) {
+            throw failure;
+        }
+        return applied;
+    }
+
+    /**
+     * Returns the amount of updates that can be pending at once.
+     *
+     * @return the amount of updates that can be pending at once.
+     */
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Returns the amount of updates that are currently pending.
+     *
+     * @return the amount of updates that are currently pending.
+     */
+    public int getPendingCount() {
+        return (int) Math.max(0L, claimed.get() - consumed);
+    }
+
+    /**
+     * Returns the amount of updates that have been offered.
+     *
+     * @return the amount of updates that have been offered.
+     */
+    public long getOfferedCount() {
+        return offeredCount.sum();
+    }
+
+    /**
+     * Returns the amount of updates that have been dropped since the ring buffer was full.
+     *
+     * @return the amount of updates that have been dropped.
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * Returns the amount of updates that have been replaced by a later update of the same {@link Property} within the same batch.
+     *
+     * @return the amount of updates that have been conflated.
+     */
+    public long getConflatedCount() {
+        return conflatedCount.sum();
+    }
+
+    /**
+     * Returns the amount of updates that have been applied.
+     *
+     * @return the amount of updates that have been applied.
+     */
+    public long getAppliedCount() {
+        return appliedCount.sum();
+    }
+
+    /**
+     * Returns the amount of updates that could not be applied since setting the value failed.
+     *
+     * @return the amount of updates that failed.
+     */
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    // endregion
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import javafx.beans.property.Property;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.property.ReadOnlyStringProperty;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.beans.value.ObservableValue;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * This class binds two {@link Property}s bidirectional using an {@link IResultConverter}. If a value can not be converted, the other {@link Property} is not changed and the binding
+ * becomes invalid, providing the message of the failed {@link ConversionResult}, until a value has been converted successfully again. No exception is thrown or created, so invalid
+ * input, e.g. while typing a number into a text field, is cheap and the state can be shown in the UI by observing {@link #validProperty()} and {@link #errorMessageProperty()}.
+ * <p>
+ * The binding is registered like any other {@link BidirectionalBinding}, so it can be removed using {@link BidirectionalBinding#unbind(Object, Object)}.
+ *
+ * @param <TValue>      the type of the first {@link Property}.
+ * @param <TOtherValue> the type of the second {@link Property}.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public final class ValidatingBidirectionalBinding<TValue, TOtherValue> extends BidirectionalBinding<Object> {
+
+    // region Fields
+
+    /**
+     * The first {@link Property}.
+     */
+    @NotNull
+    private final WeakReference<Property<TValue>> property1;
+
+    /**
+     * The second {@link Property}.
+     */
+    @NotNull
+    private final WeakReference<Property<TOtherValue>> property2;
+
+    /**
+     * The {@link IResultConverter} which converts the value of the first {@link Property} into the value of the second {@link Property} and vice versa.
+     */
+    @NotNull
+    private final IResultConverter<TValue, TOtherValue> converter;
+
+    /**
+     * Determines if the last conversion was successful.
+     */
+    @NotNull
+    private final ReadOnlyBooleanWrapper valid = new ReadOnlyBooleanWrapper(this, "valid", true);
+
+    /**
+     * The message of the last conversion if it failed.
+     */
+    @NotNull
+    private final ReadOnlyStringWrapper errorMessage = new ReadOnlyStringWrapper(this, "errorMessage");
+
+    /**
+     * Determines if this binding is currently transferring a value.
+     */
+    private boolean updating;
+
+    // endregion
+
+    // region Constructor
+
+    private ValidatingBidirectionalBinding(@NotNull final Property<TValue> property1,
+                                           @NotNull final Property<TOtherValue> property2,
+                                           @NotNull final IResultConverter<TValue, TOtherValue> converter) {
+        super(property1, property2);
+
+        this.property1 = new WeakReference<>(property1);
+        this.property2 = new WeakReference<>(property2);
+        this.converter = converter;
+    }
+
+    // endregion
+
+    // region Package
+
+    /**
+     * Binds the two properties bidirectional, the values will be converted using the given {@link IResultConverter}. The first property will receive the converted value of the
+     * second property, if it can be converted. If the two properties are already bound by a {@link BidirectionalBinding}, the existing binding will be replaced.
+     *
+     * @param property1     the first {@link Property} to bind.
+     * @param property2     the second {@link Property} to bind.
+     * @param converter     the {@link IResultConverter} to use.
+     * @param <TValue>      the type of the first {@link Property}.
+     * @param <TOtherValue> the type of the second {@link Property}.
+     *
+     * @return the new {@link ValidatingBidirectionalBinding}.
+     */
+    @SuppressWarnings ("ConstantConditions")
+    static <TValue, TOtherValue> ValidatingBidirectionalBinding<TValue, TOtherValue> bindValidating(@NotNull final Property<TValue> property1,
+                                                                                                  @NotNull final Property<TOtherValue> property2,
+                                                                                                  @NotNull final IResultConverter<TValue, TOtherValue> converter) {
+        checkParametersOrFail(property1, property2);
+        if (converter == null) {
+            throw new NullPointerException("IResultConverter cannot be null");
+        }
+        final ValidatingBidirectionalBinding<TValue, TOtherValue> binding = new ValidatingBidirectionalBinding<>(property1, property2, converter);
+        binding.transfer(converter.tryConvertBack(property2.getValue()), property1);
+        attach(property1, property2, binding);
+        return binding;
+    }
+
+    // endregion
+
+    // region Public
+
+    /**
+     * Determines if the last conversion was successful.
+     *
+     * @return the {@link ReadOnlyBooleanProperty} which is true if the last conversion was successful, otherwise false.
+     */
+    @NotNull
+    public ReadOnlyBooleanProperty validProperty() {
+        return valid.getReadOnlyProperty();
+    }
+
+    /**
+     * Determines if the last conversion was successful.
+     *
+     * @return true if the last conversion was successful, otherwise false.
+     */
+    public boolean isValid() {
+        return valid.get();
+    }
+
+    /**
+     * Returns the message of the last conversion if it failed.
+     *
+     * @return the {@link ReadOnlyStringProperty} containing the message of the last conversion if it failed, otherwise null.
+     */
+    @NotNull
+    public ReadOnlyStringProperty errorMessageProperty() {
+        return errorMessage.getReadOnlyProperty();
+    }
+
+    /**
+     * Returns the message of the last conversion if it failed.
+     *
+     * @return the message of the last conversion if it failed, otherwise null.
+     */
+    @Nullable
+    public String getErrorMessage() {
+        return errorMessage.get();
+    }
+
+    // endregion
+
+    // region Override BidirectionalBinding
+
+    @Nullable
+    @Override
+    protected Property<TValue> getProperty1() {
+        return property1.get();
+    }
+
+    @Nullable
+    @Override
+    protected Property<TOtherValue> getProperty2() {
+        return property2.get();
+    }
+
+    // endregion
+
+    // region Override ChangeListener
+
+    @Override
+    public void changed(@NotNull final ObservableValue<?> observable, @Nullable final Object oldValue, @Nullable final Object newValue) {
+        if (updating) {
+            return;
+        }
+        final Property<TValue> currentProperty1 = property1.get();
+        final Property<TOtherValue> currentProperty2 = property2.get();
+        if (currentProperty1 == null || currentProperty2 == null) {
+            if (currentProperty1 != null) {
+                currentProperty1.removeListener(this);
+            }
+            if (currentProperty2 != null) {
+                currentProperty2.removeListener(this);
+            }
+        } else if (currentProperty1 == observable) {
+            transfer(converter.tryConvertTo(currentProperty1.getValue()), currentProperty2);
+        } else {
+            transfer(converter.tryConvertBack(currentProperty2.getValue()), currentProperty1);
+        }
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Sets the value of the given {@link ConversionResult} on the given target if the conversion was successful and updates the validation state. If the value can not be
+     * transferred, because the {@link PropagationGuard} aborted the current wave, the validation state is kept.
+     *
+     * @param result   the {@link ConversionResult} to use.
+     * @param target   the {@link Property} that receives the converted value.
+     * @param <TInput> the type of the target.
+     */
+    private <TInput> void transfer(@NotNull final ConversionResult<TInput> result, @NotNull final Property<TInput> target) {
+        if (result.isSuccess()) {
+            if (!PropagationGuard.enter(this)) {
+                return;
+            }
+            updating = true;
+            try {
+                target.setValue(result.getValue());
+            } finally {
+                updating = false;
+                PropagationGuard.exit();
+            }
+            errorMessage.set(null);
+            valid.set(true);
+        } else {
+            errorMessage.set(result.getMessage());
+            valid.set(false);
+        }
+    }
+
+    // endregion
+}
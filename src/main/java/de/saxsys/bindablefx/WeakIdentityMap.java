@@ -0,0 +1,325 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * This class represents a hash map which compares its keys by identity and only weakly references them, so they can be garbage collected. Entries whose key has been garbage collected
+ * will be removed automatically the next time the map is accessed. Unlike {@link java.util.WeakHashMap}, looking up a key neither calls {@link Object#hashCode()} or
+ * {@link Object#equals(Object)} of the key nor allocates any object.
+ * <p>
+ * This class is not thread safe.
+ *
+ * @param <TKey>   the type of the keys.
+ * @param <TValue> the type of the values.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+final class WeakIdentityMap<TKey, TValue> {
+
+    // region Constants
+
+    /**
+     * The initial amount of buckets, must be a power of two.
+     */
+    private static final int INITIAL_CAPACITY = 8;
+
+    // endregion
+
+    // region Fields
+
+    /**
+     * The {@link ReferenceQueue} which receives the entries whose key has been garbage collected.
+     */
+    @NotNull
+    private final ReferenceQueue<TKey> queue = new ReferenceQueue<>();
+
+    /**
+     * The buckets of this map, each bucket is a linked list of {@link Entry}s.
+     */
+    @NotNull
+    private Entry<TKey, TValue>[] buckets = newBuckets(INITIAL_CAPACITY);
+
+    /**
+     * The amount of entries in this map.
+     */
+    private int size;
+
+    // endregion
+
+    // region Package
+
+    /**
+     * Returns the value of the given key.
+     *
+     * @param key the key to look for.
+     *
+     * @return the value of the given key or null if there is none.
+     */
+    @Nullable
+    TValue get(@NotNull final Object key) {
+        purge();
+        final int hash = System.identityHashCode(key);
+        for (Entry<TKey, TValue> entry = buckets[hash & (buckets.length - 1)]; entry != null; entry = entry.next) {
+            if (entry.get() == key) {
+                return entry.value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Determines if this map has a value for the given key.
+     *
+     * @param key the key to look for.
+     *
+     * @return true if the map has a value for the given key, otherwise false.
+     */
+    boolean containsKey(@NotNull final Object key) {
+        purge();
+        final int hash = System.identityHashCode(key);
+        for (Entry<TKey, TValue> entry = buckets[hash & (buckets.length - 1)]; entry != null; entry = entry.next) {
+            if (entry.get() == key) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sets the value of the given key.
+     *
+     * @param key   the key whose value is to be set.
+     * @param value the value to set.
+     *
+     * @return the previous value of the key or null if there was none.
+     */
+    @Nullable
+    TValue put(@NotNull final TKey key, @Nullable final TValue value) {
+        purge();
+        final int hash = System.identityHashCode(key);
+        final int index = hash & (buckets.length - 1);
+        for (Entry<TKey, TValue> entry = buckets[index]; entry != null; entry = entry.next) {
+            if (entry.get() == key) {
+                final TValue previous = entry.value;
+                entry.value = value;
+                return previous;
+            }
+        }
+        buckets[index] = new Entry<>(key, hash, value, buckets[index], queue);
+        if (++size > buckets.length - (buckets.length >> 2)) {
+            resize();
+        }
+        return null;
+    }
+
+    /**
+     * Returns the value of the given key, if there is none the value will be computed and set.
+     *
+     * @param key     the key whose value is to be returned.
+     * @param creator the {@link Function} used to create the value if there is none yet.
+     *
+     * @return the value of the given key.
+     */
+    TValue computeIfAbsent(@NotNull final TKey key, @NotNull final Function<TKey, TValue> creator) {
+        TValue value = get(key);
+        if (value == null) {
+            value = creator.apply(key);
+            put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Removes the given key.
+     *
+     * @param key the key to remove.
+     *
+     * @return the value of the removed key or null if there was none.
+     */
+    @Nullable
+    TValue remove(@NotNull final Object key) {
+        purge();
+        final int hash = System.identityHashCode(key);
+        final int index = hash & (buckets.length - 1);
+        Entry<TKey, TValue> previous = null;
+        for (Entry<TKey, TValue> entry = buckets[index]; entry != null; previous = entry, entry = entry.next) {
+            if (entry.get() == key) {
+                unlink(index, previous, entry);
+                return entry.value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Removes all entries.
+     */
+    void clear() {
+        while (queue.poll() != null) {
+            // the entries will be dropped together with the buckets
+        }
+        buckets = newBuckets(INITIAL_CAPACITY);
+        size = 0;
+    }
+
+    /**
+     * Calls the given {@link BiConsumer} for every entry whose key is still available. The map must not be modified by the {@link BiConsumer}.
+     *
+     * @param consumer the {@link BiConsumer} to call.
+     */
+    void forEach(@NotNull final BiConsumer<TKey, TValue> consumer) {
+        purge();
+        for (final Entry<TKey, TValue> bucket : buckets) {
+            for (Entry<TKey, TValue> entry = bucket; entry != null; entry = entry.next) {
+                final TKey key = entry.get();
+                if (key != null) {
+                    consumer.accept(key, entry.value);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the amount of entries in this map, which might include entries whose key has just been garbage collected.
+     *
+     * @return the amount of entries in this map.
+     */
+    int size() {
+        purge();
+        return size;
+    }
+
+    /**
+     * Determines if this map has any entries.
+     *
+     * @return true if the map has no entries, otherwise false.
+     */
+    boolean isEmpty() {
+        return size() == 0;
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Removes all entries whose key has been garbage collected.
+     */
+    @SuppressWarnings ("unchecked")
+    private void purge() {
+        for (Object reference; (reference = queue.poll()) != null; ) {
+            final Entry<TKey, TValue> stale = (Entry<TKey, TValue>) reference;
+            final int index = stale.hash & (buckets.length - 1);
+            Entry<TKey, TValue> previous = null;
+            for (Entry<TKey, TValue> entry = buckets[index]; entry != null; previous = entry, entry = entry.next) {
+                if (entry == stale) {
+                    unlink(index, previous, entry);
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the given {@link Entry} from its bucket.
+     *
+     * @param index    the index of the bucket.
+     * @param previous the {@link Entry} preceding the {@link Entry} to remove, null if it is the first one.
+     * @param entry    the {@link Entry} to remove.
+     */
+    private void unlink(final int index, @Nullable final Entry<TKey, TValue> previous, @NotNull final Entry<TKey, TValue> entry) {
+        if (previous == null) {
+            buckets[index] = entry.next;
+        } else {
+            previous.next = entry.next;
+        }
+        entry.next = null;
+        --size;
+    }
+
+    /**
+     * Doubles the amount of buckets.
+     */
+    private void resize() {
+        final Entry<TKey, TValue>[] oldBuckets = buckets;
+        buckets = newBuckets(oldBuckets.length << 1);
+        for (final Entry<TKey, TValue> bucket : oldBuckets) {
+            Entry<TKey, TValue> entry = bucket;
+            while (entry != null) {
+                final Entry<TKey, TValue> next = entry.next;
+                final int index = entry.hash & (buckets.length - 1);
+                entry.next = buckets[index];
+                buckets[index] = entry;
+                entry = next;
+            }
+        }
+    }
+
+    /**
+     * Creates a new array of buckets.
+     *
+     * @param capacity the amount of buckets, must be a power of two.
+     *
+     * @return a new array of buckets.
+     */
+    @SuppressWarnings ("unchecked")
+    @NotNull
+    private static <TKey, TValue> Entry<TKey, TValue>[] newBuckets(final int capacity) {
+        return (Entry<TKey, TValue>[]) new Entry[capacity];
+    }
+
+    // endregion
+
+    // region Classes
+
+    /**
+     * An entry of the {@link WeakIdentityMap}, which weakly references its key.
+     */
+    private static final class Entry<TKey, TValue> extends WeakReference<TKey> {
+
+        /**
+         * The identity hash code of the key, needed since the key might be garbage collected.
+         */
+        private final int hash;
+
+        /**
+         * The value of the entry.
+         */
+        @Nullable
+        private TValue value;
+
+        /**
+         * The next {@link Entry} in the same bucket.
+         */
+        @Nullable
+        private Entry<TKey, TValue> next;
+
+        Entry(@NotNull final TKey key, final int hash, @Nullable final TValue value, @Nullable final Entry<TKey, TValue> next, @NotNull final ReferenceQueue<TKey> queue) {
+            super(key, queue);
+            this.hash = hash;
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    // endregion
+}
@@ -0,0 +1,437 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx.processor;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * This processor generates a class containing typed {@link de.saxsys.bindablefx.BindablePath}s for each class marked with {@link de.saxsys.bindablefx.Bindable}. For a class A in
+ * the package p, the class p.APaths is generated, nested classes are named after all their enclosing classes, e.g. p.Outer_InnerPaths.
+ * <p>
+ * The generated class contains a static method for each segment of A as well as the class APaths.Path, which is the {@link de.saxsys.bindablefx.BindablePath} of a value of A and
+ * contains the same methods. A segment is each public, non static method without parameters whose name ends with "Property" and which returns an
+ * {@link javafx.beans.value.ObservableValue}. If the value of the segment is of a class marked with {@link de.saxsys.bindablefx.Bindable}, the method returns its Path so the path
+ * can be continued, otherwise the path ends there and the method returns a {@link de.saxsys.bindablefx.BindablePropertyPath} if the segment is a
+ * {@link javafx.beans.property.Property} or a {@link de.saxsys.bindablefx.BindablePath} otherwise.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+@SupportedAnnotationTypes (BindableProcessor.BINDABLE)
+public final class BindableProcessor extends AbstractProcessor {
+
+    // region Constants
+
+    /**
+     * The name of the annotation this processor handles.
+     */
+    static final String BINDABLE = "de.saxsys.bindablefx.Bindable";
+
+    /**
+     * The suffix of the methods that return the {@link javafx.beans.value.ObservableValue} of a segment.
+     */
+    private static final String PROPERTY_SUFFIX = "Property";
+
+    /**
+     * The suffix of the generated classes.
+     */
+    private static final String PATHS_SUFFIX = "Paths";
+
+    /**
+     * The names of segments which can not be generated, since they would clash with the methods of the generated classes.
+     */
+    private static final Set<String> RESERVED_SEGMENTS = new HashSet<>(Arrays.asList("root",
+                                                                                     "getResolver",
+                                                                                     "observeParent",
+                                                                                     "getClass",
+                                                                                     "hashCode",
+                                                                                     "toString",
+                                                                                     "clone",
+                                                                                     "finalize",
+                                                                                     "notify",
+                                                                                     "notifyAll",
+                                                                                     "wait"));
+
+    // endregion
+
+    // region Override AbstractProcessor
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(@NotNull final Set<? extends TypeElement> annotations, @NotNull final RoundEnvironment roundEnvironment) {
+        final TypeElement bindable = processingEnv.getElementUtils().getTypeElement(BINDABLE);
+        if (bindable == null) {
+            return false;
+        }
+        for (final Element element : roundEnvironment.getElementsAnnotatedWith(bindable)) {
+            if (element.getKind() != ElementKind.CLASS && element.getKind() != ElementKind.INTERFACE) {
+                error(element, "@Bindable can only be used on classes and interfaces");
+            } else if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                error(element, "@Bindable can not be used on private classes");
+            } else if (!((TypeElement) element).getTypeParameters().isEmpty()) {
+                error(element, "@Bindable can not be used on generic classes");
+            } else {
+                generate((TypeElement) element);
+            }
+        }
+        return true;
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Generates the class containing the paths of the given class.
+     *
+     * @param type the class marked with {@link de.saxsys.bindablefx.Bindable}.
+     */
+    private void generate(@NotNull final TypeElement type) {
+        final String packageName = getPackageName(type);
+        final String pathsName = getPathsName(type);
+        final String typeName = type.getQualifiedName().toString();
+        final List<Segment> segments = getSegments(type);
+
+        final StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n")
+              .append(" * Contains the paths of {@link ").append(typeName).append("}, generated by {@link ").append(BindableProcessor.class.getName()).append("}.\n")
+              .append(" */\n")
+              .append("public final class ").append(pathsName).append(" {\n\n")
+              .append("    private ").append(pathsName).append("() {}\n\n")
+              .append("    /**\n")
+              .append("     * Returns the path that only consists of the root.\n")
+              .append("     *\n")
+              .append("     * @return a new {@link Path}.\n")
+              .append("     */\n")
+              .append("    public static Path<").append(typeName).append("> root() {\n")
+              .append("        return new Path<>(de.saxsys.bindablefx.BindablePath.<").append(typeName).append(">root());\n")
+              .append("    }\n");
+        for (final Segment segment : segments) {
+            source.append("\n")
+                  .append("    /**\n")
+                  .append("     * Returns the path to {@link ").append(typeName).append("#").append(segment.method).append("()}.\n")
+                  .append("     *\n")
+                  .append("     * @return a new path.\n")
+                  .append("     */\n")
+                  .append("    public static ").append(segment.getPathType(typeName)).append(" ").append(segment.name).append("() {\n")
+                  .append("        return root().").append(segment.name).append("();\n")
+                  .append("    }\n");
+        }
+        source.append("\n")
+              .append("    /**\n")
+              .append("     * The path to a value of {@link ").append(typeName).append("}, which can be continued with its segments.\n")
+              .append("     *\n")
+              .append("     * @param <TRoot> the type of the value of the root.\n")
+              .append("     */\n")
+              .append("    public static final class Path<TRoot> extends de.saxsys.bindablefx.BindablePath<TRoot, ").append(typeName).append("> {\n\n")
+              .append("        public Path(final de.saxsys.bindablefx.BindablePath<TRoot, ").append(typeName).append("> path) {\n")
+              .append("            super(path);\n")
+              .append("        }\n");
+        for (final Segment segment : segments) {
+            source.append("\n")
+                  .append("        /**\n")
+                  .append("         * Continues this path with {@link ").append(typeName).append("#").append(segment.method).append("()}.\n")
+                  .append("         *\n")
+                  .append("         * @return a new path.\n")
+                  .append("         */\n")
+                  .append("        public ").append(segment.getPathType("TRoot")).append(" ").append(segment.name).append("() {\n")
+                  .append("            return ").append(segment.getPathExpression(typeName)).append(";\n")
+                  .append("        }\n");
+        }
+        source.append("    }\n")
+              .append("}\n");
+
+        final String qualifiedPathsName = packageName.isEmpty() ? pathsName : packageName + "." + pathsName;
+        try {
+            final JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedPathsName, type);
+            try (final Writer writer = file.openWriter()) {
+                writer.write(source.toString());
+            }
+        } catch (final IOException e) {
+            error(type, "Could not generate " + qualifiedPathsName + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the segments of the given class, ordered by their name.
+     *
+     * @param type the class marked with {@link de.saxsys.bindablefx.Bindable}.
+     *
+     * @return the segments of the class.
+     */
+    @NotNull
+    private List<Segment> getSegments(@NotNull final TypeElement type) {
+        final TypeElement observableValue = processingEnv.getElementUtils().getTypeElement("javafx.beans.value.ObservableValue");
+        final TypeElement property = processingEnv.getElementUtils().getTypeElement("javafx.beans.property.Property");
+        final TypeElement bindable = processingEnv.getElementUtils().getTypeElement(BINDABLE);
+        final List<Segment> result = new ArrayList<>();
+        if (observableValue == null) {
+            error(type, "javafx.beans.value.ObservableValue can not be found");
+            return result;
+        }
+
+        for (final ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+            final String methodName = method.getSimpleName().toString();
+            if (!methodName.endsWith(PROPERTY_SUFFIX) || methodName.length() == PROPERTY_SUFFIX.length() || !method.getParameters().isEmpty()
+                || !method.getModifiers().contains(Modifier.PUBLIC) || method.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+            final TypeMirror returnType = method.getReturnType();
+            final TypeMirror valueType = getValueType(returnType, observableValue);
+            if (valueType == null) {
+                continue;
+            }
+            final String name = methodName.substring(0, methodName.length() - PROPERTY_SUFFIX.length());
+            if (RESERVED_SEGMENTS.contains(name) || SourceVersion.isKeyword(name)) {
+                warning(method, "The segment " + name + " can not be generated, since its name is reserved");
+                continue;
+            }
+            if (valueType.getKind() == TypeKind.WILDCARD) {
+                warning(method, "The segment " + name + " can not be generated, since the type of its value is a wildcard");
+                continue;
+            }
+
+            final Segment segment = new Segment(name, methodName, valueType.toString());
+            final Element valueElement = processingEnv.getTypeUtils().asElement(valueType);
+            if (valueElement instanceof TypeElement && bindable != null && isBindable((TypeElement) valueElement, bindable)) {
+                segment.valuePaths = getQualifiedPathsName((TypeElement) valueElement);
+            } else {
+                segment.writable = property != null && processingEnv.getTypeUtils().isAssignable(processingEnv.getTypeUtils().erasure(returnType),
+                                                                                                 processingEnv.getTypeUtils().erasure(property.asType()));
+            }
+            result.add(segment);
+        }
+        Collections.sort(result, (first, second) -> first.name.compareTo(second.name));
+        return result;
+    }
+
+    /**
+     * Returns the type of the value of the given {@link javafx.beans.value.ObservableValue}.
+     *
+     * @param type            the type to check.
+     * @param observableValue the {@link TypeElement} of {@link javafx.beans.value.ObservableValue}.
+     *
+     * @return the type of the value, null if the given type is no {@link javafx.beans.value.ObservableValue}.
+     */
+    @Nullable
+    private TypeMirror getValueType(@NotNull final TypeMirror type, @NotNull final TypeElement observableValue) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        final DeclaredType declaredType = (DeclaredType) type;
+        if (declaredType.asElement().equals(observableValue)) {
+            if (declaredType.getTypeArguments().isEmpty()) {
+                return processingEnv.getElementUtils().getTypeElement(Object.class.getName()).asType();
+            }
+            final TypeMirror result = declaredType.getTypeArguments().get(0);
+            return result.getKind() == TypeKind.TYPEVAR ? processingEnv.getTypeUtils().erasure(result) : result;
+        }
+        for (final TypeMirror supertype : processingEnv.getTypeUtils().directSupertypes(type)) {
+            final TypeMirror result = getValueType(supertype, observableValue);
+            if (result != null) {
+                return result;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Determines if the given class is marked with {@link de.saxsys.bindablefx.Bindable} and can have generated paths.
+     *
+     * @param type     the class to check.
+     * @param bindable the {@link TypeElement} of {@link de.saxsys.bindablefx.Bindable}.
+     *
+     * @return true if the class has generated paths, otherwise false.
+     */
+    private boolean isBindable(@NotNull final TypeElement type, @NotNull final TypeElement bindable) {
+        if (!type.getTypeParameters().isEmpty() || type.getModifiers().contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        return type.getAnnotationMirrors().stream().anyMatch(annotation -> annotation.getAnnotationType().asElement().equals(bindable));
+    }
+
+    /**
+     * Returns the name of the package of the given class.
+     *
+     * @param type the class.
+     *
+     * @return the name of the package, which is empty for the unnamed package.
+     */
+    @NotNull
+    private String getPackageName(@NotNull final TypeElement type) {
+        final PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(type);
+        return packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+    }
+
+    /**
+     * Returns the simple name of the generated class of the given class.
+     *
+     * @param type the class marked with {@link de.saxsys.bindablefx.Bindable}.
+     *
+     * @return the simple name of the generated class.
+     */
+    @NotNull
+    private String getPathsName(@NotNull final TypeElement type) {
+        final StringBuilder result = new StringBuilder(type.getSimpleName());
+        Element enclosing = type.getEnclosingElement();
+        while (enclosing instanceof TypeElement) {
+            result.insert(0, '_').insert(0, enclosing.getSimpleName());
+            enclosing = enclosing.getEnclosingElement();
+        }
+        return result.append(PATHS_SUFFIX).toString();
+    }
+
+    /**
+     * Returns the qualified name of the generated class of the given class.
+     *
+     * @param type the class marked with {@link de.saxsys.bindablefx.Bindable}.
+     *
+     * @return the qualified name of the generated class.
+     */
+    @NotNull
+    private String getQualifiedPathsName(@NotNull final TypeElement type) {
+        final String packageName = getPackageName(type);
+        return packageName.isEmpty() ? getPathsName(type) : packageName + "." + getPathsName(type);
+    }
+
+    /**
+     * Reports an error for the given element.
+     *
+     * @param element the element that caused the error.
+     * @param message the message of the error.
+     */
+    private void error(@NotNull final Element element, @NotNull final String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    /**
+     * Reports a warning for the given element.
+     *
+     * @param element the element that caused the warning.
+     * @param message the message of the warning.
+     */
+    private void warning(@NotNull final Element element, @NotNull final String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, message, element);
+    }
+
+    // endregion
+
+    // region Classes
+
+    /**
+     * A segment of a class marked with {@link de.saxsys.bindablefx.Bindable}.
+     */
+    private static final class Segment {
+
+        /**
+         * The name of the segment, e.g. b.
+         */
+        @NotNull
+        private final String name;
+
+        /**
+         * The name of the method of the segment, e.g. bProperty.
+         */
+        @NotNull
+        private final String method;
+
+        /**
+         * The qualified type of the value of the segment.
+         */
+        @NotNull
+        private final String valueType;
+
+        /**
+         * The qualified name of the generated class of the value, null if the value is not marked with {@link de.saxsys.bindablefx.Bindable}.
+         */
+        @Nullable
+        private String valuePaths;
+
+        /**
+         * Determines if the segment is a {@link javafx.beans.property.Property}.
+         */
+        private boolean writable;
+
+        private Segment(@NotNull final String name, @NotNull final String method, @NotNull final String valueType) {
+            this.name = name;
+            this.method = method;
+            this.valueType = valueType;
+        }
+
+        /**
+         * Returns the type of the path that ends with this segment.
+         *
+         * @param rootType the type of the value of the root.
+         *
+         * @return the type of the path.
+         */
+        @NotNull
+        private String getPathType(@NotNull final String rootType) {
+            if (valuePaths != null) {
+                return valuePaths + ".Path<" + rootType + ">";
+            }
+            return (writable ? "de.saxsys.bindablefx.BindablePropertyPath<" : "de.saxsys.bindablefx.BindablePath<") + rootType + ", " + valueType + ">";
+        }
+
+        /**
+         * Returns the expression that continues a path with this segment.
+         *
+         * @param ownerType the qualified type of the class containing the segment.
+         *
+         * @return the expression.
+         */
+        @NotNull
+        private String getPathExpression(@NotNull final String ownerType) {
+            final String reference = ownerType + "::" + method;
+            if (valuePaths != null) {
+                return "new " + valuePaths + ".Path<>(then(" + reference + "))";
+            }
+            return (writable ? "thenProperty(" : "then(") + reference + ")";
+        }
+    }
+
+    // endregion
+}
@@ -0,0 +1,298 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import de.saxsys.bindablefx.mocks.B;
+import de.saxsys.bindablefx.mocks.C;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Xyanid on 19.10.2026.
+ */
+public class AggregateBindingTest {
+
+    //region Fields
+
+    private ObservableList<B> source;
+
+    private IFluentBinding<Double> sum;
+
+    private IFluentBinding<Double> average;
+
+    private IFluentBinding<Integer> count;
+
+    private IFluentBinding<Long> min;
+
+    private IFluentBinding<Long> max;
+
+    //endregion
+
+    //region Setup
+
+    @Before
+    public void setUp() {
+        source = FXCollections.observableArrayList(createB(3L), createB(1L), createB(2L));
+
+        sum = Bindings.sum(source, b -> Bindings.observe(b.cProperty()).thenObserve(C::xProperty));
+        average = Bindings.average(source, b -> Bindings.observe(b.cProperty()).thenObserve(C::xProperty));
+        count = Bindings.count(source, b -> Bindings.observe(b.cProperty()).thenObserve(C::xProperty));
+        min = Bindings.min(source, b -> Bindings.observe(b.cProperty()).thenObserve(C::xProperty));
+        max = Bindings.max(source, b -> Bindings.observe(b.cProperty()).thenObserve(C::xProperty));
+    }
+
+    //endregion
+
+    // region Tests
+
+    /**
+     * The aggregates initially contain the values of all elements.
+     */
+    @Test
+    public void theAggregatesContainTheValuesOfAllElements() {
+        assertAggregates(6.0, 2.0, 3, 1L, 3L);
+    }
+
+    /**
+     * Added and removed elements update the aggregates.
+     */
+    @Test
+    public void addedAndRemovedElementsUpdateTheAggregates() {
+        source.add(createB(10L));
+
+        assertAggregates(16.0, 4.0, 4, 1L, 10L);
+
+        source.remove(1);
+
+        assertAggregates(15.0, 5.0, 3, 2L, 10L);
+
+        source.set(0, createB(-5L));
+
+        assertAggregates(7.0, 7.0 / 3, 3, -5L, 10L);
+    }
+
+    /**
+     * A change of a nested property of a single element updates the aggregates.
+     */
+    @Test
+    public void nestedChangesUpdateTheAggregates() {
+        source.get(1).cProperty().getValue().xProperty().setValue(7L);
+
+        assertAggregates(12.0, 4.0, 3, 2L, 7L);
+
+        source.get(0).cProperty().setValue(null);
+
+        assertAggregates(9.0, 4.5, 2, 2L, 7L);
+    }
+
+    /**
+     * Equal values are counted separately, so removing one of them keeps the others.
+     */
+    @Test
+    public void equalValuesAreKeptSeparately() {
+        source.add(createB(1L));
+        source.remove(1);
+
+        assertEquals(1L, min.getValue().longValue());
+
+        source.remove(2);
+
+        assertEquals(2L, min.getValue().longValue());
+    }
+
+    /**
+     * If there are no values, the sum and count are 0 and the other aggregates use the fallback value.
+     */
+    @Test
+    public void emptyListsUseTheFallbackValue() {
+        min.fallbackOn(-1L);
+
+        source.clear();
+
+        assertEquals(0.0, sum.getValue(), 0.0);
+        assertEquals(0, count.getValue().intValue());
+        assertNull(average.getValue());
+        assertNull(max.getValue());
+        assertEquals(-1L, min.getValue().longValue());
+    }
+
+    /**
+     * A change of an element only invalidates the aggregate once and reordering the elements does not invalidate it at all.
+     */
+    @Test
+    public void theAggregateIsOnlyInvalidatedWhenItChanges() {
+        final AtomicInteger invalidations = new AtomicInteger();
+        sum.addListener(observable -> {
+            invalidations.incrementAndGet();
+            sum.getValue();
+        });
+        sum.getValue();
+
+        source.get(0).cProperty().getValue().xProperty().setValue(4L);
+        FXCollections.sort(source, (first, second) -> Long.compare(first.cProperty().getValue().xProperty().getValue(), second.cProperty().getValue().xProperty().getValue()));
+
+        assertEquals(1, invalidations.get());
+        assertEquals(7.0, sum.getValue(), 0.0);
+    }
+
+    /**
+     * After the binding has been disposed, changes of the list are no longer observed.
+     */
+    @Test
+    public void disposingStopsObserving() {
+        sum.dispose();
+
+        source.add(createB(10L));
+
+        assertEquals(6.0, sum.getValue(), 0.0);
+    }
+
+    /**
+     * Adding and removing decimal values many times does not accumulate rounding errors, even if the values differ greatly in magnitude.
+     */
+    @Test
+    public void decimalSumsAreCompensated() {
+        final AggregateBinding.Sum<Double> cut = new AggregateBinding.Sum<>();
+        cut.add(1e16);
+        for (int i = 0; i < 10000; ++i) {
+            cut.add(1.0);
+            cut.add(0.1);
+            cut.remove(0.1);
+        }
+        cut.remove(1e16);
+
+        assertEquals(10000.0, cut.getResult(), 0.0);
+    }
+
+    /**
+     * Integral sums beyond 2^53 are rounded only once, the exact sum does not lose any precision.
+     */
+    @Test
+    public void largeIntegralSumsKeepTheirPrecision() {
+        final AggregateBinding.Sum<Number> cut = new AggregateBinding.Sum<>();
+        final AggregateBinding.ExactSum<Number> exact = new AggregateBinding.ExactSum<>();
+        for (final Number value : Arrays.asList(9007199254740993L, 0.75)) {
+            cut.add(value);
+            exact.add(value);
+        }
+
+        assertEquals(9007199254740994.0, cut.getResult(), 0.0);
+        assertEquals(new BigDecimal("9007199254740993.75"), exact.getResult());
+
+        source.add(createB(Long.MAX_VALUE - 6));
+
+        assertEquals(BigDecimal.valueOf(Long.MAX_VALUE), Bindings.exactSum(source, b -> Bindings.observe(b.cProperty()).thenObserve(C::xProperty)).getValue());
+    }
+
+    /**
+     * Integral sums which exceed the range of a long do not overflow, {@link BigDecimal} values are summed up exactly.
+     */
+    @Test
+    public void exactSumsDoNotOverflow() {
+        final AggregateBinding.ExactSum<Number> cut = new AggregateBinding.ExactSum<>();
+        cut.add(Long.MAX_VALUE);
+        cut.add(Long.MAX_VALUE);
+        cut.add(new BigDecimal("0.1"));
+        cut.add(new BigDecimal("0.2"));
+
+        assertEquals(0, new BigDecimal("18446744073709551614.3").compareTo(cut.getResult()));
+
+        cut.remove(Long.MAX_VALUE);
+        cut.remove(new BigDecimal("0.2"));
+        cut.add(Long.MIN_VALUE);
+
+        assertEquals(0, new BigDecimal("-0.9").compareTo(cut.getResult()));
+    }
+
+    /**
+     * Infinite values and values which are not a number determine the sum while they are contained, but do not affect the sum once they are removed.
+     */
+    @Test
+    public void nonFiniteValuesCanBeRemovedAgain() {
+        final AggregateBinding.Sum<Double> cut = new AggregateBinding.Sum<>();
+        cut.add(1.5);
+        cut.add(Double.POSITIVE_INFINITY);
+
+        assertEquals(Double.POSITIVE_INFINITY, cut.getResult(), 0.0);
+
+        cut.add(Double.NEGATIVE_INFINITY);
+
+        assertTrue(Double.isNaN(cut.getResult()));
+
+        cut.remove(Double.POSITIVE_INFINITY);
+
+        assertEquals(Double.NEGATIVE_INFINITY, cut.getResult(), 0.0);
+
+        cut.remove(Double.NEGATIVE_INFINITY);
+        cut.add(Double.NaN);
+
+        assertTrue(Double.isNaN(cut.getResult()));
+
+        cut.remove(Double.NaN);
+
+        assertEquals(1.5, cut.getResult(), 0.0);
+    }
+
+    /**
+     * There is no exact sum while an infinite value is contained, the exact sum is available again once it has been removed.
+     */
+    @Test
+    public void exactSumsOfNonFiniteValuesAreNotAvailable() {
+        final AggregateBinding.Sum<Number> sum = new AggregateBinding.Sum<>();
+        final AggregateBinding.ExactSum<Number> cut = new AggregateBinding.ExactSum<>();
+        for (final Number value : Arrays.asList(Long.MAX_VALUE, Long.MAX_VALUE, Double.NEGATIVE_INFINITY)) {
+            sum.add(value);
+            cut.add(value);
+        }
+
+        assertEquals(Double.NEGATIVE_INFINITY, sum.getResult(), 0.0);
+        assertNull(cut.getResult());
+
+        cut.remove(Double.NEGATIVE_INFINITY);
+
+        assertEquals(0, new BigDecimal("18446744073709551614").compareTo(cut.getResult()));
+    }
+
+    // endregion
+
+    // region Private
+
+    private void assertAggregates(final double expectedSum, final double expectedAverage, final int expectedCount, final long expectedMin, final long expectedMax) {
+        assertEquals(expectedSum, sum.getValue(), 0.0001);
+        assertEquals(expectedAverage, average.getValue(), 0.0001);
+        assertEquals(expectedCount, count.getValue().intValue());
+        assertEquals(expectedMin, min.getValue().longValue());
+        assertEquals(expectedMax, max.getValue().longValue());
+    }
+
+    private static B createB(final long x) {
+        final C c = new C();
+        c.xProperty().setValue(x);
+        final B b = new B();
+        b.cProperty().setValue(c);
+        return b;
+    }
+
+    // endregion
+}
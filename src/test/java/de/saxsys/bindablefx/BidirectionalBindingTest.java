@@ -20,6 +20,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
@@ -170,5 +171,73 @@ public class BidirectionalBindingTest {
         assertTrue(cut.wasGarbageCollected());
     }
 
+    /**
+     * When the properties are unbound, changes will no longer be transferred.
+     */
+    @Test
+    public void whenThePropertiesAreUnboundChangesWillNoLongerBeTransferred() {
+        cut = Bindings.bindBidirectional(x, y, converter);
+
+        assertTrue(BidirectionalBinding.isBound(x));
+        assertTrue(BidirectionalBinding.isBound(y));
+
+        Bindings.unbindBidirectional(y, x);
+        x.setValue(1L);
+
+        assertNull(y.getValue());
+        assertFalse(BidirectionalBinding.isBound(x));
+        assertFalse(BidirectionalBinding.isBound(y));
+    }
+
+    /**
+     * When all bindings of a property are unbound, none of the other properties will receive changes anymore, while bindings between other properties are kept.
+     */
+    @Test
+    public void whenAllBindingsOfAPropertyAreUnboundNoChangesWillBeTransferred() {
+        final Property<ConvertedValue> z = new SimpleObjectProperty<>();
+        final Property<ConvertedValue> w = new SimpleObjectProperty<>();
+        Bindings.bindBidirectional(x, y, converter);
+        Bindings.bindBidirectional(x, z, converter);
+        Bindings.bindBidirectional(new SimpleObjectProperty<>(0L), w, converter);
+
+        Bindings.unbindAllBidirectional(x);
+        x.setValue(1L);
+
+        assertNull(y.getValue());
+        assertNull(z.getValue());
+        assertFalse(BidirectionalBinding.isBound(x));
+        assertFalse(BidirectionalBinding.isBound(y));
+        assertFalse(BidirectionalBinding.isBound(z));
+        assertTrue(BidirectionalBinding.isBound(w));
+    }
+
+    /**
+     * Binding the same properties again will replace the existing binding.
+     */
+    @Test
+    public void bindingTheSamePropertiesAgainWillReplaceTheExistingBinding() {
+        Bindings.bindBidirectional(x, y, converter);
+        cut = Bindings.bindBidirectional(x, y, new IConverter<Long, ConvertedValue>() {
+            @Override
+            public ConvertedValue convertTo(final Long value) {
+                return ConvertedValue.C;
+            }
+
+            @Override
+            public Long convertBack(final ConvertedValue value) {
+                return 3L;
+            }
+        });
+
+        x.setValue(1L);
+
+        assertEquals(ConvertedValue.C, y.getValue());
+
+        Bindings.unbindBidirectional(x, y);
+        x.setValue(2L);
+
+        assertEquals(ConvertedValue.C, y.getValue());
+    }
+
     // endregion
 }
\ No newline at end of file
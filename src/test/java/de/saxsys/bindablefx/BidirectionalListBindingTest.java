@@ -0,0 +1,231 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import org.jetbrains.annotations.Nullable;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Xyanid on 19.10.2026.
+ */
+public class BidirectionalListBindingTest {
+
+    //region Fields
+
+    private ObservableList<Long> numbers;
+
+    private ObservableList<String> texts;
+
+    private List<String> textChanges;
+
+    //endregion
+
+    //region Setup
+
+    @Before
+    public void setUp() {
+        numbers = FXCollections.observableArrayList();
+        texts = FXCollections.observableArrayList("1", "2", "3");
+
+        Bindings.bindContentBidirectional(numbers, texts, new IConverter<Long, String>() {
+            @Nullable
+            @Override
+            public String convertTo(@Nullable final Long value) {
+                return String.valueOf(value);
+            }
+
+            @Nullable
+            @Override
+            public Long convertBack(@Nullable final String value) {
+                return Long.valueOf(value);
+            }
+        });
+
+        textChanges = new ArrayList<>();
+        texts.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    textChanges.add("permutated " + change.getFrom() + "-" + change.getTo());
+                } else if (change.wasReplaced()) {
+                    textChanges.add("replaced " + change.getFrom() + " " + change.getAddedSubList());
+                } else if (change.wasRemoved()) {
+                    textChanges.add("removed " + change.getFrom() + " " + change.getRemoved());
+                } else if (change.wasAdded()) {
+                    textChanges.add("added " + change.getFrom() + " " + change.getAddedSubList());
+                }
+            }
+        });
+    }
+
+    //endregion
+
+    // region Tests
+
+    /**
+     * The first list initially receives the converted elements of the second list.
+     */
+    @Test
+    public void theFirstListReceivesTheElementsOfTheSecondList() {
+        assertEquals(Arrays.asList(1L, 2L, 3L), numbers);
+        assertTrue(BidirectionalBinding.isBound(numbers));
+    }
+
+    /**
+     * Added, removed and replaced elements are applied to the other list without resetting it.
+     */
+    @Test
+    public void changesAreAppliedWithMinimalOperations() {
+        numbers.add(1, 5L);
+        numbers.remove(0);
+        numbers.set(2, 7L);
+
+        assertEquals(Arrays.asList("5", "2", "7"), texts);
+        assertEquals(Arrays.asList("added 1 [5]", "removed 0 [1]", "replaced 2 [7]"), textChanges);
+
+        texts.addAll("8", "9");
+        texts.remove(0, 2);
+
+        assertEquals(Arrays.asList(7L, 8L, 9L), numbers);
+    }
+
+    /**
+     * Replacing more or fewer elements than have been removed sets the replaced elements and only adds or removes the difference.
+     */
+    @Test
+    public void replacingElementsOnlyAddsOrRemovesTheDifference() {
+        numbers.setAll(4L, 5L);
+
+        assertEquals(Arrays.asList("4", "5"), texts);
+        assertEquals(Arrays.asList("replaced 0 [4]", "replaced 1 [5]", "removed 2 [3]"), textChanges);
+
+        texts.setAll("6", "7", "8", "9");
+
+        assertEquals(Arrays.asList(6L, 7L, 8L, 9L), numbers);
+    }
+
+    /**
+     * If an element of a later sub-change can not be converted, the other list is not changed at all, not even by the previous sub-changes.
+     */
+    @Test
+    public void whenAnElementCanNotBeConvertedTheOtherListIsNotChanged() {
+        final BatchList<String> batchTexts = new BatchList<>("1", "2", "3");
+        final ObservableList<Long> batchNumbers = FXCollections.observableArrayList();
+        Bindings.bindContentBidirectional(batchNumbers, batchTexts, new IConverter<Long, String>() {
+            @Nullable
+            @Override
+            public String convertTo(@Nullable final Long value) {
+                return String.valueOf(value);
+            }
+
+            @Nullable
+            @Override
+            public Long convertBack(@Nullable final String value) {
+                return Long.valueOf(value);
+            }
+        });
+
+        try {
+            batchTexts.addEach(0, "4", 2, "invalid");
+        } catch (final NumberFormatException ignored) {
+            // depending on the JavaFX version, the exception is either thrown or passed to the uncaught exception handler
+        }
+
+        assertEquals(Arrays.asList(1L, 2L, 3L), batchNumbers);
+    }
+
+    /**
+     * Reordering one list moves the elements of the other list without converting them again. Each moved element is set separately.
+     */
+    @Test
+    public void reorderedElementsAreMoved() {
+        final String first = texts.get(0);
+
+        FXCollections.sort(numbers, Collections.reverseOrder());
+
+        assertEquals(Arrays.asList("3", "2", "1"), texts);
+        assertSame(first, texts.get(2));
+        assertEquals(Arrays.asList("replaced 2 [1]", "replaced 0 [3]"), textChanges);
+    }
+
+    /**
+     * When the lists are unbound, nothing will be transferred anymore.
+     */
+    @Test
+    public void whenTheListsAreUnboundNothingWillBeTransferred() {
+        Bindings.unbindContentBidirectional(numbers, texts);
+
+        numbers.add(4L);
+        texts.remove(0);
+
+        assertEquals(Arrays.asList(1L, 2L, 3L, 4L), numbers);
+        assertEquals(Arrays.asList("2", "3"), texts);
+        assertFalse(BidirectionalBinding.isBound(numbers));
+    }
+
+    // endregion
+
+    // region Classes
+
+    /**
+     * An {@link ObservableList} which can add several elements in a single change with one sub-change per element.
+     */
+    private static final class BatchList<E> extends ObservableListBase<E> {
+
+        private final List<E> elements;
+
+        @SafeVarargs
+        private BatchList(final E... elements) {
+            this.elements = new ArrayList<>(Arrays.asList(elements));
+        }
+
+        private void addEach(final int firstIndex, final E first, final int secondIndex, final E second) {
+            beginChange();
+            try {
+                elements.add(firstIndex, first);
+                nextAdd(firstIndex, firstIndex + 1);
+                elements.add(secondIndex, second);
+                nextAdd(secondIndex, secondIndex + 1);
+            } finally {
+                endChange();
+            }
+        }
+
+        @Override
+        public E get(final int index) {
+            return elements.get(index);
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
+    }
+
+    // endregion
+}
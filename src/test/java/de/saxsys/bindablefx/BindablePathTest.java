@@ -0,0 +1,115 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import de.saxsys.bindablefx.mocks.A;
+import de.saxsys.bindablefx.mocks.APaths;
+import de.saxsys.bindablefx.mocks.B;
+import de.saxsys.bindablefx.mocks.C;
+import de.saxsys.bindablefx.mocks.CPaths;
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @author Xyanid on 19.10.2026.
+ */
+public class BindablePathTest {
+
+    //region Fields
+
+    private Property<A> root;
+
+    private C c;
+
+    //endregion
+
+    //region Setup
+
+    @Before
+    public void setUp() {
+        c = new C();
+        c.xProperty().setValue(1L);
+        final B b = new B();
+        b.cProperty().setValue(c);
+        final A a = new A();
+        a.bProperty().setValue(b);
+
+        root = new SimpleObjectProperty<>(a);
+    }
+
+    //endregion
+
+    // region Tests
+
+    /**
+     * The generated paths observe the value at the end of the path.
+     */
+    @Test
+    public void generatedPathsObserveTheValue() {
+        final IFluentBinding<C> cut = APaths.b().c().observe(root);
+
+        assertSame(c, cut.getValue());
+
+        root.getValue().bProperty().setValue(null);
+
+        assertNull(cut.getValue());
+    }
+
+    /**
+     * Paths that end in a property can be written.
+     */
+    @Test
+    public void pathsEndingInAPropertyCanBeWritten() {
+        final BindablePropertyPath<A, Long> path = APaths.b().c().x();
+        final IPropertyBinding<Long> cut = path.observe(root);
+
+        assertEquals(1L, cut.getValue().longValue());
+
+        cut.setValue(2L);
+
+        assertEquals(2L, c.xProperty().getValue().longValue());
+    }
+
+    /**
+     * A path can be used for any amount of roots.
+     */
+    @Test
+    public void pathsCanBeReused() {
+        final BindablePropertyPath<C, Long> path = CPaths.x();
+        final C other = new C();
+        other.xProperty().setValue(3L);
+
+        assertEquals(1L, path.observe(new SimpleObjectProperty<>(c)).getValue().longValue());
+        assertEquals(3L, path.observe(new SimpleObjectProperty<>(other)).getValue().longValue());
+    }
+
+    /**
+     * Paths can also be created by hand.
+     */
+    @Test
+    public void pathsCanBeCreatedByHand() {
+        final BindablePropertyPath<A, Long> path = BindablePath.<A>root().then(A::bProperty).then(B::cProperty).thenProperty(C::xProperty);
+
+        assertEquals(1L, path.observe(root).getValue().longValue());
+        assertSame(root.getValue(), BindablePath.<A>root().observe(root).getValue());
+    }
+
+    // endregion
+}
@@ -0,0 +1,309 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ChangeListener;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.internal.util.reflection.Whitebox;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Xyanid on 19.10.2026.
+ */
+public class BindingPublisherTest {
+
+    //region Fields
+
+    private Property<Long> x;
+
+    private RecordingSubscriber<Long> subscriber;
+
+    private BindingPublisher<Long> cut;
+
+    //endregion
+
+    //region Setup
+
+    @Before
+    public void setUp() {
+        x = new SimpleObjectProperty<>(0L);
+        subscriber = new RecordingSubscriber<>();
+
+        cut = Bindings.toPublisher(Bindings.observe(x));
+    }
+
+    //endregion
+
+    // region Tests
+
+    /**
+     * The current value will be delivered once the subscriber requests it and changes will only be delivered as fast as they are requested.
+     */
+    @Test
+    public void valuesWillOnlyBeDeliveredWhenRequested() {
+        cut.subscribe(subscriber);
+
+        assertTrue(subscriber.values.isEmpty());
+
+        subscriber.subscription.request(1);
+
+        assertEquals(Collections.singletonList(0L), subscriber.values);
+
+        x.setValue(1L);
+
+        assertEquals(Collections.singletonList(0L), subscriber.values);
+
+        subscriber.subscription.request(2);
+        x.setValue(2L);
+
+        assertEquals(Arrays.asList(0L, 1L, 2L), subscriber.values);
+    }
+
+    /**
+     * When the subscriber is slower than the changes, only the latest value will be delivered.
+     */
+    @Test
+    public void whenTheSubscriberIsSlowOnlyTheLatestValueWillBeDelivered() {
+        cut.subscribe(subscriber);
+        subscriber.subscription.request(1);
+
+        for (long i = 1; i <= 100; ++i) {
+            x.setValue(i);
+        }
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertEquals(Arrays.asList(0L, 100L), subscriber.values);
+
+        x.setValue(101L);
+        x.setValue(102L);
+
+        assertEquals(Arrays.asList(0L, 100L, 101L, 102L), subscriber.values);
+    }
+
+    /**
+     * Null values will not be delivered but can be replaced using a fallback value.
+     */
+    @Test
+    public void nullValuesWillNotBeDelivered() {
+        cut = Bindings.toPublisher(Bindings.observe(x).replaceWith(value -> value == null, -1L));
+        cut.subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        x.setValue(null);
+
+        assertEquals(Arrays.asList(0L, -1L), subscriber.values);
+
+        final RecordingSubscriber<Long> other = new RecordingSubscriber<>();
+        Bindings.toPublisher(x).subscribe(other);
+        other.subscription.request(Long.MAX_VALUE);
+
+        assertTrue(other.values.isEmpty());
+    }
+
+    /**
+     * When the subscription is cancelled, no more values will be delivered.
+     */
+    @Test
+    public void whenTheSubscriptionIsCancelledNoMoreValuesWillBeDelivered() {
+        cut.subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        subscriber.subscription.cancel();
+
+        x.setValue(1L);
+        x.setValue(2L);
+
+        assertEquals(Collections.singletonList(0L), subscriber.values);
+    }
+
+    /**
+     * Null values will be delivered as an empty {@link Optional} by an optional publisher.
+     */
+    @Test
+    public void nullValuesWillBeDeliveredAsEmptyOptionals() {
+        final RecordingSubscriber<Optional<Long>> optionalSubscriber = new RecordingSubscriber<>();
+        Bindings.toOptionalPublisher(x).subscribe(optionalSubscriber);
+        optionalSubscriber.subscription.request(Long.MAX_VALUE);
+
+        x.setValue(null);
+        x.setValue(1L);
+
+        assertEquals(Arrays.asList(Optional.of(0L), Optional.empty(), Optional.of(1L)), optionalSubscriber.values);
+    }
+
+    /**
+     * When the subscription is cancelled on the thread that subscribed, the listener is removed and the subscriber is released immediately.
+     */
+    @Test
+    public void whenTheSubscriptionIsCancelledTheListenerIsRemoved() {
+        final CountingProperty property = new CountingProperty();
+        Bindings.toPublisher(property).subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertEquals(1, property.listeners.get());
+
+        subscriber.subscription.cancel();
+
+        assertEquals(0, property.listeners.get());
+        assertNull(Whitebox.getInternalState(subscriber.subscription, "subscriber"));
+    }
+
+    /**
+     * When the subscription is cancelled on another thread, the subscriber is released immediately and the listener is removed on the next change.
+     */
+    @Test
+    public void whenTheSubscriptionIsCancelledOnAnotherThreadTheListenerIsRemovedOnTheNextChange() throws InterruptedException {
+        final CountingProperty property = new CountingProperty();
+        Bindings.toPublisher(property).subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        final Thread thread = new Thread(subscriber.subscription::cancel);
+        thread.start();
+        thread.join();
+
+        assertNull(Whitebox.getInternalState(subscriber.subscription, "subscriber"));
+        assertEquals(1, property.listeners.get());
+
+        property.setValue(1L);
+
+        assertEquals(0, property.listeners.get());
+        assertEquals(Collections.singletonList(0L), subscriber.values);
+    }
+
+    /**
+     * Requesting a non positive amount of elements will signal an error.
+     */
+    @Test
+    public void requestingANonPositiveAmountWillSignalAnError() {
+        cut.subscribe(subscriber);
+        subscriber.subscription.request(0);
+
+        assertThat(subscriber.error, instanceOf(IllegalArgumentException.class));
+
+        x.setValue(1L);
+        subscriber.subscription.request(1);
+
+        assertTrue(subscriber.values.isEmpty());
+    }
+
+    /**
+     * An invalid request made while a value is delivered is signalled once the delivery has finished, so the signals of the subscriber are never nested.
+     */
+    @Test
+    public void anInvalidRequestDuringADeliveryIsSignalledAfterTheDelivery() {
+        final List<String> signals = new ArrayList<>();
+        cut.subscribe(new Subscriber<Long>() {
+
+            private Subscription subscription;
+
+            private boolean delivering;
+
+            @Override
+            public void onSubscribe(final Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(final Long value) {
+                delivering = true;
+                subscription.request(-1);
+                delivering = false;
+                signals.add("next " + value);
+            }
+
+            @Override
+            public void onError(final Throwable error) {
+                signals.add(delivering ? "nested error" : "error");
+            }
+
+            @Override
+            public void onComplete() {}
+        });
+
+        assertEquals(Arrays.asList("next 0", "error"), signals);
+    }
+
+    // endregion
+
+    // region Classes
+
+    private static class RecordingSubscriber<T> implements Subscriber<T> {
+
+        private final List<T> values = new ArrayList<>();
+
+        private Subscription subscription;
+
+        private Throwable error;
+
+        @Override
+        public void onSubscribe(final Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(final T value) {
+            values.add(value);
+        }
+
+        @Override
+        public void onError(final Throwable error) {
+            this.error = error;
+        }
+
+        @Override
+        public void onComplete() {}
+    }
+
+    private static class CountingProperty extends SimpleObjectProperty<Long> {
+
+        private final AtomicInteger listeners = new AtomicInteger();
+
+        private CountingProperty() {
+            super(0L);
+        }
+
+        @Override
+        public void addListener(@NotNull final ChangeListener<? super Long> listener) {
+            super.addListener(listener);
+            listeners.incrementAndGet();
+        }
+
+        @Override
+        public void removeListener(@NotNull final ChangeListener<? super Long> listener) {
+            super.removeListener(listener);
+            listeners.decrementAndGet();
+        }
+    }
+
+    // endregion
+}
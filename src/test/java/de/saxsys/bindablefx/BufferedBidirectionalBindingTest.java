@@ -0,0 +1,257 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+import org.jetbrains.annotations.Nullable;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Xyanid on 19.10.2026.
+ */
+public class BufferedBidirectionalBindingTest {
+
+    //region Fields
+
+    private Property<Long> model;
+
+    private Property<String> editor;
+
+    private AtomicInteger conversions;
+
+    private BufferedBidirectionalBinding<Long, String> cut;
+
+    //endregion
+
+    //region Setup
+
+    @Before
+    public void setUp() {
+        model = new SimpleObjectProperty<>(1L);
+        editor = new SimpleObjectProperty<>();
+        conversions = new AtomicInteger();
+
+        cut = Bindings.bindBidirectionalBuffered(model, editor, new IConverter<Long, String>() {
+            @Nullable
+            @Override
+            public String convertTo(@Nullable final Long value) {
+                return value == null ? null : String.valueOf(value);
+            }
+
+            @Nullable
+            @Override
+            public Long convertBack(@Nullable final String value) {
+                conversions.incrementAndGet();
+                return value == null ? null : Long.valueOf(value);
+            }
+        });
+    }
+
+    @After
+    public void tearDown() {
+        PropagationGuard.setMaxTransfersPerWave(PropagationGuard.DEFAULT_MAX_TRANSFERS_PER_WAVE);
+    }
+
+    //endregion
+
+    // region Tests
+
+    /**
+     * When the binding is created, the editor receives the converted value of the model.
+     */
+    @Test
+    public void theEditorReceivesTheValueOfTheModel() {
+        assertEquals("1", editor.getValue());
+        assertFalse(cut.isDirty());
+        assertTrue(BidirectionalBinding.isBound(model));
+    }
+
+    /**
+     * Changes of the editor are only converted and written to the model once they are committed.
+     */
+    @Test
+    public void changesOfTheEditorAreOnlyWrittenOnCommit() {
+        final AtomicInteger modelChanges = new AtomicInteger();
+        model.addListener((observable, oldValue, newValue) -> modelChanges.incrementAndGet());
+
+        editor.setValue("2");
+        editor.setValue("23");
+        editor.setValue("234");
+
+        assertTrue(cut.isDirty());
+        assertEquals(1L, model.getValue().longValue());
+        assertEquals(0, conversions.get());
+
+        cut.commit();
+
+        assertFalse(cut.isDirty());
+        assertEquals(234L, model.getValue().longValue());
+        assertEquals("234", editor.getValue());
+        assertEquals(1, conversions.get());
+        assertEquals(1, modelChanges.get());
+    }
+
+    /**
+     * A rollback discards the changes of the editor and restores the value of the model.
+     */
+    @Test
+    public void aRollbackRestoresTheValueOfTheModel() {
+        editor.setValue("5");
+
+        cut.rollback();
+
+        assertFalse(cut.isDirty());
+        assertEquals("1", editor.getValue());
+        assertEquals(1L, model.getValue().longValue());
+    }
+
+    /**
+     * Changes of the model are only transferred to the editor if it has no pending changes.
+     */
+    @Test
+    public void changesOfTheModelDoNotOverwritePendingChanges() {
+        model.setValue(2L);
+
+        assertEquals("2", editor.getValue());
+
+        editor.setValue("5");
+        model.setValue(3L);
+
+        assertEquals("5", editor.getValue());
+
+        cut.commit();
+
+        assertEquals(5L, model.getValue().longValue());
+    }
+
+    /**
+     * If the conversion fails during commit, the pending changes are kept.
+     */
+    @Test
+    public void aFailedCommitWillKeepThePendingChanges() {
+        editor.setValue("abc");
+
+        try {
+            cut.commit();
+        } catch (NumberFormatException e) {
+            // expected
+        }
+
+        assertTrue(cut.isDirty());
+        assertEquals(1L, model.getValue().longValue());
+    }
+
+    /**
+     * Each invalidation of a trigger commits the pending changes, even if nobody else reads the value of the trigger.
+     */
+    @Test
+    public void aTriggerCommitsThePendingChanges() {
+        final Property<Boolean> focused = new SimpleObjectProperty<>(true);
+        cut.commitOn(focused);
+
+        editor.setValue("7");
+        focused.setValue(false);
+
+        assertFalse(cut.isDirty());
+        assertEquals(7L, model.getValue().longValue());
+
+        editor.setValue("8");
+        focused.setValue(true);
+
+        assertFalse(cut.isDirty());
+        assertEquals(8L, model.getValue().longValue());
+
+        editor.setValue("9");
+        focused.setValue(false);
+
+        assertFalse(cut.isDirty());
+        assertEquals(9L, model.getValue().longValue());
+    }
+
+    /**
+     * If the model can not be written, the pending changes are kept.
+     */
+    @Test
+    public void pendingChangesAreKeptIfTheModelCanNotBeWritten() {
+        model.bind(new SimpleObjectProperty<>(1L));
+        editor.setValue("7");
+
+        try {
+            cut.commit();
+        } catch (RuntimeException e) {
+            // expected
+        }
+
+        assertTrue(cut.isDirty());
+        assertEquals("7", editor.getValue());
+    }
+
+    /**
+     * If the current wave has been aborted by the {@link PropagationGuard}, the pending changes are kept.
+     */
+    @Test
+    public void pendingChangesAreKeptIfTheWaveIsAborted() {
+        final Property<Long> first = new SimpleObjectProperty<>();
+        final Property<Long> second = new SimpleObjectProperty<>();
+        Bindings.bindBidirectional(first, second, new IConverter<Long, Long>() {
+            @Nullable
+            @Override
+            public Long convertTo(@Nullable final Long value) {
+                return value;
+            }
+
+            @Nullable
+            @Override
+            public Long convertBack(@Nullable final Long value) {
+                return value;
+            }
+        });
+        PropagationGuard.setMaxTransfersPerWave(1);
+        editor.setValue("7");
+
+        Bindings.batch(() -> {
+            first.setValue(2L);
+            cut.commit();
+        });
+
+        assertTrue(cut.isDirty());
+        assertEquals(1L, model.getValue().longValue());
+    }
+
+    /**
+     * When the properties are unbound, changes will no longer be buffered or transferred.
+     */
+    @Test
+    public void whenThePropertiesAreUnboundNothingWillBeTransferred() {
+        BidirectionalBinding.unbind(model, editor);
+
+        editor.setValue("5");
+        model.setValue(3L);
+
+        assertFalse(cut.isDirty());
+        assertEquals("5", editor.getValue());
+        assertFalse(BidirectionalBinding.isBound(model));
+    }
+
+    // endregion
+}
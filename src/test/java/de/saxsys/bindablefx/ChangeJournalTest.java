@@ -0,0 +1,233 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import de.saxsys.bindablefx.mocks.A;
+import de.saxsys.bindablefx.mocks.B;
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+import org.jetbrains.annotations.Nullable;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Xyanid on 19.10.2026.
+ */
+public class ChangeJournalTest {
+
+    //region Fields
+
+    private Path directory;
+
+    private ChangeJournal cut;
+
+    //endregion
+
+    //region Setup
+
+    @Before
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("change-journal");
+        cut = ChangeJournal.inMemory(100);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        ChangeJournal.stop();
+        cut.close();
+        try (final Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    //endregion
+
+    // region Tests
+
+    /**
+     * Relay switches, set values and recomputations of bindings are recorded while the journal is started.
+     */
+    @Test
+    public void bindingEventsAreRecordedWhileStarted() throws IOException {
+        final A a = new A();
+        final IPropertyBinding<Long> binding = Bindings.observe(a.bProperty()).thenObserveProperty(B::xProperty);
+        ChangeJournal.start(cut);
+
+        a.bProperty().setValue(new B());
+        binding.setValue(5L);
+        binding.getValue();
+
+        final List<JournalEvent> events = events(cut.getRecords());
+        assertTrue(events.contains(JournalEvent.RELAY_SWITCH));
+        assertTrue(events.contains(JournalEvent.SET_VALUE));
+        assertTrue(events.contains(JournalEvent.RECOMPUTE));
+
+        ChangeJournal.stop();
+        binding.setValue(6L);
+
+        assertEquals(events, events(cut.getRecords()));
+    }
+
+    /**
+     * Values transferred by bidirectional bindings are recorded.
+     */
+    @Test
+    public void transfersAreRecorded() throws IOException {
+        final Property<Long> first = new SimpleObjectProperty<>();
+        final Property<Long> second = new SimpleObjectProperty<>();
+        Bindings.bindBidirectional(first, second, new IConverter<Long, Long>() {
+            @Nullable
+            @Override
+            public Long convertTo(@Nullable final Long value) {
+                return value;
+            }
+
+            @Nullable
+            @Override
+            public Long convertBack(@Nullable final Long value) {
+                return value;
+            }
+        });
+        ChangeJournal.start(cut);
+
+        first.setValue(1L);
+
+        assertEquals(1L, cut.getRecords().stream().filter(record -> record.getEvent() == JournalEvent.TRANSFER).count());
+    }
+
+    /**
+     * The name, the current value and each change of a tracked value are recorded, all of them with the same source id.
+     */
+    @Test
+    public void trackedValuesAreRecorded() throws IOException {
+        final Property<String> property = new SimpleObjectProperty<>("a");
+
+        cut.track("name", property, ISerializer.utf8());
+        property.setValue("b");
+        property.setValue(null);
+
+        final List<JournalRecord> records = cut.getRecords();
+        assertEquals(4, records.size());
+        assertEquals(JournalEvent.TRACK, records.get(0).getEvent());
+        assertEquals("name", payload(records.get(0)));
+        assertEquals("a", payload(records.get(1)));
+        assertEquals("b", payload(records.get(2)));
+        assertNull(records.get(3).getPayload());
+        assertEquals(1L, records.stream().mapToInt(JournalRecord::getSourceId).distinct().count());
+    }
+
+    /**
+     * A journal in memory only keeps the latest records, except the records of tracked values.
+     */
+    @Test
+    public void aJournalInMemoryKeepsTheLatestRecords() throws IOException {
+        cut = ChangeJournal.inMemory(2);
+        final Property<String> property = new SimpleObjectProperty<>();
+        cut.track("name", property, ISerializer.utf8());
+
+        for (int i = 0; i < 5; i++) {
+            property.setValue(String.valueOf(i));
+        }
+
+        final List<JournalRecord> records = cut.getRecords();
+        assertEquals(3, records.size());
+        assertEquals(JournalEvent.TRACK, records.get(0).getEvent());
+        assertEquals("3", payload(records.get(1)));
+        assertEquals("4", payload(records.get(2)));
+    }
+
+    /**
+     * A journal in a file can be read again, records that have only been written partially are ignored.
+     */
+    @Test
+    public void aJournalInAFileCanBeRead() throws IOException {
+        final Path file = directory.resolve("journal");
+        cut = ChangeJournal.open(file);
+        final Property<String> property = new SimpleObjectProperty<>("a");
+        cut.track("name", property, ISerializer.utf8());
+        property.setValue("b");
+        cut.close();
+        Files.write(file, new byte[]{0, 0, 0, 1}, StandardOpenOption.APPEND);
+
+        final List<JournalRecord> records = ChangeJournal.read(file);
+
+        assertEquals(3, records.size());
+        assertEquals(JournalEvent.TRACK, records.get(0).getEvent());
+        assertEquals("a", payload(records.get(1)));
+        assertEquals("b", payload(records.get(2)));
+        assertTrue(records.get(1).getTimestamp() <= records.get(2).getTimestamp());
+    }
+
+    /**
+     * A file which has not been written by a journal can not be read.
+     */
+    @Test (expected = IOException.class)
+    public void otherFilesCanNotBeRead() throws IOException {
+        final Path file = directory.resolve("other");
+        Files.write(file, new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+
+        ChangeJournal.read(file);
+    }
+
+    /**
+     * Closing a journal stops it.
+     */
+    @Test
+    public void closingAJournalStopsIt() throws IOException {
+        ChangeJournal.start(cut);
+
+        cut.close();
+
+        assertNull(ChangeJournal.getActive());
+    }
+
+    /**
+     * A closed journal can not be started.
+     */
+    @Test (expected = IllegalStateException.class)
+    public void closedJournalsCanNotBeStarted() throws IOException {
+        cut.close();
+
+        ChangeJournal.start(cut);
+    }
+
+    // endregion
+
+    // region Private
+
+    private static String payload(final JournalRecord record) {
+        return new String(record.getPayload(), StandardCharsets.UTF_8);
+    }
+
+    private static List<JournalEvent> events(final List<JournalRecord> records) {
+        return records.stream().map(JournalRecord::getEvent).collect(Collectors.toList());
+    }
+
+    // endregion
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ObservableValue;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static de.saxsys.bindablefx.TestUtil.collectGarbage;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * @author Xyanid on 19.10.2026.
+ */
+public class CombinedBindingTest {
+
+    //region Fields
+
+    private Property<Long> first;
+
+    private Property<Long> second;
+
+    private AtomicInteger computations;
+
+    private IFluentBinding<Long> cut;
+
+    //endregion
+
+    //region Setup
+
+    @Before
+    public void setUp() {
+        first = new SimpleObjectProperty<>(1L);
+        second = new SimpleObjectProperty<>(2L);
+        computations = new AtomicInteger();
+
+        cut = Bindings.combine(first, second, (firstValue, secondValue) -> {
+            computations.incrementAndGet();
+            return firstValue + secondValue;
+        });
+    }
+
+    //endregion
+
+    // region Tests
+
+    /**
+     * The binding contains the combined values and is recomputed if one of them changes.
+     */
+    @Test
+    public void theBindingContainsTheCombinedValues() {
+        assertEquals(3L, cut.getValue().longValue());
+
+        first.setValue(5L);
+
+        assertEquals(7L, cut.getValue().longValue());
+    }
+
+    /**
+     * The values are only combined when the value is requested, no matter how many of them changed before.
+     */
+    @Test
+    public void valuesAreOnlyCombinedWhenRequested() {
+        cut.getValue();
+
+        first.setValue(5L);
+        second.setValue(6L);
+        first.setValue(7L);
+
+        assertEquals(13L, cut.getValue().longValue());
+        assertEquals(2, computations.get());
+    }
+
+    /**
+     * Changes made in a single batch only invalidate the binding once, so a listener only sees the final result.
+     */
+    @Test
+    public void changesOfABatchAreCombinedOnce() {
+        final List<Long> results = new ArrayList<>();
+        cut.addListener((observable, oldValue, newValue) -> results.add(newValue));
+        cut.getValue();
+
+        Bindings.batch(() -> {
+            first.setValue(5L);
+            second.setValue(6L);
+        });
+
+        assertEquals(Collections.singletonList(11L), results);
+        assertEquals(2, computations.get());
+    }
+
+    /**
+     * Values derived from the same source are never combined while only some of them have been updated within a batch.
+     */
+    @Test
+    public void derivedValuesAreCombinedWithoutGlitches() {
+        final Property<Long> source = new SimpleObjectProperty<>(1L);
+        final IFluentBinding<Long> doubled = Bindings.convert(source, value -> value * 2);
+        final IFluentBinding<Long> tripled = Bindings.convert(source, value -> value * 3);
+        final IFluentBinding<Long> ratio = Bindings.combine(doubled, tripled, (doubledValue, tripledValue) -> tripledValue * 2 - doubledValue * 3);
+        final List<Long> results = new ArrayList<>();
+        ratio.addListener((observable, oldValue, newValue) -> results.add(newValue));
+        ratio.getValue();
+
+        Bindings.batch(() -> source.setValue(5L));
+
+        assertEquals(0L, ratio.getValue().longValue());
+        assertEquals(Collections.emptyList(), results);
+    }
+
+    /**
+     * The combined value can be replaced just like the value of any other binding.
+     */
+    @Test
+    public void theCombinedValueCanBeReplaced() {
+        cut.replaceWith(value -> value > 10L, 10L);
+
+        first.setValue(20L);
+
+        assertEquals(10L, cut.getValue().longValue());
+    }
+
+    /**
+     * Any amount of values can be combined.
+     */
+    @Test
+    public void anyAmountOfValuesCanBeCombined() {
+        final Property<Long> third = new SimpleObjectProperty<>(3L);
+        final List<ObservableValue<Long>> inputs = Arrays.asList(first, second, third);
+        final IFluentBinding<Long> sum = Bindings.combine(inputs, values -> values.stream().mapToLong(Long::longValue).sum());
+        final IFluentBinding<String> text = Bindings.combine(first, second, third, (firstValue, secondValue, thirdValue) -> firstValue + "-" + secondValue + "-" + thirdValue);
+
+        assertEquals(6L, sum.getValue().longValue());
+        assertEquals("1-2-3", text.getValue());
+
+        third.setValue(4L);
+
+        assertEquals(7L, sum.getValue().longValue());
+        assertEquals("1-2-4", text.getValue());
+    }
+
+    /**
+     * A nested binding which is only referenced by the outer binding is kept alive by its own values, so the outer binding keeps working.
+     */
+    @Test
+    public void nestedBindingsAreNotGarbageCollected() {
+        final Property<Long> third = new SimpleObjectProperty<>(3L);
+        IFluentBinding<Long> nested = Bindings.combine(first, second, (firstValue, secondValue) -> firstValue + secondValue);
+        final WeakReference<IFluentBinding<Long>> reference = new WeakReference<>(nested);
+        final IFluentBinding<Long> outer = Bindings.combine(nested, third, (nestedValue, thirdValue) -> nestedValue * thirdValue);
+        nested = null;
+
+        collectGarbage(reference);
+
+        assertNotNull(reference.get());
+        assertFalse(outer.wasGarbageCollected());
+        assertEquals(9L, outer.getValue().longValue());
+
+        first.setValue(2L);
+
+        assertEquals(12L, outer.getValue().longValue());
+    }
+
+    /**
+     * After the binding has been disposed, it no longer observes the values.
+     */
+    @Test
+    public void disposingStopsObserving() {
+        cut.getValue();
+
+        cut.dispose();
+        first.setValue(5L);
+
+        assertEquals(1, computations.get());
+    }
+
+    // endregion
+}
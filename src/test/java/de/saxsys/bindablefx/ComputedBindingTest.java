@@ -0,0 +1,171 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static de.saxsys.bindablefx.Bindings.read;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Xyanid on 19.10.2026.
+ */
+public class ComputedBindingTest {
+
+    //region Fields
+
+    private Property<Boolean> useFirst;
+
+    private Property<Long> first;
+
+    private Property<Long> second;
+
+    private ComputedBinding<Long> cut;
+
+    private AtomicInteger invalidations;
+
+    //endregion
+
+    //region Setup
+
+    @Before
+    public void setUp() {
+        useFirst = new SimpleObjectProperty<>(true);
+        first = new SimpleObjectProperty<>(1L);
+        second = new SimpleObjectProperty<>(2L);
+
+        cut = (ComputedBinding<Long>) Bindings.compute(() -> read(useFirst) ? read(first) : read(second));
+
+        invalidations = new AtomicInteger();
+        cut.addListener(observable -> invalidations.incrementAndGet());
+    }
+
+    //endregion
+
+    // region Tests
+
+    /**
+     * The binding contains the computed value and is recomputed if a value it has read changes.
+     */
+    @Test
+    public void theBindingContainsTheComputedValue() {
+        assertEquals(1L, cut.getValue().longValue());
+
+        first.setValue(3L);
+
+        assertEquals(3L, cut.getValue().longValue());
+        assertEquals(1, invalidations.get());
+    }
+
+    /**
+     * The binding only depends on the values that have been read during the last computation.
+     */
+    @Test
+    public void onlyValuesThatHaveBeenReadAreObserved() {
+        cut.getValue();
+
+        assertEquals(new HashSet<>(Arrays.asList(useFirst, first)), new HashSet<>(cut.getCurrentDependencies()));
+
+        second.setValue(4L);
+
+        assertEquals(0, invalidations.get());
+
+        useFirst.setValue(false);
+
+        assertEquals(4L, cut.getValue().longValue());
+        assertEquals(new HashSet<>(Arrays.asList(useFirst, second)), new HashSet<>(cut.getCurrentDependencies()));
+
+        first.setValue(5L);
+
+        assertEquals(1, invalidations.get());
+    }
+
+    /**
+     * Computed bindings can read other computed bindings, each of them tracks its own dependencies.
+     */
+    @Test
+    public void computedBindingsCanBeNested() {
+        final IFluentBinding<Long> doubled = Bindings.compute(() -> read(cut) * 2);
+
+        assertEquals(2L, doubled.getValue().longValue());
+
+        first.setValue(3L);
+
+        assertEquals(6L, doubled.getValue().longValue());
+        assertEquals(new HashSet<>(Arrays.asList(useFirst, first)), new HashSet<>(cut.getCurrentDependencies()));
+    }
+
+    /**
+     * Fluent bindings are tracked if they are read using their getter, without also depending on the values they read themselves.
+     */
+    @Test
+    public void fluentBindingsAreTrackedWhenTheirValueIsRead() {
+        final IFluentBinding<Long> a = Bindings.observe(first);
+        final IFluentBinding<Long> b = Bindings.convert(second, value -> value * 10);
+        final ComputedBinding<Long> sum = (ComputedBinding<Long>) Bindings.compute(() -> a.getValue() + b.getValue());
+
+        assertEquals(21L, sum.getValue().longValue());
+        assertEquals(new HashSet<>(Arrays.asList(a, b)), new HashSet<>(sum.getCurrentDependencies()));
+
+        second.setValue(3L);
+
+        assertEquals(31L, sum.getValue().longValue());
+
+        first.setValue(4L);
+
+        assertEquals(34L, sum.getValue().longValue());
+    }
+
+    /**
+     * If the computed value is null, the fallback value is used.
+     */
+    @Test
+    public void theFallbackValueIsUsedForNull() {
+        cut.fallbackOn(0L);
+
+        first.setValue(null);
+
+        assertEquals(0L, cut.getValue().longValue());
+    }
+
+    /**
+     * Reading a value outside of a computation simply returns its value.
+     */
+    @Test
+    public void readingOutsideOfAComputationReturnsTheValue() {
+        assertEquals(2L, read(second).longValue());
+    }
+
+    /**
+     * After the binding has been disposed, it no longer observes its dependencies.
+     */
+    @Test
+    public void disposingStopsObserving() {
+        cut.getValue();
+
+        cut.dispose();
+
+        assertTrue(cut.getCurrentDependencies().isEmpty());
+    }
+
+    // endregion
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+import static de.saxsys.bindablefx.TestUtil.collectGarbage;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Xyanid on 19.10.2026.
+ */
+@SuppressWarnings ("unchecked")
+public class ConcurrentBindingTest {
+
+    //region Fields
+
+    private Property<Long> x;
+
+    private List<Runnable> handOffs;
+
+    private IFluentBinding<Long> cut;
+
+    //endregion
+
+    //region Setup
+
+    @Before
+    public void setUp() {
+        x = new SimpleObjectProperty<>(0L);
+        handOffs = new ArrayList<>();
+
+        cut = Bindings.observeConcurrently(x, handOffs::add);
+    }
+
+    //endregion
+
+    // region Tests
+
+    /**
+     * Providing a {@link javafx.beans.value.ObservableValue} allows for a {@link ConcurrentBinding} to be created, which immediately provides the current value.
+     */
+    @Test
+    public void aConcurrentBindingCanBeCreated() {
+        assertThat(cut, instanceOf(ConcurrentBinding.class));
+        assertEquals(0L, cut.getValue().longValue());
+        assertTrue(handOffs.isEmpty());
+    }
+
+    /**
+     * No matter how often the {@link javafx.beans.value.ObservableValue} is changed, there will be only one pending hand-off and the binding will provide the latest value once the
+     * hand-off has been run.
+     */
+    @Test
+    public void changesWillBeCoalescedIntoASingleHandOff() {
+        assertEquals(0L, cut.getValue().longValue());
+
+        for (long i = 1; i <= 1000; ++i) {
+            x.setValue(i);
+        }
+
+        assertEquals(1, handOffs.size());
+        assertTrue(((ConcurrentBinding) cut).isHandOffPending());
+        assertEquals(0L, cut.getValue().longValue());
+
+        handOffs.remove(0).run();
+
+        assertFalse(((ConcurrentBinding) cut).isHandOffPending());
+        assertEquals(1000L, cut.getValue().longValue());
+
+        x.setValue(2000L);
+
+        assertEquals(1, handOffs.size());
+    }
+
+    /**
+     * Changes made by other threads will be published and provided once the hand-off has been run.
+     */
+    @Test
+    public void changesOfOtherThreadsWillBeProvidedAfterTheHandOff() throws InterruptedException {
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; ++i) {
+            threads.add(new Thread(() -> {
+                for (long j = 0; j < 1000; ++j) {
+                    ((ConcurrentBinding<Long>) cut).publish(j);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        ((ConcurrentBinding<Long>) cut).publish(4711L);
+
+        assertEquals(1, handOffs.size());
+
+        handOffs.remove(0).run();
+
+        assertEquals(4711L, cut.getValue().longValue());
+    }
+
+    /**
+     * A replacement will be applied to the published value.
+     */
+    @Test
+    public void aReplacementWillBeAppliedToThePublishedValue() {
+        cut.replaceWith(value -> value != null && value > 10L, 10L);
+
+        x.setValue(20L);
+        handOffs.remove(0).run();
+
+        assertEquals(10L, cut.getValue().longValue());
+    }
+
+    /**
+     * When the binding is disposed, it will no longer provide the published value.
+     */
+    @Test
+    public void whenTheBindingIsDisposedItWillNoLongerProvideTheValue() {
+        cut.dispose();
+
+        x.setValue(1L);
+
+        assertTrue(handOffs.isEmpty());
+        assertEquals(null, cut.getValue());
+    }
+
+    /**
+     * Once the {@link javafx.beans.value.ObservableValue} has been garbage collected, the fallback value is used instead of the latest published value.
+     */
+    @Test
+    public void theFallbackValueIsUsedOnceTheObservedValueHasBeenGarbageCollected() {
+        Property<Long> observed = new SimpleObjectProperty<>(5L);
+        final WeakReference<Property<Long>> reference = new WeakReference<>(observed);
+        final IFluentBinding<Long> binding = Bindings.observeConcurrently(observed, handOffs::add).fallbackOn(-1L);
+
+        assertEquals(5L, binding.getValue().longValue());
+
+        observed = null;
+        collectGarbage(reference);
+        binding.invalidate();
+
+        assertTrue(binding.wasGarbageCollected());
+        assertEquals(-1L, binding.getValue().longValue());
+    }
+
+    // endregion
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * @author Xyanid on 19.10.2026.
+ */
+public class ConverterCacheTest {
+
+    //region Fields
+
+    private Path directory;
+
+    private ConverterCache<String, String> cut;
+
+    //endregion
+
+    //region Setup
+
+    @Before
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("converter-cache");
+        cut = open(100, 1024);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        cut.close();
+        try (final Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+
+    //endregion
+
+    // region Tests
+
+    /**
+     * Stored values can be read again, replacing a value keeps a single entry.
+     */
+    @Test
+    public void storedValuesCanBeRead() {
+        assertNull(cut.get("a"));
+
+        cut.put("a", "1");
+        cut.put("b", "2");
+        cut.put("a", "3");
+
+        assertEquals("3", cut.get("a"));
+        assertEquals("2", cut.get("b"));
+        assertEquals(2, cut.size());
+        assertEquals(2, cut.getHitCount());
+        assertEquals(1, cut.getMissCount());
+    }
+
+    /**
+     * A cached converter keeps converting values after the cache has been closed.
+     */
+    @Test
+    public void cachedConvertersWorkAfterTheCacheHasBeenClosed() throws IOException {
+        final Function<String, String> cached = cut.cached(value -> value + "!");
+        cut.close();
+
+        assertEquals("a!", cached.apply("a"));
+    }
+
+    /**
+     * The stored values survive closing and opening the cache again.
+     */
+    @Test
+    public void storedValuesArePersistent() throws IOException {
+        cut.put("a", "1");
+        cut.put("b", "2");
+        cut.close();
+
+        cut = open(100, 1024);
+
+        assertEquals("1", cut.get("a"));
+        assertEquals("2", cut.get("b"));
+        assertEquals(2, cut.size());
+    }
+
+    /**
+     * A cached converter is only invoked for values which have not been converted before, even after the cache has been opened again.
+     */
+    @Test
+    public void cachedConvertersAreOnlyInvokedOnce() throws IOException {
+        final AtomicInteger conversions = new AtomicInteger();
+        final Function<String, String> converter = value -> {
+            conversions.incrementAndGet();
+            return value.toUpperCase();
+        };
+        final Property<String> source = new SimpleObjectProperty<>("a");
+        final IFluentBinding<String> binding = Bindings.convert(source, cut.cached(converter));
+
+        assertEquals("A", binding.getValue());
+
+        cut.close();
+        cut = open(100, 1024);
+
+        assertEquals("A", cut.cached(converter).apply("a"));
+        assertEquals(1, conversions.get());
+    }
+
+    /**
+     * If the amount of entries would be exceeded, the cache starts over.
+     */
+    @Test
+    public void exceedingTheAmountOfEntriesClearsTheCache() throws IOException {
+        cut.close();
+        cut = open(2, 1024);
+
+        cut.put("a", "1");
+        cut.put("b", "2");
+        cut.put("c", "3");
+
+        assertEquals(1, cut.size());
+        assertNull(cut.get("a"));
+        assertEquals("3", cut.get("c"));
+    }
+
+    /**
+     * If the size of the data would be exceeded, the cache starts over, values which are too large are not stored at all.
+     */
+    @Test
+    public void exceedingTheDataSizeClearsTheCache() throws IOException {
+        cut.close();
+        cut = open(100, 15);
+
+        cut.put("a", "1");
+        cut.put("b", "2");
+
+        assertNull(cut.get("a"));
+        assertEquals("2", cut.get("b"));
+
+        cut.put("c", "a value which is too large");
+
+        assertNull(cut.get("c"));
+        assertEquals("2", cut.get("b"));
+    }
+
+    /**
+     * If the cache is opened with a different capacity, it starts over.
+     */
+    @Test
+    public void aDifferentCapacityClearsTheCache() throws IOException {
+        cut.put("a", "1");
+        cut.close();
+
+        cut = open(1000, 1024);
+
+        assertEquals(0, cut.size());
+        assertNull(cut.get("a"));
+    }
+
+    /**
+     * If a record has been corrupted, the cache is cleared instead of failing and can be used again.
+     */
+    @Test
+    public void corruptedRecordsClearTheCache() throws IOException {
+        cut.put("a", "1");
+        cut.close();
+        try (final FileChannel data = FileChannel.open(directory.resolve("test.data"), StandardOpenOption.WRITE)) {
+            data.write(ByteBuffer.wrap(new byte[]{-1, -1, -1, -1}), 0);
+        }
+
+        cut = open(100, 1024);
+
+        assertNull(cut.get("a"));
+        assertEquals(0, cut.size());
+
+        final Function<String, String> cached = cut.cached(key -> key + "!");
+
+        assertEquals("a!", cached.apply("a"));
+        assertEquals("a!", cut.get("a"));
+    }
+
+    // endregion
+
+    // region Private
+
+    private ConverterCache<String, String> open(final int maxEntries, final long maxDataSize) throws IOException {
+        return ConverterCache.open(directory, "test", ISerializer.utf8(), ISerializer.utf8(), maxEntries, maxDataSize);
+    }
+
+    // endregion
+}
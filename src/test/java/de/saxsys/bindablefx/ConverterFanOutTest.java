@@ -0,0 +1,186 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Xyanid on 19.10.2026.
+ */
+public class ConverterFanOutTest {
+
+    //region Fields
+
+    private Property<Long> x;
+
+    private ForkJoinPool pool;
+
+    private ConverterFanOut<Long> cut;
+
+    //endregion
+
+    //region Setup
+
+    @Before
+    public void setUp() {
+        x = new SimpleObjectProperty<>(0L);
+        pool = new ForkJoinPool(4);
+
+        cut = Bindings.fanOut(x);
+    }
+
+    @After
+    public void tearDown() throws InterruptedException {
+        pool.shutdownNow();
+        pool.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    //endregion
+
+    // region Tests
+
+    /**
+     * When the {@link javafx.beans.value.ObservableValue} is changed, the converters of all observed bindings will be evaluated exactly once on the {@link ForkJoinPool} before the
+     * bindings provide the converted value.
+     */
+    @Test
+    public void whenTheObservedValueIsChangedAllBindingsWillBeConvertedInParallel() {
+        cut.parallelFrom(10).evaluateOn(pool);
+        final AtomicInteger conversions = new AtomicInteger();
+        final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        final List<IFluentBinding<String>> bindings = new ArrayList<>();
+        for (int i = 0; i < 100; ++i) {
+            final long offset = i;
+            final IFluentBinding<String> binding = cut.convertTo(value -> {
+                conversions.incrementAndGet();
+                threads.add(Thread.currentThread());
+                return String.valueOf(value + offset);
+            });
+            binding.addListener((observable, oldValue, newValue) -> {});
+            bindings.add(binding);
+        }
+        conversions.set(0);
+        threads.clear();
+
+        x.setValue(5L);
+
+        assertEquals(100, conversions.get());
+        assertFalse(threads.isEmpty());
+        for (final Thread thread : threads) {
+            assertTrue(thread instanceof ForkJoinWorkerThread);
+            assertSame(pool, ((ForkJoinWorkerThread) thread).getPool());
+        }
+
+        for (int i = 0; i < bindings.size(); ++i) {
+            assertEquals(String.valueOf(5L + i), bindings.get(i).getValue());
+        }
+        assertEquals(100, conversions.get());
+    }
+
+    /**
+     * If less bindings than the parallel threshold are observed, their converters will be evaluated on the thread that changed the value.
+     */
+    @Test
+    public void belowTheThresholdBindingsWillBeConvertedOnTheCurrentThread() {
+        cut.parallelFrom(10).evaluateOn(pool);
+        final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        final IFluentBinding<String> binding = cut.convertTo(value -> {
+            threads.add(Thread.currentThread());
+            return String.valueOf(value);
+        });
+        binding.addListener((observable, oldValue, newValue) -> {});
+
+        x.setValue(5L);
+
+        assertEquals("5", binding.getValue());
+        assertEquals(Collections.singleton(Thread.currentThread()), threads);
+    }
+
+    /**
+     * Bindings that do not have any listeners will only be converted once they are asked for their value.
+     */
+    @Test
+    public void bindingsWithoutListenersWillBeConvertedLazily() {
+        final AtomicInteger conversions = new AtomicInteger();
+        final IFluentBinding<String> binding = cut.convertTo(value -> {
+            conversions.incrementAndGet();
+            return String.valueOf(value);
+        });
+
+        x.setValue(1L);
+        x.setValue(2L);
+        x.setValue(3L);
+
+        assertEquals(0, conversions.get());
+        assertEquals("3", binding.getValue());
+        assertEquals(1, conversions.get());
+    }
+
+    /**
+     * When a binding created by the {@link ConverterFanOut} is garbage collected, it will no longer be evaluated.
+     */
+    @Test
+    public void whenABindingIsGarbageCollectedItWillNoLongerBeEvaluated() {
+        IFluentBinding<String> binding = cut.convertTo(String::valueOf);
+        binding.addListener((observable, oldValue, newValue) -> {});
+
+        assertEquals(1, cut.getBindingCount());
+
+        binding = null;
+
+        System.gc();
+
+        x.setValue(1L);
+
+        assertEquals(0, cut.getBindingCount());
+    }
+
+    /**
+     * When the {@link ConverterFanOut} is disposed, its bindings will no longer be updated.
+     */
+    @Test
+    public void whenTheFanOutIsDisposedTheBindingsWillNoLongerBeUpdated() {
+        final IFluentBinding<String> binding = cut.convertTo(String::valueOf);
+
+        assertEquals("0", binding.getValue());
+
+        cut.dispose();
+        x.setValue(1L);
+
+        assertEquals(0, cut.getBindingCount());
+        assertEquals(null, binding.getValue());
+    }
+
+    // endregion
+}
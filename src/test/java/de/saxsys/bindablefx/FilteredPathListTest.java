@@ -0,0 +1,176 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import de.saxsys.bindablefx.mocks.B;
+import de.saxsys.bindablefx.mocks.C;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Xyanid on 19.10.2026.
+ */
+public class FilteredPathListTest {
+
+    //region Fields
+
+    private ObservableList<B> source;
+
+    private FilteredPathList<B, Long> cut;
+
+    private List<B> replayed;
+
+    private int updates;
+
+    //endregion
+
+    //region Setup
+
+    @Before
+    public void setUp() {
+        source = FXCollections.observableArrayList(createB(1L), createB(2L), createB(3L), createB(4L), createB(5L));
+        cut = Bindings.filterList(source, b -> Bindings.observe(b.cProperty()).thenObserve(C::xProperty), x -> x != null && x % 2 == 1);
+
+        replayed = new ArrayList<>(cut);
+        cut.addListener((ListChangeListener<B>) change -> {
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    final List<B> permutated = new ArrayList<>(replayed);
+                    for (int i = change.getFrom(); i < change.getTo(); ++i) {
+                        permutated.set(change.getPermutation(i), replayed.get(i));
+                    }
+                    replayed = permutated;
+                } else if (change.wasUpdated()) {
+                    updates++;
+                } else {
+                    replayed.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                    replayed.addAll(change.getFrom(), change.getAddedSubList());
+                }
+            }
+        });
+    }
+
+    //endregion
+
+    // region Tests
+
+    /**
+     * The list initially contains the elements whose value matches the predicate.
+     */
+    @Test
+    public void theListContainsTheMatchingElements() {
+        assertValues(1L, 3L, 5L);
+    }
+
+    /**
+     * Added and removed elements are only contained if they match the predicate.
+     */
+    @Test
+    public void addedAndRemovedElementsAreApplied() {
+        source.add(1, createB(7L));
+        source.add(0, createB(8L));
+
+        assertValues(1L, 7L, 3L, 5L);
+
+        source.remove(3);
+        source.remove(0, 2);
+
+        assertValues(7L, 3L, 5L);
+
+        source.set(2, createB(9L));
+
+        assertValues(7L, 3L, 9L, 5L);
+        assertEquals(replayed, cut);
+    }
+
+    /**
+     * A change of a nested property adds or removes the element, or updates it if it still matches.
+     */
+    @Test
+    public void nestedChangesAreApplied() {
+        source.get(1).cProperty().getValue().xProperty().setValue(11L);
+
+        assertValues(1L, 11L, 3L, 5L);
+
+        source.get(2).cProperty().setValue(null);
+
+        assertValues(1L, 11L, 5L);
+
+        source.get(0).cProperty().getValue().xProperty().setValue(13L);
+
+        assertValues(13L, 11L, 5L);
+        assertEquals(1, updates);
+        assertEquals(replayed, cut);
+    }
+
+    /**
+     * Reordering the source list reorders the contained elements.
+     */
+    @Test
+    public void reorderedElementsArePermutated() {
+        FXCollections.sort(source, Comparator.comparing((B b) -> b.cProperty().getValue().xProperty().getValue()).reversed());
+
+        assertValues(5L, 3L, 1L);
+        assertEquals(replayed, cut);
+
+        source.get(2).cProperty().getValue().xProperty().setValue(6L);
+
+        assertValues(5L, 1L);
+        assertEquals(replayed, cut);
+    }
+
+    /**
+     * After the list has been disposed, it is empty and no longer observes the source list.
+     */
+    @Test
+    public void disposingStopsObserving() {
+        cut.dispose();
+
+        source.add(createB(7L));
+
+        assertTrue(cut.isEmpty());
+        assertEquals(replayed, cut);
+    }
+
+    // endregion
+
+    // region Private
+
+    private void assertValues(final Long... expected) {
+        final List<Long> actual = new ArrayList<>();
+        cut.forEach(b -> actual.add(b.cProperty().getValue().xProperty().getValue()));
+        assertEquals(Arrays.asList(expected), actual);
+    }
+
+    private static B createB(final long x) {
+        final C c = new C();
+        c.xProperty().setValue(x);
+        final B b = new B();
+        b.cProperty().setValue(c);
+        return b;
+    }
+
+    // endregion
+}
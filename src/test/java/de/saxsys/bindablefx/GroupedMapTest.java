@@ -0,0 +1,181 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import de.saxsys.bindablefx.mocks.B;
+import de.saxsys.bindablefx.mocks.C;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.MapChangeListener;
+import javafx.collections.ObservableList;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Xyanid on 19.10.2026.
+ */
+public class GroupedMapTest {
+
+    //region Fields
+
+    private ObservableList<B> source;
+
+    private GroupedMap<Long, B> cut;
+
+    private List<String> mapChanges;
+
+    //endregion
+
+    //region Setup
+
+    @Before
+    public void setUp() {
+        source = FXCollections.observableArrayList(createB(1L), createB(2L), createB(1L), createB(3L));
+        cut = Bindings.groupBy(source, b -> Bindings.observe(b.cProperty()).thenObserve(C::xProperty));
+
+        mapChanges = new ArrayList<>();
+        cut.addListener((MapChangeListener<Long, ObservableList<B>>) change -> {
+            if (change.wasRemoved()) {
+                mapChanges.add("removed " + change.getKey());
+            }
+            if (change.wasAdded()) {
+                mapChanges.add("added " + change.getKey() + " " + change.getValueAdded().size());
+            }
+        });
+    }
+
+    //endregion
+
+    // region Tests
+
+    /**
+     * The map initially contains a group for each key with the elements in the order of the source list.
+     */
+    @Test
+    public void theMapContainsAGroupForEachKey() {
+        assertEquals(new HashSet<>(Arrays.asList(1L, 2L, 3L)), cut.keySet());
+        assertEquals(Arrays.asList(source.get(0), source.get(2)), cut.get(1L));
+        assertEquals(Collections.singletonList(source.get(1)), cut.get(2L));
+        assertEquals(Collections.singletonList(source.get(3)), cut.get(3L));
+    }
+
+    /**
+     * Added elements are inserted into their group at the position of their index in the source list, new keys are added to the map.
+     */
+    @Test
+    public void addedElementsAreGrouped() {
+        final B first = createB(1L);
+        source.add(1, first);
+        source.add(createB(4L));
+
+        assertEquals(Arrays.asList(source.get(0), first, source.get(3)), cut.get(1L));
+        assertEquals(Collections.singletonList(source.get(5)), cut.get(4L));
+        assertEquals(Collections.singletonList("added 4 1"), mapChanges);
+    }
+
+    /**
+     * Removed elements are removed from their group, keys without elements are removed from the map.
+     */
+    @Test
+    public void removedElementsAreRemovedFromTheirGroup() {
+        final B third = source.get(2);
+        source.remove(0);
+        source.remove(0);
+
+        assertEquals(Collections.singletonList(third), cut.get(1L));
+        assertFalse(cut.containsKey(2L));
+        assertNull(cut.get(2L));
+        assertEquals(Collections.singletonList("removed 2"), mapChanges);
+    }
+
+    /**
+     * If the key of an element changes, it is only moved into its new group and the group of each affected key fires a single change.
+     */
+    @Test
+    public void changedKeysMoveTheElement() {
+        final ObservableList<B> group = cut.get(1L);
+        final List<String> groupChanges = new ArrayList<>();
+        group.addListener((ListChangeListener<B>) change -> {
+            while (change.next()) {
+                groupChanges.add(change.wasRemoved() ? "removed " + change.getFrom() : "added " + change.getFrom());
+            }
+        });
+
+        source.get(0).cProperty().getValue().xProperty().setValue(3L);
+
+        assertEquals(Collections.singletonList(source.get(2)), group);
+        assertEquals(Arrays.asList(source.get(0), source.get(3)), cut.get(3L));
+        assertEquals(Collections.singletonList("removed 0"), groupChanges);
+
+        source.get(1).cProperty().setValue(null);
+
+        assertEquals(Collections.singletonList(source.get(1)), cut.get(null));
+        assertEquals(Arrays.asList("removed 2", "added null 1"), mapChanges);
+    }
+
+    /**
+     * Reordering the source list reorders the elements of each group.
+     */
+    @Test
+    public void reorderedElementsAreReorderedInTheirGroup() {
+        final B first = source.get(0);
+        final B third = source.get(2);
+
+        FXCollections.sort(source, Comparator.comparing((B b) -> b.cProperty().getValue().xProperty().getValue()).reversed().thenComparing(b -> b == third ? 0 : 1));
+
+        assertEquals(Arrays.asList(third, first), cut.get(1L));
+        assertTrue(mapChanges.isEmpty());
+    }
+
+    /**
+     * After the map has been disposed, it is empty and no longer observes the source list.
+     */
+    @Test
+    public void disposingStopsObserving() {
+        final ObservableList<B> group = cut.get(1L);
+
+        cut.dispose();
+        source.add(createB(1L));
+
+        assertTrue(cut.isEmpty());
+        assertEquals(2, group.size());
+        assertEquals(3, mapChanges.size());
+    }
+
+    // endregion
+
+    // region Private
+
+    private static B createB(final long x) {
+        final C c = new C();
+        c.xProperty().setValue(x);
+        final B b = new B();
+        b.cProperty().setValue(c);
+        return b;
+    }
+
+    // endregion
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Xyanid on 19.10.2026.
+ */
+public class JournalReplayerTest {
+
+    //region Fields
+
+    private ChangeJournal journal;
+
+    private Property<String> recorded;
+
+    private JournalReplayer cut;
+
+    //endregion
+
+    //region Setup
+
+    @Before
+    public void setUp() {
+        journal = ChangeJournal.inMemory(100);
+        recorded = new SimpleObjectProperty<>();
+        journal.track("source", recorded, ISerializer.utf8());
+        cut = new JournalReplayer();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        journal.close();
+    }
+
+    //endregion
+
+    // region Tests
+
+    /**
+     * The recorded values are set on the property tracked under the same name, so a fresh binding graph goes through the same values.
+     */
+    @Test
+    public void recordedValuesAreReplayed() throws IOException, InterruptedException {
+        recorded.setValue("a");
+        recorded.setValue("bb");
+        recorded.setValue("ccc");
+        final Property<String> replayed = new SimpleObjectProperty<>("x");
+        final IFluentBinding<Integer> length = Bindings.convert(replayed, value -> value != null ? value.length() : 0);
+        final List<Integer> lengths = new ArrayList<>();
+        length.addListener((observable, oldValue, newValue) -> lengths.add(newValue));
+        cut.track("source", replayed, ISerializer.utf8());
+
+        cut.replay(journal.getRecords());
+
+        assertEquals("ccc", replayed.getValue());
+        assertEquals(Arrays.asList(0, 1, 2, 3), lengths);
+        assertEquals(4L, cut.getAppliedChangeCount());
+    }
+
+    /**
+     * Values of names which are not tracked by the replayer are skipped.
+     */
+    @Test
+    public void valuesOfOtherNamesAreSkipped() throws IOException, InterruptedException {
+        recorded.setValue("a");
+        final Property<String> replayed = new SimpleObjectProperty<>("x");
+        cut.track("other", replayed, ISerializer.utf8());
+
+        cut.replay(journal.getRecords());
+
+        assertEquals("x", replayed.getValue());
+        assertEquals(0L, cut.getAppliedChangeCount());
+    }
+
+    /**
+     * If the timing is preserved, the replay takes at least as long as the recorded session.
+     */
+    @Test
+    public void theTimingCanBePreserved() throws IOException, InterruptedException {
+        Thread.sleep(20);
+        recorded.setValue("a");
+        final List<JournalRecord> records = journal.getRecords();
+        final Property<String> replayed = new SimpleObjectProperty<>("x");
+        cut.track("source", replayed, ISerializer.utf8());
+        cut.setPreserveTiming(true);
+
+        final long duration = cut.replay(records);
+
+        assertTrue(duration >= records.get(2).getTimestamp() - records.get(1).getTimestamp());
+        assertEquals("a", replayed.getValue());
+    }
+
+    /**
+     * Recorded null values are replayed as null.
+     */
+    @Test
+    public void nullValuesAreReplayed() throws IOException, InterruptedException {
+        recorded.setValue("a");
+        recorded.setValue(null);
+        final Property<String> replayed = new SimpleObjectProperty<>("x");
+        cut.track("source", replayed, ISerializer.utf8());
+
+        cut.replay(journal.getRecords());
+
+        assertNull(replayed.getValue());
+    }
+
+    // endregion
+}
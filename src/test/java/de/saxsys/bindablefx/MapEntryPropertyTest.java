@@ -0,0 +1,233 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.WeakChangeListener;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableMap;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static de.saxsys.bindablefx.TestUtil.collectGarbage;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @author Xyanid on 19.10.2026.
+ */
+public class MapEntryPropertyTest {
+
+    //region Fields
+
+    private ObservableMap<String, Long> attributes;
+
+    private Property<ObservableMap<String, Long>> root;
+
+    //endregion
+
+    //region Setup
+
+    @Before
+    public void setUp() {
+        attributes = FXCollections.observableHashMap();
+        attributes.put("a", 1L);
+        attributes.put("b", 2L);
+
+        root = new SimpleObjectProperty<>(attributes);
+    }
+
+    //endregion
+
+    // region Tests
+
+    /**
+     * The binding contains the value of the key and follows its changes.
+     */
+    @Test
+    public void theBindingContainsTheValueOfTheKey() {
+        final IFluentBinding<Long> cut = Bindings.observe(root).thenObserveKey(map -> map, "a");
+
+        assertEquals(1L, cut.getValue().longValue());
+
+        attributes.put("a", 3L);
+
+        assertEquals(3L, cut.getValue().longValue());
+
+        attributes.remove("a");
+
+        assertNull(cut.getValue());
+    }
+
+    /**
+     * Changes of other keys do not invalidate the binding.
+     */
+    @Test
+    public void changesOfOtherKeysAreIgnored() {
+        final IFluentBinding<Long> cut = Bindings.observe(root).thenObserveKey(map -> map, "a");
+        final AtomicInteger invalidations = new AtomicInteger();
+        cut.addListener(observable -> {
+            invalidations.incrementAndGet();
+            cut.getValue();
+        });
+        cut.getValue();
+
+        attributes.put("b", 4L);
+        attributes.put("c", 5L);
+        attributes.remove("b");
+
+        assertEquals(0, invalidations.get());
+
+        attributes.put("a", 6L);
+
+        assertEquals(1, invalidations.get());
+    }
+
+    /**
+     * If the parent changes, the binding contains the value of the key of the new map.
+     */
+    @Test
+    public void theBindingFollowsTheParent() {
+        final IFluentBinding<Long> cut = Bindings.observe(root).thenObserveKey(map -> map, "a");
+        final ObservableMap<String, Long> other = FXCollections.observableHashMap();
+        other.put("a", 7L);
+
+        root.setValue(other);
+
+        assertEquals(7L, cut.getValue().longValue());
+
+        attributes.put("a", 8L);
+
+        assertEquals(7L, cut.getValue().longValue());
+    }
+
+    /**
+     * Setting the value of the property variant puts it into the map, setting null removes the key.
+     */
+    @Test
+    public void thePropertyVariantWritesIntoTheMap() {
+        final IPropertyBinding<Long> cut = Bindings.observe(root).thenObserveKeyProperty(map -> map, "c");
+
+        assertNull(cut.getValue());
+
+        cut.setValue(9L);
+
+        assertEquals(9L, attributes.get("c").longValue());
+        assertEquals(9L, cut.getValue().longValue());
+
+        cut.setValue(null);
+
+        assertFalse(attributes.containsKey("c"));
+        assertNull(cut.getValue());
+    }
+
+    /**
+     * All bindings of the same key of a map share the same property.
+     */
+    @Test
+    public void bindingsOfTheSameKeyShareTheProperty() {
+        assertSame(MapEntryProperty.of(attributes, "a"), MapEntryProperty.of(attributes, "a"));
+        assertEquals("a", MapEntryProperty.of(attributes, "a").getName());
+    }
+
+    /**
+     * If the map resolver returns null, the binding contains null until the map is available.
+     */
+    @Test
+    public void aNullMapIsHandledLikeANullValue() {
+        final Property<ObservableMap<String, Long>> map = new SimpleObjectProperty<>();
+        final IFluentBinding<Long> cut = Bindings.observe(root).thenObserveKey(ignored -> map.getValue(), "a");
+
+        assertNull(cut.getValue());
+
+        map.setValue(attributes);
+        root.setValue(FXCollections.observableHashMap());
+        root.setValue(attributes);
+
+        assertEquals(1L, cut.getValue().longValue());
+    }
+
+    /**
+     * Properties without listeners are only weakly referenced, while properties with listeners stay in use as long as the map is alive.
+     */
+    @Test
+    public void onlyPropertiesWithListenersAreKept() throws InterruptedException {
+        final WeakReference<MapEntryProperty<String, Long>> unused = new WeakReference<>(MapEntryProperty.of(attributes, "b"));
+        final IFluentBinding<Long> cut = Bindings.observe(root).thenObserveKey(map -> map, "a");
+        cut.getValue();
+
+        for (int i = 0; i < 10 && unused.get() != null; ++i) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertNull(unused.get());
+
+        attributes.put("a", 3L);
+
+        assertEquals(3L, cut.getValue().longValue());
+    }
+
+    /**
+     * Removing a listener which has never been added does not release a property that still has listeners.
+     */
+    @Test
+    public void removingAnUnknownListenerKeepsThePropertyInUse() {
+        final IFluentBinding<Long> cut = Bindings.observe(root).thenObserveKey(map -> map, "a");
+        cut.getValue();
+        final WeakReference<MapEntryProperty<String, Long>> used = new WeakReference<>(MapEntryProperty.of(attributes, "a"));
+
+        used.get().removeListener((InvalidationListener) observable -> {});
+        collectGarbage(used);
+
+        assertNotNull(used.get());
+
+        attributes.put("a", 3L);
+
+        assertEquals(3L, cut.getValue().longValue());
+    }
+
+    /**
+     * A property whose only listener is a {@link WeakChangeListener} with a garbage collected target is no longer kept.
+     */
+    @Test
+    public void collectedWeakListenersDoNotKeepTheProperty() {
+        final AtomicInteger changes = new AtomicInteger();
+        ChangeListener<Long> target = (observable, oldValue, newValue) -> changes.incrementAndGet();
+        final WeakReference<ChangeListener<Long>> collectedTarget = new WeakReference<>(target);
+        final WeakReference<MapEntryProperty<String, Long>> unused = new WeakReference<>(MapEntryProperty.of(attributes, "b"));
+        unused.get().addListener(new WeakChangeListener<>(target));
+        target = null;
+        collectGarbage(collectedTarget);
+
+        assertNull(collectedTarget.get());
+
+        MapEntryProperty.of(attributes, "b");
+        collectGarbage(unused);
+
+        assertNull(unused.get());
+        assertEquals(0, changes.get());
+    }
+
+    // endregion
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import de.saxsys.bindablefx.mocks.B;
+import de.saxsys.bindablefx.mocks.C;
+import javafx.beans.property.Property;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Xyanid on 19.10.2026.
+ */
+public class MappedListTest {
+
+    //region Constants
+
+    /**
+     * The amount of changes that are made to the nested property of a single element of a large list.
+     */
+    private static final int CHANGES = 100;
+
+    //endregion
+
+    //region Fields
+
+    private ObservableList<B> source;
+
+    private MappedList<B, Long> cut;
+
+    private List<String> changes;
+
+    //endregion
+
+    //region Setup
+
+    @Before
+    public void setUp() {
+        source = FXCollections.observableArrayList(createB(1L), createB(2L), createB(3L));
+        cut = Bindings.mapList(source, b -> Bindings.observe(b.cProperty()).thenObserve(C::xProperty));
+
+        changes = new ArrayList<>();
+        cut.addListener((ListChangeListener<Long>) change -> {
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    changes.add("permutated " + change.getFrom() + "-" + change.getTo());
+                } else if (change.wasReplaced()) {
+                    changes.add("replaced " + change.getFrom() + " " + change.getRemoved() + " -> " + change.getAddedSubList());
+                } else if (change.wasRemoved()) {
+                    changes.add("removed " + change.getFrom() + " " + change.getRemoved());
+                } else if (change.wasAdded()) {
+                    changes.add("added " + change.getFrom() + " " + change.getAddedSubList());
+                }
+            }
+        });
+    }
+
+    //endregion
+
+    // region Tests
+
+    /**
+     * The list initially contains the value of the path of each element.
+     */
+    @Test
+    public void theListContainsTheValueOfEachElement() {
+        assertEquals(Arrays.asList(1L, 2L, 3L), cut);
+        assertTrue(changes.isEmpty());
+    }
+
+    /**
+     * Added and removed elements result in the same change of the list.
+     */
+    @Test
+    public void addedAndRemovedElementsAreApplied() {
+        source.add(1, createB(4L));
+
+        assertEquals(Arrays.asList(1L, 4L, 2L, 3L), cut);
+
+        source.remove(0);
+
+        assertEquals(Arrays.asList(4L, 2L, 3L), cut);
+
+        source.set(2, createB(5L));
+
+        assertEquals(Arrays.asList(4L, 2L, 5L), cut);
+        assertEquals(Arrays.asList("added 1 [4]", "removed 0 [1]", "replaced 2 [3] -> [5]"), changes);
+    }
+
+    /**
+     * Null elements and elements whose path does not resolve a value are mapped to null.
+     */
+    @Test
+    public void nullElementsAreMappedToNull() {
+        source.add(null);
+        source.add(new B());
+
+        assertEquals(Arrays.asList(1L, 2L, 3L, null, null), cut);
+    }
+
+    /**
+     * Reordering the elements results in a permutation of the list.
+     */
+    @Test
+    public void reorderedElementsArePermutated() {
+        FXCollections.sort(source, Comparator.comparing((B b) -> b.cProperty().getValue().xProperty().getValue()).reversed());
+
+        assertEquals(Arrays.asList(3L, 2L, 1L), cut);
+        assertEquals(Collections.singletonList("permutated 0-3"), changes);
+
+        source.get(0).cProperty().getValue().xProperty().setValue(6L);
+
+        assertEquals(Arrays.asList(6L, 2L, 1L), cut);
+    }
+
+    /**
+     * A change of a nested property only replaces the value of its element.
+     */
+    @Test
+    public void nestedChangesOnlyReplaceTheValueOfTheElement() {
+        source.add(0, createB(4L));
+        changes.clear();
+
+        source.get(2).cProperty().getValue().xProperty().setValue(7L);
+
+        assertEquals(Arrays.asList(4L, 1L, 7L, 3L), cut);
+        assertEquals(Collections.singletonList("replaced 2 [2] -> [7]"), changes);
+
+        final C c = new C();
+        c.xProperty().setValue(8L);
+        source.get(3).cProperty().setValue(c);
+
+        assertEquals(Arrays.asList(4L, 1L, 7L, 8L), cut);
+        assertEquals(Arrays.asList("replaced 2 [2] -> [7]", "replaced 3 [3] -> [8]"), changes);
+    }
+
+    /**
+     * Removed elements are no longer observed.
+     */
+    @Test
+    public void removedElementsAreNoLongerObserved() {
+        final B removed = source.remove(1);
+        changes.clear();
+
+        removed.cProperty().getValue().xProperty().setValue(9L);
+
+        assertEquals(Arrays.asList(1L, 3L), cut);
+        assertTrue(changes.isEmpty());
+    }
+
+    /**
+     * After the list has been disposed, it is empty and no longer observes the source list or its elements.
+     */
+    @Test
+    public void disposingStopsObserving() {
+        final B first = source.get(0);
+
+        cut.dispose();
+
+        assertTrue(cut.isEmpty());
+        assertEquals(Collections.singletonList("removed 0 [1, 2, 3]"), changes);
+
+        changes.clear();
+        source.add(createB(4L));
+        first.cProperty().getValue().xProperty().setValue(5L);
+
+        assertTrue(cut.isEmpty());
+        assertTrue(changes.isEmpty());
+    }
+
+    /**
+     * Changing the nested property of a single element of a large list neither resolves the paths of the other elements again nor changes any other element of the mapped list.
+     */
+    @Test
+    public void nestedChangesOnlyUpdateTheChangedElement() {
+        final int size = 10_000;
+        final List<B> elements = new ArrayList<>(size);
+        for (long i = 0; i < size; ++i) {
+            elements.add(createB(i));
+        }
+        final ObservableList<B> large = FXCollections.observableArrayList(elements);
+        final AtomicInteger resolutions = new AtomicInteger();
+        final MappedList<B, Long> mapped = Bindings.mapList(large, b -> {
+            resolutions.incrementAndGet();
+            return Bindings.observe(b.cProperty()).thenObserve(C::xProperty);
+        });
+        final AtomicInteger replacedElements = new AtomicInteger();
+        mapped.addListener((ListChangeListener<Long>) change -> {
+            while (change.next()) {
+                replacedElements.addAndGet(change.getAddedSize());
+            }
+        });
+        final Property<Long> x = large.get(size / 2).cProperty().getValue().xProperty();
+
+        for (long i = 0; i < CHANGES; ++i) {
+            x.setValue(-i - 1);
+        }
+
+        assertEquals(-CHANGES, mapped.get(size / 2).longValue());
+        assertEquals(size, resolutions.get());
+        assertEquals(CHANGES, replacedElements.get());
+    }
+
+    // endregion
+
+    // region Private
+
+    private static B createB(final long x) {
+        final C c = new C();
+        c.xProperty().setValue(x);
+        final B b = new B();
+        b.cProperty().setValue(c);
+        return b;
+    }
+
+    // endregion
+}
@@ -0,0 +1,306 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.ListProperty;
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleListProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static de.saxsys.bindablefx.Bindings.read;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * @author Xyanid on 19.10.2026.
+ */
+public class MemoizationTest {
+
+    //region Fields
+
+    private Property<Long> first;
+
+    private Property<Long> second;
+
+    private AtomicInteger computations;
+
+    //endregion
+
+    //region Setup
+
+    @Before
+    public void setUp() {
+        first = new SimpleObjectProperty<>(1L);
+        second = new SimpleObjectProperty<>(2L);
+        computations = new AtomicInteger();
+        Memoization.resetAvoidedComputationCount();
+    }
+
+    @After
+    public void tearDown() {
+        Memoization.resetAvoidedComputationCount();
+    }
+
+    //endregion
+
+    // region Tests
+
+    /**
+     * A converter is not applied again if the value returned to the value it has last been applied to.
+     */
+    @Test
+    public void convertersAreNotAppliedToTheSameValueAgain() {
+        final IFluentBinding<String> cut = Bindings.convert(first, value -> {
+            computations.incrementAndGet();
+            return String.valueOf(value);
+        }).memoize();
+        cut.getValue();
+
+        Bindings.batch(() -> {
+            first.setValue(5L);
+            first.setValue(1L);
+        });
+
+        assertEquals("1", cut.getValue());
+        assertEquals(1, computations.get());
+        assertEquals(1L, Memoization.getAvoidedComputationCount());
+
+        first.setValue(5L);
+
+        assertEquals("5", cut.getValue());
+        assertEquals(2, computations.get());
+    }
+
+    /**
+     * A converter is applied again if the new value is equal to, but not the same instance as the value it has last been applied to.
+     */
+    @Test
+    public void convertersAreAppliedToEqualButNotIdenticalValues() {
+        final Property<List<String>> source = new SimpleObjectProperty<>(new ArrayList<>(Collections.singletonList("value")));
+        final IFluentBinding<String> cut = Bindings.convert(source, value -> {
+            computations.incrementAndGet();
+            return value.get(0) + computations.get();
+        }).memoize();
+        cut.getValue();
+
+        source.setValue(new ArrayList<>(Collections.singletonList("value")));
+
+        assertEquals("value2", cut.getValue());
+        assertEquals(2, computations.get());
+        assertEquals(0L, Memoization.getAvoidedComputationCount());
+    }
+
+    /**
+     * A converter is not applied again to an immutable value which is equal to the value it has last been applied to, even if it is a new instance.
+     */
+    @SuppressWarnings ("RedundantStringConstructorCall")
+    @Test
+    public void convertersAreNotAppliedToEqualImmutableValuesAgain() {
+        final Property<String> source = new SimpleObjectProperty<>(new String("value"));
+        final IFluentBinding<String> cut = Bindings.convert(source, value -> {
+            computations.incrementAndGet();
+            return value + computations.get();
+        }).memoize();
+        cut.getValue();
+
+        source.setValue(new String("value"));
+
+        assertEquals("value1", cut.getValue());
+        assertEquals(1, computations.get());
+        assertEquals(1L, Memoization.getAvoidedComputationCount());
+    }
+
+    /**
+     * A converter is not applied again if a {@link DoubleProperty} returned to the value it has last been applied to, although the property boxes its value on each read.
+     */
+    @Test
+    public void convertersAreNotAppliedToTheSameDoubleValueAgain() {
+        final DoubleProperty source = new SimpleDoubleProperty(1.5);
+        final IFluentBinding<String> cut = Bindings.convert(source, value -> {
+            computations.incrementAndGet();
+            return String.valueOf(value);
+        }).memoize();
+        cut.getValue();
+
+        Bindings.batch(() -> {
+            source.set(2.5);
+            source.set(1.5);
+        });
+
+        assertEquals("1.5", cut.getValue());
+        assertEquals(1, computations.get());
+        assertEquals(1L, Memoization.getAvoidedComputationCount());
+
+        source.set(2.5);
+
+        assertEquals("2.5", cut.getValue());
+        assertEquals(2, computations.get());
+    }
+
+    /**
+     * A combiner is not applied again if all values returned to the values it has last been applied to.
+     */
+    @Test
+    public void combinersAreNotAppliedToTheSameValuesAgain() {
+        final IFluentBinding<Long> cut = Bindings.combine(first, second, (firstValue, secondValue) -> {
+            computations.incrementAndGet();
+            return firstValue + secondValue;
+        }).memoize();
+        cut.getValue();
+
+        first.setValue(5L);
+        second.setValue(6L);
+        first.setValue(1L);
+        second.setValue(2L);
+
+        assertEquals(3L, cut.getValue().longValue());
+        assertEquals(1, computations.get());
+        assertEquals(1L, Memoization.getAvoidedComputationCount());
+    }
+
+    /**
+     * A computation is not invoked again if none of the values it has read has been invalidated, e.g. if only its replacement changed.
+     */
+    @Test
+    public void computationsAreNotInvokedIfNoDependencyHasBeenInvalidated() {
+        final IFluentBinding<Long> cut = Bindings.compute(() -> {
+            computations.incrementAndGet();
+            return read(first) * 2;
+        }).memoize();
+        cut.getValue();
+
+        cut.replaceWith(value -> value + 1);
+
+        assertEquals(3L, cut.getValue().longValue());
+        assertEquals(1, computations.get());
+        assertEquals(1L, Memoization.getAvoidedComputationCount());
+
+        first.setValue(5L);
+        first.setValue(1L);
+
+        assertEquals(3L, cut.getValue().longValue());
+        assertEquals(2, computations.get());
+    }
+
+    /**
+     * A computation is invoked again if a value it has read has been mutated in place, even though the value is still the same instance.
+     */
+    @Test
+    public void computationsAreInvokedForMutatedValues() {
+        final ListProperty<Long> source = new SimpleListProperty<>(FXCollections.observableArrayList(1L));
+        final IFluentBinding<Integer> cut = Bindings.compute(() -> {
+            computations.incrementAndGet();
+            return read(source).size();
+        }).memoize();
+        assertEquals(1, cut.getValue().intValue());
+
+        source.add(2L);
+
+        assertEquals(2, cut.getValue().intValue());
+        assertEquals(2, computations.get());
+        assertEquals(0L, Memoization.getAvoidedComputationCount());
+    }
+
+    /**
+     * A replacement is not applied again to the same value, but is applied if the replacement itself changed.
+     */
+    @Test
+    public void replacementsAreNotAppliedToTheSameValueAgain() {
+        final IFluentBinding<Long> cut = Bindings.observe(first).memoize().replaceWith(value -> {
+            computations.incrementAndGet();
+            return value * 10;
+        });
+        cut.getValue();
+
+        first.setValue(5L);
+        first.setValue(1L);
+
+        assertEquals(10L, cut.getValue().longValue());
+        assertEquals(1, computations.get());
+
+        cut.replaceWith(value -> value * 100);
+
+        assertEquals(100L, cut.getValue().longValue());
+    }
+
+    /**
+     * Without memoization, converters are applied on each computation.
+     */
+    @Test
+    public void bindingsAreNotMemoizingByDefault() {
+        final IFluentBinding<String> cut = Bindings.convert(first, value -> {
+            computations.incrementAndGet();
+            return String.valueOf(value);
+        });
+        cut.getValue();
+
+        first.setValue(5L);
+        first.setValue(1L);
+        cut.getValue();
+
+        assertFalse(cut.isMemoizing());
+        assertEquals(2, computations.get());
+        assertEquals(0L, Memoization.getAvoidedComputationCount());
+    }
+
+    /**
+     * A value which has been mutated in place is the same instance, so it is converted again unless the binding is memoizing.
+     */
+    @Test
+    public void mutatedValuesAreConvertedAgain() {
+        final ListProperty<Long> source = new SimpleListProperty<>(FXCollections.observableArrayList(1L));
+        final IFluentBinding<Integer> cut = Bindings.convert(source, list -> {
+            computations.incrementAndGet();
+            return list.size();
+        });
+        assertEquals(1, cut.getValue().intValue());
+
+        source.add(2L);
+
+        assertEquals(2, cut.getValue().intValue());
+        assertEquals(2, computations.get());
+        assertEquals(0L, Memoization.getAvoidedComputationCount());
+    }
+
+    /**
+     * If memoization is stopped, converters are applied on each computation again.
+     */
+    @Test
+    public void stoppedMemoizationAlwaysComputes() {
+        final IFluentBinding<String> cut = Bindings.convert(first, value -> {
+            computations.incrementAndGet();
+            return String.valueOf(value);
+        }).memoize();
+        cut.getValue();
+
+        cut.stopMemoization();
+        cut.getValue();
+
+        assertEquals(2, computations.get());
+        assertEquals(0L, Memoization.getAvoidedComputationCount());
+    }
+
+    // endregion
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+import org.jetbrains.annotations.Nullable;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Xyanid on 19.10.2026.
+ */
+public class PropagationGuardTest {
+
+    //region Fields
+
+    private AtomicInteger conversions;
+
+    /**
+     * A converter which is not the inverse of itself, so each transfer changes the value.
+     */
+    private IConverter<Long, Long> lossyConverter;
+
+    //endregion
+
+    //region Setup
+
+    @Before
+    public void setUp() {
+        PropagationGuard.resetAbortedWaveCount();
+        conversions = new AtomicInteger();
+        lossyConverter = new IConverter<Long, Long>() {
+            @Nullable
+            @Override
+            public Long convertTo(@Nullable final Long value) {
+                conversions.incrementAndGet();
+                return value == null ? null : value + 1;
+            }
+
+            @Nullable
+            @Override
+            public Long convertBack(@Nullable final Long value) {
+                conversions.incrementAndGet();
+                return value == null ? null : value + 1;
+            }
+        };
+    }
+
+    @After
+    public void tearDown() {
+        PropagationGuard.setMaxTransfersPerWave(PropagationGuard.DEFAULT_MAX_TRANSFERS_PER_WAVE);
+        PropagationGuard.setRoundTripCheck(false);
+        PropagationGuard.resetAbortedWaveCount();
+    }
+
+    //endregion
+
+    // region Tests
+
+    /**
+     * A wave which exceeds the maximum amount of transfers is aborted and counted.
+     */
+    @Test
+    public void aWaveExceedingTheMaximumAmountOfTransfersIsAborted() {
+        final List<Property<Long>> properties = createFullyConnectedGraph(6);
+
+        PropagationGuard.setMaxTransfersPerWave(50);
+        conversions.set(0);
+
+        properties.get(0).setValue(100L);
+
+        // each of the 5 bindings of the changed property starts its own wave
+        assertTrue(conversions.get() <= 5 * 50);
+        final long abortedWaves = PropagationGuard.getAbortedWaveCount();
+        assertTrue(abortedWaves > 0);
+
+        // the next change is allowed again
+        conversions.set(0);
+        properties.get(1).setValue(200L);
+
+        assertTrue(conversions.get() > 0);
+        assertTrue(conversions.get() <= 5 * 50);
+        assertTrue(PropagationGuard.getAbortedWaveCount() > abortedWaves);
+    }
+
+    /**
+     * A wave within the maximum amount of transfers is not aborted.
+     */
+    @Test
+    public void aWaveWithinTheMaximumAmountOfTransfersIsNotAborted() {
+        final Property<Long> x = new SimpleObjectProperty<>(1L);
+        final Property<Long> y = new SimpleObjectProperty<>(1L);
+        final Property<Long> z = new SimpleObjectProperty<>(1L);
+        Bindings.bindBidirectional(x, y, lossyConverter);
+        Bindings.bindBidirectional(y, z, lossyConverter);
+
+        x.setValue(10L);
+
+        assertEquals(11L, y.getValue().longValue());
+        assertEquals(12L, z.getValue().longValue());
+        assertEquals(0L, PropagationGuard.getAbortedWaveCount());
+    }
+
+    /**
+     * If the round trip check is enabled, the target is not changed if it already represents the value of the source.
+     */
+    @Test
+    public void theRoundTripCheckSkipsTransfersToTargetsThatAlreadyRepresentTheSource() {
+        final Property<Double> model = new SimpleObjectProperty<>(1.0);
+        final Property<String> text = new SimpleObjectProperty<>("1.0");
+        final AtomicInteger modelInvalidations = new AtomicInteger();
+        Bindings.bindBidirectional(model, text, new IConverter<Double, String>() {
+            @Nullable
+            @Override
+            public String convertTo(@Nullable final Double value) {
+                return value == null ? null : String.format("%.1f", value);
+            }
+
+            @Nullable
+            @Override
+            public Double convertBack(@Nullable final String value) {
+                return value == null ? null : Double.valueOf(value);
+            }
+        });
+        model.addListener(observable -> {
+            modelInvalidations.incrementAndGet();
+            model.getValue();
+        });
+
+        text.setValue("1.00");
+
+        assertEquals(1, modelInvalidations.get());
+
+        PropagationGuard.setRoundTripCheck(true);
+        text.setValue("1.000");
+
+        assertEquals(1, modelInvalidations.get());
+
+        text.setValue("2.0");
+
+        assertEquals(2, modelInvalidations.get());
+        assertEquals(2.0, model.getValue(), 0.0);
+    }
+
+    /**
+     * The maximum amount of transfers must be positive.
+     */
+    @Test (expected = IllegalArgumentException.class)
+    public void theMaximumAmountOfTransfersMustBePositive() {
+        PropagationGuard.setMaxTransfersPerWave(0);
+    }
+
+    // endregion
+
+    // region Private
+
+    private List<Property<Long>> createFullyConnectedGraph(final int size) {
+        final List<Property<Long>> result = new ArrayList<>();
+        for (int i = 0; i < size; ++i) {
+            result.add(new SimpleObjectProperty<>(0L));
+        }
+        for (int i = 0; i < size; ++i) {
+            for (int j = i + 1; j < size; ++j) {
+                Bindings.bindBidirectional(result.get(i), result.get(j), lossyConverter);
+            }
+        }
+        return result;
+    }
+
+    // endregion
+}
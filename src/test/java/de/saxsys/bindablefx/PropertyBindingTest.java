@@ -24,10 +24,9 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.runners.MockitoJUnitRunner;
 
-import java.lang.ref.WeakReference;
-import java.util.List;
-
+import static de.saxsys.bindablefx.TestUtil.collectGarbage;
 import static de.saxsys.bindablefx.TestUtil.getBidirectionalBoundProperties;
+import static de.saxsys.bindablefx.TestUtil.getBidirectionalConvertedProperties;
 import static de.saxsys.bindablefx.TestUtil.getObservedValue;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -718,6 +717,38 @@ public class PropertyBindingTest {
         assertEquals(4L, prop4.getValue().longValue());
     }
 
+    /**
+     * A {@link IPropertyBinding} can be bound buffered bidirectional against another {@link Property}, its changes will only be written to the observed property on commit.
+     */
+    @Test
+    public void aPropertyBindingCanBeBufferedBidirectionalBoundAgainstAnotherProperty() {
+
+        a.bProperty().setValue(new B());
+        a.bProperty().getValue().xProperty().setValue(1L);
+        cut = Bindings.observe(a.bProperty()).thenObserveProperty(B::xProperty);
+
+        final Property<String> editor = new SimpleObjectProperty<>();
+        final BufferedBidirectionalBinding<Long, String> binding = cut.bindBidirectionalBuffered(editor, converter);
+
+        assertEquals("1", editor.getValue());
+        assertTrue(cut.isBidirectionalBound());
+
+        editor.setValue("2");
+
+        assertEquals(1L, a.bProperty().getValue().xProperty().getValue().longValue());
+
+        binding.commit();
+
+        assertEquals(2L, a.bProperty().getValue().xProperty().getValue().longValue());
+
+        cut.unbindBidirectionalConverted(editor);
+        editor.setValue("3");
+        binding.commit();
+
+        assertFalse(cut.isBidirectionalBound());
+        assertEquals(2L, a.bProperty().getValue().xProperty().getValue().longValue());
+    }
+
     /**
      * A {@link IPropertyBinding} can be bound bidirectional against a {@link javafx.beans.property.Property}, this will not prevent the {@link Property} from being garbage collected.
      */
@@ -729,7 +760,8 @@ public class PropertyBindingTest {
 
         Property<String> prop1 = new SimpleObjectProperty<>("1");
         Property<Long> prop2 = new SimpleObjectProperty<>(2L);
-        final List<WeakReference<Property>> boundProperties = getBidirectionalBoundProperties(cut);
+        final WeakIdentityMap<Property<?>, Boolean> boundProperties = getBidirectionalBoundProperties(cut);
+        final WeakIdentityMap<Property<?>, Boolean> convertedProperties = getBidirectionalConvertedProperties(cut);
 
         // bind first prop
         cut.bindBidirectional(prop1, converter);
@@ -738,8 +770,8 @@ public class PropertyBindingTest {
         assertEquals(1L, cut.getValue().longValue());
         assertEquals("1", prop1.getValue());
         assertEquals(2L, prop2.getValue().longValue());
-        assertFalse(boundProperties.isEmpty());
-        assertEquals(1, boundProperties.size());
+        assertTrue(boundProperties.isEmpty());
+        assertEquals(1, convertedProperties.size());
 
         // bind second prop
         cut.bindBidirectional(prop2);
@@ -748,24 +780,23 @@ public class PropertyBindingTest {
         assertEquals(2L, cut.getValue().longValue());
         assertEquals("2", prop1.getValue());
         assertEquals(2L, prop2.getValue().longValue());
-        assertFalse(boundProperties.isEmpty());
-        assertEquals(2, boundProperties.size());
+        assertEquals(1, boundProperties.size());
+        assertEquals(1, convertedProperties.size());
+        assertTrue(cut.isBidirectionalBound());
 
         prop1 = null;
 
-        System.gc();
+        collectGarbage(convertedProperties, 0);
 
-        assertFalse(boundProperties.isEmpty());
-        assertEquals(2, boundProperties.size());
-        assertTrue(boundProperties.stream().anyMatch(item -> item.get() == null));
+        assertTrue(convertedProperties.isEmpty());
+        assertEquals(1, boundProperties.size());
 
         prop2 = null;
 
-        System.gc();
+        collectGarbage(boundProperties, 0);
 
-        assertFalse(boundProperties.isEmpty());
-        assertEquals(2, boundProperties.size());
-        assertTrue(boundProperties.stream().allMatch(item -> item.get() == null));
+        assertTrue(boundProperties.isEmpty());
+        assertFalse(cut.isBidirectionalBound());
     }
 
     /**
@@ -796,7 +827,7 @@ public class PropertyBindingTest {
 
         a.bProperty().setValue(new B());
         cut = Bindings.observe(a.bProperty()).thenObserveProperty(B::xProperty);
-        final List<WeakReference<Property>> boundProperties = getBidirectionalBoundProperties(cut);
+        final WeakIdentityMap<Property<?>, Boolean> boundProperties = getBidirectionalBoundProperties(cut);
 
         cut.bindBidirectional(x);
 
@@ -805,6 +836,7 @@ public class PropertyBindingTest {
         cut.dispose();
 
         assertTrue(boundProperties.isEmpty());
+        assertFalse(cut.isBidirectionalBound());
     }
 
     // endregion
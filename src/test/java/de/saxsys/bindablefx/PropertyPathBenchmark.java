@@ -0,0 +1,127 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import de.saxsys.bindablefx.mocks.A;
+import de.saxsys.bindablefx.mocks.B;
+import de.saxsys.bindablefx.mocks.C;
+import de.saxsys.bindablefx.mocks.D;
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Compares the bindings created by {@link Bindings#select(javafx.beans.value.ObservableValue, String)} with the same bindings written by hand using
+ * {@link IFluentBinding#thenObserve(Function)}. This is not a test, since its name does not match the test classes run by surefire, and it does not assert anything, since timings
+ * depend on the machine. It is run using its main method and prints the time needed to create and read the bindings and to propagate a change of the last segment.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public final class PropertyPathBenchmark {
+
+    // region Constants
+
+    /**
+     * The amount of bindings that are created in each round.
+     */
+    private static final int BINDINGS = 10000;
+
+    /**
+     * The amount of rounds that are run before the timings are printed, so the JIT compiler has optimized both variants.
+     */
+    private static final int WARMUP_ROUNDS = 20;
+
+    /**
+     * The amount of rounds whose timings are printed.
+     */
+    private static final int MEASURED_ROUNDS = 10;
+
+    // endregion
+
+    // region Constructor
+
+    private PropertyPathBenchmark() {}
+
+    // endregion
+
+    // region Main
+
+    public static void main(final String[] args) {
+        final List<Property<A>> roots = new ArrayList<>();
+        for (int i = 0; i < BINDINGS; ++i) {
+            roots.add(createRoot());
+        }
+
+        final Function<Property<A>, IFluentBinding<D>> stringPath = root -> Bindings.select(root, "b.c.d");
+        final Function<Property<A>, IFluentBinding<D>> lambdaPath = root -> Bindings.observe(root)
+                                                                                 .thenObserve(A::bProperty)
+                                                                                 .thenObserve(B::cProperty)
+                                                                                 .thenObserve(C::dProperty);
+
+        for (int i = 0; i < WARMUP_ROUNDS; ++i) {
+            run(roots, stringPath);
+            run(roots, lambdaPath);
+        }
+        for (int i = 0; i < MEASURED_ROUNDS; ++i) {
+            final long[] string = run(roots, stringPath);
+            final long[] lambda = run(roots, lambdaPath);
+            System.out.printf("round %2d: string path create %6d us, update %6d us | lambdas create %6d us, update %6d us%n", i, string[0] / 1000, string[1] / 1000,
+                              lambda[0] / 1000, lambda[1] / 1000);
+        }
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Creates and reads a binding for each of the given roots, then changes the last segment of each root and reads the bindings again.
+     *
+     * @return the nanoseconds needed to create and read the bindings and the nanoseconds needed to update them.
+     */
+    private static long[] run(final List<Property<A>> roots, final Function<Property<A>, IFluentBinding<D>> factory) {
+        final List<IFluentBinding<D>> bindings = new ArrayList<>(roots.size());
+
+        final long start = System.nanoTime();
+        for (final Property<A> root : roots) {
+            final IFluentBinding<D> binding = factory.apply(root);
+            binding.getValue();
+            bindings.add(binding);
+        }
+        final long created = System.nanoTime();
+        for (int i = 0; i < roots.size(); ++i) {
+            roots.get(i).getValue().bProperty().getValue().cProperty().getValue().dProperty().setValue(new D());
+            bindings.get(i).getValue();
+        }
+        final long updated = System.nanoTime();
+
+        bindings.forEach(IFluentBinding::dispose);
+        return new long[] {created - start, updated - created};
+    }
+
+    private static Property<A> createRoot() {
+        final C c = new C();
+        c.dProperty().setValue(new D());
+        final B b = new B();
+        b.cProperty().setValue(c);
+        final A a = new A();
+        a.bProperty().setValue(b);
+        return new SimpleObjectProperty<>(a);
+    }
+
+    // endregion
+}
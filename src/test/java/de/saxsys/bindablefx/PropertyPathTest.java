@@ -0,0 +1,158 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import de.saxsys.bindablefx.mocks.A;
+import de.saxsys.bindablefx.mocks.B;
+import de.saxsys.bindablefx.mocks.C;
+import de.saxsys.bindablefx.mocks.D;
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Xyanid on 19.10.2026.
+ */
+public class PropertyPathTest {
+
+    //region Fields
+
+    private Property<A> root;
+
+    private A a;
+
+    private D d;
+
+    //endregion
+
+    //region Setup
+
+    @Before
+    public void setUp() {
+        d = new D();
+        final C c = new C();
+        c.dProperty().setValue(d);
+        final B b = new B();
+        b.cProperty().setValue(c);
+        a = new A();
+        a.bProperty().setValue(b);
+
+        root = new SimpleObjectProperty<>(a);
+    }
+
+    //endregion
+
+    // region Tests
+
+    /**
+     * The binding contains the value at the end of the path and follows changes of each segment.
+     */
+    @Test
+    public void theBindingContainsTheValueAtTheEndOfThePath() {
+        final IFluentBinding<D> cut = Bindings.select(root, "b.c.d");
+
+        assertSame(d, cut.getValue());
+
+        final D other = new D();
+        a.bProperty().getValue().cProperty().getValue().dProperty().setValue(other);
+
+        assertSame(other, cut.getValue());
+
+        a.bProperty().setValue(null);
+
+        assertNull(cut.getValue());
+
+        root.setValue(null);
+        a.bProperty().setValue(new B());
+        root.setValue(a);
+
+        assertNull(cut.getValue());
+    }
+
+    /**
+     * The property variant writes into the property at the end of the path.
+     */
+    @Test
+    public void thePropertyVariantWritesIntoTheProperty() {
+        final IPropertyBinding<Long> cut = Bindings.selectProperty(root, "b.c.d.x");
+
+        cut.setValue(5L);
+
+        assertEquals(5L, d.xProperty().getValue().longValue());
+
+        d.xProperty().setValue(6L);
+
+        assertEquals(6L, cut.getValue().longValue());
+    }
+
+    /**
+     * The accessors are only resolved once per class and segment.
+     */
+    @Test
+    public void accessorsAreCached() {
+        assertSame(PropertyPath.accessorOf(A.class, "b"), PropertyPath.accessorOf(A.class, "b"));
+    }
+
+    /**
+     * A segment which has no method can not be resolved.
+     */
+    @Test (expected = IllegalArgumentException.class)
+    public void unknownSegmentsCanNotBeResolved() {
+        Bindings.select(root, "b.unknown");
+    }
+
+    /**
+     * A path with an empty segment can not be used.
+     */
+    @Test (expected = IllegalArgumentException.class)
+    public void emptySegmentsAreNotAllowed() {
+        Bindings.select(root, "b..c");
+    }
+
+    /**
+     * A segment which can only be resolved after the binding has been created is reported to the uncaught exception handler of the thread that changed the value and the binding
+     * contains null.
+     */
+    @Test
+    public void unknownSegmentsAreReportedWhenTheyAreResolved() {
+        final List<Throwable> failures = new ArrayList<>();
+        final Thread.UncaughtExceptionHandler handler = Thread.currentThread().getUncaughtExceptionHandler();
+        Thread.currentThread().setUncaughtExceptionHandler((thread, throwable) -> failures.add(throwable));
+        try {
+            root.setValue(null);
+            final IFluentBinding<Object> cut = Bindings.select(root, "b.unknown");
+
+            assertNull(cut.getValue());
+
+            root.setValue(a);
+
+            assertEquals(1, failures.size());
+            assertTrue(failures.get(0) instanceof IllegalArgumentException);
+            assertNull(cut.getValue());
+        } finally {
+            Thread.currentThread().setUncaughtExceptionHandler(handler);
+        }
+    }
+
+    // endregion
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Xyanid on 19.10.2026.
+ */
+public class PublisherBindingTest {
+
+    //region Fields
+
+    private ManualPublisher publisher;
+
+    private List<Runnable> handOffs;
+
+    private IFluentBinding<Long> cut;
+
+    //endregion
+
+    //region Setup
+
+    @Before
+    public void setUp() {
+        publisher = new ManualPublisher();
+        handOffs = new ArrayList<>();
+
+        cut = Bindings.fromPublisher(publisher, handOffs::add);
+    }
+
+    //endregion
+
+    // region Tests
+
+    /**
+     * When the binding is created, it subscribes to the {@link Publisher} and requests a single element.
+     */
+    @Test
+    public void whenTheBindingIsCreatedASingleElementWillBeRequested() {
+        assertEquals(1L, publisher.requested);
+        assertNull(cut.getValue());
+    }
+
+    /**
+     * The next element will only be requested once the previous one has been handed off.
+     */
+    @Test
+    public void theNextElementWillOnlyBeRequestedAfterTheHandOff() {
+        publisher.emit(1L);
+
+        assertEquals(0L, publisher.requested);
+        assertEquals(1, handOffs.size());
+
+        handOffs.remove(0).run();
+
+        assertEquals(1L, cut.getValue().longValue());
+        assertEquals(1L, publisher.requested);
+    }
+
+    /**
+     * The binding can be used like any other {@link IFluentBinding}.
+     */
+    @Test
+    public void theBindingCanBeUsedLikeAnyOtherBinding() {
+        final IFluentBinding<String> converted = cut.fallbackOn(0L).convertTo(String::valueOf);
+
+        assertEquals("0", converted.getValue());
+
+        publisher.emit(5L);
+        handOffs.remove(0).run();
+
+        assertEquals("5", converted.getValue());
+    }
+
+    /**
+     * Since the binding has no {@link javafx.beans.value.ObservableValue} that could be garbage collected, the published value is used instead of the fallback value.
+     */
+    @Test
+    public void thePublishedValueIsUsedInsteadOfTheFallbackValue() {
+        cut.fallbackOn(-1L);
+
+        assertEquals(-1L, cut.getValue().longValue());
+
+        publisher.emit(1L);
+        handOffs.remove(0).run();
+
+        assertFalse(cut.wasGarbageCollected());
+        assertEquals(1L, cut.getValue().longValue());
+    }
+
+    /**
+     * When the binding is disposed, the subscription will be cancelled.
+     */
+    @Test
+    public void whenTheBindingIsDisposedTheSubscriptionWillBeCancelled() {
+        publisher.emit(1L);
+        handOffs.remove(0).run();
+
+        assertFalse(publisher.cancelled);
+
+        cut.dispose();
+
+        assertTrue(publisher.cancelled);
+        assertNull(cut.getValue());
+    }
+
+    /**
+     * When the {@link Publisher} fails, the error will be handed off and passed to the error handler, the last element is kept.
+     */
+    @Test
+    public void whenThePublisherFailsTheErrorWillBeHandedOff() {
+        final List<Throwable> errors = new ArrayList<>();
+        cut = Bindings.fromPublisher(publisher, handOffs::add, errors::add);
+        publisher.emit(1L);
+        handOffs.remove(0).run();
+
+        final IllegalStateException error = new IllegalStateException("failed");
+        publisher.subscriber.onError(error);
+
+        assertTrue(errors.isEmpty());
+
+        handOffs.remove(0).run();
+
+        assertEquals(Collections.singletonList(error), errors);
+        assertEquals(1L, cut.getValue().longValue());
+    }
+
+    /**
+     * A {@link Publisher} which emits synchronously within the request while the hand-off runs synchronously as well does not grow the stack with each element.
+     */
+    @Test
+    public void synchronousPublishersDoNotGrowTheStack() {
+        final long count = 100000;
+        final Publisher<Long> synchronousPublisher = subscriber -> subscriber.onSubscribe(new Subscription() {
+            private long next;
+
+            @Override
+            public void request(final long amount) {
+                for (long i = 0; i < amount && next < count; ++i) {
+                    subscriber.onNext(++next);
+                }
+            }
+
+            @Override
+            public void cancel() {}
+        });
+
+        final IFluentBinding<Long> binding = Bindings.fromPublisher(synchronousPublisher, Runnable::run);
+
+        assertEquals(count, binding.getValue().longValue());
+    }
+
+    // endregion
+
+    // region Classes
+
+    private static class ManualPublisher implements Publisher<Long>, Subscription {
+
+        private Subscriber<? super Long> subscriber;
+
+        private long requested;
+
+        private boolean cancelled;
+
+        @Override
+        public void subscribe(final Subscriber<? super Long> subscriber) {
+            this.subscriber = subscriber;
+            subscriber.onSubscribe(this);
+        }
+
+        @Override
+        public void request(final long amount) {
+            requested += amount;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        private void emit(final Long value) {
+            assertTrue(requested > 0);
+            --requested;
+            subscriber.onNext(value);
+        }
+    }
+
+    // endregion
+}
@@ -25,6 +25,8 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 import static de.saxsys.bindablefx.TestUtil.getObservedValue;
@@ -34,6 +36,7 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 
 /**
  * @author xyanid on 31.03.2016.
@@ -321,5 +324,60 @@ public class RelayBindingTest {
         assertNull(bindingX.getValue());
     }
 
+    /**
+     * If the relay resolver fails for a new value of the parent, the binding no longer contains the value of the previous observed value.
+     */
+    @Test
+    public void aFailingRelayResolverDropsThePreviousValue() {
+        final B failing = new B();
+        final C c = new C();
+        a.bProperty().setValue(new B());
+        a.bProperty().getValue().cProperty().setValue(c);
+        cut = Bindings.observe(a.bProperty()).thenObserve(b -> {
+            if (b == failing) {
+                throw new IllegalStateException("failing");
+            }
+            return b.cProperty();
+        });
+
+        assertSame(c, cut.getValue());
+
+        final AtomicReference<Throwable> reported = new AtomicReference<>();
+        final Thread.UncaughtExceptionHandler handler = Thread.currentThread().getUncaughtExceptionHandler();
+        Thread.currentThread().setUncaughtExceptionHandler((thread, exception) -> reported.set(exception));
+        try {
+            a.bProperty().setValue(failing);
+        } finally {
+            Thread.currentThread().setUncaughtExceptionHandler(handler);
+        }
+
+        assertThat(reported.get(), instanceOf(IllegalStateException.class));
+        assertNull(getObservedValue(cut));
+        assertNull(cut.getValue());
+    }
+
+    /**
+     * If the relay resolver fails while the binding is created, the binding stops listening to its parent, since it is never returned.
+     */
+    @Test
+    public void aBindingWhoseCreationFailedDoesNotListenToItsParent() {
+        final AtomicInteger resolutions = new AtomicInteger();
+        a.bProperty().setValue(new B());
+        final IFluentBinding<B> bindingB = Bindings.observe(a.bProperty());
+
+        try {
+            bindingB.thenObserve(b -> {
+                resolutions.incrementAndGet();
+                throw new IllegalStateException("failing");
+            });
+            fail();
+        } catch (final IllegalStateException e) {
+            assertEquals("failing", e.getMessage());
+        }
+        a.bProperty().setValue(new B());
+
+        assertEquals(1, resolutions.get());
+    }
+
     // endregion
 }
\ No newline at end of file
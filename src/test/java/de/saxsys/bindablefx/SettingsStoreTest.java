@@ -0,0 +1,280 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+import org.jetbrains.annotations.NotNull;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Xyanid on 19.10.2026.
+ */
+public class SettingsStoreTest {
+
+    //region Fields
+
+    private Path directory;
+
+    private Path file;
+
+    private SettingsStore cut;
+
+    //endregion
+
+    //region Setup
+
+    @Before
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("settings-store");
+        file = directory.resolve("settings");
+        cut = SettingsStore.open(file);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        cut.close();
+        try (final Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    //endregion
+
+    // region Tests
+
+    /**
+     * The values of bound properties are stored and set on properties bound to the same key after the store has been opened again.
+     */
+    @Test
+    public void boundPropertiesAreRestored() throws IOException {
+        final Property<String> property = new SimpleObjectProperty<>();
+        cut.bind("name", property, ISerializer.utf8());
+        property.setValue("value");
+        cut.close();
+
+        cut = SettingsStore.open(file);
+        final Property<String> restored = new SimpleObjectProperty<>("default");
+        cut.bind("name", restored, ISerializer.utf8());
+
+        assertEquals("value", restored.getValue());
+    }
+
+    /**
+     * A property which has no stored value keeps its value.
+     */
+    @Test
+    public void propertiesWithoutStoredValueAreNotChanged() {
+        final Property<String> property = new SimpleObjectProperty<>("default");
+
+        cut.bind("name", property, ISerializer.utf8());
+
+        assertEquals("default", property.getValue());
+        assertFalse(cut.contains("name"));
+    }
+
+    /**
+     * Only the latest value of each changed key is written, no matter how often it changed.
+     */
+    @Test
+    public void changesAreCoalesced() throws IOException {
+        final Property<String> first = new SimpleObjectProperty<>();
+        final Property<String> second = new SimpleObjectProperty<>();
+        final Property<String> third = new SimpleObjectProperty<>();
+        cut.bind("first", first, ISerializer.utf8());
+        cut.bind("second", second, ISerializer.utf8());
+        cut.bind("third", third, ISerializer.utf8());
+
+        for (int i = 0; i < 100; i++) {
+            first.setValue("first" + i);
+            second.setValue("second" + i);
+        }
+        cut.flush();
+
+        assertEquals(2L, cut.getWrittenRecordCount());
+        assertEquals("first99", cut.get("first", ISerializer.utf8()));
+
+        cut.flush();
+
+        assertEquals(2L, cut.getWrittenRecordCount());
+    }
+
+    /**
+     * Setting a property to null removes its stored value.
+     */
+    @Test
+    public void nullValuesRemoveTheKey() throws IOException {
+        final Property<String> property = new SimpleObjectProperty<>();
+        cut.bind("name", property, ISerializer.utf8());
+        property.setValue("value");
+        cut.flush();
+        property.setValue(null);
+        cut.close();
+
+        cut = SettingsStore.open(file);
+
+        assertFalse(cut.contains("name"));
+        assertNull(cut.get("name", ISerializer.utf8()));
+    }
+
+    /**
+     * Unbound properties are no longer stored.
+     */
+    @Test
+    public void unboundPropertiesAreNotStored() {
+        final Property<String> property = new SimpleObjectProperty<>();
+        cut.bind("name", property, ISerializer.utf8());
+
+        cut.unbind("name");
+        property.setValue("value");
+
+        assertFalse(cut.contains("name"));
+    }
+
+    /**
+     * The changes are written once no change happened for the idle delay.
+     */
+    @Test
+    public void changesAreWrittenWhenIdle() throws IOException, InterruptedException {
+        cut.close();
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            cut = SettingsStore.open(file, scheduler, 10, TimeUnit.MILLISECONDS);
+            cut.put("name", "value", ISerializer.utf8());
+
+            final long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (cut.getWrittenRecordCount() == 0 && System.nanoTime() < end) {
+                Thread.sleep(5);
+            }
+
+            assertEquals(1L, cut.getWrittenRecordCount());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * If a value can not be serialized in the background, the failure is reported, the value is dropped and all other changes are written.
+     */
+    @Test
+    public void failuresOfTheBackgroundAreReported() throws IOException, InterruptedException {
+        cut.close();
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            cut = SettingsStore.open(file, scheduler, 10, TimeUnit.MILLISECONDS);
+            cut.put("name", "value", new ISerializer<String>() {
+                @NotNull
+                @Override
+                public byte[] serialize(@NotNull final String value) {
+                    throw new IllegalStateException("failed");
+                }
+
+                @NotNull
+                @Override
+                public String deserialize(@NotNull final byte[] data) {
+                    throw new IllegalStateException("failed");
+                }
+            });
+            cut.put("other", "value", ISerializer.utf8());
+
+            final long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (cut.getLastFailure() == null && System.nanoTime() < end) {
+                Thread.sleep(5);
+            }
+
+            assertTrue(cut.getLastFailure() instanceof IllegalArgumentException);
+            assertTrue(cut.getLastFailure().getCause() instanceof IllegalStateException);
+            assertFalse(cut.contains("name"));
+            assertEquals("value", cut.get("other", ISerializer.utf8()));
+            assertEquals(1L, cut.getWrittenRecordCount());
+
+            cut.put("name", "value", ISerializer.utf8());
+            cut.flush();
+
+            assertNull(cut.getLastFailure());
+            assertEquals(2L, cut.getWrittenRecordCount());
+
+            cut.close();
+            cut = SettingsStore.open(file);
+
+            assertEquals("value", cut.get("name", ISerializer.utf8()));
+            assertEquals("value", cut.get("other", ISerializer.utf8()));
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Records that have only been written partially are discarded when the store is opened.
+     */
+    @Test
+    public void partialRecordsAreDiscarded() throws IOException {
+        cut.put("name", "value", ISerializer.utf8());
+        cut.close();
+        final long size = Files.size(file);
+        Files.write(file, new byte[]{0, 0, 0, 4, 0, 0, 0, 5, 1, 2}, StandardOpenOption.APPEND);
+
+        cut = SettingsStore.open(file);
+
+        assertEquals("value", cut.get("name", ISerializer.utf8()));
+        assertEquals(size, Files.size(file));
+    }
+
+    /**
+     * If outdated records take up more space than the current ones, the file is compacted when it is opened.
+     */
+    @Test
+    public void outdatedRecordsAreCompacted() throws IOException {
+        for (int i = 0; i < 50; i++) {
+            cut.put("name", "value" + i, ISerializer.utf8());
+            cut.flush();
+        }
+        cut.close();
+        final long size = Files.size(file);
+
+        cut = SettingsStore.open(file);
+
+        assertTrue(Files.size(file) < size);
+        assertEquals("value49", cut.get("name", ISerializer.utf8()));
+    }
+
+    /**
+     * A closed store can no longer be used.
+     */
+    @Test (expected = IllegalStateException.class)
+    public void closedStoresCanNotBeUsed() throws IOException {
+        cut.close();
+
+        cut.get("name", ISerializer.utf8());
+    }
+
+    // endregion
+}
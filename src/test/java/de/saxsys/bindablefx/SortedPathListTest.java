@@ -0,0 +1,191 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import de.saxsys.bindablefx.mocks.B;
+import de.saxsys.bindablefx.mocks.C;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Xyanid on 19.10.2026.
+ */
+public class SortedPathListTest {
+
+    //region Fields
+
+    private ObservableList<B> source;
+
+    private SortedPathList<B, Long> cut;
+
+    private List<B> replayed;
+
+    private List<String> changes;
+
+    //endregion
+
+    //region Setup
+
+    @Before
+    public void setUp() {
+        source = FXCollections.observableArrayList(createB(3L), createB(1L), createB(4L), createB(1L), createB(5L));
+        cut = Bindings.sortList(source, b -> Bindings.observe(b.cProperty()).thenObserve(C::xProperty));
+
+        replayed = new ArrayList<>(cut);
+        changes = new ArrayList<>();
+        cut.addListener((ListChangeListener<B>) change -> {
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    changes.add("permutated " + change.getFrom() + "-" + change.getTo());
+                    final List<B> permutated = new ArrayList<>(replayed);
+                    for (int i = change.getFrom(); i < change.getTo(); ++i) {
+                        permutated.set(change.getPermutation(i), replayed.get(i));
+                    }
+                    replayed = permutated;
+                } else if (change.wasUpdated()) {
+                    changes.add("updated " + change.getFrom());
+                } else {
+                    if (change.wasRemoved()) {
+                        changes.add("removed " + change.getFrom());
+                    }
+                    if (change.wasAdded()) {
+                        changes.add("added " + change.getFrom());
+                    }
+                    replayed.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                    replayed.addAll(change.getFrom(), change.getAddedSubList());
+                }
+            }
+        });
+    }
+
+    //endregion
+
+    // region Tests
+
+    /**
+     * The list initially contains all elements sorted by their value, equal values keep the order of the source list.
+     */
+    @Test
+    public void theListContainsTheSortedElements() {
+        assertValues(1L, 1L, 3L, 4L, 5L);
+        assertSame(source.get(1), cut.get(0));
+        assertSame(source.get(3), cut.get(1));
+    }
+
+    /**
+     * Added and removed elements are inserted at and removed from their sorted position.
+     */
+    @Test
+    public void addedAndRemovedElementsAreApplied() {
+        source.add(0, createB(2L));
+        source.addAll(createB(0L), createB(9L));
+
+        assertValues(0L, 1L, 1L, 2L, 3L, 4L, 5L, 9L);
+
+        source.remove(1);
+        source.remove(4, 6);
+
+        assertValues(1L, 1L, 2L, 4L, 9L);
+
+        source.set(0, createB(6L));
+
+        assertValues(1L, 1L, 4L, 6L, 9L);
+        assertEquals(replayed, cut);
+    }
+
+    /**
+     * A change of a nested property only repositions that element.
+     */
+    @Test
+    public void nestedChangesOnlyRepositionTheElement() {
+        source.get(0).cProperty().getValue().xProperty().setValue(7L);
+
+        assertValues(1L, 1L, 4L, 5L, 7L);
+        assertEquals(Arrays.asList("removed 2", "added 4"), changes);
+
+        changes.clear();
+        source.get(2).cProperty().getValue().xProperty().setValue(2L);
+
+        assertValues(1L, 1L, 2L, 5L, 7L);
+        assertEquals(Arrays.asList("updated 2"), changes);
+
+        source.get(4).cProperty().setValue(null);
+
+        assertNull(cut.get(0).cProperty().getValue());
+        assertEquals(replayed, cut);
+    }
+
+    /**
+     * Reordering the source list only reorders elements with equal values.
+     */
+    @Test
+    public void reorderedElementsKeepTheSourceOrderForEqualValues() {
+        final B first = source.get(1);
+        final B second = source.get(3);
+
+        FXCollections.sort(source, Comparator.comparing((B b) -> b.cProperty().getValue().xProperty().getValue()).reversed().thenComparing(b -> b == second ? 0 : 1));
+
+        assertValues(1L, 1L, 3L, 4L, 5L);
+        assertSame(second, cut.get(0));
+        assertSame(first, cut.get(1));
+        assertEquals(Arrays.asList("permutated 0-2"), changes);
+        assertEquals(replayed, cut);
+    }
+
+    /**
+     * After the list has been disposed, it is empty and no longer observes the source list.
+     */
+    @Test
+    public void disposingStopsObserving() {
+        cut.dispose();
+
+        source.add(createB(7L));
+
+        assertTrue(cut.isEmpty());
+        assertEquals(replayed, cut);
+    }
+
+    // endregion
+
+    // region Private
+
+    private void assertValues(final Long... expected) {
+        final List<Long> actual = new ArrayList<>();
+        cut.forEach(b -> actual.add(b.cProperty().getValue().xProperty().getValue()));
+        assertEquals(Arrays.asList(expected), actual);
+    }
+
+    private static B createB(final long x) {
+        final C c = new C();
+        c.xProperty().setValue(x);
+        final B b = new B();
+        b.cProperty().setValue(c);
+        return b;
+    }
+
+    // endregion
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+import org.jetbrains.annotations.Nullable;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Xyanid on 19.10.2026.
+ */
+public class SyncGroupTest {
+
+    //region Fields
+
+    private Property<Long> x;
+
+    private Property<Long> y;
+
+    private Property<Long> z;
+
+    private SyncGroup<Long> cut;
+
+    //endregion
+
+    //region Setup
+
+    @Before
+    public void setUp() {
+        x = new SimpleObjectProperty<>(1L);
+        y = new SimpleObjectProperty<>(2L);
+        z = new SimpleObjectProperty<>(3L);
+
+        cut = Bindings.syncGroup(x, y, z);
+    }
+
+    @After
+    public void tearDown() {
+        PropagationGuard.setMaxTransfersPerWave(PropagationGuard.DEFAULT_MAX_TRANSFERS_PER_WAVE);
+        PropagationGuard.resetAbortedWaveCount();
+    }
+
+    //endregion
+
+    // region Tests
+
+    /**
+     * The value of the first member is set on all other members.
+     */
+    @Test
+    public void theValueOfTheFirstMemberIsSetOnAllOtherMembers() {
+        assertEquals(3, cut.getMemberCount());
+        assertEquals(1L, cut.getValue().longValue());
+        assertEquals(1L, y.getValue().longValue());
+        assertEquals(1L, z.getValue().longValue());
+    }
+
+    /**
+     * A change of any member is set exactly once on all other members.
+     */
+    @Test
+    public void aChangeIsSetExactlyOnceOnAllOtherMembers() {
+        final AtomicInteger xChanges = new AtomicInteger();
+        final AtomicInteger zChanges = new AtomicInteger();
+        x.addListener((observable, oldValue, newValue) -> xChanges.incrementAndGet());
+        z.addListener((observable, oldValue, newValue) -> zChanges.incrementAndGet());
+
+        y.setValue(5L);
+
+        assertEquals(5L, x.getValue().longValue());
+        assertEquals(5L, z.getValue().longValue());
+        assertEquals(5L, cut.getValue().longValue());
+        assertEquals(1, xChanges.get());
+        assertEquals(1, zChanges.get());
+    }
+
+    /**
+     * Members of a different type receive the converted value of the group and report their changes converted back.
+     */
+    @Test
+    public void membersOfADifferentTypeWillBeConverted() {
+        final Property<String> text = new SimpleObjectProperty<>();
+        cut.add(text, new IConverter<Long, String>() {
+            @Nullable
+            @Override
+            public String convertTo(@Nullable final Long value) {
+                return value == null ? null : String.valueOf(value);
+            }
+
+            @Nullable
+            @Override
+            public Long convertBack(@Nullable final String value) {
+                return value == null ? null : Long.valueOf(value);
+            }
+        });
+
+        assertEquals("1", text.getValue());
+
+        x.setValue(7L);
+
+        assertEquals("7", text.getValue());
+
+        text.setValue("9");
+
+        assertEquals(9L, x.getValue().longValue());
+        assertEquals(9L, y.getValue().longValue());
+        assertEquals(9L, z.getValue().longValue());
+    }
+
+    /**
+     * If a value can not be converted back, the member which has changed is reset and no other member is changed.
+     */
+    @Test
+    public void whenAValueCanNotBeConvertedBackTheChangedMemberIsReset() {
+        final Property<String> text = new SimpleObjectProperty<>();
+        cut.add(text, new IConverter<Long, String>() {
+            @Nullable
+            @Override
+            public String convertTo(@Nullable final Long value) {
+                return value == null ? null : String.valueOf(value);
+            }
+
+            @Nullable
+            @Override
+            public Long convertBack(@Nullable final String value) {
+                return value == null ? null : Long.valueOf(value);
+            }
+        });
+
+        try {
+            text.setValue("invalid");
+        } catch (final NumberFormatException ignored) {
+            // depending on the JavaFX version, the exception is either thrown or passed to the uncaught exception handler
+        }
+
+        assertEquals("1", text.getValue());
+        assertEquals(1L, cut.getValue().longValue());
+        assertEquals(1L, x.getValue().longValue());
+        assertEquals(1L, y.getValue().longValue());
+        assertEquals(1L, z.getValue().longValue());
+    }
+
+    /**
+     * If the wave is aborted before all members have been set, all members are reset to the previous value.
+     */
+    @Test
+    public void whenTheWaveIsAbortedAllMembersAreReset() {
+        PropagationGuard.resetAbortedWaveCount();
+        PropagationGuard.setMaxTransfersPerWave(1);
+
+        Bindings.batch(() -> x.setValue(5L));
+
+        assertEquals(1L, PropagationGuard.getAbortedWaveCount());
+        assertEquals(1L, cut.getValue().longValue());
+        assertEquals(1L, x.getValue().longValue());
+        assertEquals(1L, y.getValue().longValue());
+        assertEquals(1L, z.getValue().longValue());
+    }
+
+    /**
+     * If a member can not be reset while an aborted wave is rolled back, every member is still only reset once and the failure is reported.
+     */
+    @Test
+    public void whenARollbackFailsDuringAnAbortedWaveEachMemberIsResetOnce() {
+        final AtomicInteger restores = new AtomicInteger();
+        final Property<Long> source = new SimpleObjectProperty<>(1L);
+        Bindings.syncGroup(source, failingOnRestore(restores), failingOnRestore(restores));
+        PropagationGuard.setMaxTransfersPerWave(1);
+
+        final List<Throwable> failures = new ArrayList<>();
+        final Thread.UncaughtExceptionHandler handler = Thread.currentThread().getUncaughtExceptionHandler();
+        Thread.currentThread().setUncaughtExceptionHandler((thread, throwable) -> failures.add(throwable));
+        try {
+            Bindings.batch(() -> source.setValue(5L));
+        } catch (final IllegalStateException e) {
+            // depending on the JavaFX version, the exception is either thrown or passed to the uncaught exception handler
+            failures.add(e);
+        } finally {
+            Thread.currentThread().setUncaughtExceptionHandler(handler);
+        }
+
+        assertEquals(1, restores.get());
+        assertEquals(1, failures.size());
+        assertEquals(0, failures.get(0).getSuppressed().length);
+        assertEquals(1L, source.getValue().longValue());
+    }
+
+    /**
+     * A removed member will no longer be synchronized.
+     */
+    @Test
+    public void aRemovedMemberWillNoLongerBeSynchronized() {
+        assertTrue(cut.remove(y));
+        assertFalse(cut.remove(y));
+        assertFalse(cut.contains(y));
+
+        y.setValue(5L);
+
+        assertEquals(1L, x.getValue().longValue());
+
+        x.setValue(6L);
+
+        assertEquals(5L, y.getValue().longValue());
+        assertEquals(6L, z.getValue().longValue());
+    }
+
+    /**
+     * When the group is disposed, no member will be synchronized anymore.
+     */
+    @Test
+    public void whenTheGroupIsDisposedNoMemberWillBeSynchronized() {
+        cut.dispose();
+
+        x.setValue(5L);
+
+        assertEquals(0, cut.getMemberCount());
+        assertEquals(1L, y.getValue().longValue());
+        assertEquals(1L, z.getValue().longValue());
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Creates a {@link Property} which fails to be reset from 5 to 1 and counts these attempts.
+     */
+    private static Property<Long> failingOnRestore(final AtomicInteger restores) {
+        return new SimpleObjectProperty<Long>(1L) {
+            @Override
+            public void set(final Long newValue) {
+                if (Long.valueOf(1L).equals(newValue) && Long.valueOf(5L).equals(get())) {
+                    restores.incrementAndGet();
+                    throw new IllegalStateException("The value can not be reset");
+                }
+                super.set(newValue);
+            }
+        };
+    }
+
+    // endregion
+}
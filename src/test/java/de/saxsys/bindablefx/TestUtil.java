@@ -18,7 +18,6 @@ import javafx.beans.value.ObservableValue;
 import org.mockito.internal.util.reflection.Whitebox;
 
 import java.lang.ref.WeakReference;
-import java.util.List;
 
 /**
  * @author Xyanid on 15.05.2016.
@@ -42,8 +41,43 @@ final class TestUtil {
         return (WeakReference<ObservableValue>) Whitebox.getInternalState(binding, "parent");
     }
 
-    static List<WeakReference<Property>> getBidirectionalBoundProperties(final IPropertyBinding binding) {
-        return (List<WeakReference<Property>>) Whitebox.getInternalState(binding, "bidirectionalBoundProperties");
+    static WeakIdentityMap<Property<?>, Boolean> getBidirectionalBoundProperties(final IPropertyBinding binding) {
+        return (WeakIdentityMap<Property<?>, Boolean>) Whitebox.getInternalState(binding, "bidirectionalBoundProperties");
+    }
+
+    static WeakIdentityMap<Property<?>, Boolean> getBidirectionalConvertedProperties(final IPropertyBinding binding) {
+        return (WeakIdentityMap<Property<?>, Boolean>) Whitebox.getInternalState(binding, "bidirectionalConvertedProperties");
+    }
+
+    /**
+     * Runs the garbage collector until the given {@link WeakIdentityMap} has purged its entries down to the given size or a few attempts have been made. A single run is not enough since
+     * the cleared references are enqueued asynchronously.
+     */
+    static void collectGarbage(final WeakIdentityMap<?, ?> map, final int size) {
+        for (int i = 0; i < 10 && map.size() > size; ++i) {
+            System.gc();
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Runs the garbage collector until the given {@link WeakReference} has been cleared or a few attempts have been made.
+     */
+    static void collectGarbage(final WeakReference<?> reference) {
+        for (int i = 0; i < 10 && reference.get() != null; ++i) {
+            System.gc();
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
     }
 
     // endregion
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import de.saxsys.bindablefx.mocks.A;
+import de.saxsys.bindablefx.mocks.B;
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Xyanid on 19.10.2026.
+ */
+public class UpdateRingBufferTest {
+
+    //region Fields
+
+    private Property<Long> x;
+
+    private Property<Long> y;
+
+    private UpdateRingBuffer cut;
+
+    //endregion
+
+    //region Setup
+
+    @Before
+    public void setUp() {
+        x = new SimpleObjectProperty<>();
+        y = new SimpleObjectProperty<>();
+
+        cut = Bindings.updateBuffer(8);
+    }
+
+    //endregion
+
+    // region Tests
+
+    /**
+     * The capacity will be rounded up to the next power of two.
+     */
+    @Test
+    public void theCapacityWillBeRoundedUpToThePowerOfTwo() {
+        assertEquals(1, Bindings.updateBuffer(1).getCapacity());
+        assertEquals(8, Bindings.updateBuffer(5).getCapacity());
+        assertEquals(8, Bindings.updateBuffer(8).getCapacity());
+    }
+
+    /**
+     * Offered updates will only be applied once the buffer is drained and multiple updates of the same {@link Property} will be conflated.
+     */
+    @Test
+    public void offeredUpdatesWillBeAppliedWhenDrainedAndConflated() {
+        assertTrue(cut.offer(x, 1L));
+        assertTrue(cut.offer(y, 2L));
+        assertTrue(cut.offer(x, 3L));
+
+        assertNull(x.getValue());
+        assertEquals(3, cut.getPendingCount());
+
+        assertEquals(2, cut.drain());
+
+        assertEquals(3L, x.getValue().longValue());
+        assertEquals(2L, y.getValue().longValue());
+        assertEquals(0, cut.getPendingCount());
+        assertEquals(3L, cut.getOfferedCount());
+        assertEquals(1L, cut.getConflatedCount());
+        assertEquals(2L, cut.getAppliedCount());
+    }
+
+    /**
+     * When the buffer is full, further updates will be dropped until the buffer is drained.
+     */
+    @Test
+    public void whenTheBufferIsFullUpdatesWillBeDropped() {
+        for (long i = 0; i < 8; ++i) {
+            assertTrue(cut.offer(x, i));
+        }
+
+        assertFalse(cut.offer(x, 8L));
+        assertEquals(1L, cut.getDroppedCount());
+
+        cut.drain();
+
+        assertEquals(7L, x.getValue().longValue());
+        assertTrue(cut.offer(x, 8L));
+    }
+
+    /**
+     * If setting a value fails, the other updates of the batch are still applied and the failure is thrown afterwards.
+     */
+    @Test
+    public void whenAnUpdateFailsTheOtherUpdatesWillStillBeApplied() {
+        final Property<Long> bound = new SimpleObjectProperty<>();
+        bound.bind(new SimpleObjectProperty<>(0L));
+        cut.offer(x, 1L);
+        cut.offer(bound, 2L);
+        cut.offer(y, 3L);
+
+        try {
+            cut.drain();
+            fail();
+        } catch (final RuntimeException e) {
+            assertEquals(0, e.getSuppressed().length);
+        }
+
+        assertEquals(1L, x.getValue().longValue());
+        assertEquals(3L, y.getValue().longValue());
+        assertEquals(2L, cut.getAppliedCount());
+        assertEquals(1L, cut.getFailedCount());
+        assertEquals(0, cut.getPendingCount());
+    }
+
+    /**
+     * {@link IPropertyBinding}s can be updated as well.
+     */
+    @Test
+    public void propertyBindingsCanBeUpdated() {
+        final A a = new A();
+        final B b = new B();
+        a.bProperty().setValue(b);
+        final IPropertyBinding<Long> binding = Bindings.observe(a.bProperty()).thenObserveProperty(B::xProperty);
+
+        cut.offer(binding, 1L);
+        cut.drain();
+
+        assertEquals(1L, b.xProperty().getValue().longValue());
+    }
+
+    /**
+     * When an {@link java.util.concurrent.Executor} is provided, a drain will be scheduled when updates are offered, but only if none is pending yet.
+     */
+    @Test
+    public void whenAnExecutorIsProvidedASingleDrainWillBeScheduled() {
+        final List<Runnable> drains = new ArrayList<>();
+        cut = Bindings.updateBuffer(8, drains::add);
+
+        cut.offer(x, 1L);
+        cut.offer(y, 2L);
+
+        assertEquals(1, drains.size());
+
+        drains.remove(0).run();
+
+        assertEquals(1L, x.getValue().longValue());
+        assertEquals(2L, y.getValue().longValue());
+
+        cut.offer(x, 3L);
+
+        assertEquals(1, drains.size());
+    }
+
+    /**
+     * Updates offered by multiple producer threads will either be applied, conflated or dropped.
+     */
+    @Test
+    public void updatesOfMultipleProducersWillBeAccountedFor() throws InterruptedException {
+        cut = Bindings.updateBuffer(1024);
+
+        final List<Thread> producers = new ArrayList<>();
+        for (int i = 0; i < 4; ++i) {
+            final Property<Long> target = i % 2 == 0 ? x : y;
+            producers.add(new Thread(() -> {
+                for (long j = 0; j < 10000; ++j) {
+                    cut.offer(target, j);
+                }
+            }));
+        }
+        producers.forEach(Thread::start);
+        while (producers.stream().anyMatch(Thread::isAlive)) {
+            cut.drain();
+        }
+        for (final Thread producer : producers) {
+            producer.join();
+        }
+        cut.drain();
+
+        assertEquals(40000L, cut.getOfferedCount());
+        assertEquals(cut.getOfferedCount(), cut.getAppliedCount() + cut.getConflatedCount() + cut.getDroppedCount());
+    }
+
+    // endregion
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Xyanid on 19.10.2026.
+ */
+public class ValidatingBidirectionalBindingTest {
+
+    //region Fields
+
+    private Property<Long> model;
+
+    private Property<String> text;
+
+    private ValidatingBidirectionalBinding<Long, String> cut;
+
+    //endregion
+
+    //region Setup
+
+    @Before
+    public void setUp() {
+        model = new SimpleObjectProperty<>(1L);
+        text = new SimpleObjectProperty<>("1");
+
+        cut = Bindings.bindBidirectionalValidating(model, text, new IResultConverter<Long, String>() {
+            @NotNull
+            @Override
+            public ConversionResult<String> tryConvertTo(@Nullable final Long value) {
+                return ConversionResult.success(value == null ? null : String.valueOf(value));
+            }
+
+            @NotNull
+            @Override
+            public ConversionResult<Long> tryConvertBack(@Nullable final String value) {
+                if (value == null || value.isEmpty()) {
+                    return ConversionResult.success(null);
+                }
+                for (int i = 0; i < value.length(); ++i) {
+                    if (!Character.isDigit(value.charAt(i))) {
+                        return ConversionResult.failure("'" + value + "' is not a number");
+                    }
+                }
+                return ConversionResult.success(Long.valueOf(value));
+            }
+        });
+    }
+
+    @After
+    public void tearDown() {
+        PropagationGuard.setMaxTransfersPerWave(PropagationGuard.DEFAULT_MAX_TRANSFERS_PER_WAVE);
+        PropagationGuard.resetAbortedWaveCount();
+    }
+
+    //endregion
+
+    // region Tests
+
+    /**
+     * Values which can be converted are transferred in both directions.
+     */
+    @Test
+    public void validValuesAreTransferred() {
+        assertTrue(cut.isValid());
+
+        text.setValue("12");
+
+        assertEquals(12L, model.getValue().longValue());
+
+        model.setValue(5L);
+
+        assertEquals("5", text.getValue());
+        assertTrue(cut.isValid());
+        assertNull(cut.getErrorMessage());
+    }
+
+    /**
+     * Values which can not be converted are not transferred, make the binding invalid and keep the source unchanged.
+     */
+    @Test
+    public void invalidValuesAreNotTransferred() {
+        final AtomicInteger modelChanges = new AtomicInteger();
+        model.addListener((observable, oldValue, newValue) -> modelChanges.incrementAndGet());
+
+        text.setValue("1a");
+
+        assertEquals("1a", text.getValue());
+        assertEquals(1L, model.getValue().longValue());
+        assertEquals(0, modelChanges.get());
+        assertFalse(cut.isValid());
+        assertFalse(cut.validProperty().get());
+        assertEquals("'1a' is not a number", cut.getErrorMessage());
+        assertEquals("'1a' is not a number", cut.errorMessageProperty().get());
+    }
+
+    /**
+     * Once a value can be converted again, the binding becomes valid again.
+     */
+    @Test
+    public void theBindingBecomesValidAgain() {
+        final AtomicInteger validChanges = new AtomicInteger();
+        cut.validProperty().addListener((observable, oldValue, newValue) -> validChanges.incrementAndGet());
+
+        text.setValue("1a");
+        text.setValue("1ab");
+        text.setValue("12");
+
+        assertTrue(cut.isValid());
+        assertNull(cut.getErrorMessage());
+        assertEquals(12L, model.getValue().longValue());
+        assertEquals(2, validChanges.get());
+    }
+
+    /**
+     * A value which could be converted but has not been transferred, because the wave has been aborted, does not make the binding valid.
+     */
+    @Test
+    public void valuesOfAnAbortedWaveDoNotMakeTheBindingValid() {
+        PropagationGuard.setMaxTransfersPerWave(1);
+
+        Bindings.batch(() -> {
+            model.setValue(5L);
+            text.setValue("1a");
+            text.setValue("12");
+        });
+
+        assertEquals(5L, model.getValue().longValue());
+        assertFalse(cut.isValid());
+        assertEquals("'1a' is not a number", cut.getErrorMessage());
+    }
+
+    /**
+     * When the properties are unbound, nothing will be transferred anymore.
+     */
+    @Test
+    public void whenThePropertiesAreUnboundNothingWillBeTransferred() {
+        BidirectionalBinding.unbind(model, text);
+
+        text.setValue("5");
+
+        assertEquals(1L, model.getValue().longValue());
+        assertFalse(BidirectionalBinding.isBound(model));
+    }
+
+    // endregion
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2015 - 2016 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.bindablefx;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Xyanid on 19.10.2026.
+ */
+public class WeakIdentityMapTest {
+
+    //region Fields
+
+    private WeakIdentityMap<Object, String> cut;
+
+    //endregion
+
+    //region Setup
+
+    @Before
+    public void setUp() {
+        cut = new WeakIdentityMap<>();
+    }
+
+    //endregion
+
+    // region Tests
+
+    /**
+     * Keys are compared by identity, so equal keys will not share their values.
+     */
+    @Test
+    public void keysAreComparedByIdentity() {
+        final String key1 = new String("key");
+        final String key2 = new String("key");
+
+        cut.put(key1, "1");
+        cut.put(key2, "2");
+
+        assertEquals("1", cut.get(key1));
+        assertEquals("2", cut.get(key2));
+        assertEquals(2, cut.size());
+
+        assertEquals("1", cut.remove(key1));
+        assertNull(cut.get(key1));
+        assertTrue(cut.containsKey(key2));
+        assertFalse(cut.containsKey(key1));
+    }
+
+    /**
+     * The map will grow as needed and keep all values.
+     */
+    @Test
+    public void theMapWillGrowAsNeeded() {
+        final List<Object> keys = new ArrayList<>();
+        for (int i = 0; i < 1000; ++i) {
+            final Object key = new Object();
+            keys.add(key);
+            cut.put(key, String.valueOf(i));
+        }
+
+        assertEquals(1000, cut.size());
+        for (int i = 0; i < keys.size(); ++i) {
+            assertEquals(String.valueOf(i), cut.get(keys.get(i)));
+        }
+
+        keys.forEach(cut::remove);
+
+        assertTrue(cut.isEmpty());
+    }
+
+    /**
+     * Entries whose key has been garbage collected will be removed.
+     */
+    @Test
+    public void entriesOfGarbageCollectedKeysWillBeRemoved() {
+        Object key = new Object();
+        final Object otherKey = new Object();
+        cut.put(key, "1");
+        cut.put(otherKey, "2");
+
+        key = null;
+
+        TestUtil.collectGarbage(cut, 1);
+
+        assertEquals(1, cut.size());
+        assertEquals("2", cut.get(otherKey));
+    }
+
+    // endregion
+}
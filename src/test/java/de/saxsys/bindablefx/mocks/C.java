@@ -13,12 +13,14 @@
 
 package de.saxsys.bindablefx.mocks;
 
+import de.saxsys.bindablefx.Bindable;
 import javafx.beans.property.Property;
 import javafx.beans.property.SimpleObjectProperty;
 
 /**
  * @author xyanid on 31.03.2016.
  */
+@Bindable
 public class C {
 
     /**